@@ -3,6 +3,8 @@ package com.moretale.domain.profile.entity;
 import com.moretale.domain.user.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -10,8 +12,10 @@ import java.time.LocalDateTime;
 
 // 자녀 프로필 정보 엔티티
 // 한 명의 사용자가 여러 명의 자녀를 가질 수 있다.
+// 2차 캐시: user-profile 리전 (변경 시 Hibernate가 캐시와 쿼리 캐시를 함께 갱신)
 @Entity
 @Table(name = "user_profiles")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user-profile")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -2,7 +2,11 @@ package com.moretale.domain.profile.repository;
 
 import com.moretale.domain.profile.entity.UserProfile;
 import com.moretale.domain.user.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -14,6 +18,11 @@ public interface UserProfileRepository extends JpaRepository<UserProfile, Long>
     // User 엔티티 기반 조회 (동화 기능용)
 
     // 가장 최근에 생성된 프로필 1개 조회
+    // 쿼리 캐시 (user_profiles 변경 시 Hibernate가 자동 무효화)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "user-profile-query")
+    })
     Optional<UserProfile> findFirstByUserOrderByCreatedAtDesc(User user);
 
     // 해당 사용자의 모든 프로필 조회
@@ -36,6 +45,22 @@ public interface UserProfileRepository extends JpaRepository<UserProfile, Long>
     // 특정 사용자가 동일한 이름의 자녀를 이미 등록했는지 확인
     boolean existsByUser_UserIdAndChildName(Long userId, String childName);
 
-    // 특정 프로필 ID와 사용자 ID가 일치하는 프로필을 조회 (보안 강화용)
-    Optional<UserProfile> findByProfileIdAndUser_UserId(Long profileId, Long userId);
+    // 동화 생성 컨텍스트 조회용 (사용자를 join으로 함께 조회, 쿼리 캐시)
+    // user_profiles 변경 시 Hibernate가 쿼리 캐시를 자동 무효화
+
+    // 특정 프로필 ID와 사용자 ID가 일치하는 프로필 + 사용자 조회 (보안 강화용, 소유자가 아니면 empty)
+    @EntityGraph(attributePaths = "user")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "user-profile-query")
+    })
+    Optional<UserProfile> findWithUserByProfileIdAndUser_UserId(Long profileId, Long userId);
+
+    // 사용자의 가장 최근 프로필 + 사용자 조회
+    @EntityGraph(attributePaths = "user")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "user-profile-query")
+    })
+    Optional<UserProfile> findFirstWithUserByUser_UserIdOrderByCreatedAtDesc(Long userId);
 }
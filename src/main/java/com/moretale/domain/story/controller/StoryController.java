@@ -1,18 +1,24 @@
 package com.moretale.domain.story.controller;
 
 import com.moretale.domain.story.dto.*;
+import com.moretale.domain.story.service.StoryGenerationJobService;
 import com.moretale.domain.story.service.StoryService;
 import com.moretale.global.common.ApiResponse;
+import com.moretale.global.security.UserPrincipal;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Tag(name = "Story", description = "동화 관리 API")
 @Slf4j
@@ -21,21 +27,26 @@ import java.util.List;
 @RequiredArgsConstructor
 public class StoryController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    // 동화 상세: 사용자별 응답이므로 private, 매번 ETag로 재검증
+    private static final CacheControl DETAIL_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     private final StoryService storyService;
+    private final StoryGenerationJobService storyGenerationJobService;
 
     // 온보딩 기반 동화 생성 초기값 조회
     // GET /api/stories/init?profileId=1
     @Operation(summary = "동화 생성 초기값 조회", description = "온보딩 데이터를 기반으로 동화 생성 폼의 초기값을 반환합니다.")
     @GetMapping("/init")
     public ApiResponse<StoryInitResponse> getStoryInitData(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
             @RequestParam(name = "profileId", required = false) Long profileId  // 🔧 수정: name 명시
     ) {
-        log.info("동화 초기값 조회 요청 - email={}, profileId={}",
-                userDetails.getUsername(), profileId);
+        log.info("동화 초기값 조회 요청 - userId={}, profileId={}",
+                userPrincipal.getUserId(), profileId);
 
         StoryInitResponse response = storyService.getStoryInitData(
-                userDetails.getUsername(),
+                userPrincipal.getUserId(),
                 profileId
         );
 
@@ -47,14 +58,14 @@ public class StoryController {
     @Operation(summary = "자동 동화 생성", description = "온보딩 데이터를 기반으로 추천 전래동화를 자동 생성합니다.")
     @PostMapping("/auto-generate")
     public ApiResponse<StoryGenerateResponse> autoGenerateStory(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
             @RequestParam(name = "profileId", required = false) Long profileId  // 🔧 수정: name 명시
     ) {
-        log.info("자동 동화 생성 요청 - email={}, profileId={}",
-                userDetails.getUsername(), profileId);
+        log.info("자동 동화 생성 요청 - userId={}, profileId={}",
+                userPrincipal.getUserId(), profileId);
 
         StoryGenerateResponse response = storyService.autoGenerateStory(
-                userDetails.getUsername(),
+                userPrincipal.getUserId(),
                 profileId
         );
 
@@ -66,33 +77,116 @@ public class StoryController {
     @Operation(summary = "동화 생성", description = "사용자 프롬프트를 기반으로 이중언어 동화를 생성합니다.")
     @PostMapping("/generate")
     public ApiResponse<StoryGenerateResponse> generateStory(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
             @Valid @RequestBody StoryGenerateRequest request
     ) {
-        log.info("동화 생성 요청 - email={}, prompt={}",
-                userDetails.getUsername(), request.getPrompt());
+        log.info("동화 생성 요청 - userId={}, prompt={}",
+                userPrincipal.getUserId(), request.getPrompt());
 
         StoryGenerateResponse response = storyService.generateStory(
-                userDetails.getUsername(),
+                userPrincipal.getUserId(),
                 request
         );
 
         return ApiResponse.success(response, "동화 생성 완료");
     }
 
+    // 비동기 동화 생성 작업 등록 (작업 ID 즉시 반환)
+    // POST /api/stories/generate/jobs
+    @Operation(summary = "비동기 동화 생성", description = "동화 생성 작업을 등록하고 작업 ID를 즉시 반환합니다. 진행 상황은 조회 또는 SSE로 확인합니다.")
+    @PostMapping("/generate/jobs")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ApiResponse<StoryGenerationJobResponse> startGenerateJob(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Valid @RequestBody StoryGenerateRequest request
+    ) {
+        log.info("비동기 동화 생성 요청 - userId={}, prompt={}",
+                userPrincipal.getUserId(), request.getPrompt());
+
+        StoryGenerationJobResponse response = storyGenerationJobService.startGenerate(
+                userPrincipal.getUserId(),
+                request
+        );
+
+        return ApiResponse.success(response, "동화 생성 작업 등록 완료");
+    }
+
+    // 슬라이드 단위 스트리밍 동화 생성 (NDJSON)
+    // POST /api/stories/generate/stream
+    // 한 줄에 이벤트 하나: job, slide-text, slide-audio (슬라이드별), text-ready, completed | failed
+    @Operation(summary = "스트리밍 동화 생성", description = "슬라이드 텍스트와 음성이 준비되는 대로 NDJSON으로 전달합니다.")
+    @PostMapping(value = "/generate/stream", produces = StoryGenerationJobService.NDJSON_VALUE)
+    public ResponseBodyEmitter streamGenerateStory(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @Valid @RequestBody StoryGenerateRequest request
+    ) {
+        log.info("스트리밍 동화 생성 요청 - userId={}, prompt={}",
+                userPrincipal.getUserId(), request.getPrompt());
+
+        return storyGenerationJobService.streamGenerate(userPrincipal.getUserId(), request);
+    }
+
+    // 비동기 자동 동화 생성 작업 등록 (작업 ID 즉시 반환)
+    // POST /api/stories/auto-generate/jobs
+    @Operation(summary = "비동기 자동 동화 생성", description = "자동 동화 생성 작업을 등록하고 작업 ID를 즉시 반환합니다.")
+    @PostMapping("/auto-generate/jobs")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ApiResponse<StoryGenerationJobResponse> startAutoGenerateJob(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam(name = "profileId", required = false) Long profileId
+    ) {
+        log.info("비동기 자동 동화 생성 요청 - userId={}, profileId={}",
+                userPrincipal.getUserId(), profileId);
+
+        StoryGenerationJobResponse response = storyGenerationJobService.startAutoGenerate(
+                userPrincipal.getUserId(),
+                profileId
+        );
+
+        return ApiResponse.success(response, "자동 동화 생성 작업 등록 완료");
+    }
+
+    // 동화 생성 작업 상태 조회 (폴링)
+    // GET /api/stories/generate/jobs/{jobId}
+    @Operation(summary = "동화 생성 작업 조회", description = "비동기 동화 생성 작업의 상태와 현재까지의 결과를 조회합니다.")
+    @GetMapping("/generate/jobs/{jobId}")
+    public ApiResponse<StoryGenerationJobResponse> getGenerateJob(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable(name = "jobId") String jobId
+    ) {
+        StoryGenerationJobResponse response = storyGenerationJobService.getJob(
+                userPrincipal.getUserId(),
+                jobId
+        );
+
+        return ApiResponse.success(response);
+    }
+
+    // 동화 생성 작업 진행 이벤트 구독 (SSE)
+    // GET /api/stories/generate/jobs/{jobId}/events
+    // 이벤트: slide-text (스트리밍 생성 시), text-ready, slide-audio (슬라이드별), completed | failed
+    @Operation(summary = "동화 생성 작업 이벤트 구독", description = "텍스트 생성 완료, 슬라이드별 음성 생성 완료, 완료/실패 이벤트를 SSE로 전달합니다.")
+    @GetMapping(value = "/generate/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeGenerateJob(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable(name = "jobId") String jobId
+    ) {
+        return storyGenerationJobService.subscribe(userPrincipal.getUserId(), jobId);
+    }
+
     // 동화 저장
     // POST /api/stories
     @Operation(summary = "동화 저장", description = "생성된 동화를 데이터베이스에 저장합니다.")
     @PostMapping
     public ApiResponse<StoryResponse> saveStory(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
             @Valid @RequestBody StorySaveRequest request
     ) {
-        log.info("동화 저장 요청 - email={}, title={}",
-                userDetails.getUsername(), request.getTitle());
+        log.info("동화 저장 요청 - userId={}, title={}",
+                userPrincipal.getUserId(), request.getTitle());
 
         StoryResponse response = storyService.saveStory(
-                userDetails.getUsername(),
+                userPrincipal.getUserId(),
                 request
         );
 
@@ -102,40 +196,72 @@ public class StoryController {
     // 동화 상세 조회
     // GET /api/stories/{storyId}
     @Operation(summary = "동화 상세 조회", description = "특정 동화의 상세 정보를 조회합니다.")
+    // ETag(동화ID-버전)로 조건부 요청 지원: If-None-Match가 일치하면 슬라이드를 로딩하지 않고 304 반환
+    // 버전을 먼저 조회하므로 본문은 ETag보다 같거나 새로운 상태 (다음 요청에서 다시 200으로 갱신)
     @GetMapping("/{storyId}")
-    public ApiResponse<StoryResponse> getStoryDetail(
-            @AuthenticationPrincipal UserDetails userDetails,
-            @PathVariable(name = "storyId") Long storyId  // 🔧 수정: name 명시
+    public ResponseEntity<ApiResponse<StoryResponse>> getStoryDetail(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable(name = "storyId") Long storyId,  // 🔧 수정: name 명시
+            WebRequest webRequest
     ) {
+        String eTag = storyService.getStoryETag(userPrincipal.getUserId(), storyId);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(DETAIL_CACHE_CONTROL)
+                    .build();
+        }
+
         StoryResponse response = storyService.getStoryDetail(
-                userDetails.getUsername(),
+                userPrincipal.getUserId(),
                 storyId
         );
 
-        return ApiResponse.success(response);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(DETAIL_CACHE_CONTROL)
+                .body(ApiResponse.success(response));
     }
 
-    // 내 동화 목록 조회
-    // GET /api/stories/my
-    @Operation(summary = "내 동화 목록 조회", description = "현재 사용자가 생성한 모든 동화를 조회합니다.")
+    // 내 동화 목록 조회 (커서 기반 페이지네이션)
+    // GET /api/stories/my?cursor=...&size=20
+    // 응답 본문: items / nextCursor / hasNext (nextCursor는 X-Next-Cursor 헤더로도 전달, 마지막 페이지면 null)
+    @Operation(summary = "내 동화 목록 조회",
+            description = "현재 사용자가 생성한 동화를 최신순으로 조회합니다. hasNext가 true면 nextCursor 값(응답 헤더 X-Next-Cursor와 동일)을 cursor로 전달해 다음 페이지를 조회합니다.")
     @GetMapping("/my")
-    public ApiResponse<List<StoryListResponse>> getMyStories(
-            @AuthenticationPrincipal UserDetails userDetails
+    public ResponseEntity<ApiResponse<StoryPageResponse>> getMyStories(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size
     ) {
-        List<StoryListResponse> response = storyService.getMyStories(
-                userDetails.getUsername()
+        StoryPageResponse page = storyService.getMyStories(
+                userPrincipal.getUserId(),
+                cursor,
+                size
         );
 
-        return ApiResponse.success(response);
+        return toPageResponse(page);
     }
 
-    // 공개 동화 목록 조회
-    // GET /api/stories/public
-    @Operation(summary = "공개 동화 목록 조회", description = "공개 설정된 모든 동화를 조회합니다.")
+    // 공개 동화 목록 조회 (커서 기반 페이지네이션)
+    // GET /api/stories/public?cursor=...&size=20
+    @Operation(summary = "공개 동화 목록 조회",
+            description = "공개 설정된 동화를 최신순으로 조회합니다. hasNext가 true면 nextCursor 값(응답 헤더 X-Next-Cursor와 동일)을 cursor로 전달해 다음 페이지를 조회합니다.")
     @GetMapping("/public")
-    public ApiResponse<List<StoryListResponse>> getPublicStories() {
-        List<StoryListResponse> response = storyService.getPublicStories();
-        return ApiResponse.success(response);
+    public ResponseEntity<ApiResponse<StoryPageResponse>> getPublicStories(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size
+    ) {
+        StoryPageResponse page = storyService.getPublicStories(cursor, size);
+        return toPageResponse(page);
+    }
+
+    private ResponseEntity<ApiResponse<StoryPageResponse>> toPageResponse(StoryPageResponse page) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            builder.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return builder.body(ApiResponse.success(page));
     }
 
     // 동화 공유 설정 변경
@@ -143,12 +269,12 @@ public class StoryController {
     @Operation(summary = "동화 공유 설정", description = "동화의 공개/비공개 설정을 변경합니다.")
     @PatchMapping("/{storyId}/share")
     public ApiResponse<Void> updateStoryShareStatus(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
             @PathVariable(name = "storyId") Long storyId,  // 🔧 수정: name 명시
             @Valid @RequestBody StoryShareRequest request
     ) {
         storyService.updateStoryShareStatus(
-                userDetails.getUsername(),
+                userPrincipal.getUserId(),
                 storyId,
                 request
         );
@@ -161,10 +287,10 @@ public class StoryController {
     @Operation(summary = "동화 삭제", description = "특정 동화를 삭제합니다.")
     @DeleteMapping("/{storyId}")
     public ApiResponse<Void> deleteStory(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
             @PathVariable(name = "storyId") Long storyId  // 🔧 수정: name 명시
     ) {
-        storyService.deleteStory(userDetails.getUsername(), storyId);
+        storyService.deleteStory(userPrincipal.getUserId(), storyId);
         return ApiResponse.success(null, "동화 삭제 완료");
     }
 }
@@ -0,0 +1,49 @@
+package com.moretale.domain.story.dto;
+
+import com.moretale.domain.profile.entity.AgeGroup;
+import com.moretale.domain.profile.entity.LanguageProficiency;
+import com.moretale.domain.profile.entity.StoryPreference;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 동화 생성 AI 서버 요청 DTO
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AIStoryRequest {
+
+    private String prompt; // PromptBuilder로 조립된 프롬프트
+    private String childName;
+    private String primaryLanguage;
+    private String secondaryLanguage;
+
+    // 온보딩 기반 제약 조건 (없으면 null)
+    private AgeGroup ageGroup;
+    private Integer childAge;
+    private LanguageProficiency firstLanguageProficiency;
+    private LanguageProficiency secondLanguageProficiency;
+    private StoryPreference storyPreference;
+    private String recommendedTaleTitle;
+
+    public static AIStoryRequest of(String prompt, String childName, String primaryLanguage,
+                                    String secondaryLanguage, StoryGenerateRequest request) {
+        AIStoryRequestBuilder builder = AIStoryRequest.builder()
+                .prompt(prompt)
+                .childName(childName)
+                .primaryLanguage(primaryLanguage)
+                .secondaryLanguage(secondaryLanguage);
+
+        if (request != null) {
+            builder.ageGroup(request.getAgeGroup())
+                    .childAge(request.getChildAge())
+                    .firstLanguageProficiency(request.getFirstLanguageProficiency())
+                    .secondLanguageProficiency(request.getSecondLanguageProficiency())
+                    .storyPreference(request.getStoryPreference())
+                    .recommendedTaleTitle(request.getRecommendedTaleTitle());
+        }
+        return builder.build();
+    }
+}
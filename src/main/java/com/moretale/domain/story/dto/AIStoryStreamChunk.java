@@ -0,0 +1,27 @@
+package com.moretale.domain.story.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 동화 생성 AI 서버 스트리밍 응답의 한 줄 (NDJSON)
+// meta: 제목 / slide: 슬라이드 하나 / done: 스트림 종료 / error: 생성 실패
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class AIStoryStreamChunk {
+
+    public static final String TYPE_META = "meta";
+    public static final String TYPE_SLIDE = "slide";
+    public static final String TYPE_DONE = "done";
+    public static final String TYPE_ERROR = "error";
+
+    private String type;
+    private String title;
+    private StoryGenerateResponse.GeneratedSlide slide;
+    private String message;
+}
@@ -0,0 +1,14 @@
+package com.moretale.domain.story.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 슬라이드 오디오 URL만 조회 (고아 오디오 정리용 참조 수집, 엔티티/동화 로딩 없음)
+@Getter
+@AllArgsConstructor
+public class SlideAudioUrls {
+
+    private final Long slideId;
+    private final String audioUrlKr;
+    private final String audioUrlNative;
+}
@@ -0,0 +1,43 @@
+package com.moretale.domain.story.dto;
+
+import com.moretale.global.exception.BusinessException;
+import com.moretale.global.exception.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 동화 목록 커서 (created_at, story_id)
+// 클라이언트에는 "생성시각|ID"를 Base64URL로 인코딩한 불투명 문자열로 전달
+@Getter
+@AllArgsConstructor
+public class StoryCursor {
+
+    private final LocalDateTime createdAt;
+    private final Long storyId;
+
+    public static StoryCursor from(StoryListResponse item) {
+        return new StoryCursor(item.getCreatedAt(), item.getStoryId());
+    }
+
+    public static StoryCursor decode(String encoded) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new StoryCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "잘못된 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + "|" + storyId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,23 @@
+package com.moretale.domain.story.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StoryFeedCacheStatsResponse {
+
+    private boolean enabled;
+    private int size;            // 캐시된 페이지 수
+    private int maxEntries;      // 최대 페이지 수
+    private long hits;
+    private long misses;
+    private long loads;          // 실제 DB 조회 수
+    private long collapsedLoads; // 진행 중인 조회 결과를 기다린 미스 (DB 조회 생략)
+    private long invalidations;  // 공개 동화 추가/변경으로 인한 전체 무효화
+    private long patches;        // 공개 동화 제거로 인한 항목 제거
+    private long evictions;
+    private double hitRatio;
+}
@@ -0,0 +1,24 @@
+package com.moretale.domain.story.dto;
+
+import com.moretale.domain.story.enums.StoryGenerationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StoryGenerationJobResponse {
+
+    private String jobId;
+    private StoryGenerationStatus status;
+    private StoryGenerateResponse story; // TEXT_READY 이후부터 존재 (오디오는 슬라이드별로 채워짐)
+    private String errorCode;
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -21,6 +21,13 @@ public class StoryListResponse {
     private LocalDateTime createdAt;
     private Integer slideCount;
 
+    // 목록 조회 프로젝션용 (JPQL constructor expression, COUNT 결과는 Long)
+    public StoryListResponse(Long storyId, String title, String childName, Boolean isPublic,
+                             LocalDateTime createdAt, Long slideCount) {
+        this(storyId, title, childName, isPublic, createdAt, slideCount == null ? 0 : slideCount.intValue());
+    }
+
+    // 슬라이드 컬렉션을 로딩하므로 목록 조회에는 사용하지 말 것 (StoryRepository 목록 쿼리 사용)
     public static StoryListResponse from(Story story) {
         return StoryListResponse.builder()
                 .storyId(story.getStoryId())
@@ -0,0 +1,21 @@
+package com.moretale.domain.story.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 커서 기반 동화 목록 한 페이지
+// nextCursor: 다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StoryPageResponse {
+
+    private List<StoryListResponse> items;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,20 @@
+package com.moretale.domain.story.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 동화 상세 조건부 조회용 버전 정보 (슬라이드 로딩 없이 stories 행만 조회)
+@Getter
+@AllArgsConstructor
+public class StoryVersion {
+
+    private final Long storyId;
+    private final Long version;
+    private final Long ownerId;
+    private final Boolean isPublic;
+
+    // 강한 ETag: "동화ID-버전"
+    public String toETag() {
+        return "\"" + storyId + "-" + version + "\"";
+    }
+}
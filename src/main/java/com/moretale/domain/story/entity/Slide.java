@@ -4,7 +4,12 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "slides")
+// 동화별 슬라이드 조회/개수 집계용 인덱스, 오디오 파일 참조 여부 확인용 인덱스 (V9)
+@Table(name = "slides", indexes = {
+        @Index(name = "idx_slides_story_order", columnList = "story_id, order_num"),
+        @Index(name = "idx_slides_audio_url_kr", columnList = "audio_url_kr"),
+        @Index(name = "idx_slides_audio_url_native", columnList = "audio_url_native")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -12,8 +17,10 @@ import lombok.*;
 @Builder
 public class Slide {
 
+    // IDENTITY는 INSERT 배치를 막으므로 시퀀스 사용 (50개 단위로 미리 할당, V7 마이그레이션)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "slide_seq")
+    @SequenceGenerator(name = "slide_seq", sequenceName = "slide_seq", allocationSize = 50)
     @Column(name = "slide_id")
     private Long slideId;
 
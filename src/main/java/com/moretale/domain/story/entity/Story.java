@@ -1,5 +1,6 @@
 package com.moretale.domain.story.entity;
 
+import com.moretale.domain.story.service.PublicStoryFeedListener;
 import com.moretale.domain.user.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
@@ -10,7 +11,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "stories")
+// 내 동화 목록 커서 페이지네이션용 인덱스
+// 공개 목록용 부분 인덱스(is_public = true)는 JPA로 표현할 수 없어 V5 마이그레이션에서 생성
+@Table(name = "stories", indexes = {
+        @Index(name = "idx_stories_user_created", columnList = "user_id, created_at DESC, story_id DESC")
+})
+@EntityListeners(PublicStoryFeedListener.class) // 공개 동화 피드 캐시 무효화
 @Getter
 @Setter
 @NoArgsConstructor
@@ -18,8 +24,10 @@ import java.util.List;
 @Builder
 public class Story {
 
+    // IDENTITY는 INSERT 배치를 막으므로 시퀀스 사용 (50개 단위로 미리 할당, V7 마이그레이션)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "story_seq")
+    @SequenceGenerator(name = "story_seq", sequenceName = "story_seq", allocationSize = 50)
     @Column(name = "story_id")
     private Long storyId;
 
@@ -50,6 +58,12 @@ public class Story {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    // 상세 조회 ETag용 버전 (StoryRepository.incrementVersion으로만 증가, 낙관적 잠금 아님)
+    // 엔티티 UPDATE에서 제외해 다른 트랜잭션의 증가를 덮어쓰지 않음 (공유 설정 변경과 TTS 반영이 겹쳐도 충돌 없음)
+    @Column(name = "etag_version", nullable = false, updatable = false)
+    @Builder.Default
+    private Long etagVersion = 0L;
+
     @OneToMany(mappedBy = "story", cascade = CascadeType.ALL, orphanRemoval = true)
     @OrderBy("order ASC")
     @Builder.Default
@@ -0,0 +1,21 @@
+package com.moretale.domain.story.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 비동기 동화 생성 작업 상태
+@Getter
+@RequiredArgsConstructor
+public enum StoryGenerationStatus {
+    PENDING("대기"),
+    GENERATING_TEXT("슬라이드 텍스트 스트리밍 수신 중 (수신된 슬라이드는 음성 생성 중)"),
+    TEXT_READY("텍스트 생성 완료, 음성 생성 중"),
+    COMPLETED("완료"),
+    FAILED("실패");
+
+    private final String description;
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
@@ -1,11 +1,15 @@
 package com.moretale.domain.story.repository;
 
+import com.moretale.domain.story.dto.SlideAudioUrls;
 import com.moretale.domain.story.entity.Slide;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -26,6 +30,43 @@ public interface SlideRepository extends JpaRepository<Slide, Long> {
     """)
     List<Slide> findSlidesWithoutTTS(@Param("storyId") Long storyId);
 
+    // 오디오 URL이 pattern과 일치하는 슬라이드 (slide_id 키셋 순회, 저장 경로 이전용)
+    @Query("""
+        SELECT s FROM Slide s
+        WHERE s.slideId > :afterSlideId
+          AND (s.audioUrlKr LIKE :pattern OR s.audioUrlNative LIKE :pattern)
+        ORDER BY s.slideId ASC
+    """)
+    List<Slide> findByAudioUrlLike(@Param("afterSlideId") Long afterSlideId,
+                                   @Param("pattern") String pattern,
+                                   Limit limit);
+
+    // 오디오 URL만 slide_id 키셋 순서로 조회 (고아 오디오 정리용 참조 수집)
+    @Query("""
+        SELECT new com.moretale.domain.story.dto.SlideAudioUrls(s.slideId, s.audioUrlKr, s.audioUrlNative)
+        FROM Slide s
+        WHERE s.slideId > :afterSlideId
+          AND (s.audioUrlKr IS NOT NULL OR s.audioUrlNative IS NOT NULL)
+        ORDER BY s.slideId ASC
+    """)
+    List<SlideAudioUrls> findAudioUrls(@Param("afterSlideId") Long afterSlideId, Limit limit);
+
+    // 오디오 URL 중 하나라도 참조하는 슬라이드가 있는지 (audio_url_* 인덱스 사용)
+    @Query("""
+        SELECT COUNT(s) > 0 FROM Slide s
+        WHERE s.audioUrlKr IN :audioUrls OR s.audioUrlNative IN :audioUrls
+    """)
+    boolean existsByAudioUrlIn(@Param("audioUrls") Collection<String> audioUrls);
+
+    // 현재 값이 oldUrl일 때만 변경 (그 사이 TTS 재생성으로 바뀐 값은 덮어쓰지 않음)
+    @Modifying
+    @Query("UPDATE Slide s SET s.audioUrlKr = :newUrl WHERE s.slideId = :slideId AND s.audioUrlKr = :oldUrl")
+    int replaceAudioUrlKr(@Param("slideId") Long slideId, @Param("oldUrl") String oldUrl, @Param("newUrl") String newUrl);
+
+    @Modifying
+    @Query("UPDATE Slide s SET s.audioUrlNative = :newUrl WHERE s.slideId = :slideId AND s.audioUrlNative = :oldUrl")
+    int replaceAudioUrlNative(@Param("slideId") Long slideId, @Param("oldUrl") String oldUrl, @Param("newUrl") String newUrl);
+
     // 특정 동화에 속한 모든 슬라이드 삭제
     void deleteByStoryStoryId(Long storyId);
 }
@@ -1,31 +1,76 @@
 package com.moretale.domain.story.repository;
 
+import com.moretale.domain.story.dto.StoryListResponse;
+import com.moretale.domain.story.dto.StoryVersion;
 import com.moretale.domain.story.entity.Story;
 import com.moretale.domain.user.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface StoryRepository extends JpaRepository<Story, Long> {
 
-    // 특정 사용자가 만든 동화 목록 조회
-    List<Story> findByUserOrderByCreatedAtDesc(User user);
+    // 목록 조회는 엔티티 대신 목록에 필요한 컬럼과 슬라이드 수만 DTO로 조회
+    // 슬라이드 수는 상관 서브쿼리로 페이지에 포함된 동화에 대해서만 계산 (idx_slides_story_order 사용)
+    String LIST_ITEM_SELECT = "SELECT new com.moretale.domain.story.dto.StoryListResponse("
+            + "s.storyId, s.title, s.childName, s.isPublic, s.createdAt, "
+            + "(SELECT COUNT(sl) FROM Slide sl WHERE sl.story = s)) FROM Story s ";
 
-    // 공개된 동화 목록 조회
-    List<Story> findByIsPublicTrueOrderByCreatedAtDesc();
+    // 내 동화 목록 첫 페이지 (idx_stories_user_created 사용)
+    @Query(LIST_ITEM_SELECT
+            + "WHERE s.user.userId = :userId "
+            + "ORDER BY s.createdAt DESC, s.storyId DESC")
+    List<StoryListResponse> findFirstPageByUser(@Param("userId") Long userId, Limit limit);
 
-    // 특정 동화 ID와 사용자로 조회 (권한 체크용)
-    Optional<Story> findByStoryIdAndUser(Long storyId, User user);
+    // 내 동화 목록 다음 페이지: 커서 (created_at, story_id) 이후 행부터 인덱스를 그대로 탐색 (OFFSET 없음)
+    @Query(LIST_ITEM_SELECT
+            + "WHERE s.user.userId = :userId AND (s.createdAt, s.storyId) < (:createdAt, :storyId) "
+            + "ORDER BY s.createdAt DESC, s.storyId DESC")
+    List<StoryListResponse> findPageByUserAfter(@Param("userId") Long userId,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("storyId") Long storyId,
+                                                Limit limit);
+
+    // 공개 동화 목록 첫 페이지 (idx_stories_public_created 부분 인덱스 사용)
+    @Query(LIST_ITEM_SELECT
+            + "WHERE s.isPublic = true "
+            + "ORDER BY s.createdAt DESC, s.storyId DESC")
+    List<StoryListResponse> findFirstPublicPage(Limit limit);
+
+    // 공개 동화 목록 다음 페이지
+    @Query(LIST_ITEM_SELECT
+            + "WHERE s.isPublic = true AND (s.createdAt, s.storyId) < (:createdAt, :storyId) "
+            + "ORDER BY s.createdAt DESC, s.storyId DESC")
+    List<StoryListResponse> findPublicPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                                @Param("storyId") Long storyId,
+                                                Limit limit);
+
+    // 특정 동화 ID와 사용자 ID로 조회 (권한 체크용, users 조인 없이 stories.user_id로 비교)
+    Optional<Story> findByStoryIdAndUser_UserId(Long storyId, Long userId);
 
     // 슬라이드를 포함한 동화 조회 (N+1 문제 방지)
     @Query("SELECT s FROM Story s LEFT JOIN FETCH s.slides WHERE s.storyId = :storyId")
     Optional<Story> findByIdWithSlides(@Param("storyId") Long storyId);
 
+    // 상세 조회 ETag 확인용 버전/소유자/공개 여부 (슬라이드, users 조인 없음)
+    @Query("SELECT new com.moretale.domain.story.dto.StoryVersion(s.storyId, s.etagVersion, s.user.userId, s.isPublic) "
+            + "FROM Story s WHERE s.storyId = :storyId")
+    Optional<StoryVersion> findVersionById(@Param("storyId") Long storyId);
+
+    // 동화/슬라이드 변경 시 동화 버전 증가 (상세 ETag 갱신, 동시에 증가해도 UPDATE 한 번으로 원자적)
+    @Modifying
+    @Query("UPDATE Story s SET s.etagVersion = s.etagVersion + 1 WHERE s.storyId IN :storyIds")
+    int incrementVersion(@Param("storyIds") Collection<Long> storyIds);
+
     // 사용자별 동화 개수
     long countByUser(User user);
 }
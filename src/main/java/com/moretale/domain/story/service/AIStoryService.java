@@ -3,6 +3,8 @@ package com.moretale.domain.story.service;
 import com.moretale.domain.story.dto.StoryGenerateRequest;
 import com.moretale.domain.story.dto.StoryGenerateResponse;
 
+import java.util.function.Consumer;
+
 public interface AIStoryService {
 
     // AI를 통해 이중언어 동화 생성
@@ -22,4 +24,25 @@ public interface AIStoryService {
     ) {
         return generateStory(prompt, childName, primaryLanguage, secondaryLanguage, null);
     }
+
+    // 슬라이드 단위 스트리밍 생성 지원 여부
+    default boolean supportsStreaming() {
+        return false;
+    }
+
+    // 슬라이드 단위 스트리밍 생성
+    // 모델 출력에서 슬라이드가 파싱되는 즉시 onSlide 호출, 스트림이 끝나면 전체 결과 반환
+    // (onSlide로 전달한 슬라이드 객체와 반환 결과의 슬라이드 객체는 동일)
+    default StoryGenerateResponse generateStoryStreaming(
+            String prompt,
+            String childName,
+            String primaryLanguage,
+            String secondaryLanguage,
+            StoryGenerateRequest request,
+            Consumer<StoryGenerateResponse.GeneratedSlide> onSlide
+    ) {
+        StoryGenerateResponse response = generateStory(prompt, childName, primaryLanguage, secondaryLanguage, request);
+        response.getSlides().forEach(onSlide);
+        return response;
+    }
 }
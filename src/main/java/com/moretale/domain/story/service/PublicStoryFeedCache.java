@@ -0,0 +1,218 @@
+package com.moretale.domain.story.service;
+
+import com.moretale.domain.story.dto.StoryFeedCacheStatsResponse;
+import com.moretale.domain.story.dto.StoryListResponse;
+import com.moretale.domain.story.dto.StoryPageResponse;
+import com.moretale.global.config.MoreTaleProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// 공개 동화 피드 캐시 (노드별 메모리)
+// 키: 커서 + 페이지 크기, 값: 완성된 StoryPageResponse (캐시 적중 시 DB 커넥션 사용 X)
+// - 세대(generation) 번호로 무효화: 공개 동화가 추가/변경되면 커밋 후 세대를 올려 모든 페이지를 버림
+// - 공개 동화가 비공개로 바뀌거나 삭제되면 캐시된 페이지에서 해당 항목만 제거 (키셋 커서라 다음 페이지와 겹치거나 빠지는 항목 없음)
+// - 같은 세대의 동시 미스는 로딩 하나로 합침 (나머지는 결과를 기다림)
+// - 다른 노드의 변경은 ttl 이내에 반영
+@Slf4j
+@Component
+public class PublicStoryFeedCache {
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final Map<String, Entry> pages;
+    private final ConcurrentHashMap<String, CompletableFuture<StoryPageResponse>> loading = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicLong collapsedLoads = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicLong patches = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    private record Entry(StoryPageResponse page, long generation, long loadedAtNanos) {
+    }
+
+    public PublicStoryFeedCache(MoreTaleProperties moreTaleProperties) {
+        MoreTaleProperties.Story.FeedCache config = moreTaleProperties.getStory().getFeedCache();
+        this.enabled = config.isEnabled();
+        this.maxEntries = config.getMaxEntries();
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(config.getTtlSeconds());
+
+        // accessOrder = true: 조회 시 최근 사용으로 갱신 (LRU)
+        this.pages = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > PublicStoryFeedCache.this.maxEntries) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    // 캐시된 페이지 반환, 없으면 loader로 조회 후 저장
+    // 진행 중인 트랜잭션 안에서는 커밋 전 데이터가 캐시되지 않도록 바로 조회
+    public StoryPageResponse get(String cursor, int size, Supplier<StoryPageResponse> loader) {
+        if (!enabled || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return loader.get();
+        }
+
+        String key = (cursor == null || cursor.isBlank() ? "" : cursor) + "#" + size;
+        long currentGeneration = generation.get();
+        Entry entry;
+        synchronized (pages) {
+            entry = pages.get(key);
+        }
+        if (entry != null && entry.generation() == currentGeneration
+                && System.nanoTime() - entry.loadedAtNanos() < ttlNanos) {
+            hits.incrementAndGet();
+            return entry.page();
+        }
+        misses.incrementAndGet();
+
+        // 세대를 키에 포함: 무효화 이후의 요청은 이전 세대의 로딩 결과를 기다리지 않음
+        String loadKey = currentGeneration + ":" + key;
+        CompletableFuture<StoryPageResponse> mine = new CompletableFuture<>();
+        CompletableFuture<StoryPageResponse> inFlight = loading.putIfAbsent(loadKey, mine);
+        if (inFlight != null) {
+            collapsedLoads.incrementAndGet();
+            return await(inFlight);
+        }
+
+        try {
+            loads.incrementAndGet();
+            StoryPageResponse page = loader.get();
+            // 로딩 중 무효화되었으면 저장해도 세대가 달라 적중하지 않음
+            synchronized (pages) {
+                pages.put(key, new Entry(page, currentGeneration, System.nanoTime()));
+            }
+            mine.complete(page);
+            return page;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(loadKey, mine);
+        }
+    }
+
+    // 공개 동화 추가/변경: 커밋 후 전체 무효화
+    public void invalidateAfterCommit() {
+        afterCommit(this::invalidate);
+    }
+
+    // 공개 동화 제거 (비공개 전환/삭제): 커밋 후 캐시된 페이지에서 해당 항목만 제거
+    public void removeAfterCommit(Long storyId) {
+        afterCommit(() -> remove(storyId));
+    }
+
+    // 캐시 통계 조회
+    public StoryFeedCacheStatsResponse getStats() {
+        int size;
+        synchronized (pages) {
+            size = pages.size();
+        }
+        long total = hits.get() + misses.get();
+
+        return StoryFeedCacheStatsResponse.builder()
+                .enabled(enabled)
+                .size(size)
+                .maxEntries(maxEntries)
+                .hits(hits.get())
+                .misses(misses.get())
+                .loads(loads.get())
+                .collapsedLoads(collapsedLoads.get())
+                .invalidations(invalidations.get())
+                .patches(patches.get())
+                .evictions(evictions.get())
+                .hitRatio(total == 0 ? 0.0 : (double) hits.get() / total)
+                .build();
+    }
+
+    private void invalidate() {
+        synchronized (pages) {
+            generation.incrementAndGet();
+            pages.clear();
+        }
+        invalidations.incrementAndGet();
+        log.debug("공개 동화 피드 캐시 무효화");
+    }
+
+    // 세대를 올리고 현재 세대의 페이지만 항목을 뺀 사본으로 교체 (진행 중인 이전 세대 로딩 결과는 적중하지 않음)
+    private void remove(Long storyId) {
+        synchronized (pages) {
+            long previous = generation.getAndIncrement();
+            Iterator<Map.Entry<String, Entry>> iterator = pages.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, Entry> cached = iterator.next();
+                Entry entry = cached.getValue();
+                if (entry.generation() != previous) {
+                    iterator.remove();
+                    continue;
+                }
+                cached.setValue(new Entry(without(entry.page(), storyId), previous + 1, entry.loadedAtNanos()));
+            }
+        }
+        patches.incrementAndGet();
+    }
+
+    // 캐시된 페이지는 여러 요청이 공유하므로 수정하지 않고 사본 생성
+    private static StoryPageResponse without(StoryPageResponse page, Long storyId) {
+        if (page.getItems().stream().noneMatch(item -> item.getStoryId().equals(storyId))) {
+            return page;
+        }
+        List<StoryListResponse> items = page.getItems().stream()
+                .filter(item -> !item.getStoryId().equals(storyId))
+                .toList();
+        return StoryPageResponse.builder()
+                .items(items)
+                .nextCursor(page.getNextCursor())
+                .hasNext(page.isHasNext())
+                .build();
+    }
+
+    // 트랜잭션 안이면 커밋 이후 실행 (롤백 시 실행 X), 밖이면 바로 실행
+    private void afterCommit(Runnable action) {
+        if (!enabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static StoryPageResponse await(CompletableFuture<StoryPageResponse> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
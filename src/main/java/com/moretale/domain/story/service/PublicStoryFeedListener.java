@@ -0,0 +1,41 @@
+package com.moretale.domain.story.service;
+
+import com.moretale.domain.story.entity.Story;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+
+// Story 엔티티 변경을 공개 동화 피드 캐시에 반영 (서비스/저장소 어느 경로로 변경해도 적용)
+// Hibernate가 Spring 빈 컨테이너로 생성하므로 생성자 주입 사용 가능
+@RequiredArgsConstructor
+public class PublicStoryFeedListener {
+
+    private final PublicStoryFeedCache publicStoryFeedCache;
+
+    // 공개 동화 저장
+    @PostPersist
+    public void onPersist(Story story) {
+        if (Boolean.TRUE.equals(story.getIsPublic())) {
+            publicStoryFeedCache.invalidateAfterCommit();
+        }
+    }
+
+    // 공개 전환 또는 공개 동화 수정이면 전체 무효화, 비공개 동화 수정(비공개 전환 포함)이면 항목 제거
+    @PostUpdate
+    public void onUpdate(Story story) {
+        if (Boolean.TRUE.equals(story.getIsPublic())) {
+            publicStoryFeedCache.invalidateAfterCommit();
+        } else {
+            publicStoryFeedCache.removeAfterCommit(story.getStoryId());
+        }
+    }
+
+    // 공개 동화 삭제
+    @PostRemove
+    public void onRemove(Story story) {
+        if (Boolean.TRUE.equals(story.getIsPublic())) {
+            publicStoryFeedCache.removeAfterCommit(story.getStoryId());
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.moretale.domain.story.service;
+
+import com.moretale.domain.profile.entity.UserProfile;
+import com.moretale.domain.user.entity.User;
+
+// 동화 생성에 필요한 사용자 + 대상 자녀 프로필 (StoryGenerationContextResolver가 한 번에 조회)
+public record StoryGenerationContext(User user, UserProfile profile) {
+
+    public Long userId() {
+        return user.getUserId();
+    }
+}
@@ -0,0 +1,45 @@
+package com.moretale.domain.story.service;
+
+import com.moretale.domain.profile.entity.UserProfile;
+import com.moretale.domain.profile.repository.UserProfileRepository;
+import com.moretale.global.exception.BusinessException;
+import com.moretale.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+// 동화 생성 컨텍스트 조회
+// 사용자와 대상 프로필(지정 프로필 또는 최신 프로필)을 join 쿼리 한 번으로 조회하고,
+// HTTP 요청 처리 중이면 요청 속성에 저장해 같은 요청의 이후 호출에서 재사용
+// 요청 밖(비동기 생성 작업 등)에서는 호출한 쪽이 컨텍스트를 넘겨 재사용
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoryGenerationContextResolver {
+
+    private static final String ATTRIBUTE_PREFIX = StoryGenerationContextResolver.class.getName() + ".";
+
+    private final UserProfileRepository userProfileRepository;
+
+    public StoryGenerationContext resolve(Long userId, Long profileId) {
+        String key = ATTRIBUTE_PREFIX + userId + ":" + (profileId != null ? profileId : "latest");
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null
+                && attributes.getAttribute(key, RequestAttributes.SCOPE_REQUEST) instanceof StoryGenerationContext cached) {
+            return cached;
+        }
+
+        UserProfile profile = (profileId != null
+                ? userProfileRepository.findWithUserByProfileIdAndUser_UserId(profileId, userId)
+                : userProfileRepository.findFirstWithUserByUser_UserIdOrderByCreatedAtDesc(userId))
+                .orElseThrow(() -> new BusinessException(ErrorCode.PROFILE_NOT_FOUND));
+
+        StoryGenerationContext context = new StoryGenerationContext(profile.getUser(), profile);
+        if (attributes != null) {
+            attributes.setAttribute(key, context, RequestAttributes.SCOPE_REQUEST);
+        }
+        return context;
+    }
+}
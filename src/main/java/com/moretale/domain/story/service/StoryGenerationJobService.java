@@ -0,0 +1,464 @@
+package com.moretale.domain.story.service;
+
+import com.moretale.domain.story.dto.StoryGenerateRequest;
+import com.moretale.domain.story.dto.StoryGenerateResponse;
+import com.moretale.domain.story.dto.StoryGenerationJobResponse;
+import com.moretale.domain.story.enums.StoryGenerationStatus;
+import com.moretale.global.config.MoreTaleProperties;
+import com.moretale.global.exception.BusinessException;
+import com.moretale.global.exception.CustomException;
+import com.moretale.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+// 비동기 동화 생성 작업 관리
+// 요청 스레드는 작업 ID만 받고 바로 반환, AI -> TTS 파이프라인은 백그라운드에서 실행
+// 진행 상황은 폴링(getJob), SSE(subscribe) 또는 NDJSON 스트림(streamGenerate)으로 전달
+// 이벤트는 job 잠금 안에서 구독자별 대기열에 넣기만 하고, 실제 전송은 구독자마다 별도 가상 스레드에서 순서대로 수행
+// (느린 클라이언트가 AI/TTS 스레드나 다른 구독자, 폴링을 막지 않음)
+// 생성 결과는 저장 전의 임시 데이터이므로 노드 메모리에 보관하고 retention 이후 정리
+// 노드 고정: 작업은 등록한 노드에만 있으므로 여러 노드 배포 시 로드밸런서의 세션 고정(sticky session)으로
+// 같은 사용자의 작업 조회/구독(/api/stories/generate/jobs/**)이 등록한 노드로 가야 함 (다른 노드는 S005)
+// 접수 상한: 실행 중 + 대기 중 작업이 노드당 max-active-jobs, 사용자당 max-active-jobs-per-user를 넘으면 바로 거절
+@Slf4j
+@Service
+public class StoryGenerationJobService {
+
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+
+    static final String EVENT_JOB = "job";
+    static final String EVENT_SLIDE_TEXT = "slide-text";
+    static final String EVENT_TEXT_READY = "text-ready";
+    static final String EVENT_SLIDE_AUDIO = "slide-audio";
+    static final String EVENT_COMPLETED = "completed";
+    static final String EVENT_FAILED = "failed";
+
+    private final StoryService storyService;
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final long sseTimeoutMillis;
+    private final long retentionMinutes;
+    private final int maxActiveJobs;
+    private final int maxActiveJobsPerUser;
+    private final Map<String, GenerationJob> jobs = new ConcurrentHashMap<>();
+
+    // 끝나지 않은 작업 수 (노드 전체 / 사용자별), activeJobsByUser 잠금 안에서만 변경
+    private final Map<Long, Integer> activeJobsByUser = new HashMap<>();
+    private int activeJobs;
+
+    public StoryGenerationJobService(StoryService storyService,
+                                     @Qualifier("storyGenerationExecutor") ExecutorService executor,
+                                     MoreTaleProperties moreTaleProperties) {
+        MoreTaleProperties.Ai.GenerationJob config = moreTaleProperties.getAi().getGenerationJob();
+        this.storyService = storyService;
+        this.executor = executor;
+        this.permits = new Semaphore(config.getMaxConcurrentJobs(), true);
+        this.sseTimeoutMillis = config.getSseTimeoutSeconds() * 1000;
+        this.retentionMinutes = config.getRetentionMinutes();
+        this.maxActiveJobs = config.getMaxActiveJobs();
+        this.maxActiveJobsPerUser = config.getMaxActiveJobsPerUser();
+    }
+
+    // 사용자 입력 기반 동화 생성 작업 등록
+    public StoryGenerationJobResponse startGenerate(Long userId, StoryGenerateRequest request) {
+        return start(userId, generatePipeline(userId, request), null);
+    }
+
+    // 온보딩 기반 자동 동화 생성 작업 등록
+    public StoryGenerationJobResponse startAutoGenerate(Long userId, Long profileId) {
+        return start(userId, listener -> storyService.autoGenerateStory(userId, profileId, listener), null);
+    }
+
+    // 동화 생성 작업을 등록하고 진행 이벤트를 같은 응답에 NDJSON으로 스트리밍
+    // 첫 줄은 작업 정보(job)이므로 연결이 끊겨도 작업 ID로 이어서 조회 가능
+    public ResponseBodyEmitter streamGenerate(Long userId, StoryGenerateRequest request) {
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(sseTimeoutMillis);
+        start(userId, generatePipeline(userId, request), new Subscriber(emitter, false, executor));
+        return emitter;
+    }
+
+    // 작업 상태 조회 (폴링)
+    public StoryGenerationJobResponse getJob(Long userId, String jobId) {
+        GenerationJob job = getOwnedJob(userId, jobId);
+        synchronized (job) {
+            return job.toResponse();
+        }
+    }
+
+    // 작업 진행 이벤트 구독 (SSE)
+    // 구독 시점까지의 진행 상황을 먼저 보낸 뒤 이후 이벤트를 이어서 전달
+    public SseEmitter subscribe(Long userId, String jobId) {
+        GenerationJob job = getOwnedJob(userId, jobId);
+        SseEmitter emitter = new SseEmitter(sseTimeoutMillis);
+        job.attach(new Subscriber(emitter, true, executor), true);
+        return emitter;
+    }
+
+    // 보관 시간이 지난 완료 작업 정리
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpiredJobs() {
+        LocalDateTime expiredBefore = LocalDateTime.now().minusMinutes(retentionMinutes);
+        jobs.values().removeIf(job -> {
+            synchronized (job) {
+                return job.status.isFinished() && job.updatedAt.isBefore(expiredBefore);
+            }
+        });
+    }
+
+    private Function<StoryGenerationListener, StoryGenerateResponse> generatePipeline(Long userId,
+                                                                                     StoryGenerateRequest request) {
+        return listener -> storyService.generateStory(userId, request, listener);
+    }
+
+    // 구독자를 먼저 등록한 뒤 실행해야 첫 이벤트부터 빠짐없이 전달됨
+    private StoryGenerationJobResponse start(Long userId,
+                                             Function<StoryGenerationListener, StoryGenerateResponse> pipeline,
+                                             Subscriber initialSubscriber) {
+        admit(userId);
+        GenerationJob job = new GenerationJob(UUID.randomUUID().toString(), userId);
+        jobs.put(job.jobId, job);
+
+        if (initialSubscriber != null) {
+            job.attach(initialSubscriber, false);
+            job.sendTo(initialSubscriber, EVENT_JOB, job.toResponse());
+        }
+
+        try {
+            executor.execute(() -> run(job, pipeline));
+        } catch (RejectedExecutionException e) {
+            // 종료 중인 노드
+            jobs.remove(job.jobId);
+            release(userId);
+            throw new BusinessException(ErrorCode.STORY_GENERATION_BUSY);
+        }
+        log.info("비동기 동화 생성 작업 등록 - jobId={}, userId={}", job.jobId, userId);
+
+        synchronized (job) {
+            return job.toResponse();
+        }
+    }
+
+    // 작업이 끝나면(완료/실패 이벤트 전송 전) 접수 수를 반환 -> 완료 이벤트를 받은 클라이언트가 바로 새 작업을 등록할 수 있음
+    private void run(GenerationJob job, Function<StoryGenerationListener, StoryGenerateResponse> pipeline) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            release(job.userId);
+            job.fail(ErrorCode.STORY_GENERATION_FAILED, ErrorCode.STORY_GENERATION_FAILED.getMessage());
+            return;
+        }
+
+        try {
+            StoryGenerateResponse response = pipeline.apply(job);
+            release(job.userId);
+            job.complete(response);
+            log.info("비동기 동화 생성 작업 완료 - jobId={}", job.jobId);
+        } catch (BusinessException e) {
+            log.warn("비동기 동화 생성 작업 실패 - jobId={}, 원인={}", job.jobId, e.getMessage());
+            release(job.userId);
+            job.fail(e.getErrorCode(), e.getMessage());
+        } catch (CustomException e) {
+            log.warn("비동기 동화 생성 작업 실패 - jobId={}, 원인={}", job.jobId, e.getMessage());
+            release(job.userId);
+            job.fail(e.getErrorCode(), e.getMessage());
+        } catch (Exception e) {
+            log.error("비동기 동화 생성 작업 실패 - jobId={}", job.jobId, e);
+            release(job.userId);
+            job.fail(ErrorCode.STORY_GENERATION_FAILED, ErrorCode.STORY_GENERATION_FAILED.getMessage());
+        } finally {
+            permits.release();
+        }
+    }
+
+    // 접수 상한 확인 후 끝나지 않은 작업 수 증가 (상한 초과 시 작업을 만들지 않고 거절)
+    private void admit(Long userId) {
+        synchronized (activeJobsByUser) {
+            if (activeJobsByUser.getOrDefault(userId, 0) >= maxActiveJobsPerUser) {
+                log.warn("동화 생성 작업 거절 (사용자 상한) - userId={}", userId);
+                throw new BusinessException(ErrorCode.STORY_GENERATION_LIMIT_EXCEEDED);
+            }
+            if (activeJobs >= maxActiveJobs) {
+                log.warn("동화 생성 작업 거절 (노드 상한) - 진행 중 {}건", activeJobs);
+                throw new BusinessException(ErrorCode.STORY_GENERATION_BUSY);
+            }
+            activeJobs++;
+            activeJobsByUser.merge(userId, 1, Integer::sum);
+        }
+    }
+
+    private void release(Long userId) {
+        synchronized (activeJobsByUser) {
+            activeJobs--;
+            activeJobsByUser.computeIfPresent(userId, (key, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+
+    private GenerationJob getOwnedJob(Long userId, String jobId) {
+        GenerationJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new BusinessException(ErrorCode.STORY_GENERATION_JOB_NOT_FOUND);
+        }
+        if (!job.userId.equals(userId)) {
+            throw new BusinessException(ErrorCode.STORY_ACCESS_DENIED);
+        }
+        return job;
+    }
+
+    // 이벤트 수신자 (SSE: event/data 형식, NDJSON: {"event": ..., "data": ...} 한 줄)
+    // 대기열에 쌓인 이벤트를 전송 스레드 하나가 순서대로 보냄 (전송 중 들어온 이벤트는 같은 스레드가 이어서 전송)
+    private static class Subscriber {
+
+        private record Event(String name, Object data, boolean last) {
+        }
+
+        private final ResponseBodyEmitter emitter;
+        private final boolean sse;
+        private final Executor sender;
+        private final Queue<Event> outbox = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed; // 전송 실패(연결 끊김) 또는 종료 완료
+
+        private Subscriber(ResponseBodyEmitter emitter, boolean sse, Executor sender) {
+            this.emitter = emitter;
+            this.sse = sse;
+            this.sender = sender;
+        }
+
+        // 전송 예약 (블로킹 없음)
+        void enqueue(String eventName, Object data) {
+            outbox.add(new Event(eventName, data, false));
+            flush();
+        }
+
+        // 이전 이벤트를 모두 보낸 뒤 연결 종료
+        void enqueueComplete() {
+            outbox.add(new Event(null, null, true));
+            flush();
+        }
+
+        boolean isClosed() {
+            return closed;
+        }
+
+        private void flush() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                sender.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                closed = true; // 종료 중
+                outbox.clear();
+                draining.set(false);
+            }
+        }
+
+        private void drain() {
+            do {
+                Event event;
+                while ((event = outbox.poll()) != null) {
+                    deliver(event);
+                }
+                draining.set(false);
+            } while (!outbox.isEmpty() && draining.compareAndSet(false, true));
+        }
+
+        private void deliver(Event event) {
+            if (closed) {
+                return;
+            }
+            if (event.last()) {
+                closed = true;
+                emitter.complete();
+                return;
+            }
+            try {
+                send(event.name(), event.data());
+            } catch (IOException | IllegalStateException e) {
+                log.debug("구독자 연결 종료 - {}", e.getMessage());
+                closed = true;
+                outbox.clear();
+            }
+        }
+
+        private void send(String eventName, Object data) throws IOException {
+            if (sse) {
+                ((SseEmitter) emitter).send(SseEmitter.event().name(eventName).data(data));
+                return;
+            }
+
+            Map<String, Object> line = new LinkedHashMap<>();
+            line.put("event", eventName);
+            line.put("data", data);
+
+            Set<ResponseBodyEmitter.DataWithMediaType> items = new LinkedHashSet<>();
+            items.add(new ResponseBodyEmitter.DataWithMediaType(line, MediaType.APPLICATION_JSON));
+            items.add(new ResponseBodyEmitter.DataWithMediaType("\n", MediaType.TEXT_PLAIN));
+            emitter.send(items);
+        }
+    }
+
+    // 작업 하나의 상태와 구독자 목록 (상태 변경과 이벤트 전송 예약은 job 단위로 동기화)
+    private static class GenerationJob implements StoryGenerationListener {
+
+        private final String jobId;
+        private final Long userId;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+        private final List<Subscriber> subscribers = new ArrayList<>();
+        private final List<StoryGenerateResponse.GeneratedSlide> streamedSlides = new ArrayList<>();
+        private final Set<Integer> audioReadyOrders = new HashSet<>();
+
+        private StoryGenerationStatus status = StoryGenerationStatus.PENDING;
+        private StoryGenerateResponse story;
+        private ErrorCode errorCode;
+        private String errorMessage;
+        private LocalDateTime updatedAt = createdAt;
+
+        private GenerationJob(String jobId, Long userId) {
+            this.jobId = jobId;
+            this.userId = userId;
+        }
+
+        @Override
+        public synchronized void onSlideTextReady(StoryGenerateResponse.GeneratedSlide slide) {
+            streamedSlides.add(slide);
+            status = StoryGenerationStatus.GENERATING_TEXT;
+            updatedAt = LocalDateTime.now();
+            broadcast(EVENT_SLIDE_TEXT, slide);
+        }
+
+        @Override
+        public synchronized void onTextReady(StoryGenerateResponse response) {
+            story = response;
+            status = StoryGenerationStatus.TEXT_READY;
+            updatedAt = LocalDateTime.now();
+            broadcast(EVENT_TEXT_READY, response);
+        }
+
+        @Override
+        public synchronized void onSlideAudioReady(StoryGenerateResponse.GeneratedSlide slide) {
+            audioReadyOrders.add(slide.getOrder());
+            updatedAt = LocalDateTime.now();
+            broadcast(EVENT_SLIDE_AUDIO, slide);
+        }
+
+        private synchronized void complete(StoryGenerateResponse response) {
+            story = response;
+            status = StoryGenerationStatus.COMPLETED;
+            updatedAt = LocalDateTime.now();
+            broadcast(EVENT_COMPLETED, toResponse());
+            closeSubscribers();
+        }
+
+        private synchronized void fail(ErrorCode code, String message) {
+            status = StoryGenerationStatus.FAILED;
+            errorCode = code;
+            errorMessage = message;
+            updatedAt = LocalDateTime.now();
+            broadcast(EVENT_FAILED, toResponse());
+            closeSubscribers();
+        }
+
+        // 구독자 등록 (replay = true면 지금까지의 진행 상황을 먼저 전송)
+        // 콜백은 전송 예약 전에 등록 (전송 중인 emitter의 잠금을 job 잠금 안에서 기다리지 않도록)
+        private synchronized void attach(Subscriber subscriber, boolean replay) {
+            if (!status.isFinished()) {
+                subscribers.add(subscriber);
+                subscriber.emitter.onCompletion(() -> removeSubscriber(subscriber));
+                subscriber.emitter.onTimeout(() -> removeSubscriber(subscriber));
+                subscriber.emitter.onError(e -> removeSubscriber(subscriber));
+            }
+
+            if (replay) {
+                if (story != null) {
+                    subscriber.enqueue(EVENT_TEXT_READY, story);
+                } else {
+                    for (StoryGenerateResponse.GeneratedSlide slide : streamedSlides) {
+                        subscriber.enqueue(EVENT_SLIDE_TEXT, slide);
+                    }
+                }
+                for (StoryGenerateResponse.GeneratedSlide slide : slidesSoFar()) {
+                    if (audioReadyOrders.contains(slide.getOrder())) {
+                        subscriber.enqueue(EVENT_SLIDE_AUDIO, slide);
+                    }
+                }
+            }
+            if (status.isFinished()) {
+                subscriber.enqueue(finishedEventName(), toResponse());
+                subscriber.enqueueComplete();
+            }
+        }
+
+        private synchronized void sendTo(Subscriber subscriber, String eventName, Object data) {
+            subscriber.enqueue(eventName, data);
+        }
+
+        private synchronized void removeSubscriber(Subscriber subscriber) {
+            subscribers.remove(subscriber);
+        }
+
+        private List<StoryGenerateResponse.GeneratedSlide> slidesSoFar() {
+            return story != null ? story.getSlides() : streamedSlides;
+        }
+
+        private String finishedEventName() {
+            return status == StoryGenerationStatus.COMPLETED ? EVENT_COMPLETED : EVENT_FAILED;
+        }
+
+        // 전송에 실패한 구독자(연결 끊김)는 목록에서 제거
+        private void broadcast(String eventName, Object data) {
+            subscribers.removeIf(Subscriber::isClosed);
+            subscribers.forEach(subscriber -> subscriber.enqueue(eventName, data));
+        }
+
+        private void closeSubscribers() {
+            subscribers.forEach(Subscriber::enqueueComplete);
+            subscribers.clear();
+        }
+
+        private StoryGenerationJobResponse toResponse() {
+            // 텍스트 스트리밍 중이면 지금까지 받은 슬라이드만 포함
+            StoryGenerateResponse current = story;
+            if (current == null && !streamedSlides.isEmpty()) {
+                current = StoryGenerateResponse.builder().slides(List.copyOf(streamedSlides)).build();
+            }
+
+            return StoryGenerationJobResponse.builder()
+                    .jobId(jobId)
+                    .status(status)
+                    .story(current)
+                    .errorCode(errorCode != null ? errorCode.getCode() : null)
+                    .errorMessage(errorMessage)
+                    .createdAt(createdAt)
+                    .updatedAt(updatedAt)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.moretale.domain.story.service;
+
+import com.moretale.domain.story.dto.StoryGenerateResponse;
+
+// 동화 생성 진행 상황 콜백 (비동기 생성 작업의 진행 이벤트 전달용)
+public interface StoryGenerationListener {
+
+    StoryGenerationListener NONE = new StoryGenerationListener() {
+    };
+
+    // 스트리밍 생성 시 슬라이드 하나의 텍스트가 도착 (이후 슬라이드는 아직 생성 중)
+    default void onSlideTextReady(StoryGenerateResponse.GeneratedSlide slide) {
+    }
+
+    // AI 텍스트 생성 완료 (오디오 URL은 아직 없음)
+    default void onTextReady(StoryGenerateResponse response) {
+    }
+
+    // 슬라이드 하나의 TTS 처리 완료 (실패한 언어는 오디오 URL이 null)
+    default void onSlideAudioReady(StoryGenerateResponse.GeneratedSlide slide) {
+    }
+}
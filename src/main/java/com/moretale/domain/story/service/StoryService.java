@@ -5,41 +5,52 @@ import com.moretale.domain.story.dto.*;
 import com.moretale.domain.story.entity.Slide;
 import com.moretale.domain.story.entity.Story;
 import com.moretale.domain.story.enums.TraditionalTale;
-import com.moretale.domain.story.repository.SlideRepository;
 import com.moretale.domain.story.repository.StoryRepository;
 import com.moretale.domain.story.util.PromptBuilder;
 import com.moretale.domain.user.entity.User;
 import com.moretale.domain.profile.entity.UserProfile;
 import com.moretale.domain.profile.repository.UserProfileRepository;
+import com.moretale.domain.tts.service.ParallelTTSSynthesizer;
+import com.moretale.domain.tts.service.TTSJobService;
 import com.moretale.domain.user.repository.UserRepository;
 import com.moretale.global.exception.BusinessException;
 import com.moretale.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
 
+// 동화 생성(generateStory, autoGenerateStory)은 원격 AI/TTS 호출 동안 DB 커넥션을 점유하지 않도록
+// 트랜잭션 없이 실행하고, 나머지 조회/변경 메서드에만 트랜잭션을 선언
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class StoryService {
 
+    public static final int DEFAULT_PAGE_SIZE = 20; // 동화 목록 기본 페이지 크기
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final StoryRepository storyRepository;
-    private final SlideRepository slideRepository;
     private final UserRepository userRepository;
     private final UserProfileRepository userProfileRepository;
     private final AIStoryService aiStoryService;
     private final TTSService ttsService;
+    private final TTSJobService ttsJobService;
+    private final ParallelTTSSynthesizer parallelTTSSynthesizer; // 스트리밍 생성 시 슬라이드별 TTS 실행 (동화당 / 서버 전체 동시 합성 수 제한)
+    private final StoryGenerationContextResolver contextResolver;
+    private final PublicStoryFeedCache publicStoryFeedCache;
 
     // 온보딩 데이터 기반 동화 생성 초기값 조회
     // GET /api/stories/init
-    public StoryInitResponse getStoryInitData(String email, Long profileId) {
-        User user = getUserByEmail(email);
-        UserProfile profile = getUserProfile(user, profileId);
+    @Transactional(readOnly = true)
+    public StoryInitResponse getStoryInitData(Long userId, Long profileId) {
+        UserProfile profile = contextResolver.resolve(userId, profileId).profile();
 
         // 이야기 선호도에 맞는 전래동화 자동 매핑
         TraditionalTale recommendedTale;
@@ -58,17 +69,21 @@ public class StoryService {
         }
 
         log.info("동화 초기값 조회 - userId={}, profileId={}, 추천 전래동화={}",
-                user.getUserId(), profile.getProfileId(), recommendedTale.getTitle());
+                userId, profile.getProfileId(), recommendedTale.getTitle());
 
         return StoryInitResponse.from(profile, recommendedTale.getTitle());
     }
 
     // 온보딩 직후 자동 동화 생성 (추천 동화)
     // POST /api/stories/auto-generate
-    @Transactional
-    public StoryGenerateResponse autoGenerateStory(String email, Long profileId) {
-        User user = getUserByEmail(email);
-        UserProfile profile = getUserProfile(user, profileId);
+    public StoryGenerateResponse autoGenerateStory(Long userId, Long profileId) {
+        return autoGenerateStory(userId, profileId, StoryGenerationListener.NONE);
+    }
+
+    // 자동 동화 생성 (진행 상황 콜백 포함, 비동기 생성 작업용)
+    public StoryGenerateResponse autoGenerateStory(Long userId, Long profileId, StoryGenerationListener listener) {
+        StoryGenerationContext context = contextResolver.resolve(userId, profileId);
+        UserProfile profile = context.profile();
 
         // 추천 전래동화 선택
         TraditionalTale tale;
@@ -87,7 +102,7 @@ public class StoryService {
         }
 
         log.info("자동 동화 생성 시작 - userId={}, profileId={}, 전래동화={}",
-                user.getUserId(), profile.getProfileId(), tale.getTitle());
+                userId, profile.getProfileId(), tale.getTitle());
 
         // 프롬프트 결정: CUSTOM이면 사용자 입력, 아니면 전래동화 설명
         String basePrompt = (tale == TraditionalTale.CUSTOM && profile.getCustomStoryPreference() != null)
@@ -115,17 +130,29 @@ public class StoryService {
                 .recommendedTaleTitle(tale.getTitle())
                 .build();
 
-        // 동화 생성 (기존 generateStory 재사용)
-        return generateStory(email, autoRequest);
+        // 동화 생성 (이미 조회한 컨텍스트 재사용)
+        return generateStory(context, autoRequest, listener);
     }
 
     // 동화 생성 (AI 연동) - 확장 버전
     // 온보딩 데이터 기반 제약 조건 반영
     // 지능형 프롬프트 조립
-    @Transactional
-    public StoryGenerateResponse generateStory(String email, StoryGenerateRequest request) {
-        User user = getUserByEmail(email);
-        UserProfile profile = getUserProfile(user, request.getProfileId());
+    // 1) 사용자+프로필은 join 쿼리 한 번으로 조회하고 커넥션을 바로 반납 (같은 요청 안에서는 재사용)
+    // 2) AI/TTS 원격 호출은 트랜잭션 없이 수행 (커넥션 미점유)
+    public StoryGenerateResponse generateStory(Long userId, StoryGenerateRequest request) {
+        return generateStory(userId, request, StoryGenerationListener.NONE);
+    }
+
+    // 동화 생성 (진행 상황 콜백 포함, 비동기 생성 작업용)
+    // 텍스트 생성 직후와 슬라이드별 TTS 완료 시점마다 listener 호출
+    public StoryGenerateResponse generateStory(Long userId, StoryGenerateRequest request,
+                                               StoryGenerationListener listener) {
+        return generateStory(contextResolver.resolve(userId, request.getProfileId()), request, listener);
+    }
+
+    private StoryGenerateResponse generateStory(StoryGenerationContext context, StoryGenerateRequest request,
+                                                StoryGenerationListener listener) {
+        UserProfile profile = context.profile();
 
         // 값 병합: 요청값이 없으면 프로필 데이터 사용
         String childName = request.getChildName() != null
@@ -159,60 +186,110 @@ public class StoryService {
                 request, childName, primaryLang, secondaryLang
         );
 
+        StoryGenerateResponse response = aiStoryService.supportsStreaming()
+                ? generateStreaming(enhancedPrompt, childName, primaryLang, secondaryLang, request, listener)
+                : generateSequential(enhancedPrompt, childName, primaryLang, secondaryLang, request, listener);
+
+        log.info("동화 생성 완료 - userId={}, 자동생성={}, 제목={}",
+                context.userId(), request.getAutoGenerated(), response.getTitle());
+
+        return response;
+    }
+
+    // 전체 텍스트 생성 후 슬라이드 순서대로 TTS 생성
+    private StoryGenerateResponse generateSequential(String prompt, String childName,
+                                                     String primaryLang, String secondaryLang,
+                                                     StoryGenerateRequest request,
+                                                     StoryGenerationListener listener) {
         // AI 동화 생성
         StoryGenerateResponse response = aiStoryService.generateStory(
-                enhancedPrompt,
+                prompt,
                 childName,
                 primaryLang,
                 secondaryLang,
                 request // 온보딩 제약 조건 전달
         );
 
+        listener.onTextReady(response);
+
         // TTS 생성
         response.getSlides().forEach(slide -> {
-            try {
-                if (slide.getTextKr() != null) {
-                    slide.setAudioUrlKr(
-                            ttsService.generateTTS(slide.getTextKr(), primaryLang + "-KR")
-                    );
-                }
-                if (slide.getTextNative() != null) {
-                    slide.setAudioUrlNative(
-                            ttsService.generateTTS(
-                                    slide.getTextNative(),
-                                    secondaryLang + "-" + secondaryLang.toUpperCase()
-                            )
-                    );
-                }
-            } catch (Exception e) {
-                log.error(
-                        "TTS 생성 중 오류 발생 (건너뜀) - slideOrder={}",
-                        slide.getOrder(),
-                        e
-                );
-            }
+            generateSlideTTS(slide, primaryLang, secondaryLang);
+            listener.onSlideAudioReady(slide);
         });
+        return response;
+    }
 
-        log.info("동화 생성 완료 - userId={}, 자동생성={}, 제목={}",
-                user.getUserId(), request.getAutoGenerated(), response.getTitle());
+    // 슬라이드가 파싱되는 즉시 TTS를 시작 (이후 슬라이드 생성과 TTS가 겹쳐 실행됨)
+    // 첫 슬라이드 재생 가능 시점 = 전체 동화 생성 시간이 아닌 슬라이드 하나 생성 + TTS 시간
+    // 슬라이드 TTS는 ParallelTTSSynthesizer의 동화당 / 서버 전체 동시 합성 수 안에서 실행 (완료 알림은 점유 해제 후)
+    private StoryGenerateResponse generateStreaming(String prompt, String childName,
+                                                    String primaryLang, String secondaryLang,
+                                                    StoryGenerateRequest request,
+                                                    StoryGenerationListener listener) {
+        List<CompletableFuture<Void>> ttsTasks = new ArrayList<>();
+        Semaphore storyPermits = parallelTTSSynthesizer.newStoryPermits();
+
+        StoryGenerateResponse response = aiStoryService.generateStoryStreaming(
+                prompt,
+                childName,
+                primaryLang,
+                secondaryLang,
+                request,
+                slide -> {
+                    listener.onSlideTextReady(slide);
+                    ttsTasks.add(parallelTTSSynthesizer.submit(storyPermits, () -> {
+                        generateSlideTTS(slide, primaryLang, secondaryLang);
+                        return slide;
+                    }).thenAccept(listener::onSlideAudioReady));
+                }
+        );
 
+        listener.onTextReady(response);
+        CompletableFuture.allOf(ttsTasks.toArray(CompletableFuture[]::new)).join();
         return response;
     }
 
+    // 슬라이드 하나의 TTS 생성 (실패 시 로그만 남기고 건너뜀)
+    private void generateSlideTTS(StoryGenerateResponse.GeneratedSlide slide, String primaryLang, String secondaryLang) {
+        try {
+            if (slide.getTextKr() != null) {
+                slide.setAudioUrlKr(
+                        ttsService.generateTTS(slide.getTextKr(), primaryLang + "-KR")
+                );
+            }
+            if (slide.getTextNative() != null) {
+                slide.setAudioUrlNative(
+                        ttsService.generateTTS(
+                                slide.getTextNative(),
+                                secondaryLang + "-" + secondaryLang.toUpperCase()
+                        )
+                );
+            }
+        } catch (Exception e) {
+            log.error(
+                    "TTS 생성 중 오류 발생 (건너뜀) - slideOrder={}",
+                    slide.getOrder(),
+                    e
+            );
+        }
+    }
+
     // 동화 저장
     @Transactional
-    public StoryResponse saveStory(String email, StorySaveRequest request) {
-        User user = getUserByEmail(email);
+    public StoryResponse saveStory(Long userId, StorySaveRequest request) {
+        // 인증된 사용자 ID로 FK 참조만 생성 (users 조회 없음)
+        User user = userRepository.getReferenceById(userId);
 
         // 1. 프로필 존재 여부 확인 (유저 조건 없이 조회)
         UserProfile profile = userProfileRepository.findById(request.getProfileId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.PROFILE_NOT_FOUND));
 
         // 2. 프로필 소유권 검증
-        if (!profile.getUser().getUserId().equals(user.getUserId())) {
+        if (!profile.getUser().getUserId().equals(userId)) {
             log.warn(
                     "보안 위반 시도 - 유저 {}가 유저 {}의 프로필 {}을 사용하려고 함",
-                    user.getUserId(),
+                    userId,
                     profile.getUser().getUserId(),
                     profile.getProfileId()
             );
@@ -245,83 +322,137 @@ public class StoryService {
             });
         }
 
-        // 5. 저장
+        // 5. 저장 (슬라이드는 cascade로 함께 저장되고 flush 시 배치 INSERT)
         Story savedStory = storyRepository.save(story);
-        slideRepository.saveAll(savedStory.getSlides());
+
+        // 6. 오디오가 빠진 슬라이드가 있으면 같은 트랜잭션에서 TTS 작업 등록
+        // (동화 저장과 함께 커밋되므로 저장된 동화의 TTS 작업이 유실되지 않음)
+        if (savedStory.getSlides().stream().anyMatch(StoryService::needsAudio)) {
+            ttsJobService.enqueueStory(savedStory.getStoryId());
+        }
 
         log.info(
                 "동화 저장 완료 - storyId={}, userId={}",
                 savedStory.getStoryId(),
-                user.getUserId()
+                userId
         );
 
         return StoryResponse.from(savedStory);
     }
 
     // 특정 동화 상세 조회 (슬라이드 포함)
-    public StoryResponse getStoryDetail(String email, Long storyId) {
-        User user = getUserByEmail(email);
+    @Transactional(readOnly = true)
+    public StoryResponse getStoryDetail(Long userId, Long storyId) {
         Story story = storyRepository.findByIdWithSlides(storyId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.STORY_NOT_FOUND));
 
-        if (!story.getUser().equals(user) && !story.getIsPublic()) {
+        if (!story.getUser().getUserId().equals(userId) && !story.getIsPublic()) {
             throw new BusinessException(ErrorCode.STORY_ACCESS_DENIED);
         }
 
         return StoryResponse.from(story);
     }
 
-    // 내 동화 목록 조회
-    public List<StoryListResponse> getMyStories(String email) {
-        User user = getUserByEmail(email);
-        return storyRepository.findByUserOrderByCreatedAtDesc(user)
-                .stream()
-                .map(StoryListResponse::from)
-                .collect(Collectors.toList());
+    // 동화 상세 ETag 조회 (조건부 요청용)
+    // 슬라이드를 로딩하지 않고 버전만 조회하며, 상세 조회와 같은 접근 권한 확인
+    @Transactional(readOnly = true)
+    public String getStoryETag(Long userId, Long storyId) {
+        StoryVersion version = storyRepository.findVersionById(storyId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.STORY_NOT_FOUND));
+
+        if (!version.getOwnerId().equals(userId) && !version.getIsPublic()) {
+            throw new BusinessException(ErrorCode.STORY_ACCESS_DENIED);
+        }
+
+        return version.toETag();
     }
 
-    // 공개 동화 목록 조회
+    // 내 동화 목록 조회 (첫 페이지)
+    @Transactional(readOnly = true)
+    public List<StoryListResponse> getMyStories(Long userId) {
+        return getMyStories(userId, null, DEFAULT_PAGE_SIZE).getItems();
+    }
+
+    // 내 동화 목록 조회 (커서 기반 페이지네이션, 최신순)
+    @Transactional(readOnly = true)
+    public StoryPageResponse getMyStories(Long userId, String cursor, int size) {
+        int limit = normalizePageSize(size) + 1; // 다음 페이지 존재 여부 확인용으로 1개 더 조회
+
+        List<StoryListResponse> stories;
+        if (cursor == null || cursor.isBlank()) {
+            stories = storyRepository.findFirstPageByUser(userId, Limit.of(limit));
+        } else {
+            StoryCursor after = StoryCursor.decode(cursor);
+            stories = storyRepository.findPageByUserAfter(
+                    userId, after.getCreatedAt(), after.getStoryId(), Limit.of(limit));
+        }
+        return toPage(stories, limit - 1);
+    }
+
+    // 공개 동화 목록 조회 (첫 페이지)
     public List<StoryListResponse> getPublicStories() {
-        return storyRepository.findByIsPublicTrueOrderByCreatedAtDesc()
-                .stream()
-                .map(StoryListResponse::from)
-                .collect(Collectors.toList());
+        return getPublicStories(null, DEFAULT_PAGE_SIZE).getItems();
+    }
+
+    // 공개 동화 목록 조회 (커서 기반 페이지네이션, 최신순)
+    // 페이지 단위로 캐시하므로 트랜잭션 없이 실행 (캐시 미스 시 저장소 조회만 읽기 전용 트랜잭션)
+    public StoryPageResponse getPublicStories(String cursor, int size) {
+        int pageSize = normalizePageSize(size);
+        return publicStoryFeedCache.get(cursor, pageSize, () -> loadPublicPage(cursor, pageSize));
+    }
+
+    private StoryPageResponse loadPublicPage(String cursor, int pageSize) {
+        int limit = pageSize + 1;
+
+        List<StoryListResponse> stories;
+        if (cursor == null || cursor.isBlank()) {
+            stories = storyRepository.findFirstPublicPage(Limit.of(limit));
+        } else {
+            StoryCursor after = StoryCursor.decode(cursor);
+            stories = storyRepository.findPublicPageAfter(after.getCreatedAt(), after.getStoryId(), Limit.of(limit));
+        }
+        return toPage(stories, limit - 1);
+    }
+
+    private int normalizePageSize(int size) {
+        if (size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    private StoryPageResponse toPage(List<StoryListResponse> stories, int pageSize) {
+        boolean hasNext = stories.size() > pageSize;
+        List<StoryListResponse> page = hasNext ? new ArrayList<>(stories.subList(0, pageSize)) : stories;
+
+        return StoryPageResponse.builder()
+                .items(page)
+                .nextCursor(hasNext ? StoryCursor.from(page.get(page.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
     }
 
     // 동화 공유 설정 변경
     @Transactional
-    public void updateStoryShareStatus(String email, Long storyId, StoryShareRequest request) {
-        User user = getUserByEmail(email);
-        Story story = storyRepository.findByStoryIdAndUser(storyId, user)
+    public void updateStoryShareStatus(Long userId, Long storyId, StoryShareRequest request) {
+        Story story = storyRepository.findByStoryIdAndUser_UserId(storyId, userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.STORY_NOT_FOUND));
 
         story.setIsPublic(request.getIsPublic());
+        storyRepository.incrementVersion(List.of(storyId));
     }
 
     // 동화 삭제
     @Transactional
-    public void deleteStory(String email, Long storyId) {
-        User user = getUserByEmail(email);
-        Story story = storyRepository.findByStoryIdAndUser(storyId, user)
+    public void deleteStory(Long userId, Long storyId) {
+        Story story = storyRepository.findByStoryIdAndUser_UserId(storyId, userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.STORY_NOT_FOUND));
 
         storyRepository.delete(story);
     }
 
-    // 이메일로 사용자 조회
-    private User getUserByEmail(String email) {
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-    }
-
-    private UserProfile getUserProfile(User user, Long profileId) {
-        if (profileId != null) {
-            return userProfileRepository
-                    .findByProfileIdAndUser_UserId(profileId, user.getUserId())
-                    .orElseThrow(() -> new BusinessException(ErrorCode.PROFILE_NOT_FOUND));
-        }
-        return userProfileRepository
-                .findFirstByUserOrderByCreatedAtDesc(user)
-                .orElseThrow(() -> new BusinessException(ErrorCode.PROFILE_NOT_FOUND));
+    private static boolean needsAudio(Slide slide) {
+        return (slide.getTextKr() != null && !slide.getTextKr().isEmpty() && slide.getAudioUrlKr() == null)
+                || (slide.getTextNative() != null && !slide.getTextNative().isEmpty() && slide.getAudioUrlNative() == null);
     }
 }
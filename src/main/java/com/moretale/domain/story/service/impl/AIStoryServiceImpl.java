@@ -1,21 +1,56 @@
 package com.moretale.domain.story.service.impl;
 
+import com.moretale.domain.story.dto.AIStoryRequest;
 import com.moretale.domain.story.dto.StoryGenerateRequest;
 import com.moretale.domain.story.dto.StoryGenerateResponse;
 import com.moretale.domain.story.service.AIStoryService;
-import lombok.RequiredArgsConstructor;
+import com.moretale.global.config.MoreTaleProperties;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
+// moretale.ai.remote-enabled = true: 동화 생성 AI 서버 호출 (일괄 생성 / 슬라이드 단위 스트리밍)
+// false (기본값): 로컬 더미 데이터 생성
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class AIStoryServiceImpl implements AIStoryService {
 
-    // TODO: 실제 AI API 연동 (Gemini)
+    private final StoryGenerationClient storyGenerationClient;
+    private final boolean remoteEnabled;
+
+    public AIStoryServiceImpl(StoryGenerationClient storyGenerationClient, MoreTaleProperties moreTaleProperties) {
+        this.storyGenerationClient = storyGenerationClient;
+        this.remoteEnabled = moreTaleProperties.getAi().isRemoteEnabled();
+    }
+
+    @Override
+    public boolean supportsStreaming() {
+        return remoteEnabled;
+    }
+
+    @Override
+    public StoryGenerateResponse generateStoryStreaming(
+            String prompt,
+            String childName,
+            String primaryLanguage,
+            String secondaryLanguage,
+            StoryGenerateRequest request,
+            Consumer<StoryGenerateResponse.GeneratedSlide> onSlide
+    ) {
+        if (!remoteEnabled) {
+            return AIStoryService.super.generateStoryStreaming(
+                    prompt, childName, primaryLanguage, secondaryLanguage, request, onSlide);
+        }
+
+        log.info("AI 동화 스트리밍 생성 요청 - childName={}, languages={}/{}", childName, primaryLanguage, secondaryLanguage);
+        return storyGenerationClient.streamStory(
+                AIStoryRequest.of(prompt, childName, primaryLanguage, secondaryLanguage, request),
+                onSlide
+        );
+    }
 
     @Override
     public StoryGenerateResponse generateStory(
@@ -25,6 +60,12 @@ public class AIStoryServiceImpl implements AIStoryService {
             String secondaryLanguage,
             StoryGenerateRequest request
     ) {
+        if (remoteEnabled) {
+            log.info("AI 동화 생성 요청 - childName={}, languages={}/{}", childName, primaryLanguage, secondaryLanguage);
+            return storyGenerationClient.generateStory(
+                    AIStoryRequest.of(prompt, childName, primaryLanguage, secondaryLanguage, request));
+        }
+
         log.info("AI 동화 생성 요청 (확장)");
         log.info("- prompt: {}", prompt);
         log.info("- childName: {}", childName);
@@ -39,12 +80,7 @@ public class AIStoryServiceImpl implements AIStoryService {
             log.info("- recommendedTale: {}", request.getRecommendedTaleTitle());
         }
 
-        // TODO: 실제 AI API 호출
-        // 1. prompt를 AI 모델에 전달
-        // 2. request의 제약 조건(난이도, 나이)을 반영한 응답 생성
-        // 3. 5개의 슬라이드 구조로 파싱 (추후 수정 필요)
-
-        // 임시 더미 데이터 (실제로는 AI API 응답 파싱)
+        // 임시 더미 데이터 (remote-enabled = false, AI 서버 없이 로컬 개발용)
         List<StoryGenerateResponse.GeneratedSlide> slides = new ArrayList<>();
 
         String baseTaleTitle = (request != null && request.getRecommendedTaleTitle() != null)
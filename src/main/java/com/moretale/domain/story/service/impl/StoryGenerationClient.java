@@ -0,0 +1,143 @@
+package com.moretale.domain.story.service.impl;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moretale.domain.story.dto.AIStoryRequest;
+import com.moretale.domain.story.dto.AIStoryStreamChunk;
+import com.moretale.domain.story.dto.StoryGenerateResponse;
+import com.moretale.global.client.AIHttpClient;
+import com.moretale.global.config.MoreTaleProperties;
+import com.moretale.global.exception.BusinessException;
+import com.moretale.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+// 동화 생성 AI 서버 클라이언트 (전송/제한 시간/재시도는 AIHttpClient 공용 설정 사용)
+// 응답을 버퍼링하지 않고 도착하는 대로 파싱해 슬라이드 단위로 전달
+@Slf4j
+@Component
+public class StoryGenerationClient {
+
+    static final String GENERATE_PATH = "/api/stories/generate";
+    static final String STREAM_PATH = "/api/stories/generate/stream";
+    static final String NDJSON = "application/x-ndjson";
+
+    private final ObjectMapper objectMapper;
+    private final AIHttpClient aiHttpClient;
+    private final String baseUrl;
+
+    public StoryGenerationClient(ObjectMapper objectMapper, AIHttpClient aiHttpClient,
+                                 MoreTaleProperties moreTaleProperties) {
+        this.objectMapper = objectMapper;
+        this.aiHttpClient = aiHttpClient;
+        this.baseUrl = moreTaleProperties.getAi().getStoryGenerationUrl();
+    }
+
+    // 일괄 생성 요청 ({"title": ..., "slides": [...]})
+    // 본문 전체를 트리로 읽지 않고 토큰 단위로 읽으며 슬라이드를 하나씩 역직렬화
+    public StoryGenerateResponse generateStory(AIStoryRequest request) {
+        StoryGenerateResponse response = aiHttpClient.postJson(
+                baseUrl + GENERATE_PATH, request, MediaType.APPLICATION_JSON_VALUE, this::parseStory);
+
+        if (response.getSlides().isEmpty()) {
+            log.error("AI 응답에 슬라이드가 없음 - title={}", response.getTitle());
+            throw new BusinessException(ErrorCode.AI_RESPONSE_INVALID);
+        }
+        response.setChildName(request.getChildName());
+        response.setPrimaryLanguage(request.getPrimaryLanguage());
+        response.setSecondaryLanguage(request.getSecondaryLanguage());
+        return response;
+    }
+
+    // 스트리밍 생성 요청, 슬라이드가 파싱될 때마다 onSlide 호출
+    public StoryGenerateResponse streamStory(AIStoryRequest request,
+                                             Consumer<StoryGenerateResponse.GeneratedSlide> onSlide) {
+        StreamResult result = aiHttpClient.postJson(
+                baseUrl + STREAM_PATH, request, NDJSON, body -> readStream(body, onSlide));
+
+        if (!result.done() || result.slides().isEmpty()) {
+            log.error("AI 스트림이 완료되지 않음 - done={}, 슬라이드 {}개", result.done(), result.slides().size());
+            throw new BusinessException(ErrorCode.AI_RESPONSE_INVALID);
+        }
+
+        return StoryGenerateResponse.builder()
+                .title(result.title())
+                .childName(request.getChildName())
+                .primaryLanguage(request.getPrimaryLanguage())
+                .secondaryLanguage(request.getSecondaryLanguage())
+                .slides(result.slides())
+                .build();
+    }
+
+    private StoryGenerateResponse parseStory(InputStream body) throws IOException {
+        String title = null;
+        List<StoryGenerateResponse.GeneratedSlide> slides = new ArrayList<>();
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new BusinessException(ErrorCode.AI_RESPONSE_INVALID);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("title".equals(field)) {
+                    title = parser.getValueAsString();
+                } else if ("slides".equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        slides.add(parser.readValueAs(StoryGenerateResponse.GeneratedSlide.class));
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        return StoryGenerateResponse.builder()
+                .title(title)
+                .slides(slides)
+                .build();
+    }
+
+    private StreamResult readStream(InputStream body,
+                                    Consumer<StoryGenerateResponse.GeneratedSlide> onSlide) throws IOException {
+        String title = null;
+        List<StoryGenerateResponse.GeneratedSlide> slides = new ArrayList<>();
+        boolean done = false;
+
+        try (MappingIterator<AIStoryStreamChunk> chunks =
+                     objectMapper.readerFor(AIStoryStreamChunk.class).readValues(body)) {
+
+            while (!done && chunks.hasNextValue()) {
+                AIStoryStreamChunk chunk = chunks.nextValue();
+                switch (String.valueOf(chunk.getType())) {
+                    case AIStoryStreamChunk.TYPE_META -> title = chunk.getTitle();
+                    case AIStoryStreamChunk.TYPE_SLIDE -> {
+                        StoryGenerateResponse.GeneratedSlide slide = chunk.getSlide();
+                        slides.add(slide);
+                        onSlide.accept(slide);
+                    }
+                    case AIStoryStreamChunk.TYPE_DONE -> done = true;
+                    case AIStoryStreamChunk.TYPE_ERROR -> throw new BusinessException(
+                            ErrorCode.AI_SERVICE_ERROR, "AI 서버 생성 실패: " + chunk.getMessage());
+                    default -> log.warn("알 수 없는 AI 스트림 항목 무시 - type={}", chunk.getType());
+                }
+            }
+        } catch (IOException e) {
+            log.warn("AI 스트림 읽기 중단 - 수신한 슬라이드 {}개", slides.size());
+            throw e;
+        }
+        return new StreamResult(title, slides, done);
+    }
+
+    private record StreamResult(String title, List<StoryGenerateResponse.GeneratedSlide> slides, boolean done) {
+    }
+}
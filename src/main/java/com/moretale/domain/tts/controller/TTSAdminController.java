@@ -0,0 +1,65 @@
+package com.moretale.domain.tts.controller;
+
+import com.moretale.domain.tts.dto.TTSAudioGcStatusResponse;
+import com.moretale.domain.tts.dto.TTSCacheStatsResponse;
+import com.moretale.domain.tts.dto.TTSStorageMigrationStatusResponse;
+import com.moretale.domain.tts.service.TTSAudioCache;
+import com.moretale.domain.tts.service.TTSAudioGarbageCollector;
+import com.moretale.domain.tts.service.TTSJobService;
+import com.moretale.domain.tts.service.TTSStorageMigration;
+import com.moretale.global.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+// TTS 운영 API (관리자 전용, /api/admin/**)
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/tts")
+@RequiredArgsConstructor
+public class TTSAdminController {
+
+    private final TTSJobService ttsJobService;
+    private final TTSAudioCache ttsAudioCache;
+    private final TTSStorageMigration ttsStorageMigration;
+    private final TTSAudioGarbageCollector ttsAudioGarbageCollector;
+
+    // TTS 합성 캐시 통계 조회 (적중률, 메모리/저장소 적중 수, 제거 수)
+    @GetMapping("/cache/stats")
+    public ResponseEntity<ApiResponse<TTSCacheStatsResponse>> getCacheStats() {
+        return ResponseEntity.ok(
+                ApiResponse.success(ttsAudioCache.getStats())
+        );
+    }
+
+    // 오디오 저장 경로 분산 이전 진행 상태 조회
+    @GetMapping("/storage/migration")
+    public ResponseEntity<ApiResponse<TTSStorageMigrationStatusResponse>> getStorageMigrationStatus() {
+        return ResponseEntity.ok(
+                ApiResponse.success(ttsStorageMigration.getStatus())
+        );
+    }
+
+    // 고아 오디오 정리 진행 상태 / 마지막 주기 보고서 조회
+    @GetMapping("/storage/gc")
+    public ResponseEntity<ApiResponse<TTSAudioGcStatusResponse>> getAudioGcStatus() {
+        return ResponseEntity.ok(
+                ApiResponse.success(ttsAudioGarbageCollector.getStatus())
+        );
+    }
+
+    // DEAD 상태의 TTS 작업 재시도
+    @PostMapping("/jobs/{jobId}/retry")
+    public ResponseEntity<ApiResponse<String>> retryDeadJob(
+            @PathVariable Long jobId
+    ) {
+        log.info("TTS 작업 {} 재시도 요청", jobId);
+
+        ttsJobService.retryDeadJob(jobId);
+
+        return ResponseEntity.ok(
+                ApiResponse.success("TTS 작업 재시도 등록 완료")
+        );
+    }
+}
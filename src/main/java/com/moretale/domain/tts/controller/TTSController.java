@@ -3,6 +3,8 @@ package com.moretale.domain.tts.controller;
 import com.moretale.domain.tts.dto.TTSRequest;
 import com.moretale.domain.tts.dto.TTSResponse;
 import com.moretale.domain.tts.service.TTSGenerationService;
+import com.moretale.global.exception.CustomException;
+import com.moretale.global.exception.ErrorCode;
 import com.moretale.global.response.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -70,7 +72,11 @@ public class TTSController {
     ) {
         log.info("동화 {} 누락된 TTS 재생성 요청", storyId);
 
-        ttsGenerationService.regenerateMissingTTS(storyId);
+        int failed = ttsGenerationService.regenerateMissingTTS(storyId);
+        if (failed > 0) {
+            // 성공한 항목은 이미 저장됨, 다시 호출하면 누락된 항목만 재합성
+            throw new CustomException(ErrorCode.TTS_GENERATION_FAILED, "TTS 합성 실패 " + failed + "건");
+        }
 
         return ResponseEntity.ok(
                 ApiResponse.success("누락된 TTS 재생성 완료")
@@ -0,0 +1,36 @@
+package com.moretale.domain.tts.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TTSAudioGcStatusResponse {
+
+    private boolean enabled;
+    private boolean dryRun;               // 삭제 없이 집계만 한 주기인지
+    private boolean running;              // 주기 진행 중 (false면 마지막으로 완료된 주기의 결과)
+    private String phase;                 // REFERENCES(참조 URL 수집) / STORAGE(저장소 순회) / COMPLETED
+    private long cycles;                  // 완료된 주기 수
+    private LocalDateTime cycleStartedAt;
+    private LocalDateTime lastCompletedAt;
+    private long referencedUrls;          // Bloom filter에 기록한 참조 오디오 수
+    private long filterBytes;             // Bloom filter 메모리 크기
+    private long scannedFiles;            // 순회한 저장소 객체 수
+    private long referencedFiles;         // 참조 중 (Bloom filter 적중, 오탐 포함)
+    private long youngFiles;              // 유예 기간 안이라 유지
+    private long rescuedFiles;            // 주기 시작 후 참조가 생겨 유지 (DB 재확인)
+    private long orphanFiles;             // 삭제 대상 (dry-run이면 삭제하지 않음)
+    private long orphanBytes;
+    private long deletedFiles;
+    private long deletedBytes;
+    private long failedDeletes;
+    private long staleIndexEntries;       // 없는 오디오를 가리켜 삭제한 합성 캐시 색인 (dry-run이면 대상 수)
+    private String cursor;                // 저장소 순회 위치 (마지막으로 처리한 key)
+    private List<String> sampleOrphans;   // 삭제 대상 key 일부
+}
@@ -0,0 +1,20 @@
+package com.moretale.domain.tts.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TTSCacheStatsResponse {
+
+    private boolean enabled;
+    private int size;        // 메모리 캐시 항목 수
+    private int maxEntries;  // 메모리 캐시 최대 항목 수
+    private long memoryHits;
+    private long diskHits;   // 메모리에는 없지만 저장소에 이미 존재한 경우
+    private long misses;
+    private long evictions;
+    private double hitRatio;
+}
@@ -0,0 +1,17 @@
+package com.moretale.domain.tts.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TTSStorageMigrationStatusResponse {
+
+    private boolean enabled;
+    private boolean completed;
+    private long filesMoved;    // 평면 경로 -> 분산 경로로 이동한 파일 수
+    private long slidesUpdated; // 오디오 URL을 새 경로로 바꾼 슬라이드 수
+    private Long lastSlideId;   // 슬라이드 순회 위치 (slide_id 키셋)
+}
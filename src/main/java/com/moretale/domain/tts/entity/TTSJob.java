@@ -0,0 +1,70 @@
+package com.moretale.domain.tts.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+// DB 기반 TTS 작업 큐 엔티티
+// 재시작/노드 장애 후에도 작업이 유실되지 않도록 동화 저장 트랜잭션 안에서 함께 저장
+@Entity
+@Table(name = "tts_jobs", indexes = {
+        @Index(name = "idx_tts_jobs_status_next_run", columnList = "status, next_run_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TTSJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "job_id")
+    private Long jobId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "job_type", nullable = false, length = 20)
+    private TTSJobType jobType;
+
+    @Column(name = "story_id", nullable = false)
+    private Long storyId;
+
+    // SLIDE_AUDIO 작업일 때만 사용
+    @Column(name = "slide_id")
+    private Long slideId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private TTSJobStatus status = TTSJobStatus.PENDING;
+
+    // 지금까지 처리를 시도한 횟수 (작업을 가져갈 때 증가)
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    // 이 시각 이후에 작업을 가져갈 수 있음 (재시도 백오프)
+    @Column(name = "next_run_at", nullable = false)
+    private LocalDateTime nextRunAt;
+
+    // 작업을 가져간 노드와 시각 (노드 장애 시 lease 만료 후 다른 노드가 회수)
+    @Column(name = "locked_by", length = 100)
+    private String lockedBy;
+
+    @Column(name = "locked_at")
+    private LocalDateTime lockedAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
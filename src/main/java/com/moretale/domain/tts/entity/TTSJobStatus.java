@@ -0,0 +1,15 @@
+package com.moretale.domain.tts.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum TTSJobStatus {
+    PENDING("대기 (재시도 대기 포함)"),
+    RUNNING("처리 중"),
+    COMPLETED("완료"),
+    DEAD("최대 재시도 초과 또는 재시도 불가 (dead-letter)");
+
+    private final String description;
+}
@@ -0,0 +1,13 @@
+package com.moretale.domain.tts.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum TTSJobType {
+    STORY_AUDIO("동화 전체 슬라이드 중 오디오가 없는 항목 생성"),
+    SLIDE_AUDIO("단일 슬라이드 중 오디오가 없는 항목 생성");
+
+    private final String description;
+}
@@ -0,0 +1,48 @@
+package com.moretale.domain.tts.repository;
+
+import com.moretale.domain.tts.entity.TTSJob;
+import com.moretale.domain.tts.entity.TTSJobStatus;
+import com.moretale.domain.tts.entity.TTSJobType;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TTSJobRepository extends JpaRepository<TTSJob, Long> {
+
+    // 처리 가능한 작업을 행 잠금과 함께 조회
+    // SKIP LOCKED: 다른 노드가 이미 잠근 행은 건너뛰므로 여러 노드가 같은 작업을 중복 처리하지 않음
+    // lease가 만료된 RUNNING 작업(처리 중 노드 장애)도 다시 가져감
+    @Query(value = """
+        SELECT * FROM tts_jobs
+        WHERE (status = 'PENDING' AND next_run_at <= :now)
+           OR (status = 'RUNNING' AND locked_at < :leaseExpiredBefore)
+        ORDER BY next_run_at
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+    """, nativeQuery = true)
+    List<TTSJob> findClaimableForUpdate(@Param("now") LocalDateTime now,
+                                        @Param("leaseExpiredBefore") LocalDateTime leaseExpiredBefore,
+                                        @Param("limit") int limit);
+
+    // 같은 대상의 미완료 작업 존재 여부 (중복 등록 방지)
+    boolean existsByJobTypeAndStoryIdAndSlideIdAndStatusIn(TTSJobType jobType, Long storyId, Long slideId,
+                                                           Collection<TTSJobStatus> statuses);
+
+    List<TTSJob> findByStoryIdOrderByJobIdAsc(Long storyId);
+
+    // 지정한 노드가 실행 중인 작업만 행 잠금과 함께 조회 (결과 반영 전 소유권 확인)
+    // lease 만료로 다른 노드가 회수한 작업이면 빈 값
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<TTSJob> findByJobIdAndLockedByAndStatus(Long jobId, String lockedBy, TTSJobStatus status);
+
+    long countByStatus(TTSJobStatus status);
+}
@@ -0,0 +1,165 @@
+package com.moretale.domain.tts.service;
+
+import com.moretale.domain.tts.dto.TTSRequest;
+import com.moretale.global.config.MoreTaleProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+// 여러 TTS 요청을 동시에 합성 (동화 단위 fan-out)
+// 묶음 합성을 지원하는 TTS 서비스면 언어별로 한 번씩 호출 (5개 슬라이드 x 2개 언어: 10회 -> 2회)
+// 동화당 동시 합성 수와 서버 전체 동시 합성 수를 세마포어로 제한
+// 개별 요청 실패는 로그만 남기고 null로 반환 (다른 요청에 영향 X)
+@Slf4j
+@Component
+public class ParallelTTSSynthesizer {
+
+    private final TTSService ttsService;
+    private final ExecutorService executor;
+    private final boolean parallel;
+    private final boolean batch;
+    private final int perStoryConcurrency;
+    private final Semaphore globalPermits;
+
+    public ParallelTTSSynthesizer(TTSService ttsService,
+                                  @Qualifier("ttsSynthesisExecutor") ExecutorService executor,
+                                  MoreTaleProperties moreTaleProperties) {
+        MoreTaleProperties.Tts.Synthesis config = moreTaleProperties.getTts().getSynthesis();
+        this.ttsService = ttsService;
+        this.executor = executor;
+        this.parallel = config.isParallel();
+        this.batch = config.isBatch();
+        this.perStoryConcurrency = config.getPerStoryConcurrency();
+        this.globalPermits = new Semaphore(config.getGlobalConcurrency(), true);
+    }
+
+    // 요청 순서대로 오디오 URL 목록 반환 (실패한 항목은 null)
+    // 동시 합성 수는 합성하는 동안만 점유하고 저장소 업로드는 비동기로 진행 (업로드 지연이 다음 합성을 막지 않음)
+    // 모든 업로드가 끝난 뒤 반환하므로 반환된 URL은 항상 저장된 파일을 가리킴
+    public List<String> synthesizeAll(List<TTSRequest> requests) {
+        List<CompletableFuture<String>> uploads;
+        if (batch && ttsService.supportsBatchSynthesis() && requests.size() > 1) {
+            uploads = synthesizeByLanguage(requests);
+        } else if (!parallel || requests.size() <= 1) {
+            uploads = new ArrayList<>(requests.size());
+            for (TTSRequest request : requests) {
+                uploads.add(synthesize(request, null));
+            }
+        } else {
+            Semaphore storyPermits = new Semaphore(perStoryConcurrency);
+            uploads = requests.stream()
+                    .map(request -> CompletableFuture.supplyAsync(() -> synthesize(request, storyPermits), executor)
+                            .thenCompose(upload -> upload))
+                    .toList();
+        }
+
+        List<String> audioUrls = new ArrayList<>(uploads.size());
+        for (int i = 0; i < uploads.size(); i++) {
+            audioUrls.add(awaitUpload(requests.get(i), uploads.get(i)));
+        }
+        return audioUrls;
+    }
+
+    // 동화 하나의 동시 합성 수 제한 (같은 동화의 submit 호출끼리 공유)
+    public Semaphore newStoryPermits() {
+        return new Semaphore(perStoryConcurrency);
+    }
+
+    // 요청 목록을 미리 알 수 없는 합성(스트리밍 생성의 슬라이드별 TTS)을 동화당 / 서버 전체 동시 합성 수 안에서 비동기 실행
+    public <T> CompletableFuture<T> submit(Semaphore storyPermits, Supplier<T> synthesis) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return withPermits(storyPermits, synthesis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    // 같은 언어 요청을 묶어 언어마다 한 번씩 합성 (언어끼리는 동시에), 요청 순서대로 업로드 목록 반환
+    private List<CompletableFuture<String>> synthesizeByLanguage(List<TTSRequest> requests) {
+        Map<String, List<Integer>> indexesByLanguage = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            indexesByLanguage.computeIfAbsent(requests.get(i).getLanguage(), language -> new ArrayList<>()).add(i);
+        }
+
+        Semaphore storyPermits = parallel ? new Semaphore(perStoryConcurrency) : null;
+        List<CompletableFuture<String>> uploads = new ArrayList<>(Collections.nCopies(requests.size(), null));
+        indexesByLanguage.forEach((language, indexes) -> {
+            List<String> texts = indexes.stream().map(i -> requests.get(i).getText()).toList();
+            CompletableFuture<List<CompletableFuture<String>>> batchUploads = parallel
+                    ? CompletableFuture.supplyAsync(() -> synthesizeBatch(texts, language, storyPermits), executor)
+                    : CompletableFuture.completedFuture(synthesizeBatch(texts, language, null));
+            for (int j = 0; j < indexes.size(); j++) {
+                int position = j;
+                uploads.set(indexes.get(j), batchUploads.thenCompose(batchUpload -> batchUpload.get(position)));
+            }
+        });
+        return uploads;
+    }
+
+    private List<CompletableFuture<String>> synthesizeBatch(List<String> texts, String language, Semaphore storyPermits) {
+        try {
+            return withPermits(storyPermits, () -> ttsService.generateAudioUrlsAsync(texts, language));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("TTS 묶음 합성 대기 중 인터럽트 - 언어: {}", language);
+        } catch (Exception e) {
+            log.error("TTS 묶음 합성 실패 (건너뜀) - 언어: {}, {}건", language, texts.size(), e);
+        }
+        return Collections.nCopies(texts.size(), CompletableFuture.completedFuture(null));
+    }
+
+    private CompletableFuture<String> synthesize(TTSRequest request, Semaphore storyPermits) {
+        try {
+            return withPermits(storyPermits, () -> ttsService.generateAudioUrlAsync(request.getText(), request.getLanguage()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("TTS 합성 대기 중 인터럽트 - 언어: {}", request.getLanguage());
+            return CompletableFuture.completedFuture(null);
+        } catch (Exception e) {
+            log.error("TTS 합성 실패 (건너뜀) - 언어: {}", request.getLanguage(), e);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    // 동화당 / 서버 전체 동시 합성 수를 점유한 채로 합성 (업로드 대기는 점유하지 않음)
+    private <T> T withPermits(Semaphore storyPermits, Supplier<T> synthesis) throws InterruptedException {
+        if (storyPermits != null) {
+            storyPermits.acquire();
+        }
+        try {
+            globalPermits.acquire();
+            try {
+                return synthesis.get();
+            } finally {
+                globalPermits.release();
+            }
+        } finally {
+            if (storyPermits != null) {
+                storyPermits.release();
+            }
+        }
+    }
+
+    private String awaitUpload(TTSRequest request, CompletableFuture<String> upload) {
+        try {
+            return upload.join();
+        } catch (CompletionException e) {
+            log.error("TTS 오디오 업로드 실패 (건너뜀) - 언어: {}", request.getLanguage(), e.getCause());
+            return null;
+        }
+    }
+}
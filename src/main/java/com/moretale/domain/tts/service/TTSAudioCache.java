@@ -0,0 +1,327 @@
+package com.moretale.domain.tts.service;
+
+import com.moretale.domain.tts.dto.TTSCacheStatsResponse;
+import com.moretale.global.config.MoreTaleProperties;
+import com.moretale.global.exception.BusinessException;
+import com.moretale.global.service.FileStorageService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// TTS 합성 결과 캐시
+// 키: 정규화된 텍스트 + 언어 + 음성 + 속도 + 피치 + 인코딩(+ 합성 방식)의 SHA-256 해시
+// 오디오 파일명은 내용(바이트)의 SHA-256 (audio_<내용 해시>.mp3) -> 같은 URL은 항상 같은 바이트 (immutable 캐시 가능)
+// 1차: 메모리 LRU (키 -> 오디오 URL)
+// 2차: 저장소 색인 tts.storage.path/index/ab/cd/<키>.ref (내용은 오디오 저장 경로, 재시작/다른 노드에서도 API 재호출 없이 재사용)
+// 이전 방식 파일(tts_<키>.mp3, 파일명이 합성 입력 해시)도 색인이 없으면 그대로 적중 (더 이상 같은 경로에 다시 쓰지 않음)
+// 적중 시 파일의 사용 시각(수정 시각)을 touch-interval-minutes마다 갱신 -> 고아 정리(TTSAudioGarbageCollector)의 유예 기간은 마지막 재사용 기준
+// 사용 시각 기록과 고아 정리의 재확인+삭제는 같은 파일명 해시 잠금 안에서 실행 (적중으로 내준 URL의 파일을 직후에 지우지 않음)
+@Slf4j
+@Component
+public class TTSAudioCache {
+
+    private static final int KEY_LOCK_STRIPES = 64;
+    // 내용 해시 파일(audio_)과 이전 방식 합성 입력 해시 파일(tts_)
+    public static final Pattern AUDIO_FILE = Pattern.compile("(?:audio|tts)_([0-9a-f]{64})\\.mp3");
+
+    private final FileStorageService fileStorageService;
+    private final boolean enabled;
+    private final int maxEntries;
+    private final long touchIntervalMillis;
+    private final Map<String, Entry> memoryCache;
+    private final ReentrantLock[] keyLocks = new ReentrantLock[KEY_LOCK_STRIPES];
+
+    @Value("${tts.storage.path:tts/audio}")
+    private String storagePath;
+
+    private final AtomicLong memoryHits = new AtomicLong();
+    private final AtomicLong diskHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    // 메모리 항목 (touchedAt: 마지막으로 파일 사용 시각을 기록한 시각, memoryCache 잠금 안에서만 변경)
+    private static final class Entry {
+        private final String audioUrl;
+        private long touchedAt;
+
+        private Entry(String audioUrl, long touchedAt) {
+            this.audioUrl = audioUrl;
+            this.touchedAt = touchedAt;
+        }
+    }
+
+    // 파일명 해시 잠금 안에서 실행할 작업
+    @FunctionalInterface
+    public interface KeyLockedAction<T> {
+        T run() throws IOException;
+    }
+
+    public TTSAudioCache(FileStorageService fileStorageService, MoreTaleProperties moreTaleProperties) {
+        this.fileStorageService = fileStorageService;
+        this.enabled = moreTaleProperties.getTts().getCache().isEnabled();
+        this.maxEntries = moreTaleProperties.getTts().getCache().getMaxEntries();
+        this.touchIntervalMillis = Duration.ofMinutes(moreTaleProperties.getTts().getCache().getTouchIntervalMinutes()).toMillis();
+        for (int i = 0; i < keyLocks.length; i++) {
+            keyLocks[i] = new ReentrantLock();
+        }
+
+        // accessOrder = true: 조회 시 최근 사용으로 갱신 (LRU)
+        this.memoryCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > TTSAudioCache.this.maxEntries) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    // 합성 파라미터로 캐시 키 생성 (단독 합성)
+    public static String createKey(String text, String language, String voice,
+                                   double speakingRate, double pitch, String encoding) {
+        return createKey(text, language, voice, speakingRate, pitch, encoding, null);
+    }
+
+    // variant: 같은 입력이라도 합성 방식이 달라 오디오 바이트가 다른 경우의 구분자 (예: 묶음 합성에서 잘라낸 구간)
+    // null이면 단독 합성 키와 같음
+    public static String createKey(String text, String language, String voice,
+                                   double speakingRate, double pitch, String encoding, String variant) {
+        String source = String.join("\u0000",
+                normalizeText(text),
+                language,
+                voice,
+                Double.toString(speakingRate),
+                Double.toString(pitch),
+                encoding
+        );
+        if (variant != null) {
+            source += "\u0000" + variant;
+        }
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(source.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+
+    // 내용 해시에 대응하는 오디오 저장 경로 (해시 접두어 디렉토리로 분산)
+    public String resolveAudioSubPath(String contentHash) {
+        return FileStorageService.resolveShardedPath(storagePath, "audio_" + contentHash + ".mp3");
+    }
+
+    // 캐시 키 -> 오디오 저장 경로 색인
+    public String resolveIndexSubPath(String key) {
+        return FileStorageService.resolveShardedPath(storagePath + "/index", key + ".ref");
+    }
+
+    // 이전 방식 저장 경로 (파일명이 캐시 키, 해시 접두어 디렉토리로 분산)
+    public String resolveSubPath(String key) {
+        return FileStorageService.resolveShardedPath(storagePath, fileName(key));
+    }
+
+    // 분산 이전의 평면 저장 경로 (TTSStorageMigration이 이동을 마치기 전까지 남아 있을 수 있음)
+    public String resolveLegacySubPath(String key) {
+        return storagePath + "/" + fileName(key);
+    }
+
+    // 오디오 내용 해시 (파일명)
+    public static String contentHash(ByteBuffer audio) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(audio.duplicate());
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+
+    // 합성 결과 저장: 내용 해시 경로에 오디오 -> 색인 -> 메모리 순서 (색인은 항상 저장을 마친 파일을 가리킴)
+    public String store(String key, ByteBuffer audio) {
+        String audioSubPath = resolveAudioSubPath(contentHash(audio));
+        fileStorageService.writeFile(audio.duplicate(), audioSubPath);
+        return index(key, audioSubPath, audio);
+    }
+
+    // 비동기 저장 (업로드가 끝난 뒤 색인/메모리에 등록), 업로드가 끝날 때까지 audio 내용을 바꾸면 안 됨
+    public CompletableFuture<String> storeAsync(String key, ByteBuffer audio) {
+        String audioSubPath = resolveAudioSubPath(contentHash(audio));
+        return fileStorageService.writeFileAsync(audio.duplicate(), audioSubPath)
+                .thenApply(ignored -> index(key, audioSubPath, audio));
+    }
+
+    // 캐시 조회: 메모리 -> 저장소 색인 -> 이전 방식 파일 순서
+    // 사용 시각 기록이 touch-interval-minutes보다 오래됐으면 파일명 해시 잠금 안에서 파일에 다시 기록 (파일이 없거나 기록 실패면 미스)
+    public Optional<String> find(String key) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        Entry entry;
+        synchronized (memoryCache) {
+            entry = memoryCache.get(key);
+        }
+        if (entry != null && System.currentTimeMillis() - entry.touchedAt < touchIntervalMillis) {
+            memoryHits.incrementAndGet();
+            return Optional.of(entry.audioUrl);
+        }
+
+        String audioSubPath = fileStorageService.readText(resolveIndexSubPath(key)).map(String::strip).orElse(null);
+        String audioUrl = audioSubPath != null && markUsed(audioSubPath) ? fileStorageService.getFileUrl(audioSubPath) : null;
+        if (audioUrl == null) {
+            // 아직 이동되지 않은 평면 경로 파일도 적중 (새 경로 URL은 ShardedPathResourceResolver가 평면 경로로 응답)
+            String legacySubPath = resolveSubPath(key);
+            if (markUsed(legacySubPath) || markUsed(resolveLegacySubPath(key))) {
+                audioUrl = fileStorageService.getFileUrl(legacySubPath);
+            }
+        }
+        if (audioUrl == null) {
+            invalidate(key);
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+
+        (entry != null ? memoryHits : diskHits).incrementAndGet();
+        put(key, audioUrl);
+        return Optional.of(audioUrl);
+    }
+
+    // 합성 결과 등록 (방금 저장한 파일이므로 사용 시각 기록도 지금)
+    public void put(String key, String audioUrl) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (memoryCache) {
+            memoryCache.put(key, new Entry(audioUrl, System.currentTimeMillis()));
+        }
+    }
+
+    // 파일명 해시(audio_/tts_ 뒤의 해시) 잠금 안에서 실행
+    // 고아 정리가 파일 재확인부터 삭제/캐시 제거까지를 적중 처리와 겹치지 않게 실행
+    public <T> T withKeyLock(String key, KeyLockedAction<T> action) throws IOException {
+        ReentrantLock lock = keyLock(key);
+        lock.lock();
+        try {
+            return action.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 삭제된 오디오 파일의 캐시 항목 제거 (다음 요청은 다시 합성)
+    public void invalidate(String key) {
+        synchronized (memoryCache) {
+            memoryCache.remove(key);
+        }
+    }
+
+    // 삭제된 오디오 파일을 가리키는 캐시 항목 모두 제거 (같은 내용은 여러 키가 공유할 수 있음)
+    public void invalidateAudioUrl(String audioUrl) {
+        synchronized (memoryCache) {
+            memoryCache.values().removeIf(entry -> entry.audioUrl.equals(audioUrl));
+        }
+    }
+
+    // 파일명 해시 잠금 안에서 사용 시각 기록
+    private boolean markUsed(String subPath) {
+        String hash = fileNameHash(subPath);
+        ReentrantLock lock = keyLock(hash != null ? hash : subPath);
+        lock.lock();
+        try {
+            return fileStorageService.markUsed(subPath);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 저장한 오디오를 색인/메모리에 등록
+    // 같은 내용의 고아 파일 정리가 재확인 직후 저장 전 파일을 지웠을 수 있으므로 파일명 해시 잠금 안에서 존재 확인 후 없으면 다시 저장
+    // 색인 실패는 다음 조회의 캐시 미스로 이어질 뿐이므로 저장 결과는 그대로 반환
+    private String index(String key, String audioSubPath, ByteBuffer audio) {
+        ReentrantLock lock = keyLock(fileNameHash(audioSubPath));
+        lock.lock();
+        try {
+            if (!fileStorageService.exists(audioSubPath)) {
+                fileStorageService.writeFile(audio.duplicate(), audioSubPath);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            // 고아 색인 정리(재확인+삭제)와 겹치지 않도록 캐시 키 잠금 안에서 기록
+            withKeyLock(key, () -> fileStorageService.uploadFile(
+                    audioSubPath.getBytes(StandardCharsets.UTF_8), resolveIndexSubPath(key)));
+        } catch (IOException | BusinessException e) {
+            log.warn("TTS 캐시 색인 저장 실패 - key={}", key, e);
+        }
+
+        String audioUrl = fileStorageService.getFileUrl(audioSubPath);
+        put(key, audioUrl);
+        return audioUrl;
+    }
+
+    // 저장 경로의 파일명 해시 (audio_<해시>.mp3 / tts_<해시>.mp3), 형식이 다르면 null
+    public static String fileNameHash(String subPath) {
+        Matcher matcher = AUDIO_FILE.matcher(subPath.substring(subPath.lastIndexOf('/') + 1));
+        return matcher.matches() ? matcher.group(1) : null;
+    }
+
+    // 가상 스레드가 잠금 대기 중 캐리어 스레드를 붙잡지 않도록 synchronized 대신 ReentrantLock
+    private ReentrantLock keyLock(String key) {
+        return keyLocks[Math.floorMod(key.hashCode(), keyLocks.length)];
+    }
+
+    private static String fileName(String key) {
+        return "tts_" + key + ".mp3";
+    }
+
+    // 캐시 통계 조회
+    public TTSCacheStatsResponse getStats() {
+        int size;
+        synchronized (memoryCache) {
+            size = memoryCache.size();
+        }
+
+        long hits = memoryHits.get() + diskHits.get();
+        long total = hits + misses.get();
+
+        return TTSCacheStatsResponse.builder()
+                .enabled(enabled)
+                .size(size)
+                .maxEntries(maxEntries)
+                .memoryHits(memoryHits.get())
+                .diskHits(diskHits.get())
+                .misses(misses.get())
+                .evictions(evictions.get())
+                .hitRatio(total == 0 ? 0.0 : (double) hits / total)
+                .build();
+    }
+
+    // 공백/유니코드 정규화 (같은 문장은 같은 키가 되도록)
+    private static String normalizeText(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFC)
+                .strip()
+                .replaceAll("\\s+", " ");
+    }
+}
@@ -0,0 +1,369 @@
+package com.moretale.domain.tts.service;
+
+import com.moretale.domain.story.dto.SlideAudioUrls;
+import com.moretale.domain.story.repository.SlideRepository;
+import com.moretale.domain.tts.dto.TTSAudioGcStatusResponse;
+import com.moretale.global.config.MoreTaleProperties;
+import com.moretale.global.resource.HotAudioCache;
+import com.moretale.global.service.FileStorageService;
+import com.moretale.global.storage.StorageBackend;
+import com.moretale.global.storage.StorageObject;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 고아 TTS 오디오 정리: 슬라이드가 참조하지 않는 오래된 audio_<해시>.mp3 / tts_<해시>.mp3 삭제 (동화 삭제 / TTS 재생성으로 남은 파일)
+// 한 주기는 두 단계를 스케줄러 실행마다 max-step-millis 안에서 나눠 진행 (스케줄러 스레드가 하나라 다른 작업을 막지 않음)
+// 1) REFERENCES: slides.audio_url_* 를 slide_id 키셋 페이지로 읽어 파일명을 Bloom filter에 기록
+//    (참조 수에 비례한 고정 크기 비트 배열, URL 전체를 HashSet에 올리지 않음)
+// 2) STORAGE: 저장소 tts.storage.path/ 아래를 key 순서 페이지로 순회
+//    - Bloom filter에 있으면 참조 중 (오탐이면 이번 주기에 남을 뿐 잘못 지우지 않음)
+//    - 주기 시작 기준 유예 기간 안에 저장되었거나 합성 캐시에서 재사용된 파일은 유지 (아직 슬라이드에 반영되지 않은 파일)
+//    - 삭제 전 audio_url_* 인덱스로 정확히 재확인 (주기 시작 후 생긴 참조 보호)
+//    - 삭제 직전 합성 캐시의 파일명 해시 잠금 안에서 수정 시각을 다시 조회 (목록 조회 후 캐시 적중으로 재사용된 파일 보호)
+//    - 합성 캐시 색인(index/.../<키>.ref) 중 유예 기간이 지났고 가리키는 오디오가 없는 것도 삭제 (캐시 키 잠금 안에서 재확인)
+//    - 삭제는 max-deletes-per-second 이내, dry-run이면 삭제 없이 대상만 집계
+// 중간에 실패해도 순회 위치(cursor)부터 다음 실행에서 이어서 진행
+@Slf4j
+@Component
+public class TTSAudioGarbageCollector {
+
+    private static final Pattern INDEX_FILE = Pattern.compile("([0-9a-f]{64})\\.ref");
+    private static final int MIN_EXPECTED_REFERENCES = 1024;
+
+    private enum Phase { REFERENCES, STORAGE, COMPLETED }
+
+    private final SlideRepository slideRepository;
+    private final StorageBackend storageBackend;
+    private final FileStorageService fileStorageService;
+    private final TTSAudioCache ttsAudioCache;
+    private final HotAudioCache hotAudioCache;
+    private final MoreTaleProperties.Tts.AudioGc config;
+
+    @Value("${tts.storage.path:tts/audio}")
+    private String storagePath;
+
+    // 진행 중인 스케줄 주기 (없으면 null), 마지막으로 완료된 주기 (보고서)
+    private volatile Cycle cycle;
+    private volatile Cycle lastCycle;
+    private volatile long completedCycles;
+
+    public TTSAudioGarbageCollector(SlideRepository slideRepository,
+                                    StorageBackend storageBackend,
+                                    FileStorageService fileStorageService,
+                                    TTSAudioCache ttsAudioCache,
+                                    HotAudioCache hotAudioCache,
+                                    MoreTaleProperties moreTaleProperties) {
+        this.slideRepository = slideRepository;
+        this.storageBackend = storageBackend;
+        this.fileStorageService = fileStorageService;
+        this.ttsAudioCache = ttsAudioCache;
+        this.hotAudioCache = hotAudioCache;
+        this.config = moreTaleProperties.getTts().getAudioGc();
+    }
+
+    @Scheduled(fixedDelayString = "${moretale.tts.audio-gc.interval-ms:1000}",
+            initialDelayString = "${moretale.tts.audio-gc.initial-delay-ms:600000}")
+    public synchronized void poll() {
+        if (!config.isEnabled()) {
+            return;
+        }
+
+        if (cycle == null) {
+            Cycle last = lastCycle;
+            if (last != null && last.completedAt.plusHours(config.getCycleIntervalHours()).isAfter(LocalDateTime.now())) {
+                return;
+            }
+            cycle = new Cycle(config.isDryRun());
+        }
+
+        try {
+            long deadline = System.nanoTime() + Duration.ofMillis(config.getMaxStepMillis()).toNanos();
+            int maxDeletes = (int) Math.max(1, config.getMaxDeletesPerSecond() * config.getIntervalMs() / 1000);
+            if (step(cycle, deadline, maxDeletes)) {
+                cycle = null;
+            }
+        } catch (Exception e) {
+            log.error("고아 TTS 오디오 정리 실패 (다음 실행에서 이어서 진행)", e);
+        }
+    }
+
+    // 한 주기를 시간/삭제 속도 제한 없이 끝까지 실행 (관리자/테스트용, 진행 중인 스케줄 주기와는 별도)
+    public synchronized TTSAudioGcStatusResponse runCycle(boolean dryRun) throws IOException {
+        Cycle manual = new Cycle(dryRun);
+        while (!step(manual, Long.MAX_VALUE, Integer.MAX_VALUE)) {
+            // 단계 반복
+        }
+        return toResponse(manual);
+    }
+
+    public TTSAudioGcStatusResponse getStatus() {
+        Cycle current = cycle;
+        return toResponse(current != null ? current : lastCycle);
+    }
+
+    // 시간 예산 / 삭제 수 상한까지 진행, 주기를 마쳤으면 true
+    private boolean step(Cycle current, long deadline, int maxDeletes) throws IOException {
+        int deletes = 0;
+        while (System.nanoTime() < deadline) {
+            if (current.phase == Phase.REFERENCES) {
+                collectReferences(current);
+                continue;
+            }
+
+            List<StorageObject> page = storageBackend.list(storagePath + "/", current.cursor, config.getPageSize());
+            for (StorageObject object : page) {
+                if (System.nanoTime() >= deadline) {
+                    return false;
+                }
+                int result = inspect(current, object, deletes < maxDeletes);
+                if (result < 0) {
+                    return false; // 삭제 상한: 이 파일부터 다음 실행에서
+                }
+                deletes += result;
+                current.scannedFiles++;
+                current.cursor = object.key();
+            }
+            if (page.size() < config.getPageSize()) {
+                complete(current);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // slide_id 순서로 한 페이지씩 참조 파일명 기록, 끝나면 저장소 순회로
+    private void collectReferences(Cycle current) {
+        if (current.filter == null) {
+            // 슬라이드당 URL 2개 + 수집 중 추가되는 슬라이드 여유분
+            long slides = slideRepository.count();
+            current.filter = new BloomFilter(Math.max(MIN_EXPECTED_REFERENCES, slides * 2 + slides / 10),
+                    config.getFalsePositiveRate());
+            current.filterBytes = current.filter.sizeInBytes();
+        }
+
+        List<SlideAudioUrls> page = slideRepository.findAudioUrls(current.lastSlideId, Limit.of(config.getPageSize()));
+        for (SlideAudioUrls slide : page) {
+            addReference(current.filter, slide.getAudioUrlKr());
+            addReference(current.filter, slide.getAudioUrlNative());
+        }
+        if (!page.isEmpty()) {
+            current.lastSlideId = page.get(page.size() - 1).getSlideId();
+        }
+        current.referencedUrls = current.filter.insertions();
+        if (page.size() < config.getPageSize()) {
+            current.phase = Phase.STORAGE;
+            log.info("고아 TTS 오디오 정리 - 참조 수집 완료: {}건 (filter {}KB)",
+                    current.filter.insertions(), current.filter.sizeInBytes() / 1024);
+        }
+    }
+
+    // 평면 / 분산 경로 URL 모두 같은 파일명으로 기록
+    private static void addReference(BloomFilter filter, String audioUrl) {
+        if (audioUrl != null) {
+            filter.put(audioUrl.substring(audioUrl.lastIndexOf('/') + 1));
+        }
+    }
+
+    // 파일 하나 판정, 삭제했으면 1, 유지했으면 0, 삭제 상한에 걸렸으면 -1
+    private int inspect(Cycle current, StorageObject object, boolean canDelete) {
+        String key = object.key();
+        String fileName = key.substring(key.lastIndexOf('/') + 1);
+        if (key.startsWith(storagePath + "/index/")) {
+            return inspectIndex(current, object, fileName, canDelete);
+        }
+        Matcher matcher = TTSAudioCache.AUDIO_FILE.matcher(fileName);
+        if (!matcher.matches()) {
+            return 0;
+        }
+
+        if (current.filter.mightContain(fileName)) {
+            current.referencedFiles++;
+            return 0;
+        }
+        if (object.lastModified() > current.graceCutoffMillis) {
+            current.youngFiles++;
+            return 0;
+        }
+        if (!current.dryRun && !canDelete) {
+            return -1; // 다음 실행에서 다시 판정
+        }
+
+        String shardedPath = FileStorageService.resolveShardedPath(storagePath, fileName);
+        String legacyPath = storagePath + "/" + fileName;
+        if (slideRepository.existsByAudioUrlIn(List.of(
+                fileStorageService.getFileUrl(shardedPath), fileStorageService.getFileUrl(legacyPath)))) {
+            current.rescuedFiles++;
+            return 0;
+        }
+
+        if (current.dryRun) {
+            countOrphan(current, object);
+            return 0;
+        }
+
+        try {
+            return ttsAudioCache.withKeyLock(matcher.group(1), () -> {
+                // 목록 조회 이후 캐시 적중으로 사용 시각이 갱신됐으면 유지 (적중 처리는 같은 잠금 안에서 기록)
+                StorageObject latest = storageBackend.stat(key).orElse(null);
+                if (latest == null) {
+                    return 0;
+                }
+                if (latest.lastModified() > current.graceCutoffMillis) {
+                    current.youngFiles++;
+                    return 0;
+                }
+
+                countOrphan(current, latest);
+                if (storageBackend.delete(key)) {
+                    current.deletedFiles++;
+                    current.deletedBytes += latest.size();
+                }
+                // 삭제 후 캐시 제거 (다음 합성 요청은 파일을 다시 만들고, 메모리 사본으로 응답하지 않음)
+                ttsAudioCache.invalidateAudioUrl(fileStorageService.getFileUrl(shardedPath));
+                ttsAudioCache.invalidateAudioUrl(fileStorageService.getFileUrl(legacyPath));
+                hotAudioCache.invalidate(shardedPath);
+                hotAudioCache.invalidate(legacyPath);
+                return 1;
+            });
+        } catch (IOException e) {
+            current.failedDeletes++;
+            log.warn("고아 TTS 오디오 삭제 실패: {}", key, e);
+            return 1;
+        }
+    }
+
+    // 합성 캐시 색인 판정: 가리키는 오디오가 없으면 삭제, 삭제했으면 1, 유지했으면 0, 삭제 상한에 걸렸으면 -1
+    // 오디오를 지운 뒤 다음 주기까지 색인이 남아도 조회 시 미스로 처리되므로 정리는 저장 공간 회수 목적
+    private int inspectIndex(Cycle current, StorageObject object, String fileName, boolean canDelete) {
+        Matcher matcher = INDEX_FILE.matcher(fileName);
+        if (!matcher.matches() || object.lastModified() > current.graceCutoffMillis) {
+            return 0;
+        }
+        if (!current.dryRun && !canDelete) {
+            return -1;
+        }
+
+        String key = object.key();
+        try {
+            // 색인 기록과 겹치지 않도록 캐시 키 잠금 안에서 다시 읽고 판정
+            return ttsAudioCache.withKeyLock(matcher.group(1), () -> {
+                StorageObject latest = storageBackend.stat(key).orElse(null);
+                if (latest == null || latest.lastModified() > current.graceCutoffMillis) {
+                    return 0;
+                }
+                String audioSubPath = fileStorageService.readText(key).map(String::strip).orElse(null);
+                if (audioSubPath == null || storageBackend.stat(audioSubPath).isPresent()) {
+                    return 0;
+                }
+
+                current.staleIndexEntries++;
+                if (current.dryRun) {
+                    return 0;
+                }
+                storageBackend.delete(key);
+                return 1;
+            });
+        } catch (IOException e) {
+            current.failedDeletes++;
+            log.warn("TTS 캐시 색인 삭제 실패: {}", key, e);
+            return 1;
+        }
+    }
+
+    private void countOrphan(Cycle current, StorageObject object) {
+        current.orphanFiles++;
+        current.orphanBytes += object.size();
+        if (current.sampleOrphans.size() < config.getReportSampleSize()) {
+            current.sampleOrphans.add(object.key());
+        }
+    }
+
+    private void complete(Cycle current) {
+        current.phase = Phase.COMPLETED;
+        current.completedAt = LocalDateTime.now();
+        current.filter = null; // 주기 사이에는 filter 메모리를 두지 않음
+        lastCycle = current;
+        completedCycles++;
+        log.info("고아 TTS 오디오 정리 완료{} - 순회: {}건, 참조: {}건, 유예: {}건, 재확인 유지: {}건, 대상: {}건({}B), 삭제: {}건, 실패: {}건, 색인 정리: {}건",
+                current.dryRun ? " (dry-run)" : "",
+                current.scannedFiles, current.referencedFiles, current.youngFiles, current.rescuedFiles,
+                current.orphanFiles, current.orphanBytes, current.deletedFiles, current.failedDeletes,
+                current.staleIndexEntries);
+    }
+
+    private TTSAudioGcStatusResponse toResponse(Cycle current) {
+        Cycle last = lastCycle;
+        TTSAudioGcStatusResponse.TTSAudioGcStatusResponseBuilder builder = TTSAudioGcStatusResponse.builder()
+                .enabled(config.isEnabled())
+                .cycles(completedCycles)
+                .lastCompletedAt(last != null ? last.completedAt : null);
+        if (current == null) {
+            return builder.phase(Phase.COMPLETED.name()).sampleOrphans(List.of()).build();
+        }
+
+        return builder
+                .dryRun(current.dryRun)
+                .running(current.phase != Phase.COMPLETED)
+                .phase(current.phase.name())
+                .cycleStartedAt(current.startedAt)
+                .referencedUrls(current.referencedUrls)
+                .filterBytes(current.filterBytes)
+                .scannedFiles(current.scannedFiles)
+                .referencedFiles(current.referencedFiles)
+                .youngFiles(current.youngFiles)
+                .rescuedFiles(current.rescuedFiles)
+                .orphanFiles(current.orphanFiles)
+                .orphanBytes(current.orphanBytes)
+                .deletedFiles(current.deletedFiles)
+                .deletedBytes(current.deletedBytes)
+                .failedDeletes(current.failedDeletes)
+                .staleIndexEntries(current.staleIndexEntries)
+                .cursor(current.cursor)
+                .sampleOrphans(List.copyOf(current.sampleOrphans))
+                .build();
+    }
+
+    // 한 주기의 진행 위치와 집계 (poll / runCycle 잠금 안에서만 변경)
+    private class Cycle {
+        private final boolean dryRun;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        // 이 시각 이후 저장된 파일은 참조 수집 뒤에 생겼을 수 있으므로 삭제하지 않음
+        private final long graceCutoffMillis = System.currentTimeMillis()
+                - Duration.ofHours(config.getGracePeriodHours()).toMillis();
+        private final List<String> sampleOrphans = new CopyOnWriteArrayList<>();
+
+        private Phase phase = Phase.REFERENCES;
+        private BloomFilter filter;
+        private long referencedUrls;
+        private long filterBytes;
+        private long lastSlideId;
+        private String cursor;
+        private LocalDateTime completedAt;
+
+        private long scannedFiles;
+        private long referencedFiles;
+        private long youngFiles;
+        private long rescuedFiles;
+        private long orphanFiles;
+        private long orphanBytes;
+        private long deletedFiles;
+        private long deletedBytes;
+        private long failedDeletes;
+        private long staleIndexEntries;
+
+        private Cycle(boolean dryRun) {
+            this.dryRun = dryRun;
+        }
+    }
+}
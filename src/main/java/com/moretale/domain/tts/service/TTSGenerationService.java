@@ -11,19 +11,31 @@ import com.moretale.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 동화/슬라이드 TTS 생성
+// 원격 합성은 DB 커넥션을 점유하지 않도록 트랜잭션 밖에서 수행
+// 1) 짧은 조회 (리포지토리 단위 트랜잭션) -> 2) 원격 합성 (트랜잭션 없음) -> 3) 짧은 쓰기 트랜잭션으로 일괄 반영
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class TTSGenerationService {
 
     private final TTSService ttsService;
     private final StoryRepository storyRepository;
     private final SlideRepository slideRepository;
+    private final ParallelTTSSynthesizer parallelTTSSynthesizer;
+    private final TransactionTemplate transactionTemplate;
 
     // 단일 TTS 생성 (외부 API용)
     public TTSResponse generateSingleTTS(TTSRequest request) {
@@ -54,7 +66,7 @@ public class TTSGenerationService {
                 slide.setAudioUrlNative(audioUrlNative);
             }
 
-            slideRepository.save(slide);
+            persistAudioUrls(List.of(slide));
             log.info("슬라이드 {} TTS 생성 완료", slideId);
 
         } catch (Exception e) {
@@ -73,20 +85,16 @@ public class TTSGenerationService {
         String primaryLanguage = convertToLanguageCode(story.getPrimaryLanguage());
         String secondaryLanguage = convertToLanguageCode(story.getSecondaryLanguage());
 
-        for (Slide slide : slides) {
-            try {
-                generateTTSForSlide(slide.getSlideId(), primaryLanguage, secondaryLanguage);
-            } catch (Exception e) {
-                log.error("슬라이드 {} TTS 생성 중 오류 발생", slide.getSlideId(), e);
-                // 하나 실패해도 계속 진행
-            }
-        }
+        int failed = synthesizeAndPersist(slides, primaryLanguage, secondaryLanguage);
 
+        if (failed > 0) {
+            log.warn("동화 {} TTS 중 {}건 실패", storyId, failed);
+        }
         log.info("동화 {} 전체 TTS 생성 완료", storyId);
     }
 
-    // TTS가 없는 슬라이드만 재생성
-    public void regenerateMissingTTS(Long storyId) {
+    // TTS가 없는 슬라이드만 재생성, 실패 건수 반환
+    public int regenerateMissingTTS(Long storyId) {
         Story story = storyRepository.findById(storyId)
                 .orElseThrow(() -> new CustomException(ErrorCode.STORY_NOT_FOUND));
 
@@ -94,17 +102,93 @@ public class TTSGenerationService {
 
         if (slidesWithoutTTS.isEmpty()) {
             log.info("동화 {} - 재생성할 TTS 없음", storyId);
-            return;
+            return 0;
         }
 
         String primaryLanguage = convertToLanguageCode(story.getPrimaryLanguage());
         String secondaryLanguage = convertToLanguageCode(story.getSecondaryLanguage());
 
-        for (Slide slide : slidesWithoutTTS) {
-            generateTTSForSlide(slide.getSlideId(), primaryLanguage, secondaryLanguage);
+        int failed = synthesizeAndPersist(slidesWithoutTTS, primaryLanguage, secondaryLanguage);
+
+        log.info("동화 {} - 누락된 TTS {} 개 재생성 완료 (실패 {}건)", storyId, slidesWithoutTTS.size(), failed);
+        return failed;
+    }
+
+    // 단일 슬라이드의 누락된 TTS만 재생성 (동화의 언어 설정 사용), 실패 건수 반환
+    public int regenerateMissingTTSForSlide(Long storyId, Long slideId) {
+        Story story = storyRepository.findById(storyId)
+                .orElseThrow(() -> new CustomException(ErrorCode.STORY_NOT_FOUND));
+        Slide slide = slideRepository.findById(slideId)
+                .orElseThrow(() -> new CustomException(ErrorCode.SLIDE_NOT_FOUND));
+
+        // 이미 생성된 언어는 다시 합성하지 않음
+        Slide missing = Slide.builder()
+                .slideId(slide.getSlideId())
+                .textKr(slide.getAudioUrlKr() == null ? slide.getTextKr() : null)
+                .textNative(slide.getAudioUrlNative() == null ? slide.getTextNative() : null)
+                .audioUrlKr(slide.getAudioUrlKr())
+                .audioUrlNative(slide.getAudioUrlNative())
+                .build();
+
+        return synthesizeAndPersist(
+                List.of(missing),
+                convertToLanguageCode(story.getPrimaryLanguage()),
+                convertToLanguageCode(story.getSecondaryLanguage())
+        );
+    }
+
+    // 슬라이드/언어 쌍을 모두 합성한 뒤 한 번에 저장, 실패 건수 반환
+    private int synthesizeAndPersist(List<Slide> slides, String primaryLanguage, String secondaryLanguage) {
+        List<TTSRequest> requests = new ArrayList<>();
+        List<Consumer<String>> audioUrlSetters = new ArrayList<>();
+
+        for (Slide slide : slides) {
+            if (slide.getTextKr() != null && !slide.getTextKr().isEmpty()) {
+                requests.add(TTSRequest.builder().text(slide.getTextKr()).language(primaryLanguage).build());
+                audioUrlSetters.add(slide::setAudioUrlKr);
+            }
+            if (slide.getTextNative() != null && !slide.getTextNative().isEmpty()) {
+                requests.add(TTSRequest.builder().text(slide.getTextNative()).language(secondaryLanguage).build());
+                audioUrlSetters.add(slide::setAudioUrlNative);
+            }
         }
 
-        log.info("동화 {} - 누락된 TTS {} 개 재생성 완료", storyId, slidesWithoutTTS.size());
+        // 원격 합성 (트랜잭션 밖, 실패한 항목은 null)
+        List<String> audioUrls = parallelTTSSynthesizer.synthesizeAll(requests);
+        int failed = 0;
+        for (int i = 0; i < audioUrls.size(); i++) {
+            if (audioUrls.get(i) != null) {
+                audioUrlSetters.get(i).accept(audioUrls.get(i));
+            } else {
+                failed++;
+            }
+        }
+
+        persistAudioUrls(slides);
+        return failed;
+    }
+
+    // 합성 결과를 짧은 쓰기 트랜잭션 한 번으로 반영
+    // 오디오가 바뀐 슬라이드가 있으면 동화 버전도 함께 증가 (상세 조회 ETag 갱신)
+    private void persistAudioUrls(List<Slide> synthesizedSlides) {
+        Map<Long, Slide> synthesizedById = synthesizedSlides.stream()
+                .collect(Collectors.toMap(Slide::getSlideId, Function.identity()));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Set<Long> changedStoryIds = new HashSet<>();
+            slideRepository.findAllById(synthesizedById.keySet()).forEach(slide -> {
+                Slide synthesized = synthesizedById.get(slide.getSlideId());
+                if (!Objects.equals(slide.getAudioUrlKr(), synthesized.getAudioUrlKr())
+                        || !Objects.equals(slide.getAudioUrlNative(), synthesized.getAudioUrlNative())) {
+                    changedStoryIds.add(slide.getStory().getStoryId()); // 프록시 식별자 (동화 조회 없음)
+                }
+                slide.setAudioUrlKr(synthesized.getAudioUrlKr());
+                slide.setAudioUrlNative(synthesized.getAudioUrlNative());
+            });
+            if (!changedStoryIds.isEmpty()) {
+                storyRepository.incrementVersion(changedStoryIds);
+            }
+        });
     }
 
     // 언어 코드 변환 (ko -> ko-KR, vi -> vi-VN 등)
@@ -0,0 +1,163 @@
+package com.moretale.domain.tts.service;
+
+import com.moretale.domain.tts.entity.TTSJob;
+import com.moretale.domain.tts.entity.TTSJobStatus;
+import com.moretale.domain.tts.entity.TTSJobType;
+import com.moretale.domain.tts.repository.TTSJobRepository;
+import com.moretale.global.config.MoreTaleProperties;
+import com.moretale.global.exception.CustomException;
+import com.moretale.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+
+// DB 기반 TTS 작업 큐 (등록 / 가져가기 / 결과 반영)
+// 각 메서드는 짧은 트랜잭션으로 실행되고, 실제 합성은 TTSJobWorker가 트랜잭션 밖에서 수행
+@Slf4j
+@Service
+public class TTSJobService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final TTSJobRepository ttsJobRepository;
+    private final MoreTaleProperties.Tts.Job config;
+    private final String nodeId = ManagementFactory.getRuntimeMXBean().getName(); // pid@hostname
+
+    public TTSJobService(TTSJobRepository ttsJobRepository, MoreTaleProperties moreTaleProperties) {
+        this.ttsJobRepository = ttsJobRepository;
+        this.config = moreTaleProperties.getTts().getJob();
+    }
+
+    // 동화 TTS 작업 등록
+    // 호출한 쪽의 트랜잭션(예: 동화 저장)에 참여하므로 동화와 작업이 함께 커밋/롤백됨
+    @Transactional
+    public void enqueueStory(Long storyId) {
+        enqueue(TTSJobType.STORY_AUDIO, storyId, null);
+    }
+
+    // 슬라이드 TTS 작업 등록
+    @Transactional
+    public void enqueueSlide(Long storyId, Long slideId) {
+        enqueue(TTSJobType.SLIDE_AUDIO, storyId, slideId);
+    }
+
+    // 처리 가능한 작업을 가져가 RUNNING으로 표시 (SELECT ... FOR UPDATE SKIP LOCKED)
+    @Transactional
+    public List<TTSJob> claimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<TTSJob> jobs = ttsJobRepository.findClaimableForUpdate(
+                now, now.minusSeconds(config.getLeaseSeconds()), config.getBatchSize()
+        );
+
+        for (TTSJob job : jobs) {
+            if (job.getStatus() == TTSJobStatus.RUNNING) {
+                log.warn("TTS 작업 lease 만료 - 회수 - jobId={}, 이전 노드={}", job.getJobId(), job.getLockedBy());
+            }
+            job.setStatus(TTSJobStatus.RUNNING);
+            job.setAttempts(job.getAttempts() + 1);
+            job.setLockedBy(nodeId);
+            job.setLockedAt(now);
+        }
+        return jobs;
+    }
+
+    // 작업 성공
+    @Transactional
+    public void markCompleted(Long jobId) {
+        TTSJob job = getOwnedRunningJob(jobId);
+        if (job == null) {
+            return;
+        }
+        job.setStatus(TTSJobStatus.COMPLETED);
+        job.setLockedBy(null);
+        job.setLockedAt(null);
+        job.setLastError(null);
+    }
+
+    // 작업 실패: 재시도 가능하면 백오프 후 PENDING, 아니면 DEAD
+    @Transactional
+    public void markFailed(Long jobId, Exception cause, boolean retryable) {
+        TTSJob job = getOwnedRunningJob(jobId);
+        if (job == null) {
+            return;
+        }
+        job.setLockedBy(null);
+        job.setLockedAt(null);
+        job.setLastError(truncate(cause.getClass().getSimpleName() + ": " + cause.getMessage()));
+
+        if (!retryable || job.getAttempts() >= config.getMaxAttempts()) {
+            job.setStatus(TTSJobStatus.DEAD);
+            log.error("TTS 작업 DEAD 처리 - jobId={}, storyId={}, 시도 횟수={}, 원인={}",
+                    jobId, job.getStoryId(), job.getAttempts(), job.getLastError());
+            return;
+        }
+
+        long delaySeconds = backoffSeconds(job.getAttempts());
+        job.setStatus(TTSJobStatus.PENDING);
+        job.setNextRunAt(LocalDateTime.now().plusSeconds(delaySeconds));
+        log.warn("TTS 작업 재시도 예약 - jobId={}, storyId={}, 시도 횟수={}, {}초 후",
+                jobId, job.getStoryId(), job.getAttempts(), delaySeconds);
+    }
+
+    // DEAD 작업을 수동으로 다시 대기열에 넣음 (관리자/개발용)
+    @Transactional
+    public void retryDeadJob(Long jobId) {
+        TTSJob job = getJob(jobId);
+        if (job.getStatus() != TTSJobStatus.DEAD) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "DEAD 상태의 작업만 재시도할 수 있습니다.");
+        }
+        job.setStatus(TTSJobStatus.PENDING);
+        job.setAttempts(0);
+        job.setNextRunAt(LocalDateTime.now());
+        log.info("TTS 작업 수동 재시도 등록 - jobId={}", jobId);
+    }
+
+    // 재시도 대기 시간: base * 2^(시도 횟수 - 1), 상한 적용
+    long backoffSeconds(int attempts) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 30);
+        return Math.min(config.getBaseBackoffSeconds() << exponent, config.getMaxBackoffSeconds());
+    }
+
+    private void enqueue(TTSJobType jobType, Long storyId, Long slideId) {
+        boolean alreadyQueued = ttsJobRepository.existsByJobTypeAndStoryIdAndSlideIdAndStatusIn(
+                jobType, storyId, slideId, EnumSet.of(TTSJobStatus.PENDING, TTSJobStatus.RUNNING)
+        );
+        if (alreadyQueued) {
+            log.info("이미 대기 중인 TTS 작업 존재 - type={}, storyId={}, slideId={}", jobType, storyId, slideId);
+            return;
+        }
+
+        TTSJob job = ttsJobRepository.save(TTSJob.builder()
+                .jobType(jobType)
+                .storyId(storyId)
+                .slideId(slideId)
+                .nextRunAt(LocalDateTime.now())
+                .build());
+        log.info("TTS 작업 등록 - jobId={}, type={}, storyId={}, slideId={}",
+                job.getJobId(), jobType, storyId, slideId);
+    }
+
+    private TTSJob getJob(Long jobId) {
+        return ttsJobRepository.findById(jobId)
+                .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND));
+    }
+
+    // 이 노드가 실행 중인 작업만 결과 반영 대상
+    // 처리가 lease보다 오래 걸려 다른 노드가 회수했거나 관리자가 상태를 바꾼 경우 결과를 버림
+    private TTSJob getOwnedRunningJob(Long jobId) {
+        return ttsJobRepository.findByJobIdAndLockedByAndStatus(jobId, nodeId, TTSJobStatus.RUNNING)
+                .orElseGet(() -> {
+                    log.warn("TTS 작업 소유권 없음 - 결과 반영 생략 - jobId={}, 노드={}", jobId, nodeId);
+                    return null;
+                });
+    }
+
+    private String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,87 @@
+package com.moretale.domain.tts.service;
+
+import com.moretale.domain.tts.entity.TTSJob;
+import com.moretale.global.config.MoreTaleProperties;
+import com.moretale.global.exception.CustomException;
+import com.moretale.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// TTS 작업 큐 처리기
+// 주기적으로 작업을 가져와(짧은 트랜잭션) 트랜잭션 밖에서 합성하고, 결과를 다시 짧은 트랜잭션으로 반영
+// 여러 노드가 동시에 실행해도 SKIP LOCKED로 같은 작업을 중복 처리하지 않음
+@Slf4j
+@Component
+public class TTSJobWorker {
+
+    private final TTSJobService ttsJobService;
+    private final TTSGenerationService ttsGenerationService;
+    private final boolean workerEnabled;
+
+    public TTSJobWorker(TTSJobService ttsJobService,
+                        TTSGenerationService ttsGenerationService,
+                        MoreTaleProperties moreTaleProperties) {
+        this.ttsJobService = ttsJobService;
+        this.ttsGenerationService = ttsGenerationService;
+        this.workerEnabled = moreTaleProperties.getTts().getJob().isWorkerEnabled();
+    }
+
+    @Scheduled(fixedDelayString = "${moretale.tts.job.poll-interval-ms:5000}")
+    public void poll() {
+        if (!workerEnabled) {
+            return;
+        }
+
+        try {
+            // 가져온 작업이 있으면 대기열이 빌 때까지 연속 처리
+            while (processBatch() > 0) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            log.error("TTS 작업 큐 폴링 실패", e);
+        }
+    }
+
+    // 작업 한 묶음 처리, 가져간 작업 수 반환
+    public int processBatch() {
+        List<TTSJob> jobs = ttsJobService.claimBatch();
+        for (TTSJob job : jobs) {
+            process(job);
+        }
+        return jobs.size();
+    }
+
+    private void process(TTSJob job) {
+        log.info("TTS 작업 시작 - jobId={}, type={}, storyId={}, 시도 횟수={}",
+                job.getJobId(), job.getJobType(), job.getStoryId(), job.getAttempts());
+        try {
+            int failed = switch (job.getJobType()) {
+                case STORY_AUDIO -> ttsGenerationService.regenerateMissingTTS(job.getStoryId());
+                case SLIDE_AUDIO -> ttsGenerationService.regenerateMissingTTSForSlide(job.getStoryId(), job.getSlideId());
+            };
+
+            if (failed > 0) {
+                // 성공한 항목은 이미 저장됨, 재시도 시 누락된 항목만 다시 합성
+                throw new CustomException(ErrorCode.TTS_GENERATION_FAILED, "TTS 합성 실패 " + failed + "건");
+            }
+
+            ttsJobService.markCompleted(job.getJobId());
+            log.info("TTS 작업 완료 - jobId={}", job.getJobId());
+
+        } catch (Exception e) {
+            ttsJobService.markFailed(job.getJobId(), e, isRetryable(e));
+        }
+    }
+
+    // 동화/슬라이드가 삭제된 경우처럼 다시 시도해도 성공할 수 없는 오류는 바로 DEAD 처리
+    private boolean isRetryable(Exception e) {
+        return !(e instanceof CustomException customException
+                && customException.getErrorCode().getStatus() == HttpStatus.NOT_FOUND);
+    }
+}
@@ -5,7 +5,10 @@ import com.moretale.domain.tts.dto.TTSResponse;
 import com.moretale.global.exception.BusinessException;
 import com.moretale.global.exception.ErrorCode;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 public interface TTSService {
 
@@ -15,6 +18,31 @@ public interface TTSService {
     // 텍스트 + 언어 코드로 오디오 URL 생성 (내부 사용)
     String generateAudioUrl(String text, String language);
 
+    // 합성까지만 호출 스레드에서 하고 저장소 업로드는 비동기로 진행 (업로드 완료 시 URL로 완료)
+    // 기본 구현은 동기 호출 결과를 그대로 반환
+    default CompletableFuture<String> generateAudioUrlAsync(String text, String language) {
+        return CompletableFuture.completedFuture(generateAudioUrl(text, language));
+    }
+
+    // 같은 언어의 여러 텍스트를 묶어 합성할 수 있는지 (true면 ParallelTTSSynthesizer가 언어별로 generateAudioUrlsAsync 호출)
+    default boolean supportsBatchSynthesis() {
+        return false;
+    }
+
+    // 같은 언어의 여러 텍스트 합성, 텍스트 순서대로 업로드 완료 시 URL로 완료 (실패한 항목은 예외로 완료)
+    // 기본 구현은 텍스트마다 generateAudioUrlAsync 호출
+    default List<CompletableFuture<String>> generateAudioUrlsAsync(List<String> texts, String language) {
+        List<CompletableFuture<String>> uploads = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            try {
+                uploads.add(generateAudioUrlAsync(text, language));
+            } catch (Exception e) {
+                uploads.add(CompletableFuture.failedFuture(e));
+            }
+        }
+        return uploads;
+    }
+
     // 언어 코드 유효성 검증 (ko-KR, vi-VN, en-US)
     default void validateLanguage(String language) {
         Set<String> supportedLanguages = Set.of("ko-KR", "vi-VN", "en-US");
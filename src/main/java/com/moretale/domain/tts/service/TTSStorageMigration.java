@@ -0,0 +1,169 @@
+package com.moretale.domain.tts.service;
+
+import com.moretale.domain.story.entity.Slide;
+import com.moretale.domain.story.repository.SlideRepository;
+import com.moretale.domain.story.repository.StoryRepository;
+import com.moretale.domain.tts.dto.TTSStorageMigrationStatusResponse;
+import com.moretale.global.config.MoreTaleProperties;
+import com.moretale.global.service.FileStorageService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+// TTS 오디오 저장 경로 이전: 평면 tts/audio/tts_<해시>.mp3 -> 해시 분산 tts/audio/ab/cd/tts_<해시>.mp3
+// 서비스 중단 없이 주기마다 한 묶음씩 처리
+// 1) 평면 디렉토리의 파일을 분산 경로로 이동 (이전 URL은 ShardedPathResourceResolver가 계속 응답)
+// 2) slides.audio_url_* 의 평면 경로 URL을 slide_id 순서로 새 경로로 변경 (값이 그대로일 때만, 동화 버전 증가)
+// 두 단계 모두 처리할 항목이 없으면 완료 (여러 노드가 동시에 실행해도 이동/변경은 멱등)
+@Slf4j
+@Component
+public class TTSStorageMigration {
+
+    private static final String FILE_GLOB = "tts_*.mp3";
+
+    private final FileStorageService fileStorageService;
+    private final SlideRepository slideRepository;
+    private final StoryRepository storyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+
+    @Value("${tts.storage.path:tts/audio}")
+    private String storagePath;
+
+    private volatile boolean completed;
+    private volatile long lastSlideId;
+    private final AtomicLong filesMoved = new AtomicLong();
+    private final AtomicLong slidesUpdated = new AtomicLong();
+
+    public TTSStorageMigration(FileStorageService fileStorageService,
+                               SlideRepository slideRepository,
+                               StoryRepository storyRepository,
+                               TransactionTemplate transactionTemplate,
+                               MoreTaleProperties moreTaleProperties) {
+        this.fileStorageService = fileStorageService;
+        this.slideRepository = slideRepository;
+        this.storyRepository = storyRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = moreTaleProperties.getTts().getStorageMigration().isEnabled();
+        this.batchSize = moreTaleProperties.getTts().getStorageMigration().getBatchSize();
+    }
+
+    @Scheduled(fixedDelayString = "${moretale.tts.storage-migration.interval-ms:1000}")
+    public void poll() {
+        if (!enabled || completed) {
+            return;
+        }
+
+        try {
+            migrateBatch();
+        } catch (Exception e) {
+            log.error("TTS 오디오 저장 경로 이전 실패", e);
+        }
+    }
+
+    // 파일 / 슬라이드 한 묶음씩 처리, 처리한 항목 수 반환 (0이면 완료)
+    public synchronized int migrateBatch() {
+        int moved = moveFiles();
+        int updated = rewriteSlides();
+
+        if (moved == 0 && updated == 0 && !completed) {
+            completed = true;
+            log.info("TTS 오디오 저장 경로 이전 완료 - 이동한 파일: {}, 변경한 슬라이드: {}",
+                    filesMoved.get(), slidesUpdated.get());
+        }
+        return moved + updated;
+    }
+
+    public TTSStorageMigrationStatusResponse getStatus() {
+        return TTSStorageMigrationStatusResponse.builder()
+                .enabled(enabled)
+                .completed(completed)
+                .filesMoved(filesMoved.get())
+                .slidesUpdated(slidesUpdated.get())
+                .lastSlideId(lastSlideId)
+                .build();
+    }
+
+    private int moveFiles() {
+        List<String> legacyPaths = fileStorageService.listFiles(storagePath, FILE_GLOB, batchSize);
+        int moved = 0;
+        for (String legacyPath : legacyPaths) {
+            String fileName = legacyPath.substring(legacyPath.lastIndexOf('/') + 1);
+            if (fileStorageService.moveFile(legacyPath, FileStorageService.resolveShardedPath(storagePath, fileName))) {
+                moved++;
+            }
+        }
+
+        if (moved > 0) {
+            filesMoved.addAndGet(moved);
+            log.info("TTS 오디오 파일 이동 - {}건 (누적 {}건)", moved, filesMoved.get());
+        }
+        return moved;
+    }
+
+    private int rewriteSlides() {
+        // 평면 경로 URL: .../<storagePath>/tts_... (분산 경로는 storagePath 뒤에 ab/cd/가 있어 제외)
+        String pattern = "%/" + storagePath + "/tts_%";
+        List<Slide> slides = slideRepository.findByAudioUrlLike(lastSlideId, pattern, Limit.of(batchSize));
+        if (slides.isEmpty()) {
+            return 0;
+        }
+
+        Integer updated = transactionTemplate.execute(status -> {
+            Set<Long> changedStoryIds = new HashSet<>();
+            int count = 0;
+            for (Slide slide : slides) {
+                boolean changed = false;
+                String audioUrlKr = rewrite(slide.getAudioUrlKr());
+                if (audioUrlKr != null) {
+                    changed |= slideRepository.replaceAudioUrlKr(slide.getSlideId(), slide.getAudioUrlKr(), audioUrlKr) > 0;
+                }
+                String audioUrlNative = rewrite(slide.getAudioUrlNative());
+                if (audioUrlNative != null) {
+                    changed |= slideRepository.replaceAudioUrlNative(slide.getSlideId(), slide.getAudioUrlNative(), audioUrlNative) > 0;
+                }
+                if (changed) {
+                    changedStoryIds.add(slide.getStory().getStoryId()); // 프록시 식별자 (동화 조회 없음)
+                    count++;
+                }
+            }
+            // 상세 조회 ETag 갱신
+            if (!changedStoryIds.isEmpty()) {
+                storyRepository.incrementVersion(changedStoryIds);
+            }
+            return count;
+        });
+
+        lastSlideId = slides.get(slides.size() - 1).getSlideId();
+        slidesUpdated.addAndGet(updated);
+        log.info("슬라이드 오디오 URL 변경 - {}건 (누적 {}건, slideId <= {})", updated, slidesUpdated.get(), lastSlideId);
+        // 조건에 맞는 슬라이드를 읽었으면 변경 건수와 관계없이 다음 묶음 계속
+        return slides.size();
+    }
+
+    // 평면 경로 URL -> 분산 경로 URL, 대상이 아니면 null
+    private String rewrite(String audioUrl) {
+        if (audioUrl == null) {
+            return null;
+        }
+        String marker = "/" + storagePath + "/";
+        int index = audioUrl.lastIndexOf(marker);
+        if (index < 0) {
+            return null;
+        }
+        String fileName = audioUrl.substring(index + marker.length());
+        if (fileName.contains("/") || !fileName.startsWith("tts_")) {
+            return null;
+        }
+        return audioUrl.substring(0, index + 1) + FileStorageService.resolveShardedPath(storagePath, fileName);
+    }
+}
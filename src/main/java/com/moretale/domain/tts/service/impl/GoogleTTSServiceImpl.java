@@ -1,40 +1,41 @@
 package com.moretale.domain.tts.service.impl;
 
-import com.google.auth.oauth2.GoogleCredentials;
 import com.google.cloud.texttospeech.v1.*;
 import com.google.protobuf.ByteString;
 import com.moretale.domain.tts.dto.TTSRequest;
 import com.moretale.domain.tts.dto.TTSResponse;
+import com.moretale.domain.tts.service.TTSAudioCache;
 import com.moretale.domain.tts.service.TTSService;
+import com.moretale.global.config.MoreTaleProperties;
 import com.moretale.global.exception.BusinessException;
 import com.moretale.global.exception.ErrorCode;
-import com.moretale.global.service.FileStorageService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.ResourceLoader;
 import org.springframework.stereotype.Service;
 
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.util.UUID;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class GoogleTTSServiceImpl implements TTSService {
 
-    @Value("${google.cloud.credentials.location}")
-    private String credentialsLocation;
+    // 음성 합성 파라미터 (캐시 키에도 사용)
+    private static final SsmlVoiceGender VOICE_GENDER = SsmlVoiceGender.NEUTRAL;
+    private static final AudioEncoding AUDIO_ENCODING = AudioEncoding.MP3;
+    private static final double SPEAKING_RATE = 1.0;
+    private static final double PITCH = 0.0;
 
-    @Value("${tts.storage.path}")
-    private String storagePath;
-
-    private final FileStorageService fileStorageService;
-    private final ResourceLoader resourceLoader;
+    private final TextToSpeechClientProvider textToSpeechClientProvider;
+    private final TTSAudioCache ttsAudioCache;
+    private final MoreTaleProperties moreTaleProperties;
 
     @Override
     public TTSResponse generateTTS(TTSRequest request) {
@@ -44,44 +45,32 @@ public class GoogleTTSServiceImpl implements TTSService {
         log.info("TTS 생성 요청 시작 - 언어: {}, 텍스트 길이: {}",
                 request.getLanguage(), request.getText().length());
 
-        try {
-            Resource resource = resourceLoader.getResource(credentialsLocation);
-            GoogleCredentials credentials = GoogleCredentials.fromStream(resource.getInputStream());
-
-            TextToSpeechSettings settings = TextToSpeechSettings.newBuilder()
-                    .setCredentialsProvider(() -> credentials)
+        // 동일한 텍스트/음성 파라미터로 이미 합성된 오디오가 있으면 재사용
+        String cacheKey = TTSAudioCache.createKey(request.getText(), request.getLanguage(),
+                VOICE_GENDER.name(), SPEAKING_RATE, PITCH, AUDIO_ENCODING.name());
+        Optional<String> cachedUrl = ttsAudioCache.find(cacheKey);
+        if (cachedUrl.isPresent()) {
+            log.info("TTS 캐시 적중 - URL: {}", cachedUrl.get());
+            return TTSResponse.builder()
+                    .audioUrl(cachedUrl.get())
+                    .language(request.getLanguage())
+                    .message("TTS 생성 성공")
                     .build();
+        }
 
-            try (TextToSpeechClient textToSpeechClient = TextToSpeechClient.create(settings)) {
-                SynthesisInput input = SynthesisInput.newBuilder()
-                        .setText(request.getText())
-                        .build();
-
-                VoiceSelectionParams voice = VoiceSelectionParams.newBuilder()
-                        .setLanguageCode(request.getLanguage())
-                        .setSsmlGender(SsmlVoiceGender.NEUTRAL)
-                        .build();
-
-                AudioConfig audioConfig = AudioConfig.newBuilder()
-                        .setAudioEncoding(AudioEncoding.MP3)
-                        .setSpeakingRate(1.0)
-                        .setPitch(0.0)
-                        .build();
-
-                SynthesizeSpeechResponse response = textToSpeechClient.synthesizeSpeech(input, voice, audioConfig);
-                ByteString audioContents = response.getAudioContent();
+        try {
+            ByteString audioContents = synthesize(request);
 
-                String fileName = generateFileName(request.getLanguage());
-                String audioUrl = saveAudioFile(audioContents.toByteArray(), fileName);
+            // ByteString 내용을 복사하지 않는 읽기 전용 버퍼로 최종 위치(내용 해시 파일명)에 바로 저장
+            String audioUrl = ttsAudioCache.store(cacheKey, audioContents.asReadOnlyByteBuffer());
 
-                log.info("TTS 생성 및 업로드 완료 - URL: {}", audioUrl);
+            log.info("TTS 생성 및 업로드 완료 - URL: {}", audioUrl);
 
-                return TTSResponse.builder()
-                        .audioUrl(audioUrl)
-                        .language(request.getLanguage())
-                        .message("TTS 생성 성공")
-                        .build();
-            }
+            return TTSResponse.builder()
+                    .audioUrl(audioUrl)
+                    .language(request.getLanguage())
+                    .message("TTS 생성 성공")
+                    .build();
         } catch (BusinessException e) {
             throw e;
         } catch (Exception e) {
@@ -101,26 +90,142 @@ public class GoogleTTSServiceImpl implements TTSService {
         return response.getAudioUrl();
     }
 
-    private String generateFileName(String language) {
-        String timestamp = String.valueOf(System.currentTimeMillis());
-        String uuid = UUID.randomUUID().toString().substring(0, 8);
-        return String.format("tts_%s_%s_%s.mp3", language, timestamp, uuid);
+    // 합성 후 업로드는 기다리지 않고 반환 (업로드가 끝난 뒤 캐시에 등록)
+    @Override
+    public CompletableFuture<String> generateAudioUrlAsync(String text, String language) {
+        validateLanguage(language);
+
+        String cacheKey = TTSAudioCache.createKey(text, language,
+                VOICE_GENDER.name(), SPEAKING_RATE, PITCH, AUDIO_ENCODING.name());
+        Optional<String> cachedUrl = ttsAudioCache.find(cacheKey);
+        if (cachedUrl.isPresent()) {
+            log.info("TTS 캐시 적중 - URL: {}", cachedUrl.get());
+            return CompletableFuture.completedFuture(cachedUrl.get());
+        }
+
+        return synthesizeAndUpload(text, language, cacheKey);
+    }
+
+    @Override
+    public boolean supportsBatchSynthesis() {
+        return moreTaleProperties.getTts().getSynthesis().isBatch();
+    }
+
+    // 같은 언어 텍스트를 SSML 묶음으로 합성 (5개 슬라이드면 합성 호출 5회 -> 1회)
+    // 1) 캐시 적중(단독 합성 또는 묶음 구간) / 같은 텍스트 중복은 합성하지 않음
+    // 2) 입력 크기 제한 안에서 순서대로 묶어 묶음마다 한 번 합성, <mark> 시각으로 MP3를 프레임 경계에서 잘라 텍스트별로 저장
+    //    (잘라낸 구간은 단독 합성과 바이트/길이/뒤따르는 무음이 달라 별도 캐시 키 사용)
+    // 3) 혼자 제한을 넘는 텍스트, 합성/분할에 실패한 묶음은 슬라이드별 합성으로 대체
+    @Override
+    public List<CompletableFuture<String>> generateAudioUrlsAsync(List<String> texts, String language) {
+        validateLanguage(language);
+        MoreTaleProperties.Tts.Synthesis config = moreTaleProperties.getTts().getSynthesis();
+
+        List<CompletableFuture<String>> uploads = new ArrayList<>(Collections.nCopies(texts.size(), null));
+        Map<String, List<Integer>> positionsByKey = new LinkedHashMap<>();
+        for (int i = 0; i < texts.size(); i++) {
+            String text = texts.get(i);
+            String cacheKey = TTSAudioCache.createKey(text, language,
+                    VOICE_GENDER.name(), SPEAKING_RATE, PITCH, AUDIO_ENCODING.name());
+            Optional<String> cachedUrl = ttsAudioCache.find(cacheKey)
+                    .or(() -> ttsAudioCache.find(batchClipKey(text, language, config)));
+            if (cachedUrl.isPresent()) {
+                uploads.set(i, CompletableFuture.completedFuture(cachedUrl.get()));
+            } else {
+                positionsByKey.computeIfAbsent(cacheKey, key -> new ArrayList<>()).add(i);
+            }
+        }
+
+        List<String> cacheKeys = new ArrayList<>(positionsByKey.keySet());
+        List<String> pendingTexts = cacheKeys.stream().map(key -> texts.get(positionsByKey.get(key).get(0))).toList();
+        for (SsmlBatch batch : SsmlBatch.partition(pendingTexts, config.getMaxBatchInputBytes(), config.getBatchBreakMillis())) {
+            List<ByteString> clips = batch.size() > 1 ? synthesizeBatch(batch, language) : null;
+            for (int j = 0; j < batch.size(); j++) {
+                int position = batch.positions().get(j);
+                String cacheKey = cacheKeys.get(position);
+                CompletableFuture<String> upload = clips != null
+                        ? upload(clips.get(j), batchClipKey(pendingTexts.get(position), language, config))
+                        : synthesizeAndUploadOrFail(pendingTexts.get(position), language, cacheKey);
+                positionsByKey.get(cacheKey).forEach(i -> uploads.set(i, upload));
+            }
+        }
+        return uploads;
+    }
+
+    // 묶음에서 잘라낸 구간의 캐시 키 (구간 끝의 무음 길이도 구분)
+    private static String batchClipKey(String text, String language, MoreTaleProperties.Tts.Synthesis config) {
+        return TTSAudioCache.createKey(text, language, VOICE_GENDER.name(), SPEAKING_RATE, PITCH, AUDIO_ENCODING.name(),
+                "ssml-batch-clip:break=" + config.getBatchBreakMillis() + "ms");
+    }
+
+    // 묶음 합성 후 텍스트별 MP3 구간, 실패하면 null (슬라이드별 합성으로 대체)
+    private List<ByteString> synthesizeBatch(SsmlBatch batch, String language) {
+        try {
+            List<ByteString> clips = batch.synthesize(textToSpeechClientProvider.getBatchClient(), language,
+                    VOICE_GENDER.name(), SPEAKING_RATE, PITCH);
+            if (clips == null) {
+                log.warn("TTS 묶음 합성 결과를 슬라이드별로 나눌 수 없어 슬라이드별로 합성합니다 - 언어: {}, {}건",
+                        language, batch.size());
+            } else {
+                log.info("TTS 묶음 합성 완료 - 언어: {}, {}건", language, batch.size());
+            }
+            return clips;
+        } catch (Exception e) {
+            log.warn("TTS 묶음 합성 실패, 슬라이드별로 합성합니다 - 언어: {}, {}건", language, batch.size(), e);
+            return null;
+        }
     }
 
-    private String saveAudioFile(byte[] audioData, String fileName) throws IOException {
-        Path tempDir = Files.createTempDirectory("tts_temp");
-        Path tempFile = tempDir.resolve(fileName);
+    // 합성 후 업로드는 기다리지 않고 반환
+    private CompletableFuture<String> synthesizeAndUpload(String text, String language, String cacheKey) {
+        ByteString audioContents;
+        try {
+            audioContents = synthesize(TTSRequest.builder().text(text).language(language).build());
+        } catch (Exception e) {
+            log.error("Google TTS API 호출 중 상세 에러 발생: ", e);
+            throw new BusinessException(ErrorCode.TTS_GENERATION_FAILED);
+        }
+        return upload(audioContents, cacheKey);
+    }
 
-        try (FileOutputStream fos = new FileOutputStream(tempFile.toFile())) {
-            fos.write(audioData);
+    // 합성 실패를 예외 대신 실패한 future로 반환 (묶음 안의 다른 텍스트에 영향 X)
+    private CompletableFuture<String> synthesizeAndUploadOrFail(String text, String language, String cacheKey) {
+        try {
+            return synthesizeAndUpload(text, language, cacheKey);
+        } catch (BusinessException e) {
+            return CompletableFuture.failedFuture(e);
         }
+    }
+
+    // 최종 위치(내용 해시 파일명)에 저장 (ByteString 내용을 복사하지 않는 읽기 전용 버퍼), 업로드가 끝난 뒤 캐시에 등록
+    private CompletableFuture<String> upload(ByteString audioContents, String cacheKey) {
+        return ttsAudioCache.storeAsync(cacheKey, audioContents.asReadOnlyByteBuffer())
+                .thenApply(audioUrl -> {
+                    log.info("TTS 생성 및 업로드 완료 - URL: {}", audioUrl);
+                    return audioUrl;
+                });
+    }
+
+    // Google TTS 합성 (공유 클라이언트 재사용: 호출마다 자격 증명 로드 및 채널 생성 X)
+    private ByteString synthesize(TTSRequest request) throws IOException {
+        TextToSpeechClient textToSpeechClient = textToSpeechClientProvider.getClient();
+
+        SynthesisInput input = SynthesisInput.newBuilder()
+                .setText(request.getText())
+                .build();
 
-        String subPath = storagePath + "/" + fileName;
-        String audioUrl = fileStorageService.uploadFile(tempFile.toFile(), subPath);
+        VoiceSelectionParams voice = VoiceSelectionParams.newBuilder()
+                .setLanguageCode(request.getLanguage())
+                .setSsmlGender(VOICE_GENDER)
+                .build();
 
-        Files.deleteIfExists(tempFile);
-        Files.deleteIfExists(tempDir);
+        AudioConfig audioConfig = AudioConfig.newBuilder()
+                .setAudioEncoding(AUDIO_ENCODING)
+                .setSpeakingRate(SPEAKING_RATE)
+                .setPitch(PITCH)
+                .build();
 
-        return audioUrl;
+        SynthesizeSpeechResponse response = textToSpeechClient.synthesizeSpeech(input, voice, audioConfig);
+        return response.getAudioContent();
     }
 }
@@ -2,17 +2,18 @@ package com.moretale.domain.tts.service.impl;
 
 import com.moretale.domain.tts.dto.TTSRequest;
 import com.moretale.domain.tts.dto.TTSResponse;
+import com.moretale.domain.tts.service.TTSAudioCache;
 import com.moretale.domain.tts.service.TTSService;
 import com.moretale.global.exception.BusinessException;
 import com.moretale.global.exception.ErrorCode;
-import com.moretale.global.service.FileStorageService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
+import java.nio.ByteBuffer;
+import java.util.Optional;
 import java.util.UUID;
 
 // Mock TTS 서비스 (개발/테스트용, Google Cloud TTS 없이 더미 오디오 생성)
@@ -23,16 +24,30 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class MockTTSServiceImpl implements TTSService {
 
-    private final FileStorageService fileStorageService;
+    // Mock 음성 식별자 (실제 Google TTS 결과와 캐시 키가 겹치지 않도록 구분)
+    private static final String MOCK_VOICE = "MOCK";
 
-    @Value("${tts.storage.path:tts/audio}")
-    private String storagePath;
+    private final TTSAudioCache ttsAudioCache;
 
     @Override
     public TTSResponse generateTTS(TTSRequest request) {
         // 언어 검증 추가
         validateLanguage(request.getLanguage());
 
+        // 동일한 텍스트로 이미 생성된 오디오가 있으면 재사용
+        String cacheKey = TTSAudioCache.createKey(request.getText(), request.getLanguage(),
+                MOCK_VOICE, 1.0, 0.0, "MP3");
+        Optional<String> cachedUrl = ttsAudioCache.find(cacheKey);
+        if (cachedUrl.isPresent()) {
+            log.info("[Mock TTS] 캐시 적중 - URL: {}", cachedUrl.get());
+            return TTSResponse.builder()
+                    .audioUrl(cachedUrl.get())
+                    .language(request.getLanguage())
+                    .duration(5)
+                    .message("Mock TTS 생성 완료")
+                    .build();
+        }
+
         try {
             log.info("[Mock TTS] 생성 시작 - 언어: {}, 텍스트: {}",
                     request.getLanguage(),
@@ -41,12 +56,8 @@ public class MockTTSServiceImpl implements TTSService {
             // 더미 오디오 데이터 생성
             byte[] dummyAudioData = generateDummyAudioData();
 
-            // 파일명 생성
-            String fileName = generateFileName(request.getLanguage());
-            String filePath = storagePath + "/" + fileName;
-
-            // 파일 저장
-            String audioUrl = fileStorageService.uploadFile(dummyAudioData, filePath);
+            // 파일 저장 (내용 해시 파일명, 캐시 키 색인 등록)
+            String audioUrl = ttsAudioCache.store(cacheKey, ByteBuffer.wrap(dummyAudioData));
 
             log.info("[Mock TTS] 생성 완료 - URL: {}", audioUrl);
 
@@ -80,10 +91,4 @@ public class MockTTSServiceImpl implements TTSService {
         String dummyContent = "MOCK_TTS_AUDIO_DATA_" + UUID.randomUUID();
         return dummyContent.getBytes();
     }
-
-    private String generateFileName(String language) {
-        String timestamp = String.valueOf(System.currentTimeMillis());
-        String uuid = UUID.randomUUID().toString().substring(0, 8);
-        return String.format("tts_%s_%s_%s.mp3", language, timestamp, uuid);
-    }
 }
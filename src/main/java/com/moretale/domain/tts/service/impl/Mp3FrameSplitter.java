@@ -0,0 +1,140 @@
+package com.moretale.domain.tts.service.impl;
+
+import com.google.protobuf.ByteString;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// MP3(MPEG-1/2/2.5 Layer III) 오디오를 프레임 경계에서 여러 구간으로 분할
+// 프레임 헤더만 읽어 프레임 위치/시작 시각을 계산하고, 구간 시작 시각이 속한 프레임의 시작 위치에서 자름
+// 앞쪽 ID3v2 태그와 Xing/Info/VBRI 헤더 프레임(묶음 전체의 프레임/바이트 수)은 어느 구간에도 넣지 않음
+// (구간 시작 시각 직전의 무음 일부가 앞 구간 끝 대신 다음 구간 앞에 붙을 수 있음, 디코딩/재인코딩 없음)
+// 파싱할 수 없는 오디오면 null (호출 측에서 슬라이드별 합성으로 대체)
+final class Mp3FrameSplitter {
+
+    private static final int HEADER_BYTES = 4;
+    private static final double EPSILON_SECONDS = 1e-6;
+
+    // Layer III 비트레이트 (kbps), [MPEG-1, MPEG-2/2.5][bitrate index]
+    private static final int[][] BITRATES = {
+            {0, 32, 40, 48, 56, 64, 80, 96, 112, 128, 160, 192, 224, 256, 320},
+            {0, 8, 16, 24, 32, 40, 48, 56, 64, 80, 96, 112, 128, 144, 160}
+    };
+    // 샘플레이트 (Hz), [MPEG-1, MPEG-2, MPEG-2.5][sample rate index]
+    private static final int[][] SAMPLE_RATES = {
+            {44100, 48000, 32000},
+            {22050, 24000, 16000},
+            {11025, 12000, 8000}
+    };
+
+    private Mp3FrameSplitter() {
+    }
+
+    // startSeconds[i]: i+1번째 구간의 시작 시각 (오름차순), 결과는 startSeconds.length + 1개 구간
+    // 첫 구간은 첫 오디오 프레임부터, 마지막 구간은 마지막 프레임 끝까지
+    static List<ByteString> split(ByteString audio, double[] startSeconds) {
+        List<Integer> frameOffsets = new ArrayList<>();
+        List<Double> frameTimes = new ArrayList<>();
+        int end = parseFrames(audio, frameOffsets, frameTimes);
+        if (frameOffsets.isEmpty()) {
+            return null;
+        }
+
+        List<ByteString> clips = new ArrayList<>(startSeconds.length + 1);
+        int clipStart = frameOffsets.get(0);
+        int frame = 0;
+        for (double start : startSeconds) {
+            // start 시각을 포함하는 프레임 (시작 시각이 start 이하인 마지막 프레임)
+            while (frame + 1 < frameTimes.size() && frameTimes.get(frame + 1) <= start + EPSILON_SECONDS) {
+                frame++;
+            }
+            int cut = frameOffsets.get(frame);
+            if (cut <= clipStart) {
+                return null; // 빈 구간 (시각이 맞지 않음)
+            }
+            clips.add(audio.substring(clipStart, cut));
+            clipStart = cut;
+        }
+        if (end <= clipStart) {
+            return null;
+        }
+        clips.add(audio.substring(clipStart, end));
+        return clips;
+    }
+
+    // 오디오 프레임 시작 위치/시각 수집, 마지막 프레임의 끝 위치 반환 (뒤따르는 ID3v1 태그 등은 제외)
+    private static int parseFrames(ByteString audio, List<Integer> frameOffsets, List<Double> frameTimes) {
+        int firstFrameOffset = skipId3v2(audio);
+        int offset = firstFrameOffset;
+        long samples = 0;
+        while (offset + HEADER_BYTES <= audio.size()) {
+            int b1 = audio.byteAt(offset + 1) & 0xFF;
+            int b2 = audio.byteAt(offset + 2) & 0xFF;
+            if ((audio.byteAt(offset) & 0xFF) != 0xFF || (b1 & 0xE0) != 0xE0) {
+                break;
+            }
+            int version = (b1 >> 3) & 0x03;  // 0: MPEG-2.5, 2: MPEG-2, 3: MPEG-1
+            int layer = (b1 >> 1) & 0x03;    // 1: Layer III
+            int bitrateIndex = b2 >> 4;
+            int sampleRateIndex = (b2 >> 2) & 0x03;
+            int padding = (b2 >> 1) & 0x01;
+            if (version == 1 || layer != 1 || bitrateIndex == 0 || bitrateIndex == 15 || sampleRateIndex == 3) {
+                break;
+            }
+
+            boolean mpeg1 = version == 3;
+            int bitrate = BITRATES[mpeg1 ? 0 : 1][bitrateIndex] * 1000;
+            int sampleRate = SAMPLE_RATES[mpeg1 ? 0 : version == 2 ? 1 : 2][sampleRateIndex];
+            int samplesPerFrame = mpeg1 ? 1152 : 576;
+            int frameLength = samplesPerFrame / 8 * bitrate / sampleRate + padding;
+            if (offset + frameLength > audio.size()) {
+                break;
+            }
+
+            if (offset == firstFrameOffset && isVbrHeaderFrame(audio, offset, mpeg1)) {
+                // 오디오가 없는 정보 프레임: 재생 시간에 포함하지 않음 (timepoint도 첫 오디오 프레임 기준)
+                offset += frameLength;
+                continue;
+            }
+
+            frameOffsets.add(offset);
+            frameTimes.add((double) samples / sampleRate);
+            samples += samplesPerFrame;
+            offset += frameLength;
+        }
+        return offset;
+    }
+
+    // 첫 프레임의 Xing/Info(LAME) 또는 VBRI(Fraunhofer) 헤더 여부
+    // Xing/Info는 사이드 정보 바로 뒤, VBRI는 헤더 뒤 32바이트 위치
+    private static boolean isVbrHeaderFrame(ByteString audio, int offset, boolean mpeg1) {
+        boolean mono = ((audio.byteAt(offset + 3) & 0xFF) >> 6) == 3;
+        int sideInfoBytes = mpeg1 ? (mono ? 17 : 32) : (mono ? 9 : 17);
+        return hasTag(audio, offset + HEADER_BYTES + sideInfoBytes, "Xing")
+                || hasTag(audio, offset + HEADER_BYTES + sideInfoBytes, "Info")
+                || hasTag(audio, offset + HEADER_BYTES + 32, "VBRI");
+    }
+
+    private static boolean hasTag(ByteString audio, int offset, String tag) {
+        if (offset + tag.length() > audio.size()) {
+            return false;
+        }
+        for (int i = 0; i < tag.length(); i++) {
+            if (audio.byteAt(offset + i) != tag.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 앞쪽 ID3v2 태그 크기 (없으면 0)
+    private static int skipId3v2(ByteString audio) {
+        if (audio.size() < 10 || audio.byteAt(0) != 'I' || audio.byteAt(1) != 'D' || audio.byteAt(2) != '3') {
+            return 0;
+        }
+        int size = ((audio.byteAt(6) & 0x7F) << 21) | ((audio.byteAt(7) & 0x7F) << 14)
+                | ((audio.byteAt(8) & 0x7F) << 7) | (audio.byteAt(9) & 0x7F);
+        boolean footer = (audio.byteAt(5) & 0x10) != 0;
+        return 10 + size + (footer ? 10 : 0);
+    }
+}
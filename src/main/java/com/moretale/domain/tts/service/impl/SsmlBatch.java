@@ -0,0 +1,129 @@
+package com.moretale.domain.tts.service.impl;
+
+import com.google.cloud.texttospeech.v1beta1.*;
+import com.google.protobuf.ByteString;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 같은 언어 텍스트 여러 개를 SSML 하나로 묶은 합성 요청
+// <speak><mark name="0"/>텍스트0<break time="300ms"/><mark name="1"/>텍스트1 ... </speak>
+// 응답의 <mark> 시각(timepoint)으로 MP3를 텍스트별 구간으로 분할
+final class SsmlBatch {
+
+    private static final String SPEAK_OPEN = "<speak>";
+    private static final String SPEAK_CLOSE = "</speak>";
+
+    private final List<Integer> positions = new ArrayList<>();
+    private final StringBuilder body = new StringBuilder();
+    private int bytes = SPEAK_OPEN.length() + SPEAK_CLOSE.length();
+
+    private SsmlBatch() {
+    }
+
+    // 텍스트를 순서대로 SSML 크기 제한 안에서 묶음 (혼자 제한을 넘는 텍스트는 한 건짜리 묶음)
+    static List<SsmlBatch> partition(List<String> texts, int maxInputBytes, int breakMillis) {
+        List<SsmlBatch> batches = new ArrayList<>();
+        SsmlBatch current = new SsmlBatch();
+        for (int i = 0; i < texts.size(); i++) {
+            if (!current.positions.isEmpty() && !current.tryAdd(i, texts.get(i), maxInputBytes, breakMillis)) {
+                batches.add(current);
+                current = new SsmlBatch();
+            }
+            if (current.positions.isEmpty()) {
+                current.add(i, segment(0, texts.get(i), breakMillis));
+            }
+        }
+        if (!current.positions.isEmpty()) {
+            batches.add(current);
+        }
+        return batches;
+    }
+
+    // 묶인 텍스트의 입력 목록 내 위치 (SSML 안의 순서와 같음)
+    List<Integer> positions() {
+        return positions;
+    }
+
+    int size() {
+        return positions.size();
+    }
+
+    String ssml() {
+        return SPEAK_OPEN + body + SPEAK_CLOSE;
+    }
+
+    // 한 번 합성 후 텍스트별 MP3 구간 반환, 시각이 빠졌거나 분할할 수 없으면 null
+    List<ByteString> synthesize(TextToSpeechClient client, String language, String voiceGender,
+                                double speakingRate, double pitch) {
+        SynthesizeSpeechRequest request = SynthesizeSpeechRequest.newBuilder()
+                .setInput(SynthesisInput.newBuilder().setSsml(ssml()))
+                .setVoice(VoiceSelectionParams.newBuilder()
+                        .setLanguageCode(language)
+                        .setSsmlGender(SsmlVoiceGender.valueOf(voiceGender)))
+                .setAudioConfig(AudioConfig.newBuilder()
+                        .setAudioEncoding(AudioEncoding.MP3)
+                        .setSpeakingRate(speakingRate)
+                        .setPitch(pitch))
+                .addEnableTimePointing(SynthesizeSpeechRequest.TimepointType.SSML_MARK)
+                .build();
+        SynthesizeSpeechResponse response = client.synthesizeSpeech(request);
+
+        Map<String, Double> markSeconds = new HashMap<>();
+        for (Timepoint timepoint : response.getTimepointsList()) {
+            markSeconds.put(timepoint.getMarkName(), timepoint.getTimeSeconds());
+        }
+        double[] startSeconds = new double[positions.size() - 1];
+        for (int i = 1; i < positions.size(); i++) {
+            Double seconds = markSeconds.get(String.valueOf(i));
+            if (seconds == null) {
+                return null;
+            }
+            startSeconds[i - 1] = seconds;
+        }
+        return Mp3FrameSplitter.split(response.getAudioContent(), startSeconds);
+    }
+
+    private boolean tryAdd(int position, String text, int maxInputBytes, int breakMillis) {
+        String segment = segment(positions.size(), text, breakMillis);
+        if (bytes + utf8Length(segment) > maxInputBytes) {
+            return false;
+        }
+        add(position, segment);
+        return true;
+    }
+
+    private void add(int position, String segment) {
+        positions.add(position);
+        body.append(segment);
+        bytes += utf8Length(segment);
+    }
+
+    // 묶음 안 index번째 텍스트 (앞 텍스트와의 사이에 무음)
+    private static String segment(int index, String text, int breakMillis) {
+        String mark = "<mark name=\"" + index + "\"/>" + escape(text);
+        return index == 0 || breakMillis <= 0 ? mark : "<break time=\"" + breakMillis + "ms\"/>" + mark;
+    }
+
+    private static String escape(String text) {
+        StringBuilder escaped = new StringBuilder(text.length());
+        for (char c : text.toCharArray()) {
+            switch (c) {
+                case '&' -> escaped.append("&amp;");
+                case '<' -> escaped.append("&lt;");
+                case '>' -> escaped.append("&gt;");
+                case '"' -> escaped.append("&quot;");
+                case '\'' -> escaped.append("&apos;");
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    private static int utf8Length(String value) {
+        return value.getBytes(StandardCharsets.UTF_8).length;
+    }
+}
@@ -0,0 +1,177 @@
+package com.moretale.domain.tts.service.impl;
+
+import com.google.api.gax.core.BackgroundResource;
+import com.google.api.gax.core.CredentialsProvider;
+import com.google.api.gax.core.FixedCredentialsProvider;
+import com.google.api.gax.grpc.ChannelPoolSettings;
+import com.google.api.gax.grpc.InstantiatingGrpcChannelProvider;
+import com.google.api.gax.rpc.TransportChannelProvider;
+import com.google.auth.oauth2.GoogleCredentials;
+import com.google.cloud.texttospeech.v1.TextToSpeechClient;
+import com.google.cloud.texttospeech.v1.TextToSpeechSettings;
+import com.moretale.global.config.MoreTaleProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+import org.threeten.bp.Duration;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+// Google TTS 클라이언트 수명 주기 관리
+// 자격 증명과 설정은 한 번만 로드하고, gRPC 채널 풀을 공유하는 단일 클라이언트를 모든 호출에서 재사용
+// 묶음 합성은 SSML <mark> 시각(timepoint)을 돌려주는 v1beta1 API 사용 (첫 묶음 합성 시 별도 클라이언트 생성)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TextToSpeechClientProvider {
+
+    private final ResourceLoader resourceLoader;
+    private final MoreTaleProperties moreTaleProperties;
+
+    @Value("${google.cloud.credentials.location}")
+    private String credentialsLocation;
+
+    private volatile TextToSpeechClient client;
+    private volatile com.google.cloud.texttospeech.v1beta1.TextToSpeechClient batchClient;
+
+    // 애플리케이션 시작 시 자격 증명이 있으면 클라이언트를 미리 생성
+    // (dev 환경처럼 자격 증명이 없으면 첫 호출 시점으로 초기화를 미룸)
+    @PostConstruct
+    public void init() {
+        Resource resource = resourceLoader.getResource(credentialsLocation);
+        if (!resource.exists()) {
+            log.warn("Google TTS 자격 증명 파일이 없어 클라이언트 초기화를 첫 호출 시점으로 미룹니다 - location: {}",
+                    credentialsLocation);
+            return;
+        }
+
+        try {
+            getClient();
+        } catch (IOException e) {
+            log.error("Google TTS 클라이언트 초기화 실패 - 첫 호출 시 다시 시도합니다", e);
+        }
+    }
+
+    // 공유 클라이언트 반환 (스레드 안전, 최초 1회만 생성)
+    public TextToSpeechClient getClient() throws IOException {
+        TextToSpeechClient current = client;
+        if (current == null) {
+            synchronized (this) {
+                current = client;
+                if (current == null) {
+                    MoreTaleProperties.Tts.Google config = moreTaleProperties.getTts().getGoogle();
+                    current = TextToSpeechClient.create(createSettings(
+                            FixedCredentialsProvider.create(loadCredentials()),
+                            createChannelProvider(config),
+                            config
+                    ));
+                    client = current;
+                    log.info("Google TTS 클라이언트 생성 완료 - 채널 수: {}, 호출 제한 시간: {}초",
+                            config.getChannelCount(), config.getDeadlineSeconds());
+                }
+            }
+        }
+        return current;
+    }
+
+    // 묶음 합성용 v1beta1 공유 클라이언트 반환 (스레드 안전, 최초 1회만 생성)
+    public com.google.cloud.texttospeech.v1beta1.TextToSpeechClient getBatchClient() throws IOException {
+        com.google.cloud.texttospeech.v1beta1.TextToSpeechClient current = batchClient;
+        if (current == null) {
+            synchronized (this) {
+                current = batchClient;
+                if (current == null) {
+                    MoreTaleProperties.Tts.Google config = moreTaleProperties.getTts().getGoogle();
+                    current = com.google.cloud.texttospeech.v1beta1.TextToSpeechClient.create(createBatchSettings(
+                            FixedCredentialsProvider.create(loadCredentials()),
+                            createChannelProvider(config),
+                            config
+                    ));
+                    batchClient = current;
+                    log.info("Google TTS 묶음 합성 클라이언트 생성 완료 - 채널 수: {}", config.getChannelCount());
+                }
+            }
+        }
+        return current;
+    }
+
+    // 애플리케이션 종료 시 진행 중인 호출을 기다린 뒤 채널 정리
+    @PreDestroy
+    public void shutdown() {
+        shutdown(client);
+        shutdown(batchClient);
+    }
+
+    private void shutdown(BackgroundResource current) {
+        if (current == null) {
+            return;
+        }
+
+        long timeoutSeconds = moreTaleProperties.getTts().getGoogle().getShutdownTimeoutSeconds();
+        current.shutdown();
+        try {
+            if (!current.awaitTermination(timeoutSeconds, TimeUnit.SECONDS)) {
+                log.warn("Google TTS 클라이언트가 {}초 내에 종료되지 않아 강제 종료합니다", timeoutSeconds);
+                current.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            current.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        log.info("Google TTS 클라이언트 종료 완료");
+    }
+
+    // 채널 풀 크기와 keep-alive 설정이 반영된 gRPC 채널 프로바이더 생성
+    public static InstantiatingGrpcChannelProvider createChannelProvider(MoreTaleProperties.Tts.Google config) {
+        return TextToSpeechSettings.defaultGrpcTransportProviderBuilder()
+                .setChannelPoolSettings(ChannelPoolSettings.staticallySized(config.getChannelCount()))
+                .setKeepAliveTime(Duration.ofSeconds(config.getKeepAliveSeconds()))
+                .setKeepAliveTimeout(Duration.ofSeconds(config.getKeepAliveTimeoutSeconds()))
+                .setKeepAliveWithoutCalls(true)
+                .build();
+    }
+
+    // 클라이언트 설정 생성 (호출 제한 시간 적용)
+    public static TextToSpeechSettings createSettings(CredentialsProvider credentialsProvider,
+                                                      TransportChannelProvider channelProvider,
+                                                      MoreTaleProperties.Tts.Google config) throws IOException {
+        TextToSpeechSettings.Builder builder = TextToSpeechSettings.newBuilder()
+                .setCredentialsProvider(credentialsProvider)
+                .setTransportChannelProvider(channelProvider);
+
+        builder.synthesizeSpeechSettings()
+                .setSimpleTimeoutNoRetries(Duration.ofSeconds(config.getDeadlineSeconds()));
+
+        return builder.build();
+    }
+
+    // 묶음 합성 클라이언트 설정 생성 (호출 제한 시간 적용)
+    public static com.google.cloud.texttospeech.v1beta1.TextToSpeechSettings createBatchSettings(
+            CredentialsProvider credentialsProvider,
+            TransportChannelProvider channelProvider,
+            MoreTaleProperties.Tts.Google config) throws IOException {
+        com.google.cloud.texttospeech.v1beta1.TextToSpeechSettings.Builder builder =
+                com.google.cloud.texttospeech.v1beta1.TextToSpeechSettings.newBuilder()
+                        .setCredentialsProvider(credentialsProvider)
+                        .setTransportChannelProvider(channelProvider);
+
+        builder.synthesizeSpeechSettings()
+                .setSimpleTimeoutNoRetries(Duration.ofSeconds(config.getDeadlineSeconds()));
+
+        return builder.build();
+    }
+
+    private GoogleCredentials loadCredentials() throws IOException {
+        Resource resource = resourceLoader.getResource(credentialsLocation);
+        try (InputStream inputStream = resource.getInputStream()) {
+            return GoogleCredentials.fromStream(inputStream);
+        }
+    }
+}
@@ -4,7 +4,11 @@ import com.moretale.domain.profile.entity.UserProfile;
 import com.moretale.domain.story.entity.Story;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -15,8 +19,11 @@ import java.util.Collection;
 import java.util.List;
 
 // 사용자 정보 저장 User 엔티티
+// 2차 캐시: id 조회는 user 리전, 이메일 조회는 user-natural-id 리전 사용
 @Entity
 @Table(name = "users")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
+@NaturalIdCache(region = "user-natural-id")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -30,7 +37,8 @@ public class User implements UserDetails {
     @Column(name = "user_id")
     private Long userId;
 
-    // 사용자 이메일 (OAuth 로그인 기준, 중복X)
+    // 사용자 이메일 (OAuth 로그인 기준, 중복X, 변경 불가)
+    @NaturalId
     @Column(nullable = false, unique = true)
     private String email;
 
@@ -7,10 +7,9 @@ import org.springframework.stereotype.Repository;
 import java.util.Optional;
 
 // User 엔티티에 대한 JPA Repository 인터페이스
+// 이메일 조회(findByEmail)는 UserRepositoryCustom의 natural-id 조회 사용
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
-    // 이메일로 사용자 조회
-    Optional<User> findByEmail(String email);
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
     // OAuth provider + providerId로 사용자 조회
     Optional<User> findByProviderAndProviderId(String provider, String providerId);
     // 이메일 중복 여부 확인
@@ -0,0 +1,12 @@
+package com.moretale.domain.user.repository;
+
+import com.moretale.domain.user.entity.User;
+
+import java.util.Optional;
+
+// Spring Data 파생 쿼리 대신 직접 구현하는 User 조회
+public interface UserRepositoryCustom {
+
+    // 이메일로 사용자 조회 (natural-id 조회, 2차 캐시 사용)
+    Optional<User> findByEmail(String email);
+}
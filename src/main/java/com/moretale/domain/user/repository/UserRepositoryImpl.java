@@ -0,0 +1,26 @@
+package com.moretale.domain.user.repository;
+
+import com.moretale.domain.user.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+// UserRepositoryCustom 구현 (Spring Data가 Impl 접미사로 자동 연결)
+public class UserRepositoryImpl implements UserRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // JPQL 조회는 2차 캐시를 거치지 않으므로 natural-id로 조회
+    // 이메일 -> userId (user-natural-id 리전) -> User (user 리전) 순서로 캐시 적중 시 SQL 없음
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<User> findByEmail(String email) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(email);
+    }
+}
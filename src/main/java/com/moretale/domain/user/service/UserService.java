@@ -5,6 +5,7 @@ import com.moretale.domain.user.entity.User;
 import com.moretale.domain.user.repository.UserRepository;
 import com.moretale.global.exception.CustomException;
 import com.moretale.global.exception.ErrorCode;
+import com.moretale.global.security.jwt.JwtUserCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -17,6 +18,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final JwtUserCache jwtUserCache; // 이전 형식 JWT 인증 주체 캐시 (사용자 정보 변경 시 제거)
 
     // 사용자 정보 조회
     public UserResponse getUserInfo(Long userId) {
@@ -37,6 +39,7 @@ public class UserService {
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
         user.setRegion(region);
+        jwtUserCache.evict(userId);
 
         log.info("사용자 지역 설정 완료 - userId: {}", userId);
 
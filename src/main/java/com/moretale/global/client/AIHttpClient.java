@@ -0,0 +1,312 @@
+package com.moretale.global.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moretale.global.config.MoreTaleProperties;
+import com.moretale.global.exception.BusinessException;
+import com.moretale.global.exception.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+// AI 서버(동화/이미지 생성) 공용 HTTP 클라이언트
+// - HttpClient 하나를 공유해 연결을 재사용 (HTTP/2 우선, 지원하지 않는 서버는 HTTP/1.1 keep-alive 풀)
+// - 요청마다 연결/응답 헤더/본문 읽기 제한 시간과 전체 제한 시간 적용
+// - 동시 요청 수를 세마포어로 제한 (한도 대기 초과 시 AI_SERVICE_BUSY)
+// - 서버가 요청을 처리하지 않았음이 확실한 경우(연결 실패, 429/503)에만 재시도
+//   생성 요청은 멱등하지 않으므로 응답 본문을 읽기 시작한 뒤의 실패는 재시도하지 않음
+@Slf4j
+@Component
+public class AIHttpClient {
+
+    // 응답 본문을 스트리밍으로 읽어 결과로 변환 (본문 전체를 메모리에 올리지 않음)
+    @FunctionalInterface
+    public interface BodyReader<T> {
+        T read(InputStream body) throws IOException;
+    }
+
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final ExecutorService executor;
+    private final ScheduledExecutorService watchdog;
+    private final Semaphore inFlight;
+    private final Duration responseTimeout;
+    private final long readTimeoutNanos;
+    private final long deadlineNanos;
+    private final long acquireTimeoutMillis;
+    private final int maxRetries;
+    private final long retryBackoffMillis;
+
+    public AIHttpClient(ObjectMapper objectMapper, MoreTaleProperties moreTaleProperties) {
+        MoreTaleProperties.Ai.Http config = moreTaleProperties.getAi().getHttp();
+        this.objectMapper = objectMapper;
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofSeconds(config.getConnectTimeoutSeconds()))
+                .executor(executor)
+                .build();
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "AI-HTTP-WATCHDOG");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.inFlight = new Semaphore(config.getMaxInFlight(), true);
+        this.responseTimeout = Duration.ofSeconds(config.getResponseTimeoutSeconds());
+        this.readTimeoutNanos = TimeUnit.SECONDS.toNanos(config.getReadTimeoutSeconds());
+        this.deadlineNanos = TimeUnit.SECONDS.toNanos(config.getDeadlineSeconds());
+        this.acquireTimeoutMillis = config.getAcquireTimeoutMillis();
+        this.maxRetries = config.getMaxRetries();
+        this.retryBackoffMillis = config.getRetryBackoffMillis();
+    }
+
+    // JSON 본문으로 POST 요청 후 응답 본문을 reader로 스트리밍 처리
+    // reader에서 발생한 BusinessException은 그대로 전달
+    public <T> T postJson(String url, Object body, String accept, BodyReader<T> reader) {
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(body);
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "AI 요청 직렬화 실패");
+        }
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(responseTimeout) // 응답 헤더 수신까지의 제한 시간
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.ACCEPT, accept)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(payload))
+                .build();
+
+        acquire(url);
+        try {
+            HttpResponse<InputStream> response = sendWithRetry(request);
+            try (GuardedInputStream guarded = new GuardedInputStream(response.body())) {
+                return reader.read(guarded);
+            } catch (GuardedTimeoutException e) {
+                log.error("AI 서버 응답 시간 초과 - url={}, {}", url, e.getMessage());
+                throw new BusinessException(ErrorCode.AI_SERVICE_TIMEOUT);
+            } catch (IOException e) {
+                log.error("AI 서버 응답 읽기 실패 - url={}", url, e);
+                throw new BusinessException(ErrorCode.AI_RESPONSE_INVALID);
+            }
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    public int availablePermits() {
+        return inFlight.availablePermits();
+    }
+
+    private void acquire(String url) {
+        try {
+            if (!inFlight.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                log.warn("AI 서버 동시 요청 한도 초과 - url={}", url);
+                throw new BusinessException(ErrorCode.AI_SERVICE_BUSY);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.AI_SERVICE_BUSY);
+        }
+    }
+
+    private HttpResponse<InputStream> sendWithRetry(HttpRequest request) {
+        for (int attempt = 0; ; attempt++) {
+            boolean canRetry = attempt < maxRetries;
+            HttpResponse<InputStream> response;
+            try {
+                response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            } catch (ConnectException | HttpConnectTimeoutException e) {
+                // 연결 단계 실패: 요청이 서버에 전달되지 않았으므로 재시도 가능
+                if (canRetry) {
+                    log.warn("AI 서버 연결 실패, 재시도 {}/{} - url={}", attempt + 1, maxRetries, request.uri());
+                    backoff(attempt);
+                    continue;
+                }
+                log.error("AI 서버 연결 실패 - url={}", request.uri(), e);
+                throw new BusinessException(ErrorCode.AI_SERVICE_ERROR);
+            } catch (HttpTimeoutException e) {
+                log.error("AI 서버 응답 헤더 대기 시간 초과 - url={}", request.uri());
+                throw new BusinessException(ErrorCode.AI_SERVICE_TIMEOUT);
+            } catch (IOException e) {
+                // 요청 전송 이후의 실패는 서버 처리 여부를 알 수 없으므로 재시도하지 않음
+                log.error("AI 서버 호출 실패 - url={}", request.uri(), e);
+                throw new BusinessException(ErrorCode.AI_SERVICE_ERROR);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new BusinessException(ErrorCode.AI_SERVICE_ERROR);
+            }
+
+            int status = response.statusCode();
+            if (status == 200) {
+                return response;
+            }
+            closeQuietly(response.body());
+            // 429/503: 서버가 요청을 처리하지 않고 거절한 경우
+            if ((status == 429 || status == 503) && canRetry) {
+                log.warn("AI 서버 일시적 거절 (status={}), 재시도 {}/{} - url={}",
+                        status, attempt + 1, maxRetries, request.uri());
+                backoff(attempt);
+                continue;
+            }
+            log.error("AI 서버 응답 오류 - status={}, url={}", status, request.uri());
+            throw new BusinessException(ErrorCode.AI_SERVICE_ERROR);
+        }
+    }
+
+    // 지수 백오프 + 지터
+    private void backoff(int attempt) {
+        long base = retryBackoffMillis << attempt;
+        long jitter = retryBackoffMillis > 0 ? ThreadLocalRandom.current().nextLong(retryBackoffMillis) : 0;
+        try {
+            Thread.sleep(base + jitter);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.AI_SERVICE_ERROR);
+        }
+    }
+
+    private void closeQuietly(InputStream body) {
+        try {
+            body.close();
+        } catch (IOException ignored) {
+            // 오류 응답 본문 정리 실패는 무시
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        httpClient.shutdownNow();
+        watchdog.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    private static class GuardedTimeoutException extends IOException {
+
+        private static final long serialVersionUID = 1L;
+
+        GuardedTimeoutException(String message) {
+            super(message);
+        }
+    }
+
+    // 본문 읽기 제한 시간 감시
+    // 마지막 수신 이후 readTimeout, 또는 시작 이후 deadline이 지나면 스트림을 닫아 블로킹된 read를 깨움
+    // 닫기로 깨어나지 않는 read는 인터럽트: readerLock으로 read 진행 중인 스레드에만 걸고, read가 끝나기 전에 해제
+    private class GuardedInputStream extends FilterInputStream {
+
+        private final long startNanos = System.nanoTime();
+        private final ScheduledFuture<?> check;
+        private volatile long lastReadNanos = startNanos;
+        private volatile String timeoutReason;
+        private final ReentrantLock readerLock = new ReentrantLock();
+        private Thread reader;               // read에서 블로킹 중인 스레드 (readerLock)
+        private boolean readerInterrupted;  // 감시 스레드가 reader를 인터럽트했는지 (readerLock)
+
+        GuardedInputStream(InputStream in) {
+            super(in);
+            long interval = Math.max(TimeUnit.MILLISECONDS.toNanos(10), Math.min(readTimeoutNanos, deadlineNanos) / 4);
+            this.check = watchdog.scheduleAtFixedRate(this::checkTimeout, interval, interval, TimeUnit.NANOSECONDS);
+        }
+
+        private void checkTimeout() {
+            long now = System.nanoTime();
+            if (now - startNanos > deadlineNanos) {
+                expire("전체 제한 시간 초과");
+            } else if (now - lastReadNanos > readTimeoutNanos) {
+                expire("본문 읽기 제한 시간 초과");
+            }
+        }
+
+        private void expire(String reason) {
+            timeoutReason = reason;
+            check.cancel(false);
+            try {
+                in.close();
+            } catch (IOException ignored) {
+                // 닫기 실패 시에도 아래 인터럽트로 read를 깨움
+            }
+            readerLock.lock();
+            try {
+                if (reader != null) {
+                    reader.interrupt();
+                    readerInterrupted = true;
+                }
+            } finally {
+                readerLock.unlock();
+            }
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            int n = read(one, 0, 1);
+            return n == -1 ? -1 : one[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            setReader(Thread.currentThread());
+            try {
+                int n = in.read(b, off, len);
+                lastReadNanos = System.nanoTime();
+                if (n == -1 && timeoutReason != null) {
+                    throw new GuardedTimeoutException(timeoutReason);
+                }
+                return n;
+            } catch (IOException e) {
+                throw translate(e);
+            } finally {
+                if (setReader(null)) {
+                    Thread.interrupted(); // 감시 스레드가 건 인터럽트 해제 (호출 스레드에 남기지 않음)
+                }
+            }
+        }
+
+        // reader 교체, 이전 read 중 감시 스레드가 인터럽트했으면 true
+        private boolean setReader(Thread thread) {
+            readerLock.lock();
+            try {
+                boolean interrupted = readerInterrupted;
+                reader = thread;
+                readerInterrupted = false;
+                return interrupted;
+            } finally {
+                readerLock.unlock();
+            }
+        }
+
+        private IOException translate(IOException e) {
+            if (e instanceof GuardedTimeoutException || timeoutReason == null) {
+                return e;
+            }
+            return new GuardedTimeoutException(timeoutReason);
+        }
+
+        @Override
+        public void close() throws IOException {
+            check.cancel(false);
+            super.close();
+        }
+    }
+}
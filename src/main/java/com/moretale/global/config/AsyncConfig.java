@@ -3,22 +3,39 @@ package com.moretale.global.config;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Configuration
 @EnableAsync // @Async 비동기 메서드 활성화
+@EnableScheduling // TTS 작업 큐 폴링 (TTSJobWorker)
 public class AsyncConfig {
 
-    @Bean(name = "ttsExecutor")
-    public Executor ttsExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(2);
-        executor.setMaxPoolSize(5);
-        executor.setQueueCapacity(100);
-        executor.setThreadNamePrefix("TTS-");
-        executor.initialize();
-        return executor;
+    // 슬라이드 TTS 병렬 합성용 (가상 스레드, 동시 실행 수는 ParallelTTSSynthesizer에서 제한)
+    @Bean(name = "ttsSynthesisExecutor", destroyMethod = "shutdown")
+    public ExecutorService ttsSynthesisExecutor() {
+        return Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("TTS-SYNTH-", 0).factory()
+        );
+    }
+
+    // 비동기 동화 생성 작업용 (가상 스레드, 동시 실행 수는 StoryGenerationJobService에서 제한)
+    @Bean(name = "storyGenerationExecutor", destroyMethod = "shutdown")
+    public ExecutorService storyGenerationExecutor() {
+        return Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("STORY-GEN-", 0).factory()
+        );
+    }
+
+    // 업로드 파일 비동기 저장용 (플랫폼 스레드 고정 풀, 크기 = 동시 업로드 수 상한)
+    // GCS 클라이언트의 HttpURLConnection은 synchronized 안에서 소켓 I/O를 기다려 가상 스레드가 캐리어에 고정되므로 가상 스레드 대신 사용
+    @Bean(name = "storageUploadExecutor", destroyMethod = "shutdown")
+    public ExecutorService storageUploadExecutor(MoreTaleProperties moreTaleProperties) {
+        return Executors.newFixedThreadPool(
+                moreTaleProperties.getStorage().getMaxConcurrentUploads(),
+                Thread.ofPlatform().name("STORAGE-UPLOAD-", 0).daemon(true).factory()
+        );
     }
 }
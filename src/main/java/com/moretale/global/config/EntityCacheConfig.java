@@ -0,0 +1,55 @@
+package com.moretale.global.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Hibernate 2차 캐시 (JCache + Caffeine)
+// 리전별 최대 항목 수/TTL은 moretale.entity-cache.regions 에서 설정
+// 설정에 없는 리전은 만들지 않음 (hibernate.javax.cache.missing_cache_strategy: fail)
+@Configuration
+public class EntityCacheConfig {
+
+    // 쿼리 캐시 무효화 기준 (테이블별 마지막 변경 시각), 만료/제거되면 안 되므로 항상 무제한으로 생성
+    public static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager entityCacheManager(MoreTaleProperties moreTaleProperties) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        // 컨텍스트마다 별도의 CacheManager 사용 (같은 JVM의 다른 컨텍스트와 캐시를 공유하지 않음)
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("moretale:entity-cache:" + UUID.randomUUID()), getClass().getClassLoader());
+
+        for (Map.Entry<String, MoreTaleProperties.EntityCache.Region> entry
+                : moreTaleProperties.getEntityCache().getRegions().entrySet()) {
+            MoreTaleProperties.EntityCache.Region region = entry.getValue();
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(region.getMaxEntries()));
+            configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(region.getTtlSeconds())));
+            configuration.setNativeStatisticsEnabled(true); // 적중률 통계 (EntityCacheStatsService)
+            cacheManager.createCache(entry.getKey(), configuration);
+        }
+
+        CaffeineConfiguration<Object, Object> timestamps = new CaffeineConfiguration<>();
+        timestamps.setNativeStatisticsEnabled(true);
+        cacheManager.createCache(UPDATE_TIMESTAMPS_REGION, timestamps);
+        return cacheManager;
+    }
+
+    // Hibernate가 위에서 만든 CacheManager를 사용하도록 전달
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheManagerCustomizer(CacheManager entityCacheManager) {
+        return properties -> properties.put("hibernate.javax.cache.cache_manager", entityCacheManager);
+    }
+}
@@ -5,6 +5,11 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 // 프로젝트 전역 설정 프로퍼티 클래스
 @Configuration
 @ConfigurationProperties(prefix = "moretale")
@@ -15,6 +20,11 @@ public class MoreTaleProperties {
     private Ai ai = new Ai(); // AI 관련 설정 (동화/이미지 생성)
     private Tts tts = new Tts(); // TTS 관련 설정 (음성 변환 API)
     private Quiz quiz = new Quiz(); // 퀴즈 관련 설정 (자동 생성 API)
+    private Security security = new Security(); // 인증 관련 설정
+    private EntityCache entityCache = new EntityCache(); // Hibernate 2차 캐시 리전 설정
+    private Story story = new Story(); // 동화 관련 설정
+    private Upload upload = new Upload(); // 업로드 파일 제공 설정 (/uploads/**)
+    private Storage storage = new Storage(); // 업로드 파일 저장소 설정 (local / gcs / memory)
 
     // AI 생성 모델 관련 API 주소 설정
     @Getter
@@ -22,6 +32,34 @@ public class MoreTaleProperties {
     public static class Ai {
         private String storyGenerationUrl;
         private String imageGenerationUrl;
+        private boolean remoteEnabled = false; // false면 AI 서버 대신 로컬 더미 데이터 사용
+        private Http http = new Http(); // AI 서버 HTTP 클라이언트 설정
+        private GenerationJob generationJob = new GenerationJob(); // 비동기 동화 생성 작업 설정
+
+        // AI 서버 HTTP 클라이언트 설정 (제한 시간, 동시 요청 수, 재시도)
+        @Getter
+        @Setter
+        public static class Http {
+            private long connectTimeoutSeconds = 5;
+            private long responseTimeoutSeconds = 30; // 응답 헤더 수신까지
+            private long readTimeoutSeconds = 20;     // 응답 본문에서 데이터가 오지 않는 최대 시간
+            private long deadlineSeconds = 180;       // 요청 하나의 전체 제한 시간
+            private int maxInFlight = 32;             // 동시에 진행 중인 요청 수 상한
+            private long acquireTimeoutMillis = 2000; // 동시 요청 한도 대기 시간
+            private int maxRetries = 2;               // 서버가 요청을 처리하지 않은 실패에 한해 재시도
+            private long retryBackoffMillis = 200;
+        }
+
+        // 비동기 동화 생성 작업 설정 (동시 실행 수, 접수 상한, SSE 타임아웃, 완료 작업 보관 시간)
+        @Getter
+        @Setter
+        public static class GenerationJob {
+            private int maxConcurrentJobs = 16;
+            private int maxActiveJobs = 64;        // 노드당 실행 중 + 대기 중 작업 수 상한 (초과 시 S006)
+            private int maxActiveJobsPerUser = 3;  // 사용자당 실행 중 + 대기 중 작업 수 상한 (초과 시 S007)
+            private long sseTimeoutSeconds = 300;
+            private long retentionMinutes = 30;
+        }
     }
 
     // 텍스트 음성 변환(TTS) 서비스 설정
@@ -29,6 +67,83 @@ public class MoreTaleProperties {
     @Setter
     public static class Tts {
         private String url;
+        private Google google = new Google(); // Google Cloud TTS 클라이언트 설정
+        private Cache cache = new Cache(); // 합성 결과 캐시 설정
+        private Synthesis synthesis = new Synthesis(); // 동화 단위 병렬 합성 설정
+        private Job job = new Job(); // DB 기반 TTS 작업 큐 설정
+        private StorageMigration storageMigration = new StorageMigration(); // 오디오 저장 경로 분산 이전 설정
+        private AudioGc audioGc = new AudioGc(); // 참조되지 않는 오디오 파일 정리 설정
+
+        // Google Cloud TTS gRPC 클라이언트 설정 (채널 풀, keep-alive, 호출 제한 시간)
+        @Getter
+        @Setter
+        public static class Google {
+            private int channelCount = 4;
+            private long keepAliveSeconds = 30;
+            private long keepAliveTimeoutSeconds = 10;
+            private long deadlineSeconds = 10;
+            private long shutdownTimeoutSeconds = 5;
+        }
+
+        // TTS 합성 결과 캐시 설정 (메모리 LRU 크기, 적중 시 파일 사용 시각 갱신 간격)
+        @Getter
+        @Setter
+        public static class Cache {
+            private boolean enabled = true;
+            private int maxEntries = 10000;
+            private long touchIntervalMinutes = 60;
+        }
+
+        // 동화 단위 TTS 병렬 합성 설정 (동화당 / 전체 동시 합성 수 제한, 언어별 SSML 묶음 합성)
+        @Getter
+        @Setter
+        public static class Synthesis {
+            private boolean parallel = true;
+            private int perStoryConcurrency = 10;
+            private int globalConcurrency = 32;
+            private boolean batch = true;           // 같은 언어 슬라이드를 SSML 하나로 합성 후 <mark> 시각으로 분할
+            private int maxBatchInputBytes = 5000;  // SSML 한 건의 최대 크기 (Google TTS 입력 제한)
+            private int batchBreakMillis = 300;     // 슬라이드 사이 무음 (분할 지점이 발화 중간에 걸리지 않도록)
+        }
+
+        // DB 기반 TTS 작업 큐 설정 (폴링 주기, 재시도 백오프, lease)
+        @Getter
+        @Setter
+        public static class Job {
+            private boolean workerEnabled = true;
+            private long pollIntervalMs = 5000;
+            private int batchSize = 5;
+            private int maxAttempts = 5;
+            private long baseBackoffSeconds = 10;
+            private long maxBackoffSeconds = 600;
+            private long leaseSeconds = 600;
+        }
+
+        // 평면 오디오 저장 경로 -> 해시 분산 경로 이전 (주기마다 한 묶음씩 파일 이동 / 슬라이드 URL 변경)
+        @Getter
+        @Setter
+        public static class StorageMigration {
+            private boolean enabled = true;
+            private long intervalMs = 1000;
+            private int batchSize = 500;
+        }
+
+        // 고아 오디오 정리 (슬라이드가 참조하지 않는 오래된 TTS 오디오 파일 삭제)
+        // 주기마다 참조 URL 수집(Bloom filter) -> 저장소 순회를 단계마다 시간 예산 안에서 나눠 실행
+        @Getter
+        @Setter
+        public static class AudioGc {
+            private boolean enabled = true;
+            private boolean dryRun = false;          // true: 삭제하지 않고 대상만 집계 (보고서 확인용)
+            private long gracePeriodHours = 168;     // 이보다 최근에 저장된 파일은 참조가 없어도 유지
+            private long cycleIntervalHours = 24;    // 한 주기가 끝난 뒤 다음 주기까지 대기
+            private long intervalMs = 1000;          // 단계 실행 주기
+            private long maxStepMillis = 200;        // 단계 한 번의 최대 실행 시간 (스케줄러 스레드 점유 제한)
+            private int pageSize = 500;              // 슬라이드 / 저장소 목록 페이지 크기
+            private int maxDeletesPerSecond = 20;    // 삭제 속도 상한 (저장소 I/O 제한)
+            private double falsePositiveRate = 0.01; // Bloom filter 오탐률 (오탐 파일은 이번 주기에 삭제되지 않을 뿐)
+            private int reportSampleSize = 100;      // 보고서에 남길 삭제 대상 key 수
+        }
     }
 
     // 학습용 퀴즈 서비스 설정
@@ -37,4 +152,142 @@ public class MoreTaleProperties {
     public static class Quiz {
         private String autoGenerationUrl;
     }
+
+    // 인증 관련 설정
+    @Getter
+    @Setter
+    public static class Security {
+        private UserCache userCache = new UserCache(); // 이전 형식 JWT용 사용자 캐시
+        private TokenCache tokenCache = new TokenCache(); // 검증된 JWT 캐시
+        private Cors cors = new Cors(); // 교차 출처 요청 허용 설정
+
+        // 클레임이 없는 이전 형식 토큰을 위한 사용자 캐시 (짧은 TTL, 최대 항목 수 제한)
+        @Getter
+        @Setter
+        public static class UserCache {
+            private boolean enabled = true;
+            private long ttlSeconds = 60;
+            private int maxEntries = 10000;
+        }
+
+        // 서명 검증을 통과한 토큰 캐시 (토큰 만료 시각까지 보관, 최대 항목 수 제한)
+        @Getter
+        @Setter
+        public static class TokenCache {
+            private boolean enabled = true;
+            private int maxEntries = 10000;
+        }
+
+        // /api/** 교차 출처 허용 (비어 있으면 CORS 처리 안 함)
+        // 목록 API 커서(X-Next-Cursor), ETag 헤더를 브라우저 스크립트에서 읽을 수 있도록 노출
+        @Getter
+        @Setter
+        public static class Cors {
+            private List<String> allowedOrigins = new ArrayList<>();
+            private List<String> exposedHeaders = new ArrayList<>(List.of("X-Next-Cursor", "ETag"));
+            private long maxAgeSeconds = 3600; // preflight 결과 캐시 시간
+        }
+    }
+
+    // Hibernate 2차 캐시 리전 설정 (리전 이름 -> 크기/TTL)
+    @Getter
+    @Setter
+    public static class EntityCache {
+        private Map<String, Region> regions = new LinkedHashMap<>();
+
+        @Getter
+        @Setter
+        public static class Region {
+            private long maxEntries = 10000;
+            private long ttlSeconds = 600; // 저장 후 만료 시간 (다른 노드의 변경이 반영되는 최대 지연)
+        }
+    }
+
+    // 동화 관련 설정
+    @Getter
+    @Setter
+    public static class Story {
+        private FeedCache feedCache = new FeedCache(); // 공개 동화 피드 캐시 설정
+
+        // 공개 동화 목록 페이지 캐시 (노드별 메모리, 최대 페이지 수 / 만료 시간 제한)
+        @Getter
+        @Setter
+        public static class FeedCache {
+            private boolean enabled = true;
+            private int maxEntries = 256;
+            private long ttlSeconds = 30; // 다른 노드의 변경이 반영되는 최대 지연
+        }
+    }
+
+    // 업로드 파일 제공 설정 (/uploads/**)
+    @Getter
+    @Setter
+    public static class Upload {
+        private long immutableMaxAgeDays = 365;    // 내용 해시 파일명 TTS 오디오의 브라우저/CDN 캐시 기간
+        private long sendfileMinBytes = 48 * 1024; // 이 크기 이상의 파일 구간은 sendfile(zero-copy)로 전송
+        private FsyncPolicy fsyncPolicy = FsyncPolicy.DATA; // 파일 저장 시 디스크 동기화 범위
+        private HotCache hotCache = new HotCache();         // 자주 재생되는 TTS 오디오 메모리 캐시
+
+        // NONE: 동기화 X (OS 장애 시 이동된 파일이 비어 있을 수 있음)
+        // DATA: 이동 전 파일 내용 동기화 (장애 후에도 완성된 파일 또는 이전 상태만 남음)
+        // DATA_AND_DIRECTORY: 이동 후 디렉토리 항목까지 동기화 (저장 완료 응답 후 장애에도 파일 유지)
+        public enum FsyncPolicy {
+            NONE, DATA, DATA_AND_DIRECTORY
+        }
+
+        @Getter
+        @Setter
+        public static class HotCache {
+            private boolean enabled = true;
+            private long maxBytes = 256L * 1024 * 1024;     // 힙 밖(direct) 메모리 사용량 상한
+            private long maxObjectBytes = 4L * 1024 * 1024; // 이보다 큰 파일은 캐시하지 않음
+            private int minFrequency = 2;                   // 최근 요청 수가 이 이상인 파일만 적재 (한 번 재생된 파일 제외)
+            private long revalidateSeconds = 60;            // 적재 후 이 간격마다 저장소 원본 크기/수정 시각을 다시 확인
+        }
+    }
+
+    // 업로드 파일 저장소 설정
+    @Getter
+    @Setter
+    public static class Storage {
+        private Backend backend = Backend.LOCAL; // 저장소 종류
+        private int maxConcurrentUploads = 16;   // 비동기 업로드 동시 실행 수 상한 (나머지는 대기)
+        private Gcs gcs = new Gcs();             // Google Cloud Storage 설정 (backend: gcs)
+        private LocalCache localCache = new LocalCache(); // 원격 저장소(gcs) 앞단 로컬 디스크 캐시
+
+        // LOCAL: file.upload.base-path 로컬 디스크
+        // GCS: Google Cloud Storage 버킷 (여러 노드가 같은 저장소 공유)
+        // MEMORY: 메모리 (개발/테스트용, 재시작 시 사라짐)
+        public enum Backend {
+            LOCAL, GCS, MEMORY
+        }
+
+        @Getter
+        @Setter
+        public static class Gcs {
+            private String bucket;
+            private String projectId;
+            private String host;                                   // 비우면 기본 엔드포인트 (에뮬레이터/테스트 서버 지정 시 인증 생략)
+            private int chunkSizeBytes = 8 * 1024 * 1024;          // 재개 가능 업로드 청크 크기 (256KB 배수)
+            private int resumableThresholdBytes = 8 * 1024 * 1024; // 이보다 큰 버퍼는 재개 가능 업로드
+        }
+
+        @Getter
+        @Setter
+        public static class LocalCache {
+            private boolean enabled = true;
+            private String path = "storage-cache";
+            private long maxBytes = 10L * 1024 * 1024 * 1024;     // 로컬 사본 크기 합계 상한 (초과 시 제거)
+            private long maxObjectBytes = 64L * 1024 * 1024;      // 이보다 큰 객체는 캐시하지 않고 원격에서 바로 읽음
+            private EvictionPolicy evictionPolicy = EvictionPolicy.LRU;
+            private int evictionSampleSize = 16;                  // LFU: 가장 오래 안 쓴 후보 몇 개 중에서 접근 횟수 비교
+            private long snapshotIntervalMs = 60000;              // 접근 기록 스냅샷 저장 주기
+
+            // LRU: 가장 오래 안 쓴 사본부터 제거
+            // LFU: 가장 오래 안 쓴 후보 중 접근 횟수가 가장 적은 사본 제거 (한 번 재생된 파일이 자주 재생되는 파일을 밀어내지 않음)
+            public enum EvictionPolicy {
+                LRU, LFU
+            }
+        }
+    }
 }
@@ -0,0 +1,79 @@
+package com.moretale.global.config;
+
+import com.google.auth.Credentials;
+import com.google.auth.oauth2.GoogleCredentials;
+import com.google.cloud.NoCredentials;
+import com.moretale.global.storage.GcsStorageBackend;
+import com.moretale.global.storage.InMemoryStorageBackend;
+import com.moretale.global.storage.LocalStorageBackend;
+import com.moretale.global.storage.StorageBackend;
+import com.moretale.global.storage.TieredStorageBackend;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Paths;
+
+// 업로드 파일 저장소 선택 (moretale.storage.backend)
+@Slf4j
+@Configuration
+public class StorageConfig {
+
+    @Value("${file.upload.base-path:uploads}")
+    private String uploadPath;
+
+    @Value("${google.cloud.credentials.location:}")
+    private String credentialsLocation;
+
+    @Bean
+    public StorageBackend storageBackend(MoreTaleProperties moreTaleProperties, ResourceLoader resourceLoader) throws IOException {
+        MoreTaleProperties.Storage config = moreTaleProperties.getStorage();
+        StorageBackend storageBackend = switch (config.getBackend()) {
+            case LOCAL -> new LocalStorageBackend(Paths.get(uploadPath),
+                    moreTaleProperties.getUpload().getFsyncPolicy());
+            case GCS -> withLocalCache(new GcsStorageBackend(
+                    GcsStorageBackend.createClient(config.getGcs(), loadCredentials(config.getGcs(), resourceLoader)),
+                    config.getGcs()), moreTaleProperties);
+            case MEMORY -> new InMemoryStorageBackend();
+        };
+        log.info("업로드 파일 저장소: {}, 비동기 업로드 동시 실행 수: {}",
+                storageBackend.name(), config.getMaxConcurrentUploads());
+        return storageBackend;
+    }
+
+    // 원격 저장소 앞단 로컬 디스크 캐시 (시작 시 캐시 디렉토리를 스캔해 이전 사본과 접근 기록 복구)
+    private StorageBackend withLocalCache(StorageBackend remote, MoreTaleProperties moreTaleProperties) throws IOException {
+        MoreTaleProperties.Storage.LocalCache config = moreTaleProperties.getStorage().getLocalCache();
+        if (!config.isEnabled()) {
+            return remote;
+        }
+        TieredStorageBackend tieredStorageBackend = new TieredStorageBackend(remote,
+                new LocalStorageBackend(Paths.get(config.getPath()), moreTaleProperties.getUpload().getFsyncPolicy()),
+                config);
+        tieredStorageBackend.recover();
+        return tieredStorageBackend;
+    }
+
+    // 엔드포인트를 지정한 경우(에뮬레이터/테스트 서버) 인증 생략
+    // 그 외에는 google.cloud.credentials.location 파일, 없으면 기본 자격 증명(ADC) 사용
+    private Credentials loadCredentials(MoreTaleProperties.Storage.Gcs config, ResourceLoader resourceLoader) throws IOException {
+        if (StringUtils.hasText(config.getHost())) {
+            return NoCredentials.getInstance();
+        }
+        if (StringUtils.hasText(credentialsLocation)) {
+            Resource resource = resourceLoader.getResource(credentialsLocation);
+            if (resource.exists()) {
+                try (InputStream inputStream = resource.getInputStream()) {
+                    return GoogleCredentials.fromStream(inputStream);
+                }
+            }
+        }
+        return GoogleCredentials.getApplicationDefault();
+    }
+}
@@ -1,38 +1,95 @@
 package com.moretale.global.config;
 
+import com.moretale.global.resource.HotAudioCache;
+import com.moretale.global.resource.HotAudioResourceResolver;
+import com.moretale.global.resource.ShardedPathResourceResolver;
+import com.moretale.global.resource.StorageBackendResourceResolver;
+import com.moretale.global.resource.UploadResourceHandler;
+import com.moretale.global.resource.UploadResourceMetrics;
+import com.moretale.global.storage.LocalStorageBackend;
+import com.moretale.global.storage.StorageBackend;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
-import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.handler.SimpleUrlHandlerMapping;
+import org.springframework.web.servlet.resource.PathResourceResolver;
+import org.springframework.web.servlet.resource.ResourceResolver;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
+@Slf4j
 @Configuration
-public class WebConfig implements WebMvcConfigurer {
+public class WebConfig {
 
     @Value("${file.upload.base-path:uploads}")
     private String uploadPath;
 
-    @Override
-    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+    @Value("${tts.storage.path:tts/audio}")
+    private String ttsStoragePath;
+
+    // 업로드된 파일을 HTTP로 접근 가능하도록 설정
+    // 컨트롤러 매핑 이후, 기본 정적 리소스 매핑(LOWEST_PRECEDENCE - 1)보다 먼저 처리
+    @Bean
+    public SimpleUrlHandlerMapping uploadResourceHandlerMapping(MoreTaleProperties moreTaleProperties,
+                                                                UploadResourceMetrics uploadResourceMetrics,
+                                                                StorageBackend storageBackend,
+                                                                HotAudioCache hotAudioCache) throws Exception {
         // 절대 경로로 변환
         Path absolutePath = Paths.get(uploadPath).toAbsolutePath();
+        String ttsPath = ttsStoragePath.replaceAll("^/+|/+$", "");
+        MoreTaleProperties.Upload config = moreTaleProperties.getUpload();
+
+        // TTS 오디오: 파일명이 내용(바이트)의 SHA-256 해시라 내용이 바뀌면 URL도 바뀜 -> 재검증 없이 장기 캐시
+        // 이전 방식 tts_<합성 입력 해시>.mp3도 더 이상 같은 경로에 다시 저장하지 않으므로 같은 정책
+        UploadResourceHandler ttsAudioHandler = new UploadResourceHandler(
+                new FileSystemResource(absolutePath.resolve(ttsPath) + "/"),
+                CacheControl.maxAge(Duration.ofDays(config.getImmutableMaxAgeDays())).cachePublic().immutable(),
+                config.getSendfileMinBytes(), uploadResourceMetrics);
+
+        // 그 외 업로드 파일: 같은 경로에 다시 저장될 수 있으므로 매번 ETag/Last-Modified로 재검증 (변경 없으면 304)
+        UploadResourceHandler uploadHandler = new UploadResourceHandler(
+                new FileSystemResource(absolutePath + "/"),
+                CacheControl.noCache(),
+                config.getSendfileMinBytes(), uploadResourceMetrics);
+
+        // 평면 경로 <-> 해시 분산 경로 호환 (저장 경로 이전 중에도 이전/새 URL 모두 응답)
+        List<ResourceResolver> ttsAudioResolvers = new ArrayList<>();
+        // 자주 재생되는 오디오는 메모리에서 바로 응답 (디스크/저장소 조회 생략)
+        if (hotAudioCache.isEnabled()) {
+            ttsAudioResolvers.add(new HotAudioResourceResolver(hotAudioCache, ttsPath + "/"));
+        }
+        ttsAudioResolvers.add(new ShardedPathResourceResolver());
+        List<ResourceResolver> uploadResolvers = new ArrayList<>();
 
-        // Windows 경로를 URL 형식으로 변환 (역슬래시 -> 슬래시)
-        String normalizedPath = absolutePath.toString().replace("\\", "/");
+        // 로컬 디스크가 아닌 저장소: 로컬에 없는 파일은 저장소에서 조회
+        if (!(storageBackend instanceof LocalStorageBackend)) {
+            ttsAudioResolvers.add(new StorageBackendResourceResolver(storageBackend, ttsPath + "/"));
+            uploadResolvers.add(new StorageBackendResourceResolver(storageBackend, ""));
+        }
+        ttsAudioResolvers.add(new PathResourceResolver());
+        uploadResolvers.add(new PathResourceResolver());
+        ttsAudioHandler.setResourceResolvers(ttsAudioResolvers);
+        uploadHandler.setResourceResolvers(uploadResolvers);
 
-        // file:/// 프로토콜 추가
-        String fileLocation = "file:///" + normalizedPath + "/";
+        ttsAudioHandler.afterPropertiesSet();
+        uploadHandler.afterPropertiesSet();
 
-        // 업로드된 파일을 HTTP로 접근 가능하도록 설정
-        registry.addResourceHandler("/uploads/**")
-                .addResourceLocations(fileLocation);
+        Map<String, Object> urlMap = new LinkedHashMap<>();
+        urlMap.put("/uploads/" + ttsPath + "/**", ttsAudioHandler);
+        urlMap.put("/uploads/**", uploadHandler);
 
-        System.out.println("======================================");
-        System.out.println("Static Resource Mapping Configured:");
-        System.out.println("  URL Pattern: /uploads/**");
-        System.out.println("  File Location: " + fileLocation);
-        System.out.println("======================================");
+        log.info("업로드 파일 매핑 - URL: /uploads/**, 경로: {}, 저장소: {}, 장기 캐시(immutable): /uploads/{}/**, 메모리 캐시: {}",
+                absolutePath, storageBackend.name(), ttsPath, hotAudioCache.isEnabled());
+        return new SimpleUrlHandlerMapping(urlMap, Ordered.LOWEST_PRECEDENCE - 2);
     }
 }
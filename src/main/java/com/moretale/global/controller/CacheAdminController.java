@@ -0,0 +1,77 @@
+package com.moretale.global.controller;
+
+import com.moretale.domain.story.dto.StoryFeedCacheStatsResponse;
+import com.moretale.domain.story.service.PublicStoryFeedCache;
+import com.moretale.global.dto.EntityCacheStatsResponse;
+import com.moretale.global.dto.HotAudioCacheStatsResponse;
+import com.moretale.global.dto.StorageCacheStatsResponse;
+import com.moretale.global.dto.UploadResourceStatsResponse;
+import com.moretale.global.resource.HotAudioCache;
+import com.moretale.global.resource.UploadResourceMetrics;
+import com.moretale.global.response.ApiResponse;
+import com.moretale.global.service.EntityCacheStatsService;
+import com.moretale.global.storage.StorageBackend;
+import com.moretale.global.storage.TieredStorageBackend;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+// 캐시 운영 API (관리자 전용, /api/admin/**)
+@RestController
+@RequestMapping("/api/admin/cache")
+@RequiredArgsConstructor
+public class CacheAdminController {
+
+    private final EntityCacheStatsService entityCacheStatsService;
+    private final PublicStoryFeedCache publicStoryFeedCache;
+    private final UploadResourceMetrics uploadResourceMetrics;
+    private final StorageBackend storageBackend;
+    private final HotAudioCache hotAudioCache;
+
+    // Hibernate 2차 캐시 리전별 통계 조회 (적중률, 항목 수, 제거 수)
+    @GetMapping("/entity/stats")
+    public ResponseEntity<ApiResponse<List<EntityCacheStatsResponse>>> getEntityCacheStats() {
+        return ResponseEntity.ok(
+                ApiResponse.success(entityCacheStatsService.getStats())
+        );
+    }
+
+    // 공개 동화 피드 캐시 통계 조회 (적중률, DB 조회 수, 무효화 수)
+    @GetMapping("/feed/stats")
+    public ResponseEntity<ApiResponse<StoryFeedCacheStatsResponse>> getFeedCacheStats() {
+        return ResponseEntity.ok(
+                ApiResponse.success(publicStoryFeedCache.getStats())
+        );
+    }
+
+    // 업로드 파일(/uploads/**) 응답 통계 조회 (200/206/304 응답 수, 전송 바이트, sendfile 사용 수)
+    @GetMapping("/uploads/stats")
+    public ResponseEntity<ApiResponse<UploadResourceStatsResponse>> getUploadResourceStats() {
+        return ResponseEntity.ok(
+                ApiResponse.success(uploadResourceMetrics.getStats())
+        );
+    }
+
+    // TTS 오디오 메모리 캐시 통계 조회 (적중률, 메모리 사용량, 메모리에서 보낸 바이트)
+    @GetMapping("/hot-audio/stats")
+    public ResponseEntity<ApiResponse<HotAudioCacheStatsResponse>> getHotAudioCacheStats() {
+        return ResponseEntity.ok(
+                ApiResponse.success(hotAudioCache.getStats())
+        );
+    }
+
+    // 원격 저장소 앞단 로컬 디스크 캐시 통계 조회 (적중률, 채운/제거한 사본 수와 크기)
+    @GetMapping("/storage/stats")
+    public ResponseEntity<ApiResponse<StorageCacheStatsResponse>> getStorageCacheStats() {
+        StorageCacheStatsResponse stats = storageBackend instanceof TieredStorageBackend tieredStorageBackend
+                ? tieredStorageBackend.getStats()
+                : StorageCacheStatsResponse.builder().enabled(false).backend(storageBackend.name()).build();
+        return ResponseEntity.ok(
+                ApiResponse.success(stats)
+        );
+    }
+}
@@ -5,17 +5,21 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.Arrays;
 
 @RestController
 public class FileTestController {
 
+    private static final int MAX_LISTED_ENTRIES = 100;
+
     @Value("${file.upload.base-path:uploads}")
     private String basePath;
 
@@ -37,15 +41,22 @@ public class FileTestController {
         result.put("audioDirPath", audioDir.getAbsolutePath());
         result.put("audioDirExists", audioDir.exists());
 
+        // 해시 분산 디렉토리(ab/cd/) 아래 파일은 수백만 개일 수 있으므로 최상위 항목만 최대 100개 표시
         if (audioDir.exists()) {
-            File[] files = audioDir.listFiles();
-            if (files != null && files.length > 0) {
-                result.put("fileCount", files.length);
-                result.put("files", Arrays.stream(files)
-                        .map(File::getName)
-                        .collect(Collectors.toList()));
-            } else {
-                result.put("fileCount", 0);
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(audioDir.toPath())) {
+                List<String> entries = new ArrayList<>();
+                boolean truncated = false;
+                for (Path entry : stream) {
+                    if (entries.size() >= MAX_LISTED_ENTRIES) {
+                        truncated = true;
+                        break;
+                    }
+                    entries.add(Files.isDirectory(entry) ? entry.getFileName() + "/" : entry.getFileName().toString());
+                }
+                result.put("entries", entries);
+                result.put("truncated", truncated);
+            } catch (IOException e) {
+                result.put("error", e.getMessage());
             }
         }
 
@@ -0,0 +1,20 @@
+package com.moretale.global.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EntityCacheStatsResponse {
+
+    private String region;
+    private long size;        // 현재 항목 수 (추정치)
+    private Long maxEntries;  // 최대 항목 수 (무제한이면 null)
+    private Long ttlSeconds;  // 저장 후 만료 시간 (만료 없음이면 null)
+    private long hits;
+    private long misses;
+    private long evictions;
+    private double hitRatio;
+}
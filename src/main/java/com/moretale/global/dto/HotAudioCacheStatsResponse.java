@@ -0,0 +1,24 @@
+package com.moretale.global.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HotAudioCacheStatsResponse {
+
+    private boolean enabled;
+    private int entries;             // 메모리에 올린 오디오 파일 수
+    private long bytes;              // 사용 중인 힙 밖(direct) 메모리
+    private long maxBytes;
+    private long hits;               // 메모리에서 응답
+    private long misses;             // 디스크/저장소에서 응답
+    private long admissions;         // 메모리에 적재한 수
+    private long rejections;         // 요청 빈도가 낮아 적재하지 않은 수 (제거 대상보다 덜 요청됨 포함)
+    private long evictions;
+    private long staleEntries;       // 재확인 결과 원본이 없어졌거나 바뀌어 버린 항목 수
+    private long bytesSaved;         // 메모리에서 보낸 응답 본문 바이트 (디스크/저장소 읽기를 대신함)
+    private double hitRatio;
+}
@@ -0,0 +1,29 @@
+package com.moretale.global.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StorageCacheStatsResponse {
+
+    private boolean enabled;
+    private String backend;
+    private String evictionPolicy;   // LRU / LFU
+    private int entries;             // 로컬 사본 수
+    private long bytes;              // 로컬 사본 크기 합계
+    private long maxBytes;
+    private long hits;               // 로컬 사본으로 응답
+    private long misses;             // 원격 저장소 조회
+    private long fills;              // 원격에서 받아 로컬에 채운 수
+    private long fillBytes;
+    private long collapsedFills;     // 진행 중인 다운로드에 합류한 동시 미스
+    private long bypasses;           // 크기 상한 초과로 캐시 없이 원격에서 바로 읽은 수
+    private long evictions;
+    private long evictedBytes;
+    private long recoveredEntries;   // 시작 시 디렉토리 스캔으로 복구한 사본 수
+    private long lastSnapshotAt;     // 마지막 접근 기록 스냅샷 시각 (epoch millis, 0: 아직 없음)
+    private double hitRatio;
+}
@@ -0,0 +1,20 @@
+package com.moretale.global.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UploadResourceStatsResponse {
+
+    private long requests;
+    private long okResponses;          // 200 (전체 파일)
+    private long partialResponses;     // 206 (Range 요청)
+    private long notModifiedResponses; // 304 (ETag / Last-Modified 재검증 성공, 본문 없음)
+    private long bytesServed;          // 200/206 응답 본문 바이트 합계
+    private long sendfileResponses;    // 본문을 sendfile(zero-copy)로 보낸 응답 수
+    private long sendfileBytes;
+    private double notModifiedRatio;
+}
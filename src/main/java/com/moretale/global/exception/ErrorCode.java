@@ -30,6 +30,9 @@ public enum ErrorCode {
     STORY_ACCESS_DENIED(HttpStatus.FORBIDDEN, "S002", "동화에 접근할 권한이 없습니다."),
     STORY_GENERATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "S003", "동화 생성에 실패했습니다."),
     STORY_SAVE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "S004", "동화 저장에 실패했습니다."),
+    STORY_GENERATION_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "S005", "동화 생성 작업을 찾을 수 없습니다."),
+    STORY_GENERATION_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "S006", "동화 생성 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    STORY_GENERATION_LIMIT_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "S007", "진행 중인 동화 생성 작업이 많습니다. 기존 작업이 끝난 뒤 다시 시도해주세요."),
 
     // 슬라이드 (Slide)
     SLIDE_NOT_FOUND(HttpStatus.NOT_FOUND, "SL001", "슬라이드를 찾을 수 없습니다."),
@@ -43,6 +46,8 @@ public enum ErrorCode {
     // AI 서비스 (AI)
     AI_SERVICE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "A001", "AI 서비스 오류가 발생했습니다."),
     AI_RESPONSE_INVALID(HttpStatus.INTERNAL_SERVER_ERROR, "A002", "AI 응답이 올바르지 않습니다."),
+    AI_SERVICE_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "A003", "AI 서비스 응답 시간이 초과되었습니다."),
+    AI_SERVICE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "A004", "AI 서비스 요청이 많습니다. 잠시 후 다시 시도해주세요."),
 
     // 파일/저장 (File)
     FILE_UPLOAD_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "F001", "파일 업로드에 실패했습니다."),
@@ -0,0 +1,63 @@
+package com.moretale.global.resource;
+
+// 최근 요청 빈도 추정 (Count-Min Sketch, 키별 카운터 없이 고정 크기 메모리)
+// - 키마다 행 4개의 카운터를 올리고, 조회 시 그중 최솟값을 빈도로 사용 (해시 충돌로 과대 추정만 가능)
+// - 카운터는 MAX_COUNT에서 멈추고, 증가 횟수가 일정량에 도달하면 모두 절반으로 줄여 오래된 인기를 잊음
+// 동기화는 호출 측에서 담당
+final class FrequencySketch {
+
+    private static final int DEPTH = 4;
+    private static final int MAX_COUNT = 15;
+    private static final int[] SEEDS = {0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F};
+
+    private final int[][] table;
+    private final int mask;
+    private final int sampleSize;
+    private int additions;
+
+    // width: 행당 카운터 수 (2의 거듭제곱으로 올림), 대략 캐시에 들어갈 항목 수의 몇 배
+    FrequencySketch(int width) {
+        int size = Integer.highestOneBit(Math.max(16, width - 1)) << 1;
+        this.table = new int[DEPTH][size];
+        this.mask = size - 1;
+        this.sampleSize = size * 10;
+    }
+
+    void increment(String key) {
+        int hash = key.hashCode();
+        boolean added = false;
+        for (int row = 0; row < DEPTH; row++) {
+            int index = indexOf(hash, row);
+            if (table[row][index] < MAX_COUNT) {
+                table[row][index]++;
+                added = true;
+            }
+        }
+        if (added && ++additions >= sampleSize) {
+            halve();
+        }
+    }
+
+    int frequency(String key) {
+        int hash = key.hashCode();
+        int frequency = MAX_COUNT;
+        for (int row = 0; row < DEPTH; row++) {
+            frequency = Math.min(frequency, table[row][indexOf(hash, row)]);
+        }
+        return frequency;
+    }
+
+    private void halve() {
+        for (int[] row : table) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] >>>= 1;
+            }
+        }
+        additions /= 2;
+    }
+
+    private int indexOf(int hash, int row) {
+        int h = (hash ^ SEEDS[row]) * SEEDS[(row + 1) % DEPTH];
+        return (h ^ (h >>> 16)) & mask;
+    }
+}
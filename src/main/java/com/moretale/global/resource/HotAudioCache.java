@@ -0,0 +1,264 @@
+package com.moretale.global.resource;
+
+import com.moretale.global.config.MoreTaleProperties;
+import com.moretale.global.dto.HotAudioCacheStatsResponse;
+import com.moretale.global.storage.StorageBackend;
+import com.moretale.global.storage.StorageObject;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 자주 재생되는 TTS 오디오 메모리 캐시 (/uploads/{tts.storage.path}/**)
+// - 파일 내용을 힙 밖(direct ByteBuffer)에 두어 용량을 늘려도 GC 대상 힙이 커지지 않음
+// - 적재: 최근 요청 빈도(FrequencySketch)가 min-frequency 이상이고, 밀어낼 항목들보다 자주 요청된 파일만
+//   (한 번씩만 재생되는 파일이 이어져도 인기 파일이 밀려나지 않음)
+// - 제거: 가장 오래 안 쓴 항목부터 (max-bytes 이내 유지)
+// - 재확인: 적중 시 revalidate-seconds가 지났으면 저장소 stat으로 원본 확인, 없어졌거나 크기(내용 해시 파일명이 아니면 수정 시각도)가
+//   바뀌었으면 버리고 디스크/저장소에서 응답 (다른 노드의 고아 정리 삭제는 이 노드의 캐시를 지우지 않으므로 최대 지연은 이 간격)
+//   내용 해시 파일명(audio_<해시>.mp3)은 사용 시각 기록으로 수정 시각만 바뀌므로 크기와 존재만 비교
+// 제거된 버퍼는 진행 중인 응답이 끝난 뒤 GC가 해제 (직접 해제하지 않음)
+@Slf4j
+@Component
+public class HotAudioCache {
+
+    private static final long SKETCH_BYTES_PER_COUNTER = 16 * 1024;
+
+    private final boolean enabled;
+    private final long maxBytes;
+    private final long maxObjectBytes;
+    private final int minFrequency;
+    private final long revalidateMillis;
+    private final StorageBackend storageBackend;
+
+    // 접근 순서 LinkedHashMap (맨 앞이 가장 오래 안 쓴 항목), 빈도 추정과 함께 entries로 동기화
+    private final LinkedHashMap<String, HotAudioResource> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final FrequencySketch sketch;
+    private long totalBytes;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong admissions = new AtomicLong();
+    private final AtomicLong rejections = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong staleEntries = new AtomicLong();
+    private final AtomicLong bytesSaved = new AtomicLong();
+
+    public HotAudioCache(MoreTaleProperties moreTaleProperties, StorageBackend storageBackend) {
+        MoreTaleProperties.Upload.HotCache config = moreTaleProperties.getUpload().getHotCache();
+        this.enabled = config.isEnabled();
+        this.maxBytes = config.getMaxBytes();
+        this.maxObjectBytes = config.getMaxObjectBytes();
+        this.minFrequency = config.getMinFrequency();
+        this.revalidateMillis = Duration.ofSeconds(config.getRevalidateSeconds()).toMillis();
+        this.storageBackend = storageBackend;
+        // 오디오 클립 평균 크기보다 작은 단위로 카운터를 두어 캐시에 들어갈 수 있는 항목 수보다 넉넉하게
+        this.sketch = new FrequencySketch((int) Math.min(1 << 20, maxBytes / SKETCH_BYTES_PER_COUNTER));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 메모리 사본 조회 (없으면 null), 요청 빈도 기록
+    // 재확인 간격이 지났으면 저장소 원본과 비교 (동시 요청 중 한 요청만 확인하고 나머지는 기존 사본으로 응답)
+    public HotAudioResource get(String key) {
+        HotAudioResource resource;
+        boolean revalidate = false;
+        synchronized (entries) {
+            sketch.increment(key);
+            resource = entries.get(key);
+            long now = System.currentTimeMillis();
+            if (resource != null && now - resource.checkedAt >= revalidateMillis) {
+                resource.checkedAt = now;
+                revalidate = true;
+            }
+        }
+        if (revalidate && !matchesStorage(resource)) {
+            remove(resource);
+            staleEntries.incrementAndGet();
+            resource = null;
+        }
+        (resource != null ? hits : misses).incrementAndGet();
+        return resource;
+    }
+
+    // 디스크/저장소에서 찾은 파일을 적재할 만큼 자주 요청됐으면 메모리에 올리고 사본 반환, 아니면 원본 반환
+    public Resource admit(String key, Resource resource) {
+        long size;
+        long lastModified;
+        try {
+            size = resource.contentLength();
+            lastModified = resource.lastModified();
+        } catch (IOException e) {
+            return resource;
+        }
+        if (size <= 0 || size > maxObjectBytes) {
+            return resource;
+        }
+
+        synchronized (entries) {
+            HotAudioResource existing = entries.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            if (!admissible(key, size)) {
+                rejections.incrementAndGet();
+                return resource;
+            }
+        }
+
+        // 파일 읽기는 잠금 밖에서 (같은 파일 동시 적재 시 먼저 넣은 사본 사용)
+        ByteBuffer buffer;
+        try {
+            buffer = load(resource, size);
+        } catch (IOException e) {
+            log.warn("오디오 메모리 적재 실패: {}", key, e);
+            return resource;
+        }
+        if (buffer == null) {
+            return resource; // 읽는 중 파일 크기가 바뀜
+        }
+        HotAudioResource loaded = new HotAudioResource(key, buffer, lastModified, resource.getFilename(), this);
+
+        synchronized (entries) {
+            HotAudioResource existing = entries.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            if (!admissible(key, size)) {
+                rejections.incrementAndGet();
+                return resource;
+            }
+            Iterator<HotAudioResource> eldest = entries.values().iterator();
+            while (totalBytes + size > maxBytes) {
+                HotAudioResource victim = eldest.next();
+                eldest.remove();
+                totalBytes -= victim.contentLength();
+                evictions.incrementAndGet();
+            }
+            entries.put(key, loaded);
+            totalBytes += size;
+        }
+        admissions.incrementAndGet();
+        return loaded;
+    }
+
+    // 삭제된 파일의 메모리 사본 제거
+    public void invalidate(String key) {
+        synchronized (entries) {
+            HotAudioResource removed = entries.remove(key);
+            if (removed != null) {
+                totalBytes -= removed.contentLength();
+            }
+        }
+    }
+
+    // 재확인에 실패한 사본 제거 (그 사이 다시 적재된 새 사본은 유지)
+    private void remove(HotAudioResource resource) {
+        synchronized (entries) {
+            if (entries.remove(resource.getKey(), resource)) {
+                totalBytes -= resource.contentLength();
+            }
+        }
+    }
+
+    // 저장소 원본이 사본과 같은지 (조회 실패 시 다르다고 보고 원본에서 응답)
+    private boolean matchesStorage(HotAudioResource resource) {
+        StorageObject latest;
+        try {
+            latest = storageBackend.stat(resource.getKey()).orElse(null);
+        } catch (IOException e) {
+            log.warn("오디오 메모리 사본 재확인 실패: {}", resource.getKey(), e);
+            return false;
+        }
+        if (latest == null || latest.size() != resource.contentLength()) {
+            return false;
+        }
+        String filename = resource.getFilename();
+        return (filename != null && UploadResourceHandler.CONTENT_HASH_FILE.matcher(filename).matches())
+                || latest.lastModified() == resource.lastModified();
+    }
+
+    public HotAudioCacheStatsResponse getStats() {
+        int size;
+        long bytes;
+        synchronized (entries) {
+            size = entries.size();
+            bytes = totalBytes;
+        }
+        long total = hits.get() + misses.get();
+
+        return HotAudioCacheStatsResponse.builder()
+                .enabled(enabled)
+                .entries(size)
+                .bytes(bytes)
+                .maxBytes(maxBytes)
+                .hits(hits.get())
+                .misses(misses.get())
+                .admissions(admissions.get())
+                .rejections(rejections.get())
+                .evictions(evictions.get())
+                .staleEntries(staleEntries.get())
+                .bytesSaved(bytesSaved.get())
+                .hitRatio(total == 0 ? 0.0 : (double) hits.get() / total)
+                .build();
+    }
+
+    void recordServed(long bytes) {
+        bytesSaved.addAndGet(bytes);
+    }
+
+    // 요청 빈도가 기준 이상이고, 자리를 만들려고 밀어낼 항목이 모두 후보보다 덜 요청됐을 때만 적재 (entries 잠금 안에서 호출)
+    private boolean admissible(String key, long size) {
+        int frequency = sketch.frequency(key);
+        if (frequency < minFrequency) {
+            return false;
+        }
+        long needed = totalBytes + size - maxBytes;
+        Iterator<HotAudioResource> eldest = entries.values().iterator();
+        while (needed > 0 && eldest.hasNext()) {
+            HotAudioResource victim = eldest.next();
+            if (sketch.frequency(victim.getKey()) >= frequency) {
+                return false;
+            }
+            needed -= victim.contentLength();
+        }
+        return needed <= 0;
+    }
+
+    // 파일 내용을 direct 버퍼로 읽음 (로컬 파일은 채널로 바로, 그 외 저장소는 스트림으로), 크기가 다르면 null
+    private static ByteBuffer load(Resource resource, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect((int) size);
+        if (resource.isFile()) {
+            try (FileChannel channel = FileChannel.open(resource.getFile().toPath(), StandardOpenOption.READ)) {
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer) < 0) {
+                        return null;
+                    }
+                }
+                if (channel.size() != size) {
+                    return null;
+                }
+            }
+        } else {
+            try (InputStream inputStream = resource.getInputStream()) {
+                byte[] bytes = inputStream.readNBytes((int) size + 1);
+                if (bytes.length != size) {
+                    return null;
+                }
+                buffer.put(bytes);
+            }
+        }
+        return buffer.flip().asReadOnlyBuffer();
+    }
+}
@@ -0,0 +1,122 @@
+package com.moretale.global.resource;
+
+import org.springframework.core.io.AbstractResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+// HotAudioCache에 올린 오디오 파일 (힙 밖 읽기 전용 버퍼)
+// 전체(200)/구간(206) 응답 모두 디스크를 거치지 않고 버퍼에서 바로 씀
+public class HotAudioResource extends AbstractResource {
+
+    private static final int WRITE_CHUNK_BYTES = 16 * 1024;
+
+    private final String key;
+    private final ByteBuffer content;
+    private final long lastModified;
+    private final String filename;
+    private final HotAudioCache cache;
+    // 마지막으로 저장소 원본을 확인한 시각 (HotAudioCache 잠금 안에서만 변경)
+    long checkedAt;
+
+    HotAudioResource(String key, ByteBuffer content, long lastModified, String filename, HotAudioCache cache) {
+        this.key = key;
+        this.content = content;
+        this.lastModified = lastModified;
+        this.filename = filename;
+        this.cache = cache;
+        this.checkedAt = System.currentTimeMillis();
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    // 구간 [start, start + count)를 응답 본문에 씀
+    void writeTo(OutputStream outputStream, long start, long count) throws IOException {
+        ByteBuffer region = content.duplicate();
+        region.position((int) start).limit((int) (start + count));
+        byte[] chunk = new byte[(int) Math.min(count, WRITE_CHUNK_BYTES)];
+        while (region.hasRemaining()) {
+            int length = Math.min(chunk.length, region.remaining());
+            region.get(chunk, 0, length);
+            outputStream.write(chunk, 0, length);
+        }
+        cache.recordServed(count);
+    }
+
+    @Override
+    public boolean exists() {
+        return true;
+    }
+
+    // 여러 구간(multipart/byteranges) 응답용 스트림 (skip은 위치만 이동)
+    @Override
+    public InputStream getInputStream() {
+        ByteBuffer buffer = content.duplicate();
+        return new InputStream() {
+            @Override
+            public int read() {
+                return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+            }
+
+            @Override
+            public int read(byte[] bytes, int offset, int length) {
+                if (length == 0) {
+                    return 0;
+                }
+                if (!buffer.hasRemaining()) {
+                    return -1;
+                }
+                int read = Math.min(length, buffer.remaining());
+                buffer.get(bytes, offset, read);
+                cache.recordServed(read);
+                return read;
+            }
+
+            @Override
+            public long skip(long n) {
+                int skipped = (int) Math.max(0, Math.min(n, buffer.remaining()));
+                buffer.position(buffer.position() + skipped);
+                return skipped;
+            }
+
+            @Override
+            public int available() {
+                return buffer.remaining();
+            }
+        };
+    }
+
+    @Override
+    public long contentLength() {
+        return content.capacity();
+    }
+
+    @Override
+    public long lastModified() {
+        return lastModified;
+    }
+
+    @Override
+    public String getFilename() {
+        return filename;
+    }
+
+    @Override
+    public String getDescription() {
+        return "메모리 캐시 [" + key + "]";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || (other instanceof HotAudioResource that && key.equals(that.key));
+    }
+
+    @Override
+    public int hashCode() {
+        return key.hashCode();
+    }
+}
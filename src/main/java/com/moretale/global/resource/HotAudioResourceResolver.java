@@ -0,0 +1,41 @@
+package com.moretale.global.resource;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.io.Resource;
+import org.springframework.web.servlet.resource.AbstractResourceResolver;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+import java.util.List;
+
+// TTS 오디오 응답 앞단: 메모리에 있으면 이후 리졸버(디스크 stat, 저장소 조회) 없이 바로 응답
+// 없으면 디스크/저장소에서 찾고, 자주 요청된 파일이면 메모리에 올림
+public class HotAudioResourceResolver extends AbstractResourceResolver {
+
+    private final HotAudioCache hotAudioCache;
+    private final String keyPrefix;
+
+    // keyPrefix: 핸들러 위치에 해당하는 저장소 경로 (예: "tts/audio/")
+    public HotAudioResourceResolver(HotAudioCache hotAudioCache, String keyPrefix) {
+        this.hotAudioCache = hotAudioCache;
+        this.keyPrefix = keyPrefix;
+    }
+
+    @Override
+    protected Resource resolveResourceInternal(HttpServletRequest request, String requestPath,
+                                               List<? extends Resource> locations, ResourceResolverChain chain) {
+        String key = keyPrefix + requestPath;
+        HotAudioResource cached = hotAudioCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        Resource resource = chain.resolveResource(request, requestPath, locations);
+        return resource != null ? hotAudioCache.admit(key, resource) : null;
+    }
+
+    @Override
+    protected String resolveUrlPathInternal(String resourceUrlPath, List<? extends Resource> locations,
+                                            ResourceResolverChain chain) {
+        return chain.resolveUrlPath(resourceUrlPath, locations);
+    }
+}
@@ -0,0 +1,42 @@
+package com.moretale.global.resource;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.io.Resource;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.IOException;
+
+// Tomcat sendfile 요청 속성 등록
+// 커넥터가 sendfile을 지원하면(useSendfile, 기본값 true) 응답 커밋 시 속성을 읽어
+// 본문을 JVM 힙으로 읽지 않고 커널에서 소켓으로 바로 전송 (FileChannel.transferTo)
+final class Sendfile {
+
+    static final String SUPPORT_ATTRIBUTE = "org.apache.tomcat.sendfile.support";
+    static final String FILENAME_ATTRIBUTE = "org.apache.tomcat.sendfile.filename";
+    static final String START_ATTRIBUTE = "org.apache.tomcat.sendfile.start";
+    static final String END_ATTRIBUTE = "org.apache.tomcat.sendfile.end";
+
+    private Sendfile() {
+    }
+
+    // 파일 구간 [start, start + count)를 sendfile로 보내도록 등록, 사용할 수 없으면 false (호출 측이 직접 복사)
+    // 등록 후에는 응답 본문을 쓰면 안 됨 (헤더만 커밋)
+    static boolean offer(Resource resource, long start, long count, long minBytes) throws IOException {
+        if (count < minBytes || !resource.isFile()) {
+            return false;
+        }
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return false;
+        }
+        HttpServletRequest request = attributes.getRequest();
+        if (!Boolean.TRUE.equals(request.getAttribute(SUPPORT_ATTRIBUTE))) {
+            return false;
+        }
+
+        request.setAttribute(FILENAME_ATTRIBUTE, resource.getFile().getCanonicalPath());
+        request.setAttribute(START_ATTRIBUTE, start);
+        request.setAttribute(END_ATTRIBUTE, start + count); // 끝 위치는 제외
+        return true;
+    }
+}
@@ -0,0 +1,37 @@
+package com.moretale.global.resource;
+
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.ResourceHttpMessageConverter;
+
+import java.io.IOException;
+
+// 전체 파일 응답 (200): 메모리 캐시 오디오는 버퍼에서 바로, 기준 크기 이상이면 sendfile, 아니면 기본 스트림 복사
+public class SendfileResourceHttpMessageConverter extends ResourceHttpMessageConverter {
+
+    private final long sendfileMinBytes;
+    private final UploadResourceMetrics metrics;
+
+    public SendfileResourceHttpMessageConverter(long sendfileMinBytes, UploadResourceMetrics metrics) {
+        this.sendfileMinBytes = sendfileMinBytes;
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected void writeContent(Resource resource, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        long length = resource.contentLength();
+        if (resource instanceof HotAudioResource hotAudioResource) {
+            hotAudioResource.writeTo(outputMessage.getBody(), 0, length);
+            metrics.recordBody(length, false);
+            return;
+        }
+        if (Sendfile.offer(resource, 0, length, sendfileMinBytes)) {
+            metrics.recordBody(length, true);
+            return;
+        }
+        super.writeContent(resource, outputMessage);
+        metrics.recordBody(length, false);
+    }
+}
@@ -0,0 +1,67 @@
+package com.moretale.global.resource;
+
+import org.springframework.core.io.support.ResourceRegion;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.ResourceRegionHttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Collection;
+
+// Range 응답 (206): 단일 구간은 메모리 캐시 오디오면 버퍼에서 바로, 기준 크기 이상이면 sendfile
+// 여러 구간(multipart/byteranges)은 기본 스트림 복사
+public class SendfileResourceRegionHttpMessageConverter extends ResourceRegionHttpMessageConverter {
+
+    private final long sendfileMinBytes;
+    private final UploadResourceMetrics metrics;
+
+    public SendfileResourceRegionHttpMessageConverter(long sendfileMinBytes, UploadResourceMetrics metrics) {
+        this.sendfileMinBytes = sendfileMinBytes;
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        if (object instanceof Collection<?> regions && regions.size() > 1) {
+            long bytes = 0;
+            for (Object region : regions) {
+                bytes += ((ResourceRegion) region).getCount();
+            }
+            metrics.recordBody(bytes, false);
+        }
+        super.writeInternal(object, type, outputMessage);
+    }
+
+    @Override
+    protected void writeResourceRegion(ResourceRegion region, HttpOutputMessage outputMessage) throws IOException {
+        long start = region.getPosition();
+        long count = region.getCount();
+        if (region.getResource() instanceof HotAudioResource hotAudioResource) {
+            writeHeaders(region, outputMessage);
+            hotAudioResource.writeTo(outputMessage.getBody(), start, count);
+            metrics.recordBody(count, false);
+            return;
+        }
+        if (!Sendfile.offer(region.getResource(), start, count, sendfileMinBytes)) {
+            super.writeResourceRegion(region, outputMessage);
+            metrics.recordBody(count, false);
+            return;
+        }
+
+        // 기본 구현과 같은 헤더만 쓰고 본문은 sendfile에 맡김
+        writeHeaders(region, outputMessage);
+        metrics.recordBody(count, true);
+    }
+
+    private static void writeHeaders(ResourceRegion region, HttpOutputMessage outputMessage) throws IOException {
+        long start = region.getPosition();
+        long count = region.getCount();
+        HttpHeaders headers = outputMessage.getHeaders();
+        headers.add(HttpHeaders.CONTENT_RANGE,
+                "bytes " + start + '-' + (start + count - 1) + '/' + region.getResource().contentLength());
+        headers.setContentLength(count);
+    }
+}
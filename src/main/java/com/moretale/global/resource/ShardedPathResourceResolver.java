@@ -0,0 +1,45 @@
+package com.moretale.global.resource;
+
+import com.moretale.global.service.FileStorageService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.io.Resource;
+import org.springframework.web.servlet.resource.AbstractResourceResolver;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+import java.util.List;
+
+// 해시 분산 저장 경로 이전 중 호환
+// 요청 경로에 파일이 없으면 평면 경로(tts_<해시>.mp3) <-> 분산 경로(ab/cd/tts_<해시>.mp3)를 바꿔 다시 조회
+// -> 이동 전 파일의 새 URL, 이동 후 파일의 이전 URL 모두 응답
+public class ShardedPathResourceResolver extends AbstractResourceResolver {
+
+    @Override
+    protected Resource resolveResourceInternal(HttpServletRequest request, String requestPath,
+                                               List<? extends Resource> locations, ResourceResolverChain chain) {
+        Resource resource = chain.resolveResource(request, requestPath, locations);
+        if (resource != null) {
+            return resource;
+        }
+        String alternatePath = alternatePath(requestPath);
+        return alternatePath != null ? chain.resolveResource(request, alternatePath, locations) : null;
+    }
+
+    @Override
+    protected String resolveUrlPathInternal(String resourceUrlPath, List<? extends Resource> locations,
+                                            ResourceResolverChain chain) {
+        return chain.resolveUrlPath(resourceUrlPath, locations);
+    }
+
+    private static String alternatePath(String requestPath) {
+        int slash = requestPath.lastIndexOf('/');
+        String fileName = requestPath.substring(slash + 1);
+        if (fileName.isEmpty()) {
+            return null;
+        }
+        if (slash < 0) {
+            return FileStorageService.resolveShardedPath("", fileName);
+        }
+        // 분산 경로와 정확히 일치할 때만 평면 경로로 변환
+        return requestPath.equals(FileStorageService.resolveShardedPath("", fileName)) ? fileName : null;
+    }
+}
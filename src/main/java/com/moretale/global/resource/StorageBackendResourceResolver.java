@@ -0,0 +1,60 @@
+package com.moretale.global.resource;
+
+import com.moretale.global.storage.StorageBackend;
+import com.moretale.global.storage.StorageObject;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.web.servlet.resource.AbstractResourceResolver;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+// 로컬 디스크가 아닌 저장소(gcs / memory)의 파일을 /uploads로 제공
+// 로컬 디스크에 남아 있는 파일(저장소 전환 이전 파일)을 먼저 찾고, 없으면 저장소에서 조회
+@Slf4j
+public class StorageBackendResourceResolver extends AbstractResourceResolver {
+
+    private final StorageBackend storageBackend;
+    private final String keyPrefix;
+
+    // keyPrefix: 핸들러 위치에 해당하는 저장소 경로 (예: "tts/audio/", 루트면 "")
+    public StorageBackendResourceResolver(StorageBackend storageBackend, String keyPrefix) {
+        this.storageBackend = storageBackend;
+        this.keyPrefix = keyPrefix;
+    }
+
+    @Override
+    protected Resource resolveResourceInternal(HttpServletRequest request, String requestPath,
+                                               List<? extends Resource> locations, ResourceResolverChain chain) {
+        Resource resource = chain.resolveResource(request, requestPath, locations);
+        if (resource != null) {
+            return resource;
+        }
+
+        // 로컬 캐시 사본이 있으면 파일 리소스로 응답 (sendfile 전송 가능)
+        String key = keyPrefix + requestPath;
+        Optional<Path> localFile = storageBackend.localFile(key);
+        if (localFile.isPresent()) {
+            return new FileSystemResource(localFile.get());
+        }
+
+        try {
+            Optional<StorageObject> storageObject = storageBackend.stat(key);
+            return storageObject.map(found -> new StorageObjectResource(storageBackend, found)).orElse(null);
+        } catch (IOException e) {
+            log.warn("저장소 파일 조회 실패: {}", key, e);
+            return null;
+        }
+    }
+
+    @Override
+    protected String resolveUrlPathInternal(String resourceUrlPath, List<? extends Resource> locations,
+                                            ResourceResolverChain chain) {
+        return chain.resolveUrlPath(resourceUrlPath, locations);
+    }
+}
@@ -0,0 +1,64 @@
+package com.moretale.global.resource;
+
+import com.moretale.global.storage.StorageBackend;
+import com.moretale.global.storage.StorageObject;
+import org.springframework.core.io.AbstractResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+// 저장소 객체를 Spring Resource로 노출 (/uploads 응답용)
+// 크기/수정 시각은 조회 시점 값을 그대로 사용 (ETag, Last-Modified, Range 계산 시 저장소 재조회 X)
+public class StorageObjectResource extends AbstractResource {
+
+    private final StorageBackend storageBackend;
+    private final StorageObject storageObject;
+
+    public StorageObjectResource(StorageBackend storageBackend, StorageObject storageObject) {
+        this.storageBackend = storageBackend;
+        this.storageObject = storageObject;
+    }
+
+    @Override
+    public boolean exists() {
+        return true;
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return storageBackend.read(storageObject.key());
+    }
+
+    @Override
+    public long contentLength() {
+        return storageObject.size();
+    }
+
+    @Override
+    public long lastModified() {
+        return storageObject.lastModified();
+    }
+
+    @Override
+    public String getFilename() {
+        String key = storageObject.key();
+        return key.substring(key.lastIndexOf('/') + 1);
+    }
+
+    @Override
+    public String getDescription() {
+        return storageBackend.name() + " 저장소 [" + storageObject.key() + "]";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || (other instanceof StorageObjectResource that
+                && storageBackend == that.storageBackend
+                && storageObject.key().equals(that.storageObject.key()));
+    }
+
+    @Override
+    public int hashCode() {
+        return storageObject.key().hashCode();
+    }
+}
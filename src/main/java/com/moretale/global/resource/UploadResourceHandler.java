@@ -0,0 +1,106 @@
+package com.moretale.global.resource;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// /uploads/** 파일 응답
+// - Range -> 206 Partial Content (여러 구간은 multipart/byteranges), 범위 밖이면 416
+// - If-Range가 현재 파일과 다르면 Range를 무시하고 200 전체 응답 (기본 구현은 If-Range 미지원)
+// - ETag / Last-Modified 조건부 요청 -> 304 (304 응답에도 같은 Cache-Control 유지)
+// - 파일 본문은 기준 크기 이상이면 sendfile(zero-copy)로 전송
+// 상속 없이 생성자에서 설정을 마치도록 final (생성 중인 객체를 하위 클래스에 노출하지 않음)
+public final class UploadResourceHandler extends ResourceHttpRequestHandler {
+
+    // 내용(바이트)의 SHA-256 해시가 파일명인 TTS 오디오 (audio_<해시>.mp3)
+    static final Pattern CONTENT_HASH_FILE = Pattern.compile("audio_([0-9a-f]{64})\\.mp3");
+
+    private final UploadResourceMetrics metrics;
+
+    public UploadResourceHandler(Resource location, CacheControl cacheControl,
+                                 long sendfileMinBytes, UploadResourceMetrics metrics) {
+        this.metrics = metrics;
+        setLocations(List.of(location));
+        setCacheControl(cacheControl);
+        setUseLastModified(true);
+        setEtagGenerator(UploadResourceHandler::eTagOf);
+        setResourceHttpMessageConverter(new SendfileResourceHttpMessageConverter(sendfileMinBytes, metrics));
+        setResourceRegionHttpMessageConverter(new SendfileResourceRegionHttpMessageConverter(sendfileMinBytes, metrics));
+    }
+
+    @Override
+    public void handleRequest(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+        super.handleRequest(applyIfRange(request), response);
+
+        // 기본 구현은 304일 때 Cache-Control을 쓰지 않아 보안 필터의 no-store가 붙음 -> 캐시된 응답의 정책이 바뀌지 않도록 설정
+        if (response.getStatus() == HttpStatus.NOT_MODIFIED.value() && getCacheControl() != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, getCacheControl().getHeaderValue());
+        }
+        metrics.recordStatus(response.getStatus());
+    }
+
+    // 강한 ETag: 파일명이 내용 해시면 그 해시 (사용 시각 기록/노드와 관계없이 같음), 아니면 크기 + 수정 시각
+    // 이전 방식 tts_<해시>.mp3의 해시는 합성 입력의 해시일 뿐 내용 해시가 아니므로 ETag로 쓰지 않음
+    static String eTagOf(Resource resource) {
+        String filename = resource.getFilename();
+        Matcher matcher = CONTENT_HASH_FILE.matcher(filename != null ? filename : "");
+        if (matcher.matches()) {
+            return "\"" + matcher.group(1) + "\"";
+        }
+        try {
+            return "\"" + Long.toHexString(resource.contentLength()) + "-" + Long.toHexString(resource.lastModified()) + "\"";
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    // If-Range(ETag 또는 날짜)가 현재 파일과 일치하지 않으면 Range 헤더를 숨긴 요청으로 교체
+    private HttpServletRequest applyIfRange(HttpServletRequest request) throws IOException {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null || request.getHeader(HttpHeaders.RANGE) == null) {
+            return request;
+        }
+        Resource resource = getResource(request);
+        if (resource == null || ifRangeMatches(request, ifRange, resource)) {
+            return request;
+        }
+
+        return new HttpServletRequestWrapper(request) {
+            @Override
+            public String getHeader(String name) {
+                return HttpHeaders.RANGE.equalsIgnoreCase(name) ? null : super.getHeader(name);
+            }
+
+            @Override
+            public Enumeration<String> getHeaders(String name) {
+                return HttpHeaders.RANGE.equalsIgnoreCase(name) ? Collections.emptyEnumeration() : super.getHeaders(name);
+            }
+        };
+    }
+
+    // ETag는 강한 비교(W/ 불일치), 날짜는 Last-Modified(초 단위)와 정확히 같아야 일치
+    private static boolean ifRangeMatches(HttpServletRequest request, String ifRange, Resource resource) throws IOException {
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(eTagOf(resource));
+        }
+        try {
+            return request.getDateHeader(HttpHeaders.IF_RANGE) / 1000 == resource.lastModified() / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
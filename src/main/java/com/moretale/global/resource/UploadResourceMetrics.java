@@ -0,0 +1,54 @@
+package com.moretale.global.resource;
+
+import com.moretale.global.dto.UploadResourceStatsResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// /uploads/** 응답 통계 (상태 코드별 응답 수, 전송 바이트, sendfile 사용 수)
+@Component
+public class UploadResourceMetrics {
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong okResponses = new AtomicLong();
+    private final AtomicLong partialResponses = new AtomicLong();
+    private final AtomicLong notModifiedResponses = new AtomicLong();
+    private final AtomicLong bytesServed = new AtomicLong();
+    private final AtomicLong sendfileResponses = new AtomicLong();
+    private final AtomicLong sendfileBytes = new AtomicLong();
+
+    void recordStatus(int status) {
+        requests.incrementAndGet();
+        if (status == HttpStatus.OK.value()) {
+            okResponses.incrementAndGet();
+        } else if (status == HttpStatus.PARTIAL_CONTENT.value()) {
+            partialResponses.incrementAndGet();
+        } else if (status == HttpStatus.NOT_MODIFIED.value()) {
+            notModifiedResponses.incrementAndGet();
+        }
+    }
+
+    void recordBody(long bytes, boolean sendfile) {
+        bytesServed.addAndGet(bytes);
+        if (sendfile) {
+            sendfileResponses.incrementAndGet();
+            sendfileBytes.addAndGet(bytes);
+        }
+    }
+
+    public UploadResourceStatsResponse getStats() {
+        long total = requests.get();
+
+        return UploadResourceStatsResponse.builder()
+                .requests(total)
+                .okResponses(okResponses.get())
+                .partialResponses(partialResponses.get())
+                .notModifiedResponses(notModifiedResponses.get())
+                .bytesServed(bytesServed.get())
+                .sendfileResponses(sendfileResponses.get())
+                .sendfileBytes(sendfileBytes.get())
+                .notModifiedRatio(total == 0 ? 0.0 : (double) notModifiedResponses.get() / total)
+                .build();
+    }
+}
@@ -1,8 +1,10 @@
 package com.moretale.global.security;
 
+import com.moretale.global.config.MoreTaleProperties;
 import com.moretale.global.security.jwt.JwtAuthenticationFilter;
 import com.moretale.global.security.oauth.CustomOAuth2UserService;
 import com.moretale.global.security.oauth.OAuth2AuthenticationSuccessHandler;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -13,6 +15,11 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.CorsConfigurationSource;
+import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+
+import java.util.List;
 
 @Configuration
 @EnableWebSecurity
@@ -22,16 +29,20 @@ public class SecurityConfig {
     private final CustomOAuth2UserService customOAuth2UserService;
     private final OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final MoreTaleProperties moreTaleProperties;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
                 .csrf(AbstractHttpConfigurer::disable)
-                .cors(AbstractHttpConfigurer::disable)
+                .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .sessionManagement(session ->
                         session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
                 .authorizeHttpRequests(auth -> auth
+                        // SSE 등 비동기 응답의 재디스패치 (최초 요청에서 이미 인가됨)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // 로그인 없이 접근 가능
                         .requestMatchers(
                                 "/", "/login",
@@ -94,4 +105,22 @@ public class SecurityConfig {
 
         return http.build();
     }
+
+    // /api/** 교차 출처 허용 (허용 출처가 설정된 경우에만 등록, 비어 있으면 기존처럼 CORS 처리 없음)
+    private CorsConfigurationSource corsConfigurationSource() {
+        MoreTaleProperties.Security.Cors props = moreTaleProperties.getSecurity().getCors();
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        if (props.getAllowedOrigins().isEmpty()) {
+            return source;
+        }
+
+        CorsConfiguration config = new CorsConfiguration();
+        config.setAllowedOrigins(props.getAllowedOrigins());
+        config.setAllowedMethods(List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
+        config.addAllowedHeader(CorsConfiguration.ALL);
+        config.setExposedHeaders(props.getExposedHeaders()); // 목록 커서(X-Next-Cursor), ETag
+        config.setMaxAge(props.getMaxAgeSeconds());
+        source.registerCorsConfiguration("/api/**", config);
+        return source;
+    }
 }
@@ -41,6 +41,16 @@ public class UserPrincipal implements OAuth2User, UserDetails {
         );
     }
 
+    // JWT 클레임으로부터 UserPrincipal 생성 (DB 조회 없음, 닉네임은 포함하지 않음)
+    public static UserPrincipal create(Long userId, String email, String role) {
+        return new UserPrincipal(
+                userId,
+                email,
+                null,
+                Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role))
+        );
+    }
+
     // User 엔티티와 OAuth2 속성으로부터 UserPrincipal 생성
     public static UserPrincipal create(User user, Map<String, Object> attributes) {
         UserPrincipal userPrincipal = UserPrincipal.create(user);
@@ -1,7 +1,5 @@
 package com.moretale.global.security.jwt;
 
-import com.moretale.domain.user.entity.User;
-import com.moretale.domain.user.repository.UserRepository;
 import com.moretale.global.security.UserPrincipal;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -24,7 +22,7 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserRepository userRepository;
+    private final JwtUserCache jwtUserCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -36,18 +34,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // 요청 헤더에서 JWT 추출
             String jwt = getJwtFromRequest(request);
 
-            // 토큰이 존재하고 유효한 경우
-            if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
+            // 토큰이 존재하면 서명 검증과 클레임 추출을 한 번에 수행
+            JwtVerification verification = StringUtils.hasText(jwt) ? jwtTokenProvider.verify(jwt) : null;
+            if (verification != null && verification.isValid()) {
 
-                // 토큰에서 userId 추출
-                Long userId = jwtTokenProvider.getUserIdFromToken(jwt);
+                // 토큰 클레임으로 UserPrincipal 생성 (DB 조회 없음)
+                UserPrincipal userPrincipal = jwtTokenProvider.getPrincipal(verification.getClaims());
 
-                // DB에서 사용자 조회
-                User user = userRepository.findById(userId)
-                        .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-
-                // UserPrincipal 생성
-                UserPrincipal userPrincipal = UserPrincipal.create(user);
+                // 클레임이 없는 이전 형식 토큰은 userId로 조회 (짧은 TTL 캐시 사용)
+                if (userPrincipal == null) {
+                    Long userId = Long.parseLong(verification.getClaims().getSubject());
+                    userPrincipal = jwtUserCache.find(userId)
+                            .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+                }
 
                 // Spring Security 인증 객체 생성
                 UsernamePasswordAuthenticationToken authentication =
@@ -62,7 +61,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 // SecurityContext에 인증 정보 설정
                 SecurityContextHolder.getContext().setAuthentication(authentication);
 
-                log.debug("JWT 인증 성공 - userId: {}, email: {}", userId, user.getEmail());
+                log.debug("JWT 인증 성공 - userId: {}, email: {}", userPrincipal.getUserId(), userPrincipal.getEmail());
             }
         } catch (Exception ex) {
             log.error("Security Context에 사용자 인증을 설정할 수 없습니다.", ex);
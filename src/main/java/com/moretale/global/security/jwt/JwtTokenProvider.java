@@ -1,7 +1,14 @@
 package com.moretale.global.security.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.moretale.domain.user.entity.User;
+import com.moretale.global.config.MoreTaleProperties;
+import com.moretale.global.security.UserPrincipal;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
@@ -10,19 +17,36 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
+    static final String CLAIM_EMAIL = "email";
+    static final String CLAIM_ROLE = "role";
+
     private final SecretKey secretKey;
     private final long jwtExpirationMs;
+    private final JwtParser jwtParser; // 파서는 한 번만 생성해 재사용 (thread-safe)
+    private final Cache<String, Claims> verifiedTokens; // 토큰 문자열 -> 검증된 클레임 (비활성화 시 null)
 
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
-            @Value("${jwt.expiration}") long jwtExpirationMs) {
+            @Value("${jwt.expiration}") long jwtExpirationMs,
+            MoreTaleProperties moreTaleProperties) {
+        MoreTaleProperties.Security.TokenCache config = moreTaleProperties.getSecurity().getTokenCache();
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.jwtExpirationMs = jwtExpirationMs;
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.verifiedTokens = config.isEnabled()
+                ? Caffeine.newBuilder()
+                        .maximumSize(config.getMaxEntries())
+                        .expireAfter(new TokenExpiry())
+                        .build()
+                : null;
     }
 
     // JWT 토큰 생성
@@ -57,47 +81,115 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    // 토큰에서 이메일 추출
-    public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    // 사용자 정보로 JWT 토큰 생성 (subject = userId, 이메일/권한을 클레임으로 포함)
+    // 요청마다 DB 조회 없이 토큰만으로 인증 주체를 만들 수 있음
+    public String generateTokenFromUser(User user) {
+        Date now = new Date();
+        Date expiryDate = new Date(now.getTime() + jwtExpirationMs);
 
-        return claims.getSubject();
+        return Jwts.builder()
+                .subject(String.valueOf(user.getUserId()))
+                .claim(CLAIM_EMAIL, user.getEmail())
+                .claim(CLAIM_ROLE, user.getRole().name())
+                .issuedAt(now)
+                .expiration(expiryDate)
+                .signWith(secretKey, Jwts.SIG.HS512)
+                .compact();
     }
 
-    // 토큰에서 userId 추출
-    public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    // 토큰 검증과 클레임 추출을 한 번에 수행 (서명 검증은 토큰당 한 번)
+    // 같은 토큰이 다시 오면 만료 시각 전까지 캐시된 클레임을 반환 (HS512 재검증 생략)
+    public JwtVerification verify(String token) {
+        if (token == null || token.isBlank()) {
+            return JwtVerification.failure(JwtVerification.Failure.EMPTY);
+        }
 
-        return Long.parseLong(claims.getSubject());
-    }
+        // 캐시 키는 토큰 문자열 전체 (본문이나 서명이 한 글자라도 다르면 다른 키)
+        // 만료 시각이 지난 항목은 조회되지 않으므로 아래 파싱에서 EXPIRED 로 처리됨
+        if (verifiedTokens != null) {
+            Claims cached = verifiedTokens.getIfPresent(token);
+            if (cached != null) {
+                return JwtVerification.success(cached);
+            }
+        }
 
-    // JWT 토큰 유효성 검증
-    public boolean validateToken(String authToken) {
+        Claims claims;
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(authToken);
-            return true;
-        } catch (SecurityException e) {
+            claims = jwtParser.parseSignedClaims(token).getPayload();
+        } catch (SignatureException e) {
             log.error("Invalid JWT signature: {}", e.getMessage());
+            return JwtVerification.failure(JwtVerification.Failure.INVALID_SIGNATURE);
         } catch (MalformedJwtException e) {
             log.error("Invalid JWT token: {}", e.getMessage());
+            return JwtVerification.failure(JwtVerification.Failure.MALFORMED);
         } catch (ExpiredJwtException e) {
             log.error("JWT token is expired: {}", e.getMessage());
+            return JwtVerification.failure(JwtVerification.Failure.EXPIRED);
         } catch (UnsupportedJwtException e) {
             log.error("JWT token is unsupported: {}", e.getMessage());
+            return JwtVerification.failure(JwtVerification.Failure.UNSUPPORTED);
         } catch (IllegalArgumentException e) {
             log.error("JWT claims string is empty: {}", e.getMessage());
+            return JwtVerification.failure(JwtVerification.Failure.EMPTY);
+        } catch (JwtException e) {
+            log.error("Invalid JWT token: {}", e.getMessage());
+            return JwtVerification.failure(JwtVerification.Failure.MALFORMED);
+        }
+
+        // 만료 시각이 있는 토큰만 캐시 (만료 없는 토큰을 무기한 보관하지 않음)
+        if (verifiedTokens != null && claims.getExpiration() != null) {
+            verifiedTokens.put(token, claims);
+        }
+        return JwtVerification.success(claims);
+    }
+
+    // 검증된 클레임으로 인증 주체 생성
+    // 이메일/권한 클레임이 없는 이전 형식 토큰이면 null 반환
+    public UserPrincipal getPrincipal(Claims claims) {
+        String email = claims.get(CLAIM_EMAIL, String.class);
+        String role = claims.get(CLAIM_ROLE, String.class);
+        if (email == null || role == null) {
+            return null;
+        }
+        return UserPrincipal.create(Long.parseLong(claims.getSubject()), email, role);
+    }
+
+    // 토큰에서 이메일 추출
+    public String getEmailFromToken(String token) {
+        return parseClaims(token).getSubject();
+    }
+
+    // 토큰에서 userId 추출
+    public Long getUserIdFromToken(String token) {
+        return Long.parseLong(parseClaims(token).getSubject());
+    }
+
+    // JWT 토큰 유효성 검증
+    public boolean validateToken(String authToken) {
+        return verify(authToken).isValid();
+    }
+
+    private Claims parseClaims(String token) {
+        return jwtParser.parseSignedClaims(token).getPayload();
+    }
+
+    // 캐시 항목 수명 = 토큰 만료 시각까지 남은 시간 (조회로 연장되지 않음)
+    private static class TokenExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String token, Claims claims, long currentTime) {
+            long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(token, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
         }
-        return false;
     }
 }
@@ -0,0 +1,88 @@
+package com.moretale.global.security.jwt;
+
+import com.moretale.domain.user.repository.UserRepository;
+import com.moretale.global.config.MoreTaleProperties;
+import com.moretale.global.security.UserPrincipal;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// 이전 형식 JWT(subject = userId, 이메일/권한 클레임 없음)용 사용자 캐시
+// 요청마다 users 테이블을 조회하지 않도록 조회 결과를 짧은 시간 동안 보관
+// 항목 수는 maxEntries로 제한 (초과 시 가장 오래 안 쓴 항목 제거)
+@Component
+public class JwtUserCache {
+
+    private record Entry(UserPrincipal principal, long expiresAtNanos) {
+    }
+
+    private final UserRepository userRepository;
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final Map<Long, Entry> cache;
+
+    public JwtUserCache(UserRepository userRepository, MoreTaleProperties moreTaleProperties) {
+        MoreTaleProperties.Security.UserCache config = moreTaleProperties.getSecurity().getUserCache();
+        this.userRepository = userRepository;
+        this.enabled = config.isEnabled();
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(config.getTtlSeconds());
+        this.maxEntries = config.getMaxEntries();
+
+        // accessOrder = true: 조회 시 최근 사용으로 갱신 (LRU)
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > JwtUserCache.this.maxEntries;
+            }
+        };
+    }
+
+    // userId로 인증 주체 조회 (캐시 -> DB 순서), 없는 사용자면 empty
+    public Optional<UserPrincipal> find(Long userId) {
+        if (!enabled) {
+            return userRepository.findById(userId).map(UserPrincipal::create);
+        }
+
+        long now = System.nanoTime();
+        synchronized (cache) {
+            Entry entry = cache.get(userId);
+            if (entry != null && now - entry.expiresAtNanos() < 0) {
+                return Optional.of(entry.principal());
+            }
+        }
+
+        Optional<UserPrincipal> principal = userRepository.findById(userId).map(UserPrincipal::create);
+        principal.ifPresent(found -> {
+            synchronized (cache) {
+                cache.put(userId, new Entry(found, now + ttlNanos));
+            }
+        });
+        return principal;
+    }
+
+    // 사용자 정보 변경/탈퇴 시 호출
+    // 트랜잭션 안이면 커밋 후에도 한 번 더 제거 (커밋 전 다른 요청이 변경 전 값을 다시 캐시할 수 있음)
+    public void evict(Long userId) {
+        remove(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(userId);
+                }
+            });
+        }
+    }
+
+    private void remove(Long userId) {
+        synchronized (cache) {
+            cache.remove(userId);
+        }
+    }
+}
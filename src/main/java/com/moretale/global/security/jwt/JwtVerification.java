@@ -0,0 +1,37 @@
+package com.moretale.global.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+
+// JWT 검증 결과 (성공 시 클레임, 실패 시 실패 사유)
+@Getter
+public class JwtVerification {
+
+    public enum Failure {
+        INVALID_SIGNATURE, // 서명 불일치
+        MALFORMED,         // 형식 오류
+        EXPIRED,           // 만료
+        UNSUPPORTED,       // 지원하지 않는 형식 (서명 없는 토큰 등)
+        EMPTY              // 빈 토큰
+    }
+
+    private final Claims claims;
+    private final Failure failure;
+
+    private JwtVerification(Claims claims, Failure failure) {
+        this.claims = claims;
+        this.failure = failure;
+    }
+
+    static JwtVerification success(Claims claims) {
+        return new JwtVerification(claims, null);
+    }
+
+    static JwtVerification failure(Failure failure) {
+        return new JwtVerification(null, failure);
+    }
+
+    public boolean isValid() {
+        return claims != null;
+    }
+}
@@ -39,7 +39,7 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
         String email = oAuth2User.getEmail();
 
         // 2. JWT 토큰 생성
-        String token = jwtTokenProvider.generateTokenFromUserId(userId);
+        String token = jwtTokenProvider.generateTokenFromUser(oAuth2User.getUser());
 
         log.info("OAuth2 로그인 성공 - userId: {}, email: {}", userId, email);
         log.info("JWT Token 생성 완료: {}", token);
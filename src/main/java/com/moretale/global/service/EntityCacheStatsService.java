@@ -0,0 +1,53 @@
+package com.moretale.global.service;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.moretale.global.config.EntityCacheConfig;
+import com.moretale.global.config.MoreTaleProperties;
+import com.moretale.global.dto.EntityCacheStatsResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// Hibernate 2차 캐시 리전별 적중률 통계
+@Service
+@RequiredArgsConstructor
+public class EntityCacheStatsService {
+
+    private final CacheManager entityCacheManager;
+    private final MoreTaleProperties moreTaleProperties;
+
+    public List<EntityCacheStatsResponse> getStats() {
+        List<EntityCacheStatsResponse> stats = new ArrayList<>();
+        for (Map.Entry<String, MoreTaleProperties.EntityCache.Region> entry
+                : moreTaleProperties.getEntityCache().getRegions().entrySet()) {
+            MoreTaleProperties.EntityCache.Region region = entry.getValue();
+            stats.add(toResponse(entry.getKey(), region.getMaxEntries(), region.getTtlSeconds()));
+        }
+        stats.add(toResponse(EntityCacheConfig.UPDATE_TIMESTAMPS_REGION, null, null));
+        return stats;
+    }
+
+    private EntityCacheStatsResponse toResponse(String name, Long maxEntries, Long ttlSeconds) {
+        Cache<Object, Object> cache = entityCacheManager.getCache(name);
+        @SuppressWarnings("unchecked")
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache =
+                cache.unwrap(com.github.benmanes.caffeine.cache.Cache.class);
+        CacheStats cacheStats = nativeCache.stats();
+
+        return EntityCacheStatsResponse.builder()
+                .region(name)
+                .size(nativeCache.estimatedSize())
+                .maxEntries(maxEntries)
+                .ttlSeconds(ttlSeconds)
+                .hits(cacheStats.hitCount())
+                .misses(cacheStats.missCount())
+                .evictions(cacheStats.evictionCount())
+                .hitRatio(cacheStats.requestCount() == 0 ? 0.0 : cacheStats.hitRate())
+                .build();
+    }
+}
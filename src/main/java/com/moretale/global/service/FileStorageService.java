@@ -1,39 +1,73 @@
 package com.moretale.global.service;
 
+import com.moretale.global.config.MoreTaleProperties;
 import com.moretale.global.exception.BusinessException;
 import com.moretale.global.exception.ErrorCode;
+import com.moretale.global.storage.StorageBackend;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Slf4j
 @Service
 public class FileStorageService {
 
+    // 파일명에 들어 있는 SHA-256 해시 (예: tts_<해시>.mp3)
+    private static final Pattern CONTENT_HASH = Pattern.compile("[0-9a-f]{64}");
+
     @Value("${file.upload.base-path:uploads}")
     private String basePath;
 
     @Value("${file.upload.base-url:http://localhost:8080/uploads}")
     private String baseUrl;
 
+    private final StorageBackend storageBackend;
+    private final ExecutorService uploadExecutor;
+    private final Semaphore uploadPermits;
+
+    public FileStorageService(StorageBackend storageBackend,
+                              @Qualifier("storageUploadExecutor") ExecutorService uploadExecutor,
+                              MoreTaleProperties moreTaleProperties) {
+        this.storageBackend = storageBackend;
+        this.uploadExecutor = uploadExecutor;
+        this.uploadPermits = new Semaphore(moreTaleProperties.getStorage().getMaxConcurrentUploads(), true);
+    }
+
     // 파일 업로드 (File 객체)
     public String uploadFile(File file, String subPath) {
-        try {
-            Path targetPath = createDirectoriesAndGetPath(subPath);
-            Files.copy(file.toPath(), targetPath, StandardCopyOption.REPLACE_EXISTING);
+        try (InputStream inputStream = Files.newInputStream(file.toPath())) {
+            storageBackend.write(subPath, inputStream);
 
             String fileUrl = generateUrl(subPath);
-            log.info("파일 업로드 완료 - 실제 경로: {}, 접근 URL: {}",
-                    targetPath.toAbsolutePath(), fileUrl);
+            log.info("파일 업로드 완료 - 저장소: {}, 경로: {}, 접근 URL: {}",
+                    storageBackend.name(), subPath, fileUrl);
 
             return fileUrl;
         } catch (IOException e) {
@@ -48,13 +82,12 @@ public class FileStorageService {
             throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
         }
 
-        try {
-            Path targetPath = createDirectoriesAndGetPath(subPath);
-            Files.copy(file.getInputStream(), targetPath, StandardCopyOption.REPLACE_EXISTING);
+        try (InputStream inputStream = file.getInputStream()) {
+            storageBackend.write(subPath, inputStream);
 
             String fileUrl = generateUrl(subPath);
-            log.info("파일 업로드 완료 - 실제 경로: {}, 접근 URL: {}",
-                    targetPath.toAbsolutePath(), fileUrl);
+            log.info("파일 업로드 완료 - 저장소: {}, 경로: {}, 접근 URL: {}",
+                    storageBackend.name(), subPath, fileUrl);
 
             return fileUrl;
         } catch (IOException e) {
@@ -65,26 +98,48 @@ public class FileStorageService {
 
     // 바이트 배열로 파일 저장 (TTS 음성 데이터 저장 시 주로 사용)
     public String uploadFile(byte[] data, String subPath) {
+        return writeFile(ByteBuffer.wrap(data), subPath);
+    }
+
+    // 버퍼 내용을 저장소에 바로 저장 (중간 byte[] 복사 없음, 읽는 쪽은 완성된 파일만 봄)
+    public String writeFile(ByteBuffer data, String subPath) {
         try {
-            Path targetPath = createDirectoriesAndGetPath(subPath);
-            Files.write(targetPath, data);
+            storageBackend.write(subPath, data);
 
             String fileUrl = generateUrl(subPath);
-            log.info("파일 저장 완료 - 실제 경로: {}, 접근 URL: {}",
-                    targetPath.toAbsolutePath(), fileUrl);
+            log.debug("파일 저장 완료 - 저장소: {}, 경로: {}, 접근 URL: {}", storageBackend.name(), subPath, fileUrl);
 
             return fileUrl;
         } catch (IOException e) {
-            log.error("Byte array upload failed: {}", e.getMessage());
+            log.error("File write failed: {}", e.getMessage());
             throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
         }
     }
 
+    // 비동기 저장 (호출 스레드는 저장소 지연을 기다리지 않음)
+    // 동시 업로드 수는 moretale.storage.max-concurrent-uploads로 제한, 초과분은 도착 순서대로 대기
+    // 업로드가 끝날 때까지 data 내용을 바꾸면 안 됨
+    public CompletableFuture<String> writeFileAsync(ByteBuffer data, String subPath) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                uploadPermits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("업로드 대기 중 인터럽트 - 경로: {}", subPath);
+                throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
+            }
+            try {
+                return writeFile(data, subPath);
+            } finally {
+                uploadPermits.release();
+            }
+        }, uploadExecutor);
+    }
+
     // 파일 삭제
     public void deleteFile(String subPath) {
         try {
-            Path filePath = Paths.get(basePath, subPath);
-            if (Files.deleteIfExists(filePath)) {
+            if (storageBackend.delete(subPath)) {
                 log.info("파일 삭제 완료: {}", subPath);
             }
         } catch (IOException e) {
@@ -93,6 +148,97 @@ public class FileStorageService {
         }
     }
 
+    // 파일 존재 여부 확인 (조회 실패 시 없는 것으로 처리)
+    public boolean exists(String subPath) {
+        try {
+            return storageBackend.stat(subPath).isPresent();
+        } catch (IOException e) {
+            log.warn("파일 조회 실패: {}", subPath, e);
+            return false;
+        }
+    }
+
+    // 작은 텍스트 파일 읽기 (없거나 읽기 실패 시 빈 값)
+    public Optional<String> readText(String subPath) {
+        try (InputStream inputStream = storageBackend.read(subPath)) {
+            return Optional.of(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            log.warn("파일 읽기 실패: {}", subPath, e);
+            return Optional.empty();
+        }
+    }
+
+    // 파일 사용 시각 기록 (없거나 기록 실패 시 false)
+    public boolean markUsed(String subPath) {
+        try {
+            return storageBackend.markUsed(subPath);
+        } catch (IOException e) {
+            log.warn("파일 사용 시각 기록 실패: {}", subPath, e);
+            return false;
+        }
+    }
+
+    // 저장 경로에 대한 접근 URL 반환
+    public String getFileUrl(String subPath) {
+        return generateUrl(subPath);
+    }
+
+    // 해시 접두어 2단계 하위 디렉토리로 분산한 저장 경로: directory/ab/cd/fileName
+    // 디렉토리당 파일 수를 제한 (65,536개 디렉토리로 분산, 파일 수백만 개에서도 디렉토리 조회/백업 속도 유지)
+    // 파일명에 SHA-256 해시가 있으면 그 앞 4자리, 없으면 파일명의 SHA-256 앞 4자리 사용
+    public static String resolveShardedPath(String directory, String fileName) {
+        Matcher matcher = CONTENT_HASH.matcher(fileName);
+        String hash = matcher.find() ? matcher.group() : sha256(fileName);
+        String shard = hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + fileName;
+        return directory == null || directory.isEmpty() ? shard : directory + "/" + shard;
+    }
+
+    // 디렉토리 바로 아래의 파일 경로 최대 limit개 (하위 디렉토리 제외, 전체 목록을 메모리에 올리지 않음)
+    // listFiles / moveFile은 로컬 디스크(file.upload.base-path) 전용: 저장소 종류와 관계없이 이전 평면 경로 파일 정리에 사용
+    public List<String> listFiles(String directory, String glob, int limit) {
+        Path directoryPath = Paths.get(basePath).toAbsolutePath().resolve(directory);
+        List<String> subPaths = new ArrayList<>();
+        if (!Files.isDirectory(directoryPath)) {
+            return subPaths;
+        }
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directoryPath, glob)) {
+            for (Path path : stream) {
+                if (subPaths.size() >= limit) {
+                    break;
+                }
+                if (Files.isRegularFile(path)) {
+                    subPaths.add(directory + "/" + path.getFileName());
+                }
+            }
+        } catch (IOException e) {
+            log.error("파일 목록 조회 실패: {}", directory, e);
+        }
+        return subPaths;
+    }
+
+    // 저장소 안에서 파일 이동 (같은 파일시스템이면 원자적 rename)
+    // 대상이 이미 있으면 같은 내용으로 보고 원본만 삭제, 원본이 이미 없으면(다른 노드가 이동) false
+    public boolean moveFile(String fromSubPath, String toSubPath) {
+        Path source = Paths.get(basePath).toAbsolutePath().resolve(fromSubPath);
+        try {
+            Path target = createDirectoriesAndGetPath(toSubPath);
+            try {
+                Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                Files.delete(source);
+            }
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        } catch (IOException e) {
+            log.error("파일 이동 실패: {} -> {}", fromSubPath, toSubPath, e);
+            return false;
+        }
+    }
+
     // 랜덤 파일명 생성
     public String generateRandomFileName(String originalFileName, String prefix) {
         String extension = "";
@@ -122,6 +268,15 @@ public class FileStorageService {
         return targetPath;
     }
 
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+
     // 파일 접근 URL 생성
     private String generateUrl(String subPath) {
         return baseUrl + "/" + subPath;
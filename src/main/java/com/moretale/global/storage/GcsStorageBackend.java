@@ -0,0 +1,215 @@
+package com.moretale.global.storage;
+
+import com.google.api.gax.paging.Page;
+import com.google.auth.Credentials;
+import com.google.cloud.ReadChannel;
+import com.google.cloud.WriteChannel;
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageException;
+import com.google.cloud.storage.StorageOptions;
+import com.moretale.global.config.MoreTaleProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.file.NoSuchFileException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// Google Cloud Storage 저장소 (google.cloud.storage.bucket)
+// - resumable-threshold-bytes 이하 버퍼: 단일 요청(multipart) 업로드
+// - 그보다 큰 버퍼와 길이를 모르는 스트림: 재개 가능(resumable) 업로드, chunk-size-bytes 단위로 전송 (실패한 청크만 재시도)
+// GCS 객체 쓰기는 업로드가 끝나야 보이므로 별도 임시 객체 없이 원자적으로 교체
+@Slf4j
+public class GcsStorageBackend implements StorageBackend {
+
+    private static final int HTTP_NOT_FOUND = 404;
+    private static final String LAST_USED_METADATA = "lastUsedAt";
+
+    private final Storage storage;
+    private final String bucket;
+    private final int chunkSizeBytes;
+    private final int resumableThresholdBytes;
+
+    public GcsStorageBackend(Storage storage, MoreTaleProperties.Storage.Gcs config) {
+        this.storage = storage;
+        this.bucket = config.getBucket();
+        this.chunkSizeBytes = config.getChunkSizeBytes();
+        this.resumableThresholdBytes = config.getResumableThresholdBytes();
+    }
+
+    // host를 지정하면 해당 엔드포인트 사용 (에뮬레이터/테스트용 가짜 서버)
+    public static Storage createClient(MoreTaleProperties.Storage.Gcs config, Credentials credentials) {
+        StorageOptions.Builder builder = StorageOptions.newBuilder().setCredentials(credentials);
+        if (StringUtils.hasText(config.getProjectId())) {
+            builder.setProjectId(config.getProjectId());
+        }
+        if (StringUtils.hasText(config.getHost())) {
+            builder.setHost(config.getHost());
+        }
+        return builder.build().getService();
+    }
+
+    @Override
+    public String name() {
+        return "gcs";
+    }
+
+    @Override
+    public void write(String key, ByteBuffer data) throws IOException {
+        BlobInfo blobInfo = blobInfo(key);
+        try {
+            if (data.remaining() > resumableThresholdBytes) {
+                try (WriteChannel writer = openWriter(blobInfo)) {
+                    while (data.hasRemaining()) {
+                        writer.write(data);
+                    }
+                }
+                return;
+            }
+
+            // 힙 버퍼면 복사 없이 배열 구간을 그대로 전송
+            // 오디오/이미지는 이미 압축된 형식이라 요청 본문 gzip 압축은 CPU만 사용하므로 생략
+            if (data.hasArray()) {
+                storage.create(blobInfo, data.array(), data.arrayOffset() + data.position(), data.remaining(),
+                        Storage.BlobTargetOption.disableGzipContent());
+                data.position(data.limit());
+            } else {
+                byte[] bytes = new byte[data.remaining()];
+                data.get(bytes);
+                storage.create(blobInfo, bytes, Storage.BlobTargetOption.disableGzipContent());
+            }
+        } catch (StorageException e) {
+            throw new IOException("GCS 업로드 실패: " + key, e);
+        }
+    }
+
+    @Override
+    public void write(String key, InputStream inputStream) throws IOException {
+        try (WriteChannel writer = openWriter(blobInfo(key))) {
+            inputStream.transferTo(Channels.newOutputStream(writer));
+        } catch (StorageException e) {
+            throw new IOException("GCS 업로드 실패: " + key, e);
+        }
+    }
+
+    // 메타데이터 조회 후 같은 세대(generation)만 읽음 (읽는 도중 교체되어도 섞인 내용을 받지 않음)
+    @Override
+    public InputStream read(String key) throws IOException {
+        try {
+            Blob blob = storage.get(BlobId.of(bucket, key));
+            if (blob == null) {
+                throw new NoSuchFileException(key);
+            }
+            ReadChannel reader = storage.reader(blob.getBlobId(),
+                    Storage.BlobSourceOption.generationMatch(blob.getGeneration()));
+            reader.setChunkSize(chunkSizeBytes);
+            return Channels.newInputStream(reader);
+        } catch (StorageException e) {
+            throw translate(key, e);
+        }
+    }
+
+    @Override
+    public Optional<StorageObject> stat(String key) throws IOException {
+        try {
+            Blob blob = storage.get(BlobId.of(bucket, key),
+                    Storage.BlobGetOption.fields(Storage.BlobField.SIZE, Storage.BlobField.UPDATED));
+            if (blob == null) {
+                return Optional.empty();
+            }
+            long lastModified = lastModified(blob);
+            return Optional.of(new StorageObject(key, blob.getSize(), lastModified));
+        } catch (StorageException e) {
+            throw translate(key, e);
+        }
+    }
+
+    // GCS 객체의 수정 시각은 직접 바꿀 수 없어 사용자 메타데이터를 갱신 (메타데이터 변경도 updated 시각을 갱신)
+    @Override
+    public boolean markUsed(String key) throws IOException {
+        try {
+            storage.update(BlobInfo.newBuilder(BlobId.of(bucket, key))
+                    .setMetadata(Map.of(LAST_USED_METADATA, Instant.now().toString()))
+                    .build());
+            return true;
+        } catch (StorageException e) {
+            if (e.getCode() == HTTP_NOT_FOUND) {
+                return false;
+            }
+            throw translate(key, e);
+        }
+    }
+
+    @Override
+    public boolean delete(String key) throws IOException {
+        try {
+            return storage.delete(BlobId.of(bucket, key));
+        } catch (StorageException e) {
+            throw translate(key, e);
+        }
+    }
+
+    // startOffset은 해당 key를 포함하므로 한 개 더 받아 startAfter 자신은 제외
+    @Override
+    public List<StorageObject> list(String prefix, String startAfter, int limit) throws IOException {
+        try {
+            Page<Blob> blobs = storage.list(bucket,
+                    Storage.BlobListOption.prefix(prefix),
+                    Storage.BlobListOption.startOffset(startAfter != null ? startAfter : prefix),
+                    Storage.BlobListOption.pageSize(limit + 1L),
+                    Storage.BlobListOption.fields(Storage.BlobField.NAME, Storage.BlobField.SIZE, Storage.BlobField.UPDATED));
+            List<StorageObject> page = new ArrayList<>();
+            for (Blob blob : blobs.getValues()) {
+                if (page.size() >= limit) {
+                    break;
+                }
+                if (!blob.getName().equals(startAfter)) {
+                    long lastModified = lastModified(blob);
+                    page.add(new StorageObject(blob.getName(), blob.getSize(), lastModified));
+                }
+            }
+            return page;
+        } catch (StorageException e) {
+            throw translate(prefix, e);
+        }
+    }
+
+    private WriteChannel openWriter(BlobInfo blobInfo) {
+        WriteChannel writer = storage.writer(blobInfo);
+        writer.setChunkSize(chunkSizeBytes);
+        return writer;
+    }
+
+    private BlobInfo blobInfo(String key) {
+        String contentType = MediaTypeFactory.getMediaType(key)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                .toString();
+        return BlobInfo.newBuilder(BlobId.of(bucket, key)).setContentType(contentType).build();
+    }
+
+    // 마지막 수정 시각 (epoch millis, 메타데이터 갱신 포함), 없으면 0
+    private static long lastModified(Blob blob) {
+        OffsetDateTime updateTime = blob.getUpdateTimeOffsetDateTime();
+        return updateTime != null ? updateTime.toInstant().toEpochMilli() : 0L;
+    }
+
+    private static IOException translate(String key, StorageException e) {
+        if (e.getCode() == HTTP_NOT_FOUND) {
+            return new NoSuchFileException(key);
+        }
+        return new IOException("GCS 요청 실패: " + key, e);
+    }
+}
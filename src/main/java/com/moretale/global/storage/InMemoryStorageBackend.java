@@ -0,0 +1,85 @@
+package com.moretale.global.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.NoSuchFileException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+// 메모리 저장소 (개발/테스트용, 재시작 시 모두 사라짐)
+public class InMemoryStorageBackend implements StorageBackend {
+
+    // key 순서 유지 (list 페이지 조회)
+    private final ConcurrentSkipListMap<String, Entry> objects = new ConcurrentSkipListMap<>();
+
+    private record Entry(byte[] data, long lastModified) {
+    }
+
+    @Override
+    public String name() {
+        return "memory";
+    }
+
+    @Override
+    public void write(String key, ByteBuffer data) {
+        byte[] bytes = new byte[data.remaining()];
+        data.get(bytes);
+        objects.put(key, new Entry(bytes, System.currentTimeMillis()));
+    }
+
+    @Override
+    public void write(String key, InputStream inputStream) throws IOException {
+        objects.put(key, new Entry(inputStream.readAllBytes(), System.currentTimeMillis()));
+    }
+
+    @Override
+    public InputStream read(String key) throws IOException {
+        Entry entry = objects.get(key);
+        if (entry == null) {
+            throw new NoSuchFileException(key);
+        }
+        return new ByteArrayInputStream(entry.data());
+    }
+
+    @Override
+    public Optional<StorageObject> stat(String key) {
+        Entry entry = objects.get(key);
+        return entry == null
+                ? Optional.empty()
+                : Optional.of(new StorageObject(key, entry.data().length, entry.lastModified()));
+    }
+
+    @Override
+    public boolean markUsed(String key) {
+        return objects.computeIfPresent(key, (k, entry) -> new Entry(entry.data(), System.currentTimeMillis())) != null;
+    }
+
+    @Override
+    public boolean delete(String key) {
+        return objects.remove(key) != null;
+    }
+
+    @Override
+    public List<StorageObject> list(String prefix, String startAfter, int limit) {
+        Map<String, Entry> tail = startAfter == null || startAfter.compareTo(prefix) < 0
+                ? objects.tailMap(prefix, true)
+                : objects.tailMap(startAfter, false);
+        List<StorageObject> page = new ArrayList<>();
+        for (Map.Entry<String, Entry> object : tail.entrySet()) {
+            if (page.size() >= limit || !object.getKey().startsWith(prefix)) {
+                break;
+            }
+            page.add(new StorageObject(object.getKey(), object.getValue().data().length, object.getValue().lastModified()));
+        }
+        return page;
+    }
+
+    public int size() {
+        return objects.size();
+    }
+}
@@ -0,0 +1,201 @@
+package com.moretale.global.storage;
+
+import com.moretale.global.config.MoreTaleProperties.Upload.FsyncPolicy;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+
+// 로컬 디스크 저장소 (file.upload.base-path)
+// 같은 디렉토리의 임시 이름으로 FileChannel에 쓴 뒤 원자적 이동
+// -> 읽는 쪽(캐시 적중 확인, /uploads 응답)은 완성된 파일만 보고, 쓰는 중 장애가 나도 잘린 파일이 남지 않음
+@Slf4j
+public class LocalStorageBackend implements StorageBackend {
+
+    private final Path root;
+    private final FsyncPolicy fsyncPolicy;
+
+    public LocalStorageBackend(Path root, FsyncPolicy fsyncPolicy) {
+        this.root = root.toAbsolutePath();
+        this.fsyncPolicy = fsyncPolicy;
+    }
+
+    @Override
+    public String name() {
+        return "local";
+    }
+
+    public Path getRoot() {
+        return root;
+    }
+
+    // 버퍼 내용을 최종 위치에 바로 저장 (임시 디렉토리 / 중간 byte[] / 두 번째 복사 없음)
+    @Override
+    public void write(String key, ByteBuffer data) throws IOException {
+        writeAtomically(key, channel -> {
+            while (data.hasRemaining()) {
+                channel.write(data);
+            }
+        });
+    }
+
+    @Override
+    public void write(String key, InputStream inputStream) throws IOException {
+        writeAtomically(key, channel -> inputStream.transferTo(Channels.newOutputStream(channel)));
+    }
+
+    @Override
+    public InputStream read(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    @Override
+    public Optional<StorageObject> stat(String key) throws IOException {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(resolve(key), BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) {
+                return Optional.empty();
+            }
+            return Optional.of(new StorageObject(key, attributes.size(), attributes.lastModifiedTime().toMillis()));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public boolean markUsed(String key) throws IOException {
+        try {
+            Files.setLastModifiedTime(resolve(key), FileTime.fromMillis(System.currentTimeMillis()));
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean delete(String key) throws IOException {
+        return Files.deleteIfExists(resolve(key));
+    }
+
+    // 쓰는 중인 임시 파일은 제외
+    @Override
+    public List<StorageObject> list(String prefix, String startAfter, int limit) throws IOException {
+        String directoryKey = prefix.substring(0, prefix.lastIndexOf('/') + 1);
+        List<StorageObject> page = new ArrayList<>();
+        Path directory = resolve(directoryKey);
+        if (Files.isDirectory(directory)) {
+            collect(directory, directoryKey, prefix, startAfter, limit, page);
+        }
+        return page;
+    }
+
+    @Override
+    public Optional<Path> localFile(String key) {
+        Path path = resolve(key);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    // 저장소 루트 기준 절대 경로
+    public Path resolve(String key) {
+        return root.resolve(key);
+    }
+
+    // 디렉토리를 key 사전순으로 깊이 우선 순회 (하위 디렉토리는 "이름/"으로 정렬해 key 순서와 일치)
+    // 한 번에 디렉토리 하나의 항목만 메모리에 올림 (해시 분산 디렉토리는 항목 수가 작음)
+    private void collect(Path directory, String directoryKey, String prefix, String startAfter,
+                         int limit, List<StorageObject> page) throws IOException {
+        Map<String, BasicFileAttributes> children = new TreeMap<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path child : stream) {
+                try {
+                    BasicFileAttributes attributes = Files.readAttributes(child, BasicFileAttributes.class);
+                    children.put(child.getFileName() + (attributes.isDirectory() ? "/" : ""), attributes);
+                } catch (NoSuchFileException e) {
+                    // 목록 조회 중 삭제/이동된 파일
+                }
+            }
+        }
+
+        for (Map.Entry<String, BasicFileAttributes> child : children.entrySet()) {
+            if (page.size() >= limit) {
+                return;
+            }
+            String key = directoryKey + child.getKey();
+            if (child.getValue().isDirectory()) {
+                // prefix와 겹치지 않거나 하위 key가 모두 startAfter 이하인 디렉토리는 건너뜀
+                boolean overlapsPrefix = key.startsWith(prefix) || prefix.startsWith(key);
+                boolean beforeStart = startAfter != null && key.compareTo(startAfter) < 0 && !startAfter.startsWith(key);
+                if (overlapsPrefix && !beforeStart) {
+                    collect(directory.resolve(child.getKey().substring(0, child.getKey().length() - 1)),
+                            key, prefix, startAfter, limit, page);
+                }
+            } else if (child.getValue().isRegularFile() && key.startsWith(prefix) && !key.contains(".tmp-")
+                    && (startAfter == null || key.compareTo(startAfter) > 0)) {
+                page.add(new StorageObject(key, child.getValue().size(), child.getValue().lastModifiedTime().toMillis()));
+            }
+        }
+    }
+
+    private void writeAtomically(String key, ChannelWriter writer) throws IOException {
+        Path targetPath = resolve(key);
+        Path parentDir = targetPath.getParent();
+        if (parentDir != null && !Files.exists(parentDir)) {
+            Files.createDirectories(parentDir);
+            log.info("디렉토리 생성: {}", parentDir);
+        }
+
+        Path tempPath = targetPath.resolveSibling(targetPath.getFileName() + ".tmp-" + UUID.randomUUID());
+        try {
+            try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                writer.write(channel);
+                if (fsyncPolicy != FsyncPolicy.NONE) {
+                    channel.force(false);
+                }
+            }
+            // 같은 파일시스템 안의 rename: 기존 파일이 있으면 원자적으로 교체
+            Files.move(tempPath, targetPath, StandardCopyOption.ATOMIC_MOVE);
+            tempPath = null;
+
+            if (fsyncPolicy == FsyncPolicy.DATA_AND_DIRECTORY) {
+                try (FileChannel directory = FileChannel.open(targetPath.getParent(), StandardOpenOption.READ)) {
+                    directory.force(true);
+                }
+            }
+        } finally {
+            deleteQuietly(tempPath);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", path, e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChannelWriter {
+        void write(FileChannel channel) throws IOException;
+    }
+}
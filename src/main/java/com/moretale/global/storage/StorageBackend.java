@@ -0,0 +1,45 @@
+package com.moretale.global.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+// 업로드 파일 저장소 (local: 로컬 디스크, gcs: Google Cloud Storage, memory: 개발/테스트용 메모리)
+// key: 저장소 루트 기준 상대 경로 (예: tts/audio/ab/cd/tts_<해시>.mp3), 접근 URL은 FileStorageService에서 생성
+// 모든 쓰기는 완성된 내용으로 한 번에 교체 (읽는 쪽은 쓰는 중인 객체를 보지 않음)
+public interface StorageBackend {
+
+    // 저장소 이름 (local / gcs / memory)
+    String name();
+
+    // 버퍼 내용 저장 (같은 key가 있으면 교체)
+    void write(String key, ByteBuffer data) throws IOException;
+
+    // 스트림 내용 저장 (길이를 몰라도 되고, 전체 내용을 메모리에 올리지 않음)
+    void write(String key, InputStream inputStream) throws IOException;
+
+    // 내용 읽기 (없으면 NoSuchFileException)
+    InputStream read(String key) throws IOException;
+
+    // 크기/수정 시각 조회 (없으면 empty)
+    Optional<StorageObject> stat(String key) throws IOException;
+
+    // 사용 시각 기록: 수정 시각을 현재 시각으로 갱신 (내용은 그대로, 없으면 false)
+    // 고아 파일 정리의 유예 기간이 마지막 저장이 아닌 마지막 재사용 시각 기준이 되도록 캐시 적중 시 호출
+    boolean markUsed(String key) throws IOException;
+
+    // 삭제 (삭제했으면 true, 원래 없었으면 false)
+    boolean delete(String key) throws IOException;
+
+    // prefix로 시작하는 객체를 key 사전순으로 startAfter 다음부터 최대 limit개 조회 (startAfter가 null이면 처음부터)
+    // 전체 목록을 메모리에 올리지 않고 마지막 key를 넘겨 가며 페이지 단위로 순회
+    List<StorageObject> list(String prefix, String startAfter, int limit) throws IOException;
+
+    // 로컬 디스크에 완성된 사본이 있으면 그 경로 (/uploads 응답에서 sendfile 전송에 사용)
+    default Optional<Path> localFile(String key) {
+        return Optional.empty();
+    }
+}
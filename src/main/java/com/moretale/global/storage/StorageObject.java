@@ -0,0 +1,5 @@
+package com.moretale.global.storage;
+
+// 저장된 객체 정보 (lastModified: epoch millis)
+public record StorageObject(String key, long size, long lastModified) {
+}
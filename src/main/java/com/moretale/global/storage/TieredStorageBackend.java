@@ -0,0 +1,486 @@
+package com.moretale.global.storage;
+
+import com.moretale.global.config.MoreTaleProperties;
+import com.moretale.global.dto.StorageCacheStatsResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 원격 저장소(gcs) 앞단 로컬 디스크 캐시
+// - 읽기: 로컬 사본 우선, 없으면 원격에서 받아 로컬에 채운 뒤 반환 (같은 객체의 동시 미스는 한 번만 다운로드)
+// - 쓰기: 원격(원본)에 저장한 뒤 로컬에도 저장 (write-through)
+// - 용량 상한(max-bytes)을 넘으면 LRU 또는 LFU(가장 오래 안 쓴 후보 중 접근 횟수 최소)로 제거
+// - 접근 기록(횟수/시각)은 메모리에서 관리하고 주기적으로 스냅샷 파일에 저장 -> 재시작 시 디렉토리 스캔 결과에 복원
+// 로컬 사본의 수정 시각은 원격 객체의 수정 시각으로 맞춤 (노드가 달라도 Last-Modified/ETag 동일)
+@Slf4j
+public class TieredStorageBackend implements StorageBackend {
+
+    static final String SNAPSHOT_FILE = ".access-snapshot";
+    private static final String TEMP_MARKER = ".tmp-";
+
+    private final StorageBackend remote;
+    private final LocalStorageBackend cache;
+    private final long maxBytes;
+    private final long maxObjectBytes;
+    private final MoreTaleProperties.Storage.LocalCache.EvictionPolicy evictionPolicy;
+    private final int evictionSampleSize;
+
+    // 삽입 순서 = 최근 접근 순서 (접근 시 제거 후 다시 삽입, 조회만으로는 순서가 바뀌지 않음)
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+    private long totalBytes;
+    private final ConcurrentHashMap<String, CompletableFuture<Void>> filling = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong fills = new AtomicLong();
+    private final AtomicLong fillBytes = new AtomicLong();
+    private final AtomicLong collapsedFills = new AtomicLong();
+    private final AtomicLong bypasses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong evictedBytes = new AtomicLong();
+    private final AtomicLong recoveredEntries = new AtomicLong();
+    private volatile long lastSnapshotAt;
+
+    // 접근 기록 (entries 잠금 안에서만 변경)
+    private static final class Entry {
+        private final long size;
+        private long lastModified;
+        private long accessCount;
+        private long lastAccess;
+
+        private Entry(long size, long lastModified, long accessCount, long lastAccess) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.accessCount = accessCount;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+    public TieredStorageBackend(StorageBackend remote, LocalStorageBackend cache,
+                                MoreTaleProperties.Storage.LocalCache config) {
+        this.remote = remote;
+        this.cache = cache;
+        this.maxBytes = config.getMaxBytes();
+        this.maxObjectBytes = Math.min(config.getMaxObjectBytes(), config.getMaxBytes());
+        this.evictionPolicy = config.getEvictionPolicy();
+        this.evictionSampleSize = Math.max(1, config.getEvictionSampleSize());
+    }
+
+    @Override
+    public String name() {
+        return remote.name() + "+local-cache";
+    }
+
+    @Override
+    public void write(String key, ByteBuffer data) throws IOException {
+        ByteBuffer copy = data.duplicate();
+        remote.write(key, data);
+        if (copy.remaining() > maxObjectBytes) {
+            invalidate(key);
+            return;
+        }
+
+        try {
+            cache.write(key, copy);
+            admitCached(key);
+        } catch (IOException e) {
+            // 원격 저장은 끝났으므로 실패로 처리하지 않음 (다음 읽기 때 다시 채움)
+            log.warn("로컬 캐시 저장 실패 (원격 저장은 완료): {}", key, e);
+            invalidate(key);
+        }
+    }
+
+    // 길이를 모르는 스트림: 로컬에 먼저 받은 뒤 그 사본을 원격에 업로드 (원격 실패 시 로컬 사본도 삭제)
+    @Override
+    public void write(String key, InputStream inputStream) throws IOException {
+        invalidate(key);
+        cache.write(key, inputStream);
+        try (InputStream cached = cache.read(key)) {
+            remote.write(key, cached);
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(key);
+            throw e;
+        }
+
+        if (Files.size(cache.resolve(key)) > maxObjectBytes) {
+            deleteQuietly(key);
+            return;
+        }
+        admitCached(key);
+    }
+
+    @Override
+    public InputStream read(String key) throws IOException {
+        if (touch(key)) {
+            try {
+                return cache.read(key);
+            } catch (NoSuchFileException e) {
+                // 외부에서 삭제된 사본: 기록을 지우고 원격에서 다시 채움
+                invalidate(key);
+            }
+        }
+        misses.incrementAndGet();
+
+        StorageObject remoteObject = remote.stat(key).orElseThrow(() -> new NoSuchFileException(key));
+        if (remoteObject.size() > maxObjectBytes) {
+            bypasses.incrementAndGet();
+            return remote.read(key);
+        }
+
+        fill(key, remoteObject);
+        try {
+            return cache.read(key);
+        } catch (NoSuchFileException e) {
+            // 채운 직전에 용량 초과로 제거된 경우
+            return remote.read(key);
+        }
+    }
+
+    // 로컬 사본이 있으면 로컬 기록, 없으면 원격 조회 (조회는 접근으로 세지 않음)
+    @Override
+    public Optional<StorageObject> stat(String key) throws IOException {
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                return Optional.of(new StorageObject(key, entry.size, entry.lastModified));
+            }
+        }
+        return remote.stat(key);
+    }
+
+    // 원격에 사용 시각 기록 후 로컬 사본의 수정 시각도 원격에 맞춤 (노드가 달라도 Last-Modified 동일)
+    @Override
+    public boolean markUsed(String key) throws IOException {
+        Optional<StorageObject> remoteObject = remote.markUsed(key) ? remote.stat(key) : Optional.empty();
+        if (remoteObject.isEmpty()) {
+            invalidate(key);
+            return false;
+        }
+
+        long lastModified = remoteObject.get().lastModified();
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return true;
+            }
+            entry.lastModified = lastModified;
+        }
+        try {
+            Files.setLastModifiedTime(cache.resolve(key), FileTime.fromMillis(lastModified));
+        } catch (NoSuchFileException e) {
+            invalidate(key);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean delete(String key) throws IOException {
+        boolean deleted = remote.delete(key);
+        invalidate(key);
+        return deleted;
+    }
+
+    // 원격 저장소 기준 (로컬에는 일부 사본만 있음)
+    @Override
+    public List<StorageObject> list(String prefix, String startAfter, int limit) throws IOException {
+        return remote.list(prefix, startAfter, limit);
+    }
+
+    // 로컬 사본 경로 (있으면 접근으로 기록, /uploads 응답에서 sendfile 전송에 사용)
+    @Override
+    public Optional<Path> localFile(String key) {
+        if (!touch(key)) {
+            return Optional.empty();
+        }
+        Path path = cache.resolve(key);
+        if (!Files.isRegularFile(path)) {
+            invalidate(key);
+            return Optional.empty();
+        }
+        return Optional.of(path);
+    }
+
+    // 시작 시 캐시 디렉토리 스캔: 남은 임시 파일 삭제, 파일별 크기/수정 시각 등록, 스냅샷의 접근 기록 복원, 용량 초과분 제거
+    public void recover() throws IOException {
+        long start = System.nanoTime();
+        Path root = cache.getRoot();
+        Files.createDirectories(root);
+        Map<String, long[]> snapshot = readSnapshot();
+
+        List<String> keys = new ArrayList<>();
+        Map<String, Entry> scanned = new HashMap<>();
+        long[] tempFiles = {0};
+        Files.walkFileTree(root, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) throws IOException {
+                String fileName = file.getFileName().toString();
+                if (fileName.contains(TEMP_MARKER)) {
+                    Files.deleteIfExists(file);
+                    tempFiles[0]++;
+                    return FileVisitResult.CONTINUE;
+                }
+                String key = root.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/");
+                if (!attributes.isRegularFile() || key.equals(SNAPSHOT_FILE)) {
+                    return FileVisitResult.CONTINUE;
+                }
+                long[] access = snapshot.getOrDefault(key, new long[]{0, 0});
+                keys.add(key);
+                scanned.put(key, new Entry(attributes.size(), attributes.lastModifiedTime().toMillis(), access[0], access[1]));
+                return FileVisitResult.CONTINUE;
+            }
+        });
+
+        // 마지막 접근 순서대로 등록 (스냅샷에 없는 파일은 가장 먼저 제거 대상)
+        keys.sort(Comparator.comparingLong(key -> scanned.get(key).lastAccess));
+        List<String> victims;
+        synchronized (entries) {
+            for (String key : keys) {
+                Entry entry = scanned.get(key);
+                Entry previous = entries.put(key, entry);
+                totalBytes += entry.size - (previous != null ? previous.size : 0);
+            }
+            victims = evictOverflow(null);
+        }
+        victims.forEach(this::deleteQuietly);
+        recoveredEntries.set(keys.size() - victims.size());
+
+        log.info("로컬 캐시 복구 완료 - 경로: {}, 파일: {}개, 접근 기록 복원: {}개, 임시 파일 정리: {}개, 용량 초과 제거: {}개, 소요: {}ms",
+                root, keys.size(), keys.stream().filter(snapshot::containsKey).count(), tempFiles[0], victims.size(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // 접근 기록 스냅샷 저장 (한 줄에 "접근 횟수\t마지막 접근 시각\tkey", 임시 파일에 쓴 뒤 원자적 교체)
+    @Scheduled(fixedDelayString = "${moretale.storage.local-cache.snapshot-interval-ms:60000}",
+            initialDelayString = "${moretale.storage.local-cache.snapshot-interval-ms:60000}")
+    public void snapshot() {
+        StringBuilder lines = new StringBuilder();
+        synchronized (entries) {
+            entries.forEach((key, entry) ->
+                    lines.append(entry.accessCount).append('\t').append(entry.lastAccess).append('\t').append(key).append('\n'));
+        }
+        try {
+            cache.write(SNAPSHOT_FILE, ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8)));
+            lastSnapshotAt = System.currentTimeMillis();
+        } catch (IOException e) {
+            log.warn("로컬 캐시 접근 기록 저장 실패", e);
+        }
+    }
+
+    // 종료 시 마지막 접근 기록 저장 (Spring이 close 메서드를 소멸 콜백으로 호출)
+    public void close() {
+        snapshot();
+    }
+
+    // 캐시 통계 조회
+    public StorageCacheStatsResponse getStats() {
+        int size;
+        long bytes;
+        synchronized (entries) {
+            size = entries.size();
+            bytes = totalBytes;
+        }
+        long total = hits.get() + misses.get();
+
+        return StorageCacheStatsResponse.builder()
+                .enabled(true)
+                .backend(name())
+                .evictionPolicy(evictionPolicy.name())
+                .entries(size)
+                .bytes(bytes)
+                .maxBytes(maxBytes)
+                .hits(hits.get())
+                .misses(misses.get())
+                .fills(fills.get())
+                .fillBytes(fillBytes.get())
+                .collapsedFills(collapsedFills.get())
+                .bypasses(bypasses.get())
+                .evictions(evictions.get())
+                .evictedBytes(evictedBytes.get())
+                .recoveredEntries(recoveredEntries.get())
+                .lastSnapshotAt(lastSnapshotAt)
+                .hitRatio(total == 0 ? 0.0 : (double) hits.get() / total)
+                .build();
+    }
+
+    // 원격에서 받아 로컬에 저장 (같은 key의 동시 미스는 진행 중인 다운로드를 기다림)
+    private void fill(String key, StorageObject remoteObject) throws IOException {
+        CompletableFuture<Void> mine = new CompletableFuture<>();
+        CompletableFuture<Void> inFlight = filling.putIfAbsent(key, mine);
+        if (inFlight != null) {
+            collapsedFills.incrementAndGet();
+            await(inFlight);
+            return;
+        }
+
+        try {
+            try (InputStream inputStream = remote.read(key)) {
+                cache.write(key, inputStream);
+            }
+            Files.setLastModifiedTime(cache.resolve(key), FileTime.fromMillis(remoteObject.lastModified()));
+            long size = Files.size(cache.resolve(key));
+            admit(key, size, remoteObject.lastModified());
+            fills.incrementAndGet();
+            fillBytes.addAndGet(size);
+            mine.complete(null);
+        } catch (IOException | RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            filling.remove(key, mine);
+        }
+    }
+
+    // 로컬 사본 등록 후 용량 초과분 제거 (파일 삭제는 잠금 밖에서)
+    private void admit(String key, long size, long lastModified) {
+        List<String> victims;
+        synchronized (entries) {
+            Entry previous = entries.remove(key);
+            entries.put(key, new Entry(size, lastModified,
+                    previous != null ? previous.accessCount + 1 : 1, System.currentTimeMillis()));
+            totalBytes += size - (previous != null ? previous.size : 0);
+            victims = evictOverflow(key);
+        }
+        victims.forEach(this::deleteQuietly);
+    }
+
+    // 적중 시 접근 횟수/시각 갱신 후 최근 접근 위치로 이동
+    private boolean touch(String key) {
+        synchronized (entries) {
+            Entry entry = entries.remove(key);
+            if (entry == null) {
+                return false;
+            }
+            entry.accessCount++;
+            entry.lastAccess = System.currentTimeMillis();
+            entries.put(key, entry);
+        }
+        hits.incrementAndGet();
+        return true;
+    }
+
+    // entries 잠금 안에서 호출, 방금 등록한 key(protectedKey)는 제거하지 않음
+    private List<String> evictOverflow(String protectedKey) {
+        List<String> victims = new ArrayList<>();
+        while (totalBytes > maxBytes) {
+            String victim = selectVictim(protectedKey);
+            if (victim == null) {
+                break;
+            }
+            Entry entry = entries.remove(victim);
+            totalBytes -= entry.size;
+            evictions.incrementAndGet();
+            evictedBytes.addAndGet(entry.size);
+            victims.add(victim);
+        }
+        return victims;
+    }
+
+    // LRU: 가장 오래 안 쓴 항목
+    // LFU: 가장 오래 안 쓴 evictionSampleSize개 후보 중 접근 횟수가 가장 적은 항목 (같으면 더 오래 안 쓴 항목)
+    private String selectVictim(String protectedKey) {
+        String victim = null;
+        long victimCount = Long.MAX_VALUE;
+        int candidates = evictionPolicy == MoreTaleProperties.Storage.LocalCache.EvictionPolicy.LRU ? 1 : evictionSampleSize;
+
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext() && candidates > 0) {
+            Map.Entry<String, Entry> candidate = iterator.next();
+            if (candidate.getKey().equals(protectedKey)) {
+                continue;
+            }
+            candidates--;
+            if (candidate.getValue().accessCount < victimCount) {
+                victim = candidate.getKey();
+                victimCount = candidate.getValue().accessCount;
+            }
+        }
+        return victim;
+    }
+
+    private void invalidate(String key) {
+        boolean removed;
+        synchronized (entries) {
+            Entry entry = entries.remove(key);
+            removed = entry != null;
+            if (removed) {
+                totalBytes -= entry.size;
+            }
+        }
+        if (removed) {
+            deleteQuietly(key);
+        }
+    }
+
+    private Map<String, long[]> readSnapshot() {
+        Map<String, long[]> snapshot = new HashMap<>();
+        Path snapshotPath = cache.resolve(SNAPSHOT_FILE);
+        if (!Files.isRegularFile(snapshotPath)) {
+            return snapshot;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(snapshotPath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split("\t", 3);
+                if (fields.length == 3) {
+                    snapshot.put(fields[2], new long[]{Long.parseLong(fields[0]), Long.parseLong(fields[1])});
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            log.warn("로컬 캐시 접근 기록을 읽지 못해 무시합니다: {}", snapshotPath, e);
+            snapshot.clear();
+        }
+        return snapshot;
+    }
+
+    // 방금 쓴 로컬 사본의 크기/수정 시각으로 등록
+    private void admitCached(String key) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(cache.resolve(key), BasicFileAttributes.class);
+        admit(key, attributes.size(), attributes.lastModifiedTime().toMillis());
+    }
+
+    private void deleteQuietly(String key) {
+        try {
+            cache.delete(key);
+        } catch (IOException e) {
+            log.warn("로컬 캐시 파일 삭제 실패: {}", key, e);
+        }
+    }
+
+    private static void await(CompletableFuture<Void> inFlight) throws IOException {
+        try {
+            inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,16 @@
+CREATE TABLE IF NOT EXISTS tts_jobs (
+    job_id      BIGSERIAL PRIMARY KEY,
+    job_type    VARCHAR(20)  NOT NULL,
+    story_id    BIGINT       NOT NULL,
+    slide_id    BIGINT,
+    status      VARCHAR(20)  NOT NULL DEFAULT 'PENDING',
+    attempts    INTEGER      NOT NULL DEFAULT 0,
+    next_run_at TIMESTAMP    NOT NULL,
+    locked_by   VARCHAR(100),
+    locked_at   TIMESTAMP,
+    last_error  VARCHAR(1000),
+    created_at  TIMESTAMP    NOT NULL,
+    updated_at  TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_tts_jobs_status_next_run ON tts_jobs (status, next_run_at);
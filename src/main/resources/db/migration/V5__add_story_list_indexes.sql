@@ -0,0 +1,10 @@
+-- 동화 목록 커서 페이지네이션 (created_at, story_id) 인덱스
+
+-- 내 동화 목록: WHERE user_id = ? ORDER BY created_at DESC, story_id DESC
+CREATE INDEX IF NOT EXISTS idx_stories_user_created
+    ON stories (user_id, created_at DESC, story_id DESC);
+
+-- 공개 동화 목록: 공개 동화만 담는 부분 인덱스
+CREATE INDEX IF NOT EXISTS idx_stories_public_created
+    ON stories (created_at DESC, story_id DESC)
+    WHERE is_public = true;
@@ -0,0 +1,2 @@
+-- 동화별 슬라이드 조회 및 목록의 슬라이드 수 집계용 인덱스
+CREATE INDEX IF NOT EXISTS idx_slides_story_order ON slides (story_id, order_num);
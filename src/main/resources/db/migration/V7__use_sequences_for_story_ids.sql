@@ -0,0 +1,16 @@
+-- stories / slides ID를 IDENTITY에서 시퀀스로 변경 (JDBC 배치 INSERT 사용)
+-- 애플리케이션은 시퀀스 값을 50개 단위로 미리 할당 (allocationSize = 50)
+-- ddl-auto가 시퀀스를 1부터 만들기 전에 적용해야 기존 ID와 충돌하지 않음
+
+CREATE SEQUENCE IF NOT EXISTS story_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS slide_seq INCREMENT BY 50;
+
+-- 다음 할당 구간이 기존 최대 ID 이후에서 시작하도록 설정
+SELECT setval('story_seq', COALESCE((SELECT MAX(story_id) FROM stories), 0) + 50, false);
+SELECT setval('slide_seq', COALESCE((SELECT MAX(slide_id) FROM slides), 0) + 50, false);
+
+-- 기존 IDENTITY/SERIAL 기본값 제거 (ID는 애플리케이션이 시퀀스에서 할당)
+ALTER TABLE stories ALTER COLUMN story_id DROP IDENTITY IF EXISTS;
+ALTER TABLE stories ALTER COLUMN story_id DROP DEFAULT;
+ALTER TABLE slides ALTER COLUMN slide_id DROP IDENTITY IF EXISTS;
+ALTER TABLE slides ALTER COLUMN slide_id DROP DEFAULT;
@@ -0,0 +1,6 @@
+-- 동화 상세 ETag용 버전 컬럼 (낙관적 잠금 @Version이 아닌 일반 컬럼)
+-- 슬라이드 오디오 반영(TTS 생성/저장 경로 이전의 일괄 UPDATE)과 공유 설정 변경 시 StoryRepository.incrementVersion으로만 증가
+-- (엔티티에서는 updatable = false라 Hibernate가 덮어쓰지 않고, 겹치는 변경끼리 잠금 충돌이 나지 않음)
+-- 기존 행이 NULL 버전을 갖지 않도록 ddl-auto보다 먼저 적용
+
+ALTER TABLE stories ADD COLUMN IF NOT EXISTS etag_version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,3 @@
+-- 오디오 파일 삭제 전 참조 여부 확인용 인덱스 (고아 오디오 정리 시 URL 일치 조회)
+CREATE INDEX IF NOT EXISTS idx_slides_audio_url_kr ON slides (audio_url_kr);
+CREATE INDEX IF NOT EXISTS idx_slides_audio_url_native ON slides (audio_url_native);
@@ -0,0 +1,95 @@
+package com.moretale;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moretale.domain.story.dto.AIStoryRequest;
+import com.moretale.domain.story.service.impl.StoryGenerationClient;
+import com.moretale.global.client.AIHttpClient;
+import com.moretale.global.config.MoreTaleProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 호출마다 HTTP 클라이언트(연결)를 새로 만드는 방식과 공유 클라이언트(연결 재사용) 방식의 지연 시간 비교
+// 실행: ./gradlew benchmark
+@Tag("benchmark")
+public class AIHttpClientBenchmarkTest {
+
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 500;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MoreTaleProperties properties = new MoreTaleProperties();
+    private final AIStoryRequest request = AIStoryRequest.of("숲속 이야기", "하준", "ko", "vi", null);
+    private StubStoryGenerationServer stub;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = new StubStoryGenerationServer().slides(5, 0, 0);
+        properties.getAi().setStoryGenerationUrl(stub.baseUrl());
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.close();
+    }
+
+    @Test
+    @DisplayName("공유 클라이언트는 호출마다 클라이언트를 생성하는 방식보다 호출당 지연 시간이 짧다")
+    void sharedClientIsFasterThanPerCallClient() {
+        for (int i = 0; i < WARMUP; i++) {
+            generateWithNewClient();
+        }
+        long[] perCall = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            generateWithNewClient();
+            perCall[i] = System.nanoTime() - start;
+        }
+
+        long[] shared = new long[ITERATIONS];
+        AIHttpClient aiHttpClient = new AIHttpClient(objectMapper, properties);
+        try {
+            StoryGenerationClient client = new StoryGenerationClient(objectMapper, aiHttpClient, properties);
+            for (int i = 0; i < WARMUP; i++) {
+                client.generateStory(request);
+            }
+            for (int i = 0; i < ITERATIONS; i++) {
+                long start = System.nanoTime();
+                client.generateStory(request);
+                shared[i] = System.nanoTime() - start;
+            }
+        } finally {
+            aiHttpClient.shutdown();
+        }
+
+        System.out.printf("[AI 클라이언트 벤치마크] 호출마다 생성: p50 %.1f us, p99 %.1f us / 공유 클라이언트: p50 %.1f us, p99 %.1f us%n",
+                percentileMicros(perCall, 50), percentileMicros(perCall, 99),
+                percentileMicros(shared, 50), percentileMicros(shared, 99));
+
+        assertThat(stub.getRequestCount()).isEqualTo((WARMUP + ITERATIONS) * 2);
+        assertThat(percentileMicros(shared, 50)).isLessThan(percentileMicros(perCall, 50));
+    }
+
+    // 기존 방식: 호출마다 HttpClient를 새로 만들어 매번 새 연결을 맺음
+    private void generateWithNewClient() {
+        AIHttpClient aiHttpClient = new AIHttpClient(objectMapper, properties);
+        try {
+            new StoryGenerationClient(objectMapper, aiHttpClient, properties).generateStory(request);
+        } finally {
+            aiHttpClient.shutdown();
+        }
+    }
+
+    private double percentileMicros(long[] nanos, int percentile) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        int index = Math.min(sorted.length - 1, (int) Math.ceil(percentile / 100.0 * sorted.length) - 1);
+        return sorted[index] / 1_000.0;
+    }
+}
@@ -0,0 +1,141 @@
+package com.moretale;
+
+import com.moretale.domain.profile.dto.LanguageUpdateRequest;
+import com.moretale.domain.profile.dto.UserProfileRequest;
+import com.moretale.domain.profile.dto.UserProfileResponse;
+import com.moretale.domain.profile.entity.*;
+import com.moretale.domain.profile.repository.UserProfileRepository;
+import com.moretale.domain.profile.service.UserProfileService;
+import com.moretale.domain.user.entity.User;
+import com.moretale.domain.user.repository.UserRepository;
+import com.moretale.global.dto.EntityCacheStatsResponse;
+import com.moretale.global.service.EntityCacheStatsService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Hibernate 2차 캐시 (User natural-id, UserProfile 엔티티/쿼리 캐시) 적중과 무효화 검증
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles({"dev", "h2"})
+public class EntityCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserProfileRepository userProfileRepository;
+
+    @Autowired
+    private UserProfileService userProfileService;
+
+    @Autowired
+    private EntityCacheStatsService entityCacheStatsService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder().email("cache@example.com").nickname("캐시").role(User.Role.USER).build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        userProfileRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("이메일/ID로 사용자를 다시 조회하면 SQL 없이 2차 캐시에서 반환한다")
+    void userLookups_HitSecondLevelCache() {
+        userRepository.findByEmail("cache@example.com");
+        userRepository.findById(user.getUserId());
+
+        assertThat(countStatements(() -> userRepository.findByEmail("cache@example.com"))).isZero();
+        assertThat(countStatements(() -> userRepository.findById(user.getUserId()))).isZero();
+        assertThat(userRepository.findByEmail("cache@example.com")).get()
+                .extracting(User::getUserId).isEqualTo(user.getUserId());
+        assertThat(userRepository.findByEmail("missing@example.com")).isEmpty();
+
+        EntityCacheStatsResponse userRegion = entityCacheStatsService.getStats().stream()
+                .filter(stats -> stats.getRegion().equals("user"))
+                .findFirst().orElseThrow();
+        assertThat(userRegion.getHits()).isPositive();
+        assertThat(userRegion.getHitRatio()).isGreaterThan(0.0);
+    }
+
+    @Test
+    @DisplayName("최신 프로필 조회는 쿼리 캐시를 사용하고, 프로필 생성/수정/언어 변경/삭제 시 바로 무효화된다")
+    void latestProfileQuery_IsCachedAndInvalidatedOnChanges() throws Exception {
+        Long firstId = userProfileService.createProfile(user.getUserId(), profileRequest("첫째")).getProfileId();
+        assertThat(latestProfile().getProfileId()).isEqualTo(firstId);
+        assertThat(countStatements(this::latestProfile)).isZero();
+        assertThat(countStatements(() -> userProfileRepository.findWithUserByProfileIdAndUser_UserId(firstId, user.getUserId())))
+                .isLessThanOrEqualTo(1);
+        assertThat(countStatements(() -> userProfileRepository.findWithUserByProfileIdAndUser_UserId(firstId, user.getUserId())))
+                .isZero();
+
+        // 생성
+        Thread.sleep(5); // created_at 순서 보장
+        Long secondId = userProfileService.createProfile(user.getUserId(), profileRequest("둘째")).getProfileId();
+        assertThat(latestProfile().getProfileId()).isEqualTo(secondId);
+
+        // 수정
+        UserProfileRequest renamed = profileRequest("둘째-수정");
+        userProfileService.updateProfile(user.getUserId(), secondId, renamed);
+        assertThat(latestProfile().getChildName()).isEqualTo("둘째-수정");
+
+        // 언어 변경
+        userProfileService.updateLanguage(secondId, LanguageUpdateRequest.builder()
+                .primaryLanguage("en").secondaryLanguage("ja").build());
+        assertThat(latestProfile().getPrimaryLanguage()).isEqualTo("en");
+        assertThat(userProfileService.getProfile(secondId))
+                .extracting(UserProfileResponse::getPrimaryLanguage).isEqualTo("en");
+
+        // 삭제
+        userProfileService.deleteProfile(secondId);
+        assertThat(latestProfile().getProfileId()).isEqualTo(firstId);
+        assertThat(userProfileRepository.findWithUserByProfileIdAndUser_UserId(secondId, user.getUserId())).isEmpty();
+    }
+
+    private UserProfile latestProfile() {
+        return userProfileRepository.findFirstWithUserByUser_UserIdOrderByCreatedAtDesc(user.getUserId()).orElseThrow();
+    }
+
+    private UserProfileRequest profileRequest(String childName) {
+        return UserProfileRequest.builder()
+                .childName(childName)
+                .ageGroup(AgeGroup.AGE_5_6)
+                .firstLanguage("ko")
+                .firstLanguageProficiency(LanguageProficiency.BEE)
+                .secondLanguage("vi")
+                .secondLanguageProficiency(LanguageProficiency.LARVA)
+                .firstLanguageListening(LanguageProficiency.BEE)
+                .firstLanguageSpeaking(LanguageProficiency.BEE)
+                .secondLanguageListening(LanguageProficiency.PUPA)
+                .secondLanguageSpeaking(LanguageProficiency.LARVA)
+                .familyStructure(FamilyStructure.TWO_PARENTS)
+                .storyPreference(StoryPreference.WARM_HUG)
+                .build();
+    }
+
+    private long countStatements(Supplier<?> query) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        query.get();
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,413 @@
+package com.moretale;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+
+// 테스트용 인프로세스 Google Cloud Storage JSON API 서버
+// google-cloud-storage 클라이언트가 사용하는 요청만 지원: 단일 요청(multipart) 업로드, 재개 가능(resumable) 업로드,
+// 메타데이터 조회/수정(PATCH, updated 시각 갱신), 내용 다운로드(alt=media, Range), 삭제
+// 요청마다 지정된 지연을 두어 객체 저장소 왕복 시간을 흉내냄
+public class FakeGcsServer implements AutoCloseable {
+
+    private static final Pattern OBJECT_PATH = Pattern.compile("^(?:/download)?/storage/v1/b/([^/]+)/o/(.+)$");
+    private static final Pattern LIST_PATH = Pattern.compile("^/storage/v1/b/([^/]+)/o$");
+    private static final Pattern UPLOAD_PATH = Pattern.compile("^/upload/storage/v1/b/([^/]+)/o$");
+    private static final Pattern CONTENT_RANGE = Pattern.compile("bytes (?:(\\d+)-(\\d+)|\\*)/(\\d+|\\*)");
+    private static final Pattern RANGE = Pattern.compile("bytes=(\\d+)-(\\d*)");
+
+    static {
+        // 작은 응답이 Nagle 알고리즘으로 지연되지 않도록 (HttpServer 설정은 첫 서버 생성 시 한 번 읽힘)
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final long latencyMillis;
+    private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+    private final Map<String, ResumableSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong generations = new AtomicLong();
+    private final AtomicInteger multipartUploads = new AtomicInteger();
+    private final AtomicInteger resumableChunks = new AtomicInteger();
+
+    private record StoredObject(String bucket, String name, String contentType, byte[] data, long generation, Instant updated) {
+    }
+
+    private static final class ResumableSession {
+        private final String bucket;
+        private final String name;
+        private final String contentType;
+        private final ByteArrayOutputStream data = new ByteArrayOutputStream();
+
+        private ResumableSession(String bucket, String name, String contentType) {
+            this.bucket = bucket;
+            this.name = name;
+            this.contentType = contentType;
+        }
+    }
+
+    public FakeGcsServer(long latencyMillis) throws IOException {
+        this.latencyMillis = latencyMillis;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        this.server.createContext("/", exchange -> {
+            try (exchange) {
+                sleep();
+                handle(exchange);
+            } catch (RuntimeException e) {
+                respond(exchange, 500, "application/json", error(500, e.toString()));
+            }
+        });
+        this.server.start();
+    }
+
+    // StorageOptions host 값
+    public String getHost() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    public byte[] getContent(String bucket, String name) {
+        StoredObject object = objects.get(bucket + "/" + name);
+        return object == null ? null : object.data();
+    }
+
+    public int getMultipartUploads() {
+        return multipartUploads.get();
+    }
+
+    public int getResumableChunks() {
+        return resumableChunks.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getRawPath();
+        Map<String, String> query = query(exchange.getRequestURI().getRawQuery());
+
+        Matcher upload = UPLOAD_PATH.matcher(path);
+        if (upload.matches() && "POST".equals(method) && "multipart".equals(query.get("uploadType"))) {
+            multipartUpload(exchange, upload.group(1));
+            return;
+        }
+        if (upload.matches() && "POST".equals(method) && "resumable".equals(query.get("uploadType"))) {
+            startResumable(exchange, upload.group(1), query);
+            return;
+        }
+        if (upload.matches() && "PUT".equals(method) && query.containsKey("upload_id")) {
+            resumableChunk(exchange, query.get("upload_id"));
+            return;
+        }
+
+        Matcher list = LIST_PATH.matcher(path);
+        if (list.matches() && "GET".equals(method)) {
+            list(exchange, list.group(1), query);
+            return;
+        }
+
+        Matcher object = OBJECT_PATH.matcher(path);
+        if (object.matches()) {
+            String key = object.group(1) + "/" + URLDecoder.decode(object.group(2), StandardCharsets.UTF_8);
+            // PATCH를 지원하지 않는 HTTP 전송은 POST + X-HTTP-Method-Override로 보냄
+            String override = exchange.getRequestHeaders().getFirst("X-HTTP-Method-Override");
+            switch (override != null ? override : method) {
+                case "GET" -> {
+                    if ("media".equals(query.get("alt"))) {
+                        download(exchange, key, query);
+                    } else {
+                        metadata(exchange, key, query);
+                    }
+                }
+                case "PATCH" -> patch(exchange, key, query);
+                case "DELETE" -> {
+                    if (objects.remove(key) == null) {
+                        notFound(exchange, key);
+                    } else {
+                        respond(exchange, 204, null, new byte[0]);
+                    }
+                }
+                default -> respond(exchange, 405, "application/json", error(405, method));
+            }
+            return;
+        }
+        respond(exchange, 400, "application/json", error(400, "지원하지 않는 요청: " + method + " " + path));
+    }
+
+    // multipart/related: 첫 파트는 JSON 메타데이터, 두 번째 파트는 내용
+    private void multipartUpload(HttpExchange exchange, String bucket) throws IOException {
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        String boundary = contentType.substring(contentType.indexOf("boundary=") + "boundary=".length()).replace("\"", "");
+        byte[] body = requestBody(exchange);
+
+        byte[] delimiter = ("--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+        int first = indexOf(body, delimiter, 0);
+        int second = indexOf(body, delimiter, first + delimiter.length);
+        int end = indexOf(body, delimiter, second + delimiter.length);
+        JsonNode metadata = objectMapper.readTree(partBody(body, first + delimiter.length, second));
+        byte[] data = partBody(body, second + delimiter.length, end);
+
+        multipartUploads.incrementAndGet();
+        StoredObject stored = store(bucket, metadata.path("name").asText(), metadata.path("contentType").asText(null), data);
+        respond(exchange, 200, "application/json", objectMapper.writeValueAsBytes(resource(stored, null)));
+    }
+
+    private void startResumable(HttpExchange exchange, String bucket, Map<String, String> query) throws IOException {
+        byte[] body = requestBody(exchange);
+        JsonNode metadata = body.length == 0 ? objectMapper.createObjectNode() : objectMapper.readTree(body);
+        String name = metadata.hasNonNull("name") ? metadata.get("name").asText() : query.get("name");
+
+        String uploadId = "session-" + generations.incrementAndGet();
+        sessions.put(uploadId, new ResumableSession(bucket, name, metadata.path("contentType").asText(null)));
+        exchange.getResponseHeaders().set("Location",
+                getHost() + "/upload/storage/v1/b/" + bucket + "/o?uploadType=resumable&upload_id=" + uploadId);
+        respond(exchange, 200, "application/json", new byte[0]);
+    }
+
+    // Content-Range: bytes a-b/* (중간 청크), bytes a-b/total 또는 bytes */total (마지막 청크)
+    private void resumableChunk(HttpExchange exchange, String uploadId) throws IOException {
+        ResumableSession session = sessions.get(uploadId);
+        if (session == null) {
+            notFound(exchange, uploadId);
+            return;
+        }
+        byte[] chunk = requestBody(exchange);
+        String contentRange = exchange.getRequestHeaders().getFirst("Content-Range");
+        Matcher matcher = CONTENT_RANGE.matcher(contentRange == null ? "" : contentRange);
+        if (!matcher.matches()) {
+            respond(exchange, 400, "application/json", error(400, "잘못된 Content-Range: " + contentRange));
+            return;
+        }
+
+        long total;
+        synchronized (session) {
+            if (matcher.group(1) != null) {
+                long start = Long.parseLong(matcher.group(1));
+                if (start != session.data.size()) {
+                    respond(exchange, 400, "application/json", error(400, "청크 시작 위치 불일치: " + start));
+                    return;
+                }
+                session.data.write(chunk);
+                resumableChunks.incrementAndGet();
+            }
+            total = "*".equals(matcher.group(3)) ? -1 : Long.parseLong(matcher.group(3));
+        }
+
+        long received = session.data.size();
+        if (total >= 0 && received == total) {
+            sessions.remove(uploadId);
+            StoredObject stored = store(session.bucket, session.name, session.contentType, session.data.toByteArray());
+            respond(exchange, 200, "application/json", objectMapper.writeValueAsBytes(resource(stored, null)));
+            return;
+        }
+        if (received > 0) {
+            exchange.getResponseHeaders().set("Range", "bytes=0-" + (received - 1));
+        }
+        respond(exchange, 308, null, new byte[0]);
+    }
+
+    private void metadata(HttpExchange exchange, String key, Map<String, String> query) throws IOException {
+        StoredObject stored = objects.get(key);
+        if (stored == null) {
+            notFound(exchange, key);
+            return;
+        }
+        respond(exchange, 200, "application/json", objectMapper.writeValueAsBytes(resource(stored, query.get("fields"))));
+    }
+
+    // 메타데이터 수정: 내용/세대는 그대로 두고 updated 시각만 갱신
+    private void patch(HttpExchange exchange, String key, Map<String, String> query) throws IOException {
+        requestBody(exchange);
+        StoredObject stored = objects.computeIfPresent(key, (k, current) -> new StoredObject(current.bucket(), current.name(),
+                current.contentType(), current.data(), current.generation(), Instant.now()));
+        if (stored == null) {
+            notFound(exchange, key);
+            return;
+        }
+        respond(exchange, 200, "application/json", objectMapper.writeValueAsBytes(resource(stored, query.get("fields"))));
+    }
+
+    private void download(HttpExchange exchange, String key, Map<String, String> query) throws IOException {
+        StoredObject stored = objects.get(key);
+        String ifGenerationMatch = query.get("ifGenerationMatch");
+        if (stored == null) {
+            notFound(exchange, key);
+            return;
+        }
+        if (ifGenerationMatch != null && Long.parseLong(ifGenerationMatch) != stored.generation()) {
+            respond(exchange, 412, "application/json", error(412, "generation 불일치"));
+            return;
+        }
+
+        byte[] data = stored.data();
+        int start = 0;
+        int end = data.length;
+        String range = exchange.getRequestHeaders().getFirst("Range");
+        Matcher matcher = RANGE.matcher(range == null ? "" : range);
+        boolean partial = matcher.matches();
+        if (partial) {
+            start = (int) Math.min(Long.parseLong(matcher.group(1)), data.length);
+            if (!matcher.group(2).isEmpty()) {
+                end = (int) Math.min(Long.parseLong(matcher.group(2)) + 1, data.length);
+            }
+            exchange.getResponseHeaders().set("Content-Range", "bytes " + start + "-" + (end - 1) + "/" + data.length);
+        }
+        exchange.getResponseHeaders().set("x-goog-generation", String.valueOf(stored.generation()));
+        respond(exchange, partial ? 206 : 200, stored.contentType(), Arrays.copyOfRange(data, start, end));
+    }
+
+    // 객체 목록: prefix, startOffset(포함), maxResults 지원 (이름순)
+    private void list(HttpExchange exchange, String bucket, Map<String, String> query) throws IOException {
+        String prefix = decode(query.getOrDefault("prefix", ""));
+        String startOffset = decode(query.getOrDefault("startOffset", ""));
+        int maxResults = Integer.parseInt(query.getOrDefault("maxResults", "1000"));
+        List<StoredObject> matched = objects.values().stream()
+                .filter(stored -> stored.bucket().equals(bucket))
+                .filter(stored -> stored.name().startsWith(prefix) && stored.name().compareTo(startOffset) >= 0)
+                .sorted(Comparator.comparing(StoredObject::name))
+                .toList();
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("kind", "storage#objects");
+        response.put("items", matched.stream().limit(maxResults)
+                .map(stored -> resource(stored, query.get("fields")))
+                .toList());
+        if (matched.size() > maxResults) {
+            response.put("nextPageToken", matched.get(maxResults).name());
+        }
+        respond(exchange, 200, "application/json", objectMapper.writeValueAsBytes(response));
+    }
+
+    private static String decode(String value) {
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+
+    private StoredObject store(String bucket, String name, String contentType, byte[] data) {
+        StoredObject stored = new StoredObject(bucket, name,
+                contentType == null ? "application/octet-stream" : contentType,
+                data, generations.incrementAndGet(), Instant.now());
+        objects.put(bucket + "/" + name, stored);
+        return stored;
+    }
+
+    private Map<String, Object> resource(StoredObject stored, String fields) {
+        Map<String, Object> resource = new LinkedHashMap<>();
+        resource.put("kind", "storage#object");
+        resource.put("id", stored.bucket() + "/" + stored.name() + "/" + stored.generation());
+        resource.put("bucket", stored.bucket());
+        resource.put("name", stored.name());
+        resource.put("generation", String.valueOf(stored.generation()));
+        resource.put("metageneration", "1");
+        resource.put("contentType", stored.contentType());
+        resource.put("size", String.valueOf(stored.data().length));
+        resource.put("timeCreated", stored.updated().toString());
+        resource.put("updated", stored.updated().toString());
+        if (fields != null) {
+            // fields 지정 시 요청한 필드와 식별 필드만 반환
+            String requested = URLDecoder.decode(fields, StandardCharsets.UTF_8);
+            resource.keySet().removeIf(field -> !requested.contains(field)
+                    && !field.equals("bucket") && !field.equals("name") && !field.equals("generation"));
+        }
+        return resource;
+    }
+
+    // 클라이언트가 요청 본문을 gzip으로 압축해 보낼 수 있음
+    private static byte[] requestBody(HttpExchange exchange) throws IOException {
+        InputStream inputStream = exchange.getRequestBody();
+        if ("gzip".equalsIgnoreCase(exchange.getRequestHeaders().getFirst("Content-Encoding"))) {
+            inputStream = new GZIPInputStream(inputStream);
+        }
+        return inputStream.readAllBytes();
+    }
+
+    private void notFound(HttpExchange exchange, String key) throws IOException {
+        respond(exchange, 404, "application/json", error(404, "No such object: " + key));
+    }
+
+    private byte[] error(int code, String message) throws IOException {
+        return objectMapper.writeValueAsBytes(Map.of("error", Map.of("code", code, "message", message)));
+    }
+
+    private static void respond(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        if (contentType != null) {
+            exchange.getResponseHeaders().set("Content-Type", contentType);
+        }
+        boolean empty = body.length == 0;
+        exchange.sendResponseHeaders(status, empty ? -1 : body.length);
+        if (!empty) {
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        }
+    }
+
+    private static Map<String, String> query(String rawQuery) {
+        Map<String, String> query = new LinkedHashMap<>();
+        if (rawQuery == null) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int equals = pair.indexOf('=');
+            String name = URLDecoder.decode(equals < 0 ? pair : pair.substring(0, equals), StandardCharsets.UTF_8);
+            String value = equals < 0 ? "" : URLDecoder.decode(pair.substring(equals + 1), StandardCharsets.UTF_8);
+            query.put(name, value);
+        }
+        return query;
+    }
+
+    // 구분자 뒤 파트 헤더(빈 줄까지)를 건너뛰고, 다음 구분자 앞 CRLF를 제외한 본문
+    private static byte[] partBody(byte[] body, int from, int nextDelimiter) {
+        int headersEnd = indexOf(body, "\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1), from);
+        return Arrays.copyOfRange(body, headersEnd + 4, nextDelimiter - 2);
+    }
+
+    private static int indexOf(byte[] data, byte[] pattern, int from) {
+        outer:
+        for (int i = from; i <= data.length - pattern.length; i++) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (data[i + j] != pattern[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        throw new IllegalArgumentException("multipart 구분자를 찾을 수 없습니다");
+    }
+
+    private void sleep() {
+        if (latencyMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
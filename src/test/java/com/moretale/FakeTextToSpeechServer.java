@@ -0,0 +1,229 @@
+package com.moretale;
+
+import com.google.cloud.texttospeech.v1.SynthesizeSpeechRequest;
+import com.google.cloud.texttospeech.v1.SynthesizeSpeechResponse;
+import com.google.cloud.texttospeech.v1beta1.Timepoint;
+import com.google.protobuf.ByteString;
+import io.grpc.ManagedChannel;
+import io.grpc.MethodDescriptor;
+import io.grpc.Server;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.protobuf.ProtoUtils;
+import io.grpc.stub.ServerCalls;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 테스트용 인프로세스 Google TTS gRPC 서버
+// 실제 API 대신 지정된 지연 후 결정적인 MP3 프레임을 반환 (글자 하나당 프레임 하나, MPEG-2 Layer III 24kHz 32kbps: 96바이트 / 24ms)
+// v1beta1 SSML 요청은 <break time="Nms"/>를 무음 프레임으로, <mark>는 해당 위치의 시각(timepoint)으로 응답
+// setVbrHeader(true)면 SSML 응답 앞에 인코더가 붙이는 ID3v2 태그와 Xing 헤더 프레임을 추가 (timepoint는 첫 오디오 프레임 기준)
+public class FakeTextToSpeechServer implements AutoCloseable {
+
+    public static final int MAX_INPUT_BYTES = 5000;
+    public static final double FRAME_SECONDS = 0.024;
+
+    private static final String SERVICE_NAME = "google.cloud.texttospeech.v1.TextToSpeech";
+    private static final String BETA_SERVICE_NAME = "google.cloud.texttospeech.v1beta1.TextToSpeech";
+    private static final int FRAME_BYTES = 96;
+    private static final byte[] FRAME_HEADER = {(byte) 0xFF, (byte) 0xF3, (byte) 0x44, (byte) 0xC0};
+    private static final Pattern SSML_TAG = Pattern.compile("<mark name=\"([^\"]*)\"/>|<break time=\"(\\d+)ms\"/>|<[^>]+>");
+
+    private static final MethodDescriptor<SynthesizeSpeechRequest, SynthesizeSpeechResponse> SYNTHESIZE_SPEECH =
+            MethodDescriptor.<SynthesizeSpeechRequest, SynthesizeSpeechResponse>newBuilder()
+                    .setType(MethodDescriptor.MethodType.UNARY)
+                    .setFullMethodName(MethodDescriptor.generateFullMethodName(SERVICE_NAME, "SynthesizeSpeech"))
+                    .setRequestMarshaller(ProtoUtils.marshaller(SynthesizeSpeechRequest.getDefaultInstance()))
+                    .setResponseMarshaller(ProtoUtils.marshaller(SynthesizeSpeechResponse.getDefaultInstance()))
+                    .build();
+
+    private static final MethodDescriptor<com.google.cloud.texttospeech.v1beta1.SynthesizeSpeechRequest,
+            com.google.cloud.texttospeech.v1beta1.SynthesizeSpeechResponse> SYNTHESIZE_SPEECH_BETA =
+            MethodDescriptor.<com.google.cloud.texttospeech.v1beta1.SynthesizeSpeechRequest,
+                            com.google.cloud.texttospeech.v1beta1.SynthesizeSpeechResponse>newBuilder()
+                    .setType(MethodDescriptor.MethodType.UNARY)
+                    .setFullMethodName(MethodDescriptor.generateFullMethodName(BETA_SERVICE_NAME, "SynthesizeSpeech"))
+                    .setRequestMarshaller(ProtoUtils.marshaller(
+                            com.google.cloud.texttospeech.v1beta1.SynthesizeSpeechRequest.getDefaultInstance()))
+                    .setResponseMarshaller(ProtoUtils.marshaller(
+                            com.google.cloud.texttospeech.v1beta1.SynthesizeSpeechResponse.getDefaultInstance()))
+                    .build();
+
+    private final String serverName;
+    private final long latencyMillis;
+    private final AtomicInteger callCount = new AtomicInteger();
+    private final AtomicInteger batchCallCount = new AtomicInteger();
+    private final Server server;
+    private volatile boolean vbrHeader;
+
+    public FakeTextToSpeechServer(long latencyMillis) throws IOException {
+        this.serverName = InProcessServerBuilder.generateName();
+        this.latencyMillis = latencyMillis;
+        this.server = InProcessServerBuilder.forName(serverName)
+                .addService(ServerServiceDefinition.builder(SERVICE_NAME)
+                        .addMethod(SYNTHESIZE_SPEECH, ServerCalls.asyncUnaryCall((request, observer) -> {
+                            callCount.incrementAndGet();
+                            sleep();
+                            String input = request.getInput().hasSsml()
+                                    ? request.getInput().getSsml()
+                                    : request.getInput().getText();
+                            if (input.getBytes(StandardCharsets.UTF_8).length > MAX_INPUT_BYTES) {
+                                observer.onError(Status.INVALID_ARGUMENT.withDescription("input too long").asRuntimeException());
+                                return;
+                            }
+                            observer.onNext(SynthesizeSpeechResponse.newBuilder()
+                                    .setAudioContent(ByteString.copyFrom(audio(input)))
+                                    .build());
+                            observer.onCompleted();
+                        }))
+                        .build())
+                .addService(ServerServiceDefinition.builder(BETA_SERVICE_NAME)
+                        .addMethod(SYNTHESIZE_SPEECH_BETA, ServerCalls.asyncUnaryCall((request, observer) -> {
+                            callCount.incrementAndGet();
+                            batchCallCount.incrementAndGet();
+                            sleep();
+                            String ssml = request.getInput().getSsml();
+                            if (ssml.getBytes(StandardCharsets.UTF_8).length > MAX_INPUT_BYTES) {
+                                observer.onError(Status.INVALID_ARGUMENT.withDescription("input too long").asRuntimeException());
+                                return;
+                            }
+                            observer.onNext(synthesizeSsml(ssml));
+                            observer.onCompleted();
+                        }))
+                        .build())
+                .build()
+                .start();
+    }
+
+    // 텍스트 합성 결과와 같은 MP3 프레임 (글자마다 내용이 다른 프레임 하나)
+    public static byte[] audio(String text) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        text.codePoints().forEach(codePoint -> writeFrame(out, codePoint));
+        return out.toByteArray();
+    }
+
+    // <break time="Nms"/>의 무음 프레임
+    public static byte[] silence(int millis) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int i = 0; i < silenceFrames(millis); i++) {
+            writeFrame(out, 0);
+        }
+        return out.toByteArray();
+    }
+
+    // 서버에 연결된 새 인프로세스 채널 생성
+    public ManagedChannel newChannel() {
+        return InProcessChannelBuilder.forName(serverName).directExecutor().build();
+    }
+
+    public void setVbrHeader(boolean vbrHeader) {
+        this.vbrHeader = vbrHeader;
+    }
+
+    public int getCallCount() {
+        return callCount.get();
+    }
+
+    // v1beta1(SSML 묶음) 호출 수
+    public int getBatchCallCount() {
+        return batchCallCount.get();
+    }
+
+    private com.google.cloud.texttospeech.v1beta1.SynthesizeSpeechResponse synthesizeSsml(String ssml) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        List<Timepoint> timepoints = new ArrayList<>();
+        Matcher matcher = SSML_TAG.matcher(ssml);
+        int textStart = 0;
+        while (matcher.find()) {
+            out.writeBytes(audio(unescape(ssml.substring(textStart, matcher.start()))));
+            if (matcher.group(1) != null) {
+                timepoints.add(Timepoint.newBuilder()
+                        .setMarkName(matcher.group(1))
+                        .setTimeSeconds(out.size() / FRAME_BYTES * FRAME_SECONDS)
+                        .build());
+            } else if (matcher.group(2) != null) {
+                out.writeBytes(silence(Integer.parseInt(matcher.group(2))));
+            }
+            textStart = matcher.end();
+        }
+        out.writeBytes(audio(unescape(ssml.substring(textStart))));
+        ByteString audioContent = ByteString.copyFrom(out.toByteArray());
+        if (vbrHeader) {
+            audioContent = ByteString.copyFrom(vbrHeader(out.size() / FRAME_BYTES, out.size())).concat(audioContent);
+        }
+        return com.google.cloud.texttospeech.v1beta1.SynthesizeSpeechResponse.newBuilder()
+                .setAudioContent(audioContent)
+                .addAllTimepoints(timepoints)
+                .build();
+    }
+
+    // ID3v2 태그(TSSE 프레임) + 전체 프레임/바이트 수를 담은 Xing 헤더 프레임 (MPEG-2 모노: 사이드 정보 9바이트)
+    private static byte[] vbrHeader(int frames, int bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] encoder = "\0Lavf60.3.100".getBytes(StandardCharsets.ISO_8859_1);
+        int tagSize = 10 + encoder.length;
+        out.writeBytes(new byte[]{'I', 'D', '3', 4, 0, 0, 0, 0, 0, (byte) tagSize});
+        out.writeBytes(new byte[]{'T', 'S', 'S', 'E', 0, 0, 0, (byte) encoder.length, 0, 0});
+        out.writeBytes(encoder);
+
+        byte[] frame = new byte[FRAME_BYTES];
+        System.arraycopy(FRAME_HEADER, 0, frame, 0, FRAME_HEADER.length);
+        int tag = FRAME_HEADER.length + 9;
+        System.arraycopy("Xing".getBytes(StandardCharsets.ISO_8859_1), 0, frame, tag, 4);
+        frame[tag + 7] = 0x03; // 프레임 수, 바이트 수 포함
+        writeInt(frame, tag + 8, frames + 1);
+        writeInt(frame, tag + 12, bytes + FRAME_BYTES);
+        out.writeBytes(frame);
+        return out.toByteArray();
+    }
+
+    private static void writeInt(byte[] target, int offset, int value) {
+        for (int i = 0; i < 4; i++) {
+            target[offset + i] = (byte) (value >> (8 * (3 - i)));
+        }
+    }
+
+    private static void writeFrame(ByteArrayOutputStream out, int codePoint) {
+        byte[] frame = new byte[FRAME_BYTES];
+        System.arraycopy(FRAME_HEADER, 0, frame, 0, FRAME_HEADER.length);
+        for (int i = FRAME_HEADER.length; i < FRAME_BYTES; i++) {
+            frame[i] = (byte) (codePoint >> (8 * (i % 3)));
+        }
+        out.writeBytes(frame);
+    }
+
+    private static int silenceFrames(int millis) {
+        return (int) Math.round(millis / 1000.0 / FRAME_SECONDS);
+    }
+
+    private static String unescape(String text) {
+        return text.replace("&lt;", "<").replace("&gt;", ">").replace("&quot;", "\"")
+                .replace("&apos;", "'").replace("&amp;", "&");
+    }
+
+    private void sleep() {
+        if (latencyMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,105 @@
+package com.moretale;
+
+import com.google.protobuf.ByteString;
+import com.moretale.global.config.MoreTaleProperties;
+import com.moretale.global.service.FileStorageService;
+import com.moretale.global.storage.InMemoryStorageBackend;
+import com.moretale.global.storage.LocalStorageBackend;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FileStorageServiceTest {
+
+    private static final long UPLOAD_MILLIS = 100;
+
+    @TempDir
+    private Path basePath;
+
+    @ParameterizedTest
+    @EnumSource(MoreTaleProperties.Upload.FsyncPolicy.class)
+    @DisplayName("ByteString 버퍼를 최종 위치에 바로 저장하고, 기존 파일은 원자적으로 교체하며 임시 파일을 남기지 않는다")
+    void writeFile_AtomicallyReplacesWithoutTempFiles(MoreTaleProperties.Upload.FsyncPolicy fsyncPolicy) throws Exception {
+        FileStorageService fileStorageService = fileStorageService(fsyncPolicy);
+        String subPath = FileStorageService.resolveShardedPath("tts/audio", "tts_" + "c".repeat(64) + ".mp3");
+
+        String url = fileStorageService.writeFile(
+                ByteString.copyFrom("first", StandardCharsets.UTF_8).asReadOnlyByteBuffer(), subPath);
+        fileStorageService.writeFile(
+                ByteString.copyFrom("second audio", StandardCharsets.UTF_8).asReadOnlyByteBuffer(), subPath);
+
+        assertThat(url).isEqualTo("http://localhost/uploads/" + subPath);
+        assertThat(basePath.resolve(subPath)).hasContent("second audio");
+        try (Stream<Path> files = Files.list(basePath.resolve(subPath).getParent())) {
+            assertThat(files).containsExactly(basePath.resolve(subPath));
+        }
+    }
+
+    @Test
+    @DisplayName("비동기 저장은 업로드를 기다리지 않고 반환하며, 동시 업로드 수를 설정값 이하로 제한한다")
+    void writeFileAsync_ReturnsImmediatelyAndLimitsConcurrency() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        InMemoryStorageBackend slowBackend = new InMemoryStorageBackend() {
+            @Override
+            public void write(String key, ByteBuffer data) {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(UPLOAD_MILLIS);
+                    super.write(key, data);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            }
+        };
+        MoreTaleProperties properties = new MoreTaleProperties();
+        properties.getStorage().setMaxConcurrentUploads(2);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            FileStorageService fileStorageService = new FileStorageService(slowBackend, executor, properties);
+            ReflectionTestUtils.setField(fileStorageService, "baseUrl", "http://localhost/uploads");
+
+            long start = System.nanoTime();
+            List<CompletableFuture<String>> uploads = IntStream.range(0, 6)
+                    .mapToObj(i -> fileStorageService.writeFileAsync(ByteBuffer.wrap(new byte[]{(byte) i}), "async/" + i + ".mp3"))
+                    .toList();
+            long submitMillis = (System.nanoTime() - start) / 1_000_000;
+
+            assertThat(submitMillis).isLessThan(UPLOAD_MILLIS);
+            assertThat(uploads.stream().map(CompletableFuture::join))
+                    .containsExactly(IntStream.range(0, 6).mapToObj(i -> "http://localhost/uploads/async/" + i + ".mp3").toArray(String[]::new));
+            assertThat(maxInFlight.get()).isEqualTo(2);
+            assertThat(slowBackend.size()).isEqualTo(6);
+        }
+    }
+
+    private FileStorageService fileStorageService(MoreTaleProperties.Upload.FsyncPolicy fsyncPolicy) {
+        MoreTaleProperties properties = new MoreTaleProperties();
+        properties.getUpload().setFsyncPolicy(fsyncPolicy);
+        FileStorageService fileStorageService = new FileStorageService(
+                new LocalStorageBackend(basePath, fsyncPolicy), ForkJoinPool.commonPool(), properties);
+        ReflectionTestUtils.setField(fileStorageService, "basePath", basePath.toString());
+        ReflectionTestUtils.setField(fileStorageService, "baseUrl", "http://localhost/uploads");
+        return fileStorageService;
+    }
+}
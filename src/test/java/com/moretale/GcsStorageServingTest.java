@@ -0,0 +1,122 @@
+package com.moretale;
+
+import com.moretale.domain.tts.service.TTSService;
+import com.moretale.global.service.FileStorageService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// moretale.storage.backend=gcs: 업로드/TTS 오디오를 GCS(인프로세스 가짜 서버)에 저장하고 /uploads로 제공
+@SpringBootTest(properties = {
+        "moretale.storage.backend=gcs",
+        "moretale.storage.gcs.bucket=serving-bucket",
+        "moretale.storage.gcs.project-id=test-project",
+        "moretale.tts.storage-migration.enabled=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles({"dev", "h2"})
+public class GcsStorageServingTest {
+
+    private static final FakeGcsServer FAKE_GCS = start();
+    // 실행마다 빈 로컬 캐시 디렉토리 (이전 실행의 사본이 복구되지 않도록)
+    private static final String LOCAL_CACHE_PATH = tempDirectory("moretale-storage-cache");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private FileStorageService fileStorageService;
+
+    @Autowired
+    private TTSService ttsService;
+
+    @DynamicPropertySource
+    static void gcsHost(DynamicPropertyRegistry registry) {
+        registry.add("moretale.storage.gcs.host", FAKE_GCS::getHost);
+        registry.add("moretale.storage.local-cache.path", () -> LOCAL_CACHE_PATH);
+    }
+
+    @AfterAll
+    static void stop() {
+        FAKE_GCS.close();
+    }
+
+    @Test
+    @DisplayName("비동기로 저장한 오디오를 GCS에서 읽어 immutable 캐시, 내용 해시 ETag, 304, Range/206으로 응답한다")
+    void asyncUpload_ServedFromGcs() throws Exception {
+        String hash = "cd".repeat(32);
+        String subPath = FileStorageService.resolveShardedPath("tts/audio", "audio_" + hash + ".mp3");
+        byte[] audio = new byte[64 * 1024];
+        new Random(3).nextBytes(audio);
+
+        String audioUrl = fileStorageService.writeFileAsync(ByteBuffer.wrap(audio), subPath).join();
+        assertThat(audioUrl).endsWith("/uploads/" + subPath);
+        assertThat(FAKE_GCS.getContent("serving-bucket", subPath)).isEqualTo(audio);
+
+        String url = "/uploads/" + subPath;
+        MockHttpServletResponse response = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + hash + "\""))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, audio.length))
+                .andReturn().getResponse();
+        assertThat(response.getContentAsByteArray()).isEqualTo(audio);
+
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, response.getHeader(HttpHeaders.ETAG)))
+                .andExpect(status().isNotModified());
+
+        byte[] range = mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=1000-1999"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 1000-1999/" + audio.length))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertThat(range).isEqualTo(Arrays.copyOfRange(audio, 1000, 2000));
+    }
+
+    @Test
+    @DisplayName("TTS 합성 결과는 GCS에 저장되고, 없는 파일은 404를 반환한다")
+    void ttsAudio_StoredInGcs() throws Exception {
+        String audioUrl = ttsService.generateAudioUrlAsync("GCS에 저장되는 문장", "ko-KR").join();
+        String subPath = audioUrl.substring(audioUrl.indexOf("/uploads/") + "/uploads/".length());
+
+        assertThat(FAKE_GCS.getContent("serving-bucket", subPath)).isNotEmpty();
+        mockMvc.perform(get("/uploads/" + subPath)).andExpect(status().isOk());
+        mockMvc.perform(get("/uploads/tts/audio/00/00/tts_" + "0".repeat(64) + ".mp3"))
+                .andExpect(status().isNotFound());
+    }
+
+    private static String tempDirectory(String prefix) {
+        try {
+            return Files.createTempDirectory(prefix).toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static FakeGcsServer start() {
+        try {
+            return new FakeGcsServer(0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
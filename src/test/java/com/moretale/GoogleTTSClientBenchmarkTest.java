@@ -0,0 +1,99 @@
+package com.moretale;
+
+import com.google.api.gax.core.NoCredentialsProvider;
+import com.google.api.gax.grpc.GrpcTransportChannel;
+import com.google.api.gax.rpc.FixedTransportChannelProvider;
+import com.google.cloud.texttospeech.v1.*;
+import com.moretale.domain.tts.service.impl.TextToSpeechClientProvider;
+import com.moretale.global.config.MoreTaleProperties;
+import io.grpc.ManagedChannel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 호출마다 클라이언트를 생성하던 방식과 공유 클라이언트 방식의 호출당 지연 시간 비교
+// 실행: ./gradlew benchmark
+@Tag("benchmark")
+public class GoogleTTSClientBenchmarkTest {
+
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 500;
+
+    private final MoreTaleProperties.Tts.Google config = new MoreTaleProperties.Tts.Google();
+    private FakeTextToSpeechServer server;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new FakeTextToSpeechServer(0);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        server.close();
+    }
+
+    @Test
+    @DisplayName("공유 클라이언트는 호출마다 클라이언트를 생성하는 방식보다 호출당 지연 시간이 짧다")
+    void sharedClientIsFasterThanPerCallClient() throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            synthesizeWithNewClient();
+        }
+        long perCallStart = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            synthesizeWithNewClient();
+        }
+        double perCallMicros = (System.nanoTime() - perCallStart) / 1_000.0 / ITERATIONS;
+
+        double sharedMicros;
+        ManagedChannel sharedChannel = server.newChannel();
+        try (TextToSpeechClient client = createClient(sharedChannel)) {
+            for (int i = 0; i < WARMUP; i++) {
+                synthesize(client);
+            }
+            long sharedStart = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                synthesize(client);
+            }
+            sharedMicros = (System.nanoTime() - sharedStart) / 1_000.0 / ITERATIONS;
+        } finally {
+            sharedChannel.shutdownNow();
+        }
+
+        System.out.printf("[TTS 클라이언트 벤치마크] 호출마다 생성: %.1f us/call, 공유 클라이언트: %.1f us/call (%.1fx)%n",
+                perCallMicros, sharedMicros, perCallMicros / sharedMicros);
+
+        assertThat(server.getCallCount()).isEqualTo((WARMUP + ITERATIONS) * 2);
+        assertThat(sharedMicros).isLessThan(perCallMicros);
+    }
+
+    // 기존 방식: 호출마다 채널과 클라이언트를 새로 만들고 닫음
+    private void synthesizeWithNewClient() throws Exception {
+        ManagedChannel channel = server.newChannel();
+        try (TextToSpeechClient client = createClient(channel)) {
+            synthesize(client);
+        } finally {
+            channel.shutdownNow();
+        }
+    }
+
+    private TextToSpeechClient createClient(ManagedChannel channel) throws Exception {
+        return TextToSpeechClient.create(TextToSpeechClientProvider.createSettings(
+                NoCredentialsProvider.create(),
+                FixedTransportChannelProvider.create(GrpcTransportChannel.create(channel)),
+                config
+        ));
+    }
+
+    private void synthesize(TextToSpeechClient client) {
+        SynthesizeSpeechResponse response = client.synthesizeSpeech(
+                SynthesisInput.newBuilder().setText("안녕하세요, 벤치마크 음성입니다.").build(),
+                VoiceSelectionParams.newBuilder().setLanguageCode("ko-KR").setSsmlGender(SsmlVoiceGender.NEUTRAL).build(),
+                AudioConfig.newBuilder().setAudioEncoding(AudioEncoding.MP3).build()
+        );
+        assertThat(response.getAudioContent().isEmpty()).isFalse();
+    }
+}
@@ -0,0 +1,211 @@
+package com.moretale;
+
+import com.moretale.global.dto.HotAudioCacheStatsResponse;
+import com.moretale.global.config.MoreTaleProperties;
+import com.moretale.global.resource.HotAudioCache;
+import com.moretale.global.resource.HotAudioResource;
+import com.moretale.global.service.FileStorageService;
+import com.moretale.global.storage.LocalStorageBackend;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// TTS 오디오 메모리 캐시: 두 번째 요청부터 적재, 전체/Range 응답을 디스크 없이 메모리에서, 인기 파일은 한 번씩 재생되는 파일에 밀리지 않음
+// 재확인 간격마다 저장소 원본과 비교해 없어졌거나 바뀐 사본은 버림
+@SpringBootTest(properties = {
+        "file.upload.base-path=build/test-hot-uploads",
+        "moretale.upload.hot-cache.max-bytes=204800",       // 100KB 파일 2개
+        "moretale.upload.hot-cache.max-object-bytes=131072"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles({"dev", "h2"})
+public class HotAudioCacheTest {
+
+    private static final int AUDIO_BYTES = 100 * 1024;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private HotAudioCache hotAudioCache;
+
+    // 테스트마다 빈 캐시에서 시작 (앞 테스트의 인기 파일이 자리를 차지하지 않도록)
+    @AfterEach
+    void tearDown() {
+        for (int id = 0; id < 30; id++) {
+            hotAudioCache.invalidate(subPath(id));
+        }
+    }
+
+    @Test
+    @DisplayName("두 번째 요청에서 메모리에 올리고, 이후에는 디스크 파일 없이도 같은 헤더로 응답한다")
+    void admittedOnSecondRequest_ServedFromMemory() throws Exception {
+        byte[] audio = write(1);
+        HotAudioCacheStatsResponse before = hotAudioCache.getStats();
+
+        String eTag = "\"" + Long.toHexString(AUDIO_BYTES) + "-" + Long.toHexString(Files.getLastModifiedTime(path(1)).toMillis()) + "\"";
+        for (int i = 0; i < 3; i++) {
+            byte[] body = mockMvc.perform(get(url(1)))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"))
+                    .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                    .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, AUDIO_BYTES))
+                    .andExpect(content().contentType("audio/mpeg"))
+                    .andReturn().getResponse().getContentAsByteArray();
+            assertThat(body).isEqualTo(audio);
+        }
+
+        // 디스크에서 지워도 재확인 간격 안에서는 메모리 사본으로 응답 (디스크 조회 없음)
+        Files.delete(path(1));
+        mockMvc.perform(get(url(1)).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+        assertThat(mockMvc.perform(get(url(1))).andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray()).isEqualTo(audio);
+
+        HotAudioCacheStatsResponse after = hotAudioCache.getStats();
+        assertThat(after.getMisses() - before.getMisses()).isEqualTo(2);
+        assertThat(after.getHits() - before.getHits()).isEqualTo(3);
+        assertThat(after.getAdmissions() - before.getAdmissions()).isEqualTo(1);
+        assertThat(after.getBytesSaved() - before.getBytesSaved()).isEqualTo(3L * AUDIO_BYTES);
+    }
+
+    @Test
+    @DisplayName("Range 요청(단일/여러 구간)도 메모리에서 206으로 응답한다")
+    void rangeRequests_ServedFromMemory() throws Exception {
+        byte[] audio = write(2);
+        mockMvc.perform(get(url(2))).andExpect(status().isOk());
+        mockMvc.perform(get(url(2))).andExpect(status().isOk());
+        HotAudioCacheStatsResponse before = hotAudioCache.getStats();
+
+        byte[] range = mockMvc.perform(get(url(2)).header(HttpHeaders.RANGE, "bytes=1000-1999"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 1000-1999/" + AUDIO_BYTES))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertThat(range).isEqualTo(Arrays.copyOfRange(audio, 1000, 2000));
+
+        byte[] suffix = mockMvc.perform(get(url(2)).header(HttpHeaders.RANGE, "bytes=-500"))
+                .andExpect(status().isPartialContent())
+                .andReturn().getResponse().getContentAsByteArray();
+        assertThat(suffix).isEqualTo(Arrays.copyOfRange(audio, AUDIO_BYTES - 500, AUDIO_BYTES));
+
+        String multipart = mockMvc.perform(get(url(2)).header(HttpHeaders.RANGE, "bytes=0-9,500-509"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, org.hamcrest.Matchers.startsWith("multipart/byteranges")))
+                .andReturn().getResponse().getContentAsString(java.nio.charset.StandardCharsets.ISO_8859_1);
+        assertThat(multipart).contains("Content-Range: bytes 0-9/" + AUDIO_BYTES, "Content-Range: bytes 500-509/" + AUDIO_BYTES);
+
+        HotAudioCacheStatsResponse after = hotAudioCache.getStats();
+        assertThat(after.getHits() - before.getHits()).isEqualTo(3);
+        assertThat(after.getBytesSaved() - before.getBytesSaved()).isEqualTo(1000 + 500 + 20);
+    }
+
+    @Test
+    @DisplayName("한 번씩 두 번 재생되는 파일이 이어져도 자주 재생된 파일은 메모리에 남는다")
+    void frequentAudio_NotEvictedByScan() throws Exception {
+        int[] hot = {10, 11};
+        for (int id : hot) {
+            write(id);
+            for (int i = 0; i < 5; i++) {
+                mockMvc.perform(get(url(id))).andExpect(status().isOk());
+            }
+        }
+        for (int id = 20; id < 30; id++) {
+            write(id);
+            mockMvc.perform(get(url(id))).andExpect(status().isOk());
+            mockMvc.perform(get(url(id))).andExpect(status().isOk());
+        }
+
+        HotAudioCacheStatsResponse before = hotAudioCache.getStats();
+        for (int id : hot) {
+            mockMvc.perform(get(url(id))).andExpect(status().isOk());
+        }
+        HotAudioCacheStatsResponse after = hotAudioCache.getStats();
+        assertThat(after.getHits() - before.getHits()).isEqualTo(hot.length);
+        assertThat(after.getBytes()).isLessThanOrEqualTo(after.getMaxBytes());
+    }
+
+    @Test
+    @DisplayName("재확인 간격이 지난 적중은 저장소 원본을 stat으로 확인하고, 없어졌거나 바뀐 파일의 사본은 버린다")
+    void staleCopies_DroppedOnRevalidation() throws Exception {
+        MoreTaleProperties properties = new MoreTaleProperties();
+        properties.getUpload().getHotCache().setMinFrequency(1);
+        properties.getUpload().getHotCache().setRevalidateSeconds(0); // 적중마다 재확인
+        HotAudioCache cache = new HotAudioCache(properties,
+                new LocalStorageBackend(Paths.get("build/test-hot-uploads"), MoreTaleProperties.Upload.FsyncPolicy.NONE));
+
+        // 이전 방식 파일명: 같은 경로에 다른 내용이 저장되면(수정 시각 변경) 버림
+        write(3);
+        admit(cache, subPath(3));
+        assertThat(cache.get(subPath(3))).isNotNull();
+        Files.setLastModifiedTime(path(3), FileTime.fromMillis(Files.getLastModifiedTime(path(3)).toMillis() + 5000));
+        assertThat(cache.get(subPath(3))).isNull();
+
+        // 내용 해시 파일명: 사용 시각 기록으로 수정 시각만 바뀌면 유지, 다른 노드의 고아 정리로 삭제되면 버림
+        String contentHashed = FileStorageService.resolveShardedPath("tts/audio", "audio_" + hash(4) + ".mp3");
+        write(contentHashed, 4);
+        admit(cache, contentHashed);
+        Path file = Paths.get("build/test-hot-uploads").toAbsolutePath().resolve(contentHashed);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 5000));
+        assertThat(cache.get(contentHashed)).isNotNull();
+        Files.delete(file);
+        assertThat(cache.get(contentHashed)).isNull();
+
+        HotAudioCacheStatsResponse stats = cache.getStats();
+        assertThat(stats.getStaleEntries()).isEqualTo(2);
+        assertThat(stats.getEntries()).isZero();
+        assertThat(stats.getBytes()).isZero();
+    }
+
+    private static void admit(HotAudioCache cache, String subPath) {
+        cache.get(subPath);
+        assertThat(cache.admit(subPath, new FileSystemResource(Paths.get("build/test-hot-uploads").toAbsolutePath().resolve(subPath))))
+                .isInstanceOf(HotAudioResource.class);
+    }
+
+    private static byte[] write(int id) throws Exception {
+        return write(subPath(id), id);
+    }
+
+    private static byte[] write(String subPath, int id) throws Exception {
+        byte[] audio = new byte[AUDIO_BYTES];
+        new Random(id).nextBytes(audio);
+        Path path = Paths.get("build/test-hot-uploads").toAbsolutePath().resolve(subPath);
+        Files.createDirectories(path.getParent());
+        Files.write(path, audio);
+        return audio;
+    }
+
+    private static Path path(int id) {
+        return Paths.get("build/test-hot-uploads").toAbsolutePath().resolve(subPath(id));
+    }
+
+    private static String url(int id) {
+        return "/uploads/" + subPath(id);
+    }
+
+    private static String subPath(int id) {
+        return FileStorageService.resolveShardedPath("tts/audio", "tts_" + hash(id) + ".mp3");
+    }
+
+    private static String hash(int id) {
+        return String.format("%064x", 0xABC000 + id);
+    }
+}
@@ -0,0 +1,117 @@
+package com.moretale;
+
+import com.moretale.domain.user.entity.User;
+import com.moretale.global.config.MoreTaleProperties;
+import com.moretale.global.security.UserPrincipal;
+import com.moretale.global.security.jwt.JwtAuthenticationFilter;
+import com.moretale.global.security.jwt.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// JWT 인증 필터의 토큰 처리 비용 비교
+// 기존: 호출마다 파서 생성 + 검증/추출 두 번 파싱 / 개선: 파서 재사용 + 한 번 파싱 / 캐시: 같은 토큰은 서명 검증 생략
+// 실행: ./gradlew benchmark
+@Tag("benchmark")
+public class JwtAuthenticationBenchmarkTest {
+
+    private static final String SECRET = "benchmark-secret-key-for-jwt-filter-must-be-at-least-64-bytes-long-hs512";
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 50_000;
+
+    private final User user = User.builder().userId(1L).email("bench@example.com").role(User.Role.USER).build();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("파서 재사용과 단일 파싱, 검증 캐시는 요청당 인증 비용을 줄인다")
+    void singleParseAndCacheAreFaster() throws Exception {
+        JwtTokenProvider uncachedProvider = provider(false);
+        String token = uncachedProvider.generateTokenFromUser(user);
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+
+        long[] legacy = measure(() -> legacyAuthenticate(key, token));
+        long[] singleParse = measure(filterRunner(uncachedProvider, token));
+        long[] cached = measure(filterRunner(provider(true), token));
+
+        System.out.printf("[JWT 인증 벤치마크] 기존(파서 생성 + 2회 파싱): p50 %.2f us / 단일 파싱: p50 %.2f us / 검증 캐시: p50 %.2f us%n",
+                percentileMicros(legacy, 50), percentileMicros(singleParse, 50), percentileMicros(cached, 50));
+
+        assertThat(percentileMicros(singleParse, 50)).isLessThan(percentileMicros(legacy, 50));
+        assertThat(percentileMicros(cached, 50)).isLessThan(percentileMicros(singleParse, 50));
+    }
+
+    // 필터의 인증 경로 전체 실행 (요청 헤더 추출 -> 검증 -> UserPrincipal -> SecurityContext)
+    private ThrowingRunnable filterRunner(JwtTokenProvider provider, String token) {
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(provider, null);
+        return () -> {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/stories/my");
+            request.addHeader("Authorization", "Bearer " + token);
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            assertAuthenticated();
+        };
+    }
+
+    // 기존 방식: validateToken / getUserIdFromToken 에서 매번 파서를 만들어 두 번 검증
+    private void legacyAuthenticate(SecretKey key, String token) {
+        Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
+        Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+        UserPrincipal.create(Long.parseLong(claims.getSubject()),
+                claims.get("email", String.class), claims.get("role", String.class));
+    }
+
+    private void assertAuthenticated() {
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            throw new IllegalStateException("인증되지 않음");
+        }
+        SecurityContextHolder.clearContext();
+    }
+
+    private long[] measure(ThrowingRunnable runnable) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            runnable.run();
+        }
+        long[] nanos = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            runnable.run();
+            nanos[i] = System.nanoTime() - start;
+        }
+        return nanos;
+    }
+
+    private JwtTokenProvider provider(boolean cacheEnabled) {
+        MoreTaleProperties properties = new MoreTaleProperties();
+        properties.getSecurity().getTokenCache().setEnabled(cacheEnabled);
+        return new JwtTokenProvider(SECRET, 3_600_000, properties);
+    }
+
+    private double percentileMicros(long[] nanos, int percentile) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        int index = Math.min(sorted.length - 1, (int) Math.ceil(percentile / 100.0 * sorted.length) - 1);
+        return sorted[index] / 1_000.0;
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
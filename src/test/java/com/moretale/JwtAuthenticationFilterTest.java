@@ -0,0 +1,117 @@
+package com.moretale;
+
+import com.moretale.domain.user.entity.User;
+import com.moretale.domain.user.repository.UserRepository;
+import com.moretale.domain.user.service.UserService;
+import com.moretale.global.security.jwt.JwtTokenProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// JWT 인증 필터의 인증 주체 생성 (토큰 클레임 기반, DB 조회 없음) 검증
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({"dev", "h2"})
+public class JwtAuthenticationFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private UserService userService;
+
+    @SpyBean
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .email("jwt@example.com")
+                .nickname("토큰")
+                .role(User.Role.USER)
+                .build());
+        clearInvocations(userRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("userId/이메일/권한 클레임이 있는 토큰은 사용자 조회 없이 인증된다")
+    void claimsToken_AuthenticatesWithoutUserLookup() throws Exception {
+        String token = jwtTokenProvider.generateTokenFromUser(user);
+
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/stories/my").header("Authorization", "Bearer " + token))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.items").isArray());
+        }
+
+        verify(userRepository, never()).findById(any());
+        verify(userRepository, never()).findByEmail(any());
+    }
+
+    @Test
+    @DisplayName("클레임이 없는 이전 형식 토큰은 한 번만 조회하고 이후에는 캐시된 사용자로 인증된다")
+    void legacyToken_LooksUpUserOnceThenCaches() throws Exception {
+        String token = jwtTokenProvider.generateTokenFromUserId(user.getUserId());
+
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/stories/my").header("Authorization", "Bearer " + token))
+                    .andExpect(status().isOk());
+        }
+
+        verify(userRepository, times(1)).findById(user.getUserId());
+    }
+
+    @Test
+    @DisplayName("사용자 정보가 변경되면 이전 형식 토큰의 캐시된 사용자가 제거되어 다시 조회된다")
+    void legacyToken_UserUpdateEvictsCachedUser() throws Exception {
+        String token = jwtTokenProvider.generateTokenFromUserId(user.getUserId());
+
+        mockMvc.perform(get("/api/stories/my").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+        userService.updateRegion(user.getUserId(), "제주");
+        mockMvc.perform(get("/api/stories/my").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        // 요청 1회 + 지역 변경 1회 + 캐시 제거 후 요청 1회
+        verify(userRepository, times(3)).findById(user.getUserId());
+    }
+
+    @Test
+    @DisplayName("토큰이 없거나 서명이 잘못된 요청은 인증되지 않는다")
+    void invalidToken_IsRejected() throws Exception {
+        String token = jwtTokenProvider.generateTokenFromUser(user);
+        int at = token.length() - 10; // 서명 부분의 한 글자 변경
+        String tampered = token.substring(0, at) + (token.charAt(at) == 'A' ? 'B' : 'A') + token.substring(at + 1);
+
+        mockMvc.perform(get("/api/stories/my"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/stories/my").header("Authorization", "Bearer " + tampered))
+                .andExpect(status().isUnauthorized());
+    }
+}
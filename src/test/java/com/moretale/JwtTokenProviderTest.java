@@ -0,0 +1,86 @@
+package com.moretale;
+
+import com.moretale.domain.user.entity.User;
+import com.moretale.global.config.MoreTaleProperties;
+import com.moretale.global.security.UserPrincipal;
+import com.moretale.global.security.jwt.JwtTokenProvider;
+import com.moretale.global.security.jwt.JwtVerification;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// JWT 단일 검증 API (검증 + 클레임 추출, 실패 사유, 검증 결과 캐시) 검증
+public class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-provider-must-be-at-least-64-bytes-long-for-hs512";
+
+    private final User user = User.builder().userId(7L).email("verify@example.com").role(User.Role.USER).build();
+
+    @Test
+    @DisplayName("검증에 성공하면 클레임을 반환하고, 같은 토큰은 캐시된 클레임을 재사용한다")
+    void verify_ReturnsClaimsAndCachesVerifiedToken() {
+        JwtTokenProvider provider = provider(true);
+        String token = provider.generateTokenFromUser(user);
+
+        JwtVerification first = provider.verify(token);
+        JwtVerification second = provider.verify(token);
+
+        assertThat(first.isValid()).isTrue();
+        assertThat(first.getFailure()).isNull();
+        assertThat(second.getClaims()).isSameAs(first.getClaims());
+
+        UserPrincipal principal = provider.getPrincipal(first.getClaims());
+        assertThat(principal.getUserId()).isEqualTo(7L);
+        assertThat(principal.getEmail()).isEqualTo("verify@example.com");
+        assertThat(principal.getAuthorities()).extracting(Object::toString).containsExactly("ROLE_USER");
+
+        // 캐시를 끄면 매번 새로 검증
+        JwtTokenProvider uncached = provider(false);
+        assertThat(uncached.verify(token).getClaims()).isNotSameAs(uncached.verify(token).getClaims());
+    }
+
+    @Test
+    @DisplayName("검증 실패는 사유별로 구분되며, 서명이 틀린 토큰은 캐시된 토큰과 본문이 같아도 통과하지 못한다")
+    void verify_ReportsTypedFailures() {
+        JwtTokenProvider provider = provider(true);
+        String token = provider.generateTokenFromUser(user);
+        assertThat(provider.verify(token).isValid()).isTrue();
+
+        int at = token.length() - 10;
+        String tampered = token.substring(0, at) + (token.charAt(at) == 'A' ? 'B' : 'A') + token.substring(at + 1);
+        String expired = Jwts.builder()
+                .subject("7")
+                .expiration(new Date(System.currentTimeMillis() - 1_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), Jwts.SIG.HS512)
+                .compact();
+
+        assertThat(provider.verify(tampered).getFailure()).isEqualTo(JwtVerification.Failure.INVALID_SIGNATURE);
+        assertThat(provider.verify(expired).getFailure()).isEqualTo(JwtVerification.Failure.EXPIRED);
+        assertThat(provider.verify("not-a-jwt").getFailure()).isEqualTo(JwtVerification.Failure.MALFORMED);
+        assertThat(provider.verify("").getFailure()).isEqualTo(JwtVerification.Failure.EMPTY);
+        assertThat(provider.validateToken(tampered)).isFalse();
+    }
+
+    @Test
+    @DisplayName("이메일/권한 클레임이 없는 이전 형식 토큰은 인증 주체를 만들지 않는다")
+    void legacyToken_HasNoPrincipal() {
+        JwtTokenProvider provider = provider(true);
+        JwtVerification verification = provider.verify(provider.generateTokenFromUserId(7L));
+
+        assertThat(verification.isValid()).isTrue();
+        assertThat(provider.getPrincipal(verification.getClaims())).isNull();
+        assertThat(verification.getClaims().getSubject()).isEqualTo("7");
+    }
+
+    private JwtTokenProvider provider(boolean cacheEnabled) {
+        MoreTaleProperties properties = new MoreTaleProperties();
+        properties.getSecurity().getTokenCache().setEnabled(cacheEnabled);
+        return new JwtTokenProvider(SECRET, 60_000, properties);
+    }
+}
@@ -0,0 +1,166 @@
+package com.moretale;
+
+import com.moretale.domain.tts.dto.TTSRequest;
+import com.moretale.domain.tts.dto.TTSResponse;
+import com.moretale.domain.tts.service.ParallelTTSSynthesizer;
+import com.moretale.domain.tts.service.TTSService;
+import com.moretale.global.config.MoreTaleProperties;
+import com.moretale.global.exception.BusinessException;
+import com.moretale.global.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ParallelTTSSynthesizerTest {
+
+    private static final long SYNTHESIS_MILLIS = 200;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("5개 슬라이드 x 2개 언어를 동시에 합성하면 전체 시간이 단일 합성 시간에 가깝다")
+    void synthesizeAll_RunsConcurrently() {
+        ParallelTTSSynthesizer synthesizer = createSynthesizer(10, 32);
+
+        long start = System.nanoTime();
+        List<String> audioUrls = synthesizer.synthesizeAll(requests(10));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(audioUrls).hasSize(10).doesNotContainNull();
+        assertThat(audioUrls.get(3)).isEqualTo("url-text-3");
+        assertThat(elapsedMillis).isLessThan(SYNTHESIS_MILLIS * 3);
+    }
+
+    @Test
+    @DisplayName("동화당 동시 합성 수 제한을 넘지 않는다")
+    void synthesizeAll_RespectsPerStoryLimit() {
+        ParallelTTSSynthesizer synthesizer = createSynthesizer(3, 32);
+
+        synthesizer.synthesizeAll(requests(9));
+
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("일부 합성이 실패해도 나머지 결과는 그대로 반환된다")
+    void synthesizeAll_IsolatesFailures() {
+        ParallelTTSSynthesizer synthesizer = createSynthesizer(10, 32);
+
+        List<String> audioUrls = synthesizer.synthesizeAll(List.of(
+                request("text-0"), request("fail"), request("text-2")
+        ));
+
+        assertThat(audioUrls).containsExactly("url-text-0", null, "url-text-2");
+    }
+
+    @Test
+    @DisplayName("업로드 대기 중에는 합성 동시 실행 수를 점유하지 않고, 모든 업로드가 끝난 뒤 반환한다")
+    void synthesizeAll_ReleasesPermitsBeforeUpload() {
+        AtomicInteger uploaded = new AtomicInteger();
+        ParallelTTSSynthesizer synthesizer = createSynthesizer(new SlowTTSService() {
+            @Override
+            public CompletableFuture<String> generateAudioUrlAsync(String text, String language) {
+                String audioUrl = generateAudioUrl(text, language);
+                return CompletableFuture.supplyAsync(() -> {
+                    if (text.equals("upload-fail")) {
+                        throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
+                    }
+                    uploaded.incrementAndGet();
+                    return audioUrl;
+                }, CompletableFuture.delayedExecutor(SYNTHESIS_MILLIS * 2, TimeUnit.MILLISECONDS, executor));
+            }
+        }, 10, 1);
+
+        long start = System.nanoTime();
+        List<String> audioUrls = synthesizer.synthesizeAll(List.of(
+                request("text-0"), request("text-1"), request("upload-fail"), request("text-3")
+        ));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(audioUrls).containsExactly("url-text-0", "url-text-1", null, "url-text-3");
+        assertThat(uploaded.get()).isEqualTo(3);
+        assertThat(maxInFlight.get()).isEqualTo(1);
+        // 합성 4회(직렬) + 마지막 업로드 1회, 업로드마다 합성을 멈췄다면 4 x (합성 + 업로드)
+        assertThat(elapsedMillis).isLessThan(SYNTHESIS_MILLIS * 9);
+    }
+
+    @Test
+    @DisplayName("슬라이드별로 제출한 합성도 동화당 / 서버 전체 동시 합성 수 제한을 함께 따른다")
+    void submit_SharesPerStoryAndGlobalLimits() {
+        ParallelTTSSynthesizer synthesizer = createSynthesizer(new SlowTTSService(), 3, 4);
+        TTSService ttsService = new SlowTTSService();
+
+        // 스트리밍 생성 중인 동화 2개 (각 6개 슬라이드)
+        List<CompletableFuture<String>> results = IntStream.range(0, 2)
+                .mapToObj(story -> synthesizer.newStoryPermits())
+                .flatMap(storyPermits -> IntStream.range(0, 6).mapToObj(i -> synthesizer.submit(storyPermits,
+                        () -> ttsService.generateAudioUrl("text-" + i, "ko-KR"))))
+                .toList();
+
+        assertThat(results.stream().map(CompletableFuture::join)).hasSize(12).doesNotContainNull();
+        assertThat(maxInFlight.get()).isEqualTo(4);
+    }
+
+    private ParallelTTSSynthesizer createSynthesizer(int perStory, int global) {
+        return createSynthesizer(new SlowTTSService(), perStory, global);
+    }
+
+    private ParallelTTSSynthesizer createSynthesizer(TTSService ttsService, int perStory, int global) {
+        MoreTaleProperties properties = new MoreTaleProperties();
+        properties.getTts().getSynthesis().setPerStoryConcurrency(perStory);
+        properties.getTts().getSynthesis().setGlobalConcurrency(global);
+        return new ParallelTTSSynthesizer(ttsService, executor, properties);
+    }
+
+    private List<TTSRequest> requests(int count) {
+        return IntStream.range(0, count).mapToObj(i -> request("text-" + i)).toList();
+    }
+
+    private TTSRequest request(String text) {
+        return TTSRequest.builder().text(text).language("ko-KR").build();
+    }
+
+    // 고정 지연 후 URL을 반환하는 테스트용 TTS 서비스
+    private class SlowTTSService implements TTSService {
+
+        @Override
+        public TTSResponse generateTTS(TTSRequest request) {
+            return TTSResponse.builder().audioUrl(generateAudioUrl(request.getText(), request.getLanguage())).build();
+        }
+
+        @Override
+        public String generateAudioUrl(String text, String language) {
+            int current = inFlight.incrementAndGet();
+            maxInFlight.accumulateAndGet(current, Math::max);
+            try {
+                Thread.sleep(SYNTHESIS_MILLIS);
+                if ("fail".equals(text)) {
+                    throw new BusinessException(ErrorCode.TTS_GENERATION_FAILED);
+                }
+                return "url-" + text;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.moretale;
+
+import com.moretale.domain.story.dto.StoryPageResponse;
+import com.moretale.domain.story.entity.Slide;
+import com.moretale.domain.story.entity.Story;
+import com.moretale.domain.story.repository.StoryRepository;
+import com.moretale.domain.story.service.StoryService;
+import com.moretale.domain.user.entity.User;
+import com.moretale.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestClassOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 공개 동화 피드 처리량 측정 (피드 캐시 사용 X / 사용 O)
+// 동시 요청 스레드가 첫 페이지(80%)와 두 번째 페이지(20%)를 반복 조회
+// 실행: ./gradlew benchmark
+@Tag("benchmark")
+@TestClassOrder(ClassOrderer.OrderAnnotation.class)
+public class PublicStoryFeedBenchmarkTest {
+
+    private static final int PUBLIC_STORIES = 200;
+    private static final int THREADS = 8;
+    private static final long WARMUP_MILLIS = 500;
+    private static final long MEASURE_MILLIS = 2000;
+
+    private static final Map<String, Double> THROUGHPUT = new ConcurrentHashMap<>();
+
+    @Nested
+    @Order(1)
+    @SpringBootTest(properties = "moretale.story.feed-cache.enabled=false")
+    @ActiveProfiles({"dev", "h2"})
+    class CacheDisabled extends FeedLoad {
+
+        @Test
+        @DisplayName("피드 캐시 미사용 시 처리량")
+        void throughput() throws Exception {
+            THROUGHPUT.put("off", measure("캐시 미사용"));
+        }
+    }
+
+    @Nested
+    @Order(2)
+    @SpringBootTest(properties = "moretale.story.feed-cache.enabled=true")
+    @ActiveProfiles({"dev", "h2"})
+    class CacheEnabled extends FeedLoad {
+
+        @Test
+        @DisplayName("피드 캐시 사용 시 처리량은 미사용 대비 높다")
+        void throughput() throws Exception {
+            double on = measure("캐시 사용");
+            Double off = THROUGHPUT.get("off");
+            if (off != null) {
+                System.out.printf("[공개 피드 벤치마크] 캐시 사용 시 %.1f배%n", on / off);
+                assertThat(on).isGreaterThan(off * 2);
+            }
+        }
+    }
+
+    abstract static class FeedLoad {
+
+        @Autowired
+        private StoryService storyService;
+
+        @Autowired
+        private StoryRepository storyRepository;
+
+        @Autowired
+        private UserRepository userRepository;
+
+        @BeforeEach
+        void setUp() {
+            User user = userRepository.save(User.builder()
+                    .email("feed-bench@example.com").nickname("피드").role(User.Role.USER).build());
+            List<Story> stories = new ArrayList<>();
+            for (int i = 0; i < PUBLIC_STORIES; i++) {
+                Story story = Story.builder().title("공개 동화 " + i).childName("하준").user(user).isPublic(true).build();
+                for (int order = 1; order <= 5; order++) {
+                    story.addSlide(Slide.builder().order(order).textKr("문장 " + order).build());
+                }
+                stories.add(story);
+            }
+            storyRepository.saveAll(stories);
+        }
+
+        @AfterEach
+        void tearDown() {
+            storyRepository.deleteAll();
+            userRepository.deleteAll();
+        }
+
+        // 초당 피드 조회 수
+        double measure(String label) throws Exception {
+            String secondPage = storyService.getPublicStories(null, StoryService.DEFAULT_PAGE_SIZE).getNextCursor();
+            run(secondPage, WARMUP_MILLIS);
+            long requests = run(secondPage, MEASURE_MILLIS);
+            double perSecond = requests * 1000.0 / MEASURE_MILLIS;
+            System.out.printf("[공개 피드 벤치마크] %s: %d 스레드, %.0f 요청/초%n", label, THREADS, perSecond);
+            return perSecond;
+        }
+
+        private long run(String secondPage, long millis) throws Exception {
+            ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+            try {
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+                List<Future<Long>> workers = new ArrayList<>();
+                for (int t = 0; t < THREADS; t++) {
+                    workers.add(executor.submit(() -> {
+                        long count = 0;
+                        while (System.nanoTime() < deadline) {
+                            String cursor = ThreadLocalRandom.current().nextInt(10) < 8 ? null : secondPage;
+                            StoryPageResponse page = storyService.getPublicStories(cursor, StoryService.DEFAULT_PAGE_SIZE);
+                            assertThat(page.getItems()).hasSize(StoryService.DEFAULT_PAGE_SIZE);
+                            count++;
+                        }
+                        return count;
+                    }));
+                }
+                long total = 0;
+                for (Future<Long> worker : workers) {
+                    total += worker.get();
+                }
+                return total;
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+}
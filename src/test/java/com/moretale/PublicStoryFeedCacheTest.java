@@ -0,0 +1,212 @@
+package com.moretale;
+
+import com.moretale.domain.story.dto.StoryListResponse;
+import com.moretale.domain.story.dto.StoryPageResponse;
+import com.moretale.domain.story.dto.StoryShareRequest;
+import com.moretale.domain.story.entity.Slide;
+import com.moretale.domain.story.entity.Story;
+import com.moretale.domain.story.repository.StoryRepository;
+import com.moretale.domain.story.service.PublicStoryFeedCache;
+import com.moretale.domain.story.service.StoryService;
+import com.moretale.domain.user.entity.User;
+import com.moretale.domain.user.repository.UserRepository;
+import com.moretale.global.config.MoreTaleProperties;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 공개 동화 피드 캐시 적중, 공개 상태 변경/삭제/저장 시 무효화, 동시 미스 합치기 검증
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles({"dev", "h2"})
+public class PublicStoryFeedCacheTest {
+
+    @Autowired
+    private StoryService storyService;
+
+    @Autowired
+    private StoryRepository storyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User user;
+    private List<Long> storyIds;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder().email("feed@example.com").nickname("피드").role(User.Role.USER).build());
+        storyIds = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            storyIds.add(saveStory("동화 " + i, i % 2 == 0));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        storyRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("같은 페이지를 다시 조회하면 SQL 없이 캐시된 페이지를 반환한다")
+    void repeatedFeedRequests_HitCache() {
+        StoryPageResponse first = storyService.getPublicStories(null, 2);
+        StoryPageResponse second = storyService.getPublicStories(first.getNextCursor(), 2);
+
+        assertThat(countStatements(() -> storyService.getPublicStories(null, 2))).isZero();
+        assertThat(countStatements(() -> storyService.getPublicStories(first.getNextCursor(), 2))).isZero();
+        assertThat(titles(storyService.getPublicStories(null, 2))).isEqualTo(titles(first));
+        assertThat(titles(second)).containsExactly("동화 0");
+    }
+
+    @Test
+    @DisplayName("공개 전환/공개 동화 저장은 커밋 후 피드에 바로 반영되고, 비공개 전환/삭제는 캐시된 페이지에서 항목만 제거된다")
+    void feedReflectsShareChangesSavesAndDeletes() {
+        assertThat(titles(storyService.getPublicStories(null, 10))).containsExactly("동화 4", "동화 2", "동화 0");
+
+        // 비공개 -> 공개
+        storyService.updateStoryShareStatus(user.getUserId(), storyIds.get(3), share(true));
+        assertThat(titles(storyService.getPublicStories(null, 10))).containsExactly("동화 4", "동화 3", "동화 2", "동화 0");
+
+        // 공개 -> 비공개: DB 재조회 없이 캐시된 페이지에서 제거
+        storyService.updateStoryShareStatus(user.getUserId(), storyIds.get(4), share(false));
+        assertThat(countStatements(() -> assertThat(titles(storyService.getPublicStories(null, 10)))
+                .containsExactly("동화 3", "동화 2", "동화 0"))).isZero();
+
+        // 공개 동화 삭제
+        storyService.deleteStory(user.getUserId(), storyIds.get(2));
+        assertThat(titles(storyService.getPublicStories(null, 10))).containsExactly("동화 3", "동화 0");
+
+        // 공개 동화 저장 (저장소 경로로 저장해도 반영)
+        saveStory("새 공개 동화", true);
+        assertThat(titles(storyService.getPublicStories(null, 10))).containsExactly("새 공개 동화", "동화 3", "동화 0");
+    }
+
+    @Test
+    @DisplayName("공개 전환 트랜잭션이 롤백되면 캐시를 무효화하지 않는다")
+    void rolledBackChange_KeepsCache() {
+        storyService.getPublicStories(null, 10);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            storyService.updateStoryShareStatus(user.getUserId(), storyIds.get(1), share(true));
+            storyRepository.flush();
+            status.setRollbackOnly();
+        });
+
+        assertThat(countStatements(() -> assertThat(titles(storyService.getPublicStories(null, 10)))
+                .containsExactly("동화 4", "동화 2", "동화 0"))).isZero();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 조회한 커밋 전 데이터는 캐시하지 않는다")
+    void readInsideTransaction_IsNotCached() {
+        transactionTemplate.executeWithoutResult(status -> {
+            storyService.updateStoryShareStatus(user.getUserId(), storyIds.get(1), share(true));
+            storyRepository.flush();
+            assertThat(titles(storyService.getPublicStories(null, 10))).contains("동화 1");
+            status.setRollbackOnly();
+        });
+
+        assertThat(titles(storyService.getPublicStories(null, 10))).containsExactly("동화 4", "동화 2", "동화 0");
+    }
+
+    @Test
+    @DisplayName("같은 페이지의 동시 미스는 DB 조회 한 번으로 합쳐진다")
+    void concurrentMisses_CollapseToSingleLoad() throws Exception {
+        PublicStoryFeedCache cache = new PublicStoryFeedCache(new MoreTaleProperties());
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        StoryPageResponse page = StoryPageResponse.builder().items(List.of()).build();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<StoryPageResponse>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> cache.get(null, 20, () -> {
+                    loads.incrementAndGet();
+                    loading.countDown();
+                    await(release);
+                    return page;
+                })));
+            }
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            Thread.sleep(100); // 나머지 요청이 진행 중인 로딩에 합류할 시간
+            release.countDown();
+
+            for (Future<StoryPageResponse> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(page);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.getStats().getLoads()).isEqualTo(1);
+        assertThat(cache.getStats().getCollapsedLoads()).isEqualTo(7);
+    }
+
+    private Long saveStory(String title, boolean isPublic) {
+        Story story = Story.builder().title(title).user(user).isPublic(isPublic).build();
+        story.addSlide(Slide.builder().order(1).textKr("문장").build());
+        Long storyId = storyRepository.save(story).getStoryId();
+        sleepQuietly(); // created_at 순서 보장
+        return storyId;
+    }
+
+    private StoryShareRequest share(boolean isPublic) {
+        return new StoryShareRequest(isPublic);
+    }
+
+    private List<String> titles(StoryPageResponse page) {
+        return page.getItems().stream().map(StoryListResponse::getTitle).toList();
+    }
+
+    private long countStatements(Runnable action) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleepQuietly() {
+        try {
+            Thread.sleep(5);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
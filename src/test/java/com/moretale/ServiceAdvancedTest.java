@@ -79,7 +79,7 @@ public class ServiceAdvancedTest {
                 .title("비밀 이야기").isPublic(false).user(savedUser).build());
 
         // 2. When: 공개(true)로 상태 변경
-        storyService.updateStoryShareStatus(savedUser.getEmail(), story.getStoryId(), new StoryShareRequest(true));
+        storyService.updateStoryShareStatus(savedUser.getUserId(), story.getStoryId(), new StoryShareRequest(true));
 
         // 3. Then: 공개 동화 목록 조회 시 포함되는지 확인
         List<com.moretale.domain.story.dto.StoryListResponse> publicStories = storyService.getPublicStories();
@@ -96,7 +96,7 @@ public class ServiceAdvancedTest {
         Story savedStory = storyRepository.save(story);
 
         // 2. When: 삭제 수행 (Business 로직 내 로그 출력 포함)
-        storyService.deleteStory(savedUser.getEmail(), savedStory.getStoryId());
+        storyService.deleteStory(savedUser.getUserId(), savedStory.getStoryId());
 
         // 3. Then: DB에서 삭제 확인
         assertThat(storyRepository.existsById(savedStory.getStoryId())).isFalse();
@@ -0,0 +1,152 @@
+package com.moretale;
+
+import com.google.cloud.NoCredentials;
+import com.moretale.global.config.MoreTaleProperties;
+import com.moretale.global.service.FileStorageService;
+import com.moretale.global.storage.GcsStorageBackend;
+import com.moretale.global.storage.InMemoryStorageBackend;
+import com.moretale.global.storage.LocalStorageBackend;
+import com.moretale.global.storage.StorageBackend;
+import com.moretale.global.storage.TieredStorageBackend;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 저장소별 TTS 오디오 저장 처리량: 동기 저장(writeFile) vs 비동기 저장(writeFileAsync, 동시 업로드 수 제한)
+// - local: fsync=data, memory, gcs: 요청당 지연을 둔 인프로세스 가짜 GCS 서버 (객체 저장소 왕복 시간)
+// 실행: ./gradlew benchmark
+@Tag("benchmark")
+public class StorageBackendBenchmarkTest {
+
+    private static final int CLIP_BYTES = 48 * 1024;
+    private static final int CLIPS = 400;
+    private static final int MAX_CONCURRENT_UPLOADS = 16;
+    private static final long GCS_LATENCY_MILLIS = 20;
+
+    @TempDir
+    private Path basePath;
+
+    @Test
+    @DisplayName("저장소별 동기/비동기 저장 처리량, 왕복 지연이 있는 GCS에서는 비동기 병렬 업로드가 동기 저장보다 빠르다")
+    void throughputPerBackend() throws Exception {
+        byte[] clip = new byte[CLIP_BYTES];
+        new Random(1).nextBytes(clip);
+
+        try (FakeGcsServer fakeGcsServer = new FakeGcsServer(GCS_LATENCY_MILLIS);
+             ExecutorService executor = Executors.newFixedThreadPool(MAX_CONCURRENT_UPLOADS)) {
+            MoreTaleProperties.Storage.Gcs gcsConfig = StorageBackendTest.gcsConfig(fakeGcsServer);
+            List<StorageBackend> backends = List.of(
+                    new LocalStorageBackend(basePath, MoreTaleProperties.Upload.FsyncPolicy.DATA),
+                    new InMemoryStorageBackend(),
+                    new GcsStorageBackend(GcsStorageBackend.createClient(gcsConfig, NoCredentials.getInstance()), gcsConfig));
+
+            double gcsSync = 0;
+            double gcsAsync = 0;
+            for (StorageBackend backend : backends) {
+                FileStorageService fileStorageService = fileStorageService(backend, executor);
+                double sync = measure(backend.name(), "동기", i -> {
+                    fileStorageService.writeFile(ByteBuffer.wrap(clip), path("sync", i));
+                    return CompletableFuture.completedFuture(null);
+                });
+                double async = measure(backend.name(), "비동기 (동시 " + MAX_CONCURRENT_UPLOADS + ")",
+                        i -> fileStorageService.writeFileAsync(ByteBuffer.wrap(clip), path("async", i)));
+                if (backend instanceof GcsStorageBackend) {
+                    gcsSync = sync;
+                    gcsAsync = async;
+                }
+            }
+
+            System.out.printf("[저장소 벤치마크] gcs 비동기/동기: %.1f배%n", gcsAsync / gcsSync);
+            assertThat(fakeGcsServer.getContent(gcsConfig.getBucket(), path("async", 0))).isEqualTo(clip);
+            assertThat(gcsAsync).isGreaterThan(gcsSync * 3);
+        }
+    }
+
+    @Test
+    @DisplayName("왕복 지연이 있는 GCS 앞에 로컬 디스크 캐시를 두면 반복 재생 읽기가 원격 직접 읽기보다 빠르다")
+    void readThroughputWithLocalCache() throws Exception {
+        byte[] clip = new byte[CLIP_BYTES];
+        new Random(2).nextBytes(clip);
+        int hotClips = CLIPS / 8;
+
+        try (FakeGcsServer fakeGcsServer = new FakeGcsServer(GCS_LATENCY_MILLIS)) {
+            MoreTaleProperties.Storage.Gcs gcsConfig = StorageBackendTest.gcsConfig(fakeGcsServer);
+            GcsStorageBackend remote = new GcsStorageBackend(
+                    GcsStorageBackend.createClient(gcsConfig, NoCredentials.getInstance()), gcsConfig);
+            TieredStorageBackend tiered = new TieredStorageBackend(remote,
+                    new LocalStorageBackend(basePath.resolve("cache"), MoreTaleProperties.Upload.FsyncPolicy.NONE),
+                    new MoreTaleProperties.Storage.LocalCache());
+            for (int i = 0; i < hotClips; i++) {
+                remote.write(path("read", i), ByteBuffer.wrap(clip));
+            }
+
+            // 같은 동화를 여러 번 재생: 인기 클립을 반복해서 읽음 (캐시는 첫 읽기에서 채움)
+            double direct = measure("gcs", "직접 읽기", i -> read(remote, path("read", i % hotClips), clip));
+            double cached = measure("gcs+local-cache", "읽기", i -> read(tiered, path("read", i % hotClips), clip));
+
+            System.out.printf("[저장소 벤치마크] 로컬 캐시/직접 읽기: %.1f배, 캐시 적중률 %.2f%n",
+                    cached / direct, tiered.getStats().getHitRatio());
+            assertThat(tiered.getStats().getFills()).isEqualTo(hotClips);
+            assertThat(cached).isGreaterThan(direct * 3);
+        }
+    }
+
+    private static CompletableFuture<?> read(StorageBackend backend, String key, byte[] expected) throws Exception {
+        try (InputStream inputStream = backend.read(key)) {
+            assertThat(inputStream.readAllBytes()).hasSize(expected.length);
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    // 클립/초 (워밍업 후 CLIPS개 저장, 비동기는 모든 업로드 완료까지)
+    private double measure(String backend, String mode, ClipWriter writer) throws Exception {
+        run(writer, CLIPS / 4);
+        long start = System.nanoTime();
+        run(writer, CLIPS);
+        long elapsed = System.nanoTime() - start;
+
+        double clipsPerSecond = CLIPS * 1e9 / elapsed;
+        System.out.printf("[저장소 벤치마크] %s %s: %.0f 클립/초, %.1f MB/초%n",
+                backend, mode, clipsPerSecond, clipsPerSecond * CLIP_BYTES / (1024 * 1024));
+        return clipsPerSecond;
+    }
+
+    private static void run(ClipWriter writer, int clips) throws Exception {
+        List<CompletableFuture<?>> uploads = new ArrayList<>(clips);
+        for (int i = 0; i < clips; i++) {
+            uploads.add(writer.write(i));
+        }
+        CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private FileStorageService fileStorageService(StorageBackend backend, ExecutorService executor) {
+        MoreTaleProperties properties = new MoreTaleProperties();
+        properties.getStorage().setMaxConcurrentUploads(MAX_CONCURRENT_UPLOADS);
+        FileStorageService fileStorageService = new FileStorageService(backend, executor, properties);
+        ReflectionTestUtils.setField(fileStorageService, "baseUrl", "http://localhost/uploads");
+        return fileStorageService;
+    }
+
+    private static String path(String directory, int i) {
+        return FileStorageService.resolveShardedPath(directory, String.format("tts_%064x.mp3", i));
+    }
+
+    @FunctionalInterface
+    private interface ClipWriter {
+        CompletableFuture<?> write(int i) throws Exception;
+    }
+}
@@ -0,0 +1,174 @@
+package com.moretale;
+
+import com.google.cloud.NoCredentials;
+import com.moretale.global.config.MoreTaleProperties;
+import com.moretale.global.storage.GcsStorageBackend;
+import com.moretale.global.storage.InMemoryStorageBackend;
+import com.moretale.global.storage.LocalStorageBackend;
+import com.moretale.global.storage.StorageBackend;
+import com.moretale.global.storage.StorageObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 저장소 구현별(local / gcs / memory) 동작 검증, gcs는 인프로세스 가짜 GCS 서버 사용
+public class StorageBackendTest {
+
+    private static final String BUCKET = "test-bucket";
+    private static final int CHUNK_BYTES = 256 * 1024;
+
+    @TempDir
+    private Path basePath;
+
+    private FakeGcsServer fakeGcsServer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        fakeGcsServer = new FakeGcsServer(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fakeGcsServer.close();
+    }
+
+    @ParameterizedTest
+    @EnumSource(MoreTaleProperties.Storage.Backend.class)
+    @DisplayName("버퍼/스트림으로 저장한 내용을 읽고, 크기를 조회하고, 삭제할 수 있다")
+    void writeReadStatDelete(MoreTaleProperties.Storage.Backend backend) throws Exception {
+        StorageBackend storageBackend = create(backend);
+        String key = "tts/audio/ab/cd/tts_" + "a".repeat(64) + ".mp3";
+
+        storageBackend.write(key, ByteBuffer.wrap("first".getBytes(StandardCharsets.UTF_8)));
+        storageBackend.write(key, new ByteArrayInputStream("second audio".getBytes(StandardCharsets.UTF_8)));
+
+        try (InputStream inputStream = storageBackend.read(key)) {
+            assertThat(inputStream.readAllBytes()).asString(StandardCharsets.UTF_8).isEqualTo("second audio");
+        }
+        Optional<StorageObject> storageObject = storageBackend.stat(key);
+        assertThat(storageObject).isPresent();
+        assertThat(storageObject.get().size()).isEqualTo(12);
+        assertThat(storageObject.get().lastModified()).isPositive();
+
+        assertThat(storageBackend.delete(key)).isTrue();
+        assertThat(storageBackend.delete(key)).isFalse();
+        assertThat(storageBackend.stat(key)).isEmpty();
+        assertThatThrownBy(() -> storageBackend.read(key)).isInstanceOf(NoSuchFileException.class);
+    }
+
+    @ParameterizedTest
+    @EnumSource(MoreTaleProperties.Storage.Backend.class)
+    @DisplayName("prefix 아래 객체를 key 사전순 페이지로 나눠 조회한다 (마지막 key 다음부터)")
+    void listPages(MoreTaleProperties.Storage.Backend backend) throws Exception {
+        StorageBackend storageBackend = create(backend);
+        List<String> keys = List.of(
+                "tts/audio/00/ff/tts_a.mp3", "tts/audio/ab/cd/tts_b.mp3", "tts/audio/ab/cd/tts_c.mp3",
+                "tts/audio/ab/ce/tts_d.mp3", "tts/audio/tts_flat.mp3", "tts/audio-old.mp3", "images/cover.png");
+        for (String key : keys) {
+            storageBackend.write(key, ByteBuffer.wrap(new byte[3]));
+        }
+
+        List<String> listed = new ArrayList<>();
+        String startAfter = null;
+        while (true) {
+            List<StorageObject> page = storageBackend.list("tts/audio/", startAfter, 2);
+            if (page.isEmpty()) {
+                break;
+            }
+            assertThat(page).hasSizeLessThanOrEqualTo(2).allSatisfy(object -> assertThat(object.size()).isEqualTo(3));
+            page.forEach(object -> listed.add(object.key()));
+            startAfter = page.get(page.size() - 1).key();
+        }
+
+        assertThat(listed).containsExactly(
+                "tts/audio/00/ff/tts_a.mp3", "tts/audio/ab/cd/tts_b.mp3", "tts/audio/ab/cd/tts_c.mp3",
+                "tts/audio/ab/ce/tts_d.mp3", "tts/audio/tts_flat.mp3");
+        assertThat(storageBackend.list("tts/audio/ab/cd/tts_b", null, 10)).extracting(StorageObject::key)
+                .containsExactly("tts/audio/ab/cd/tts_b.mp3");
+        assertThat(storageBackend.list("videos/", null, 10)).isEmpty();
+    }
+
+    @ParameterizedTest
+    @EnumSource(MoreTaleProperties.Storage.Backend.class)
+    @DisplayName("사용 시각 기록은 내용을 바꾸지 않고 수정 시각만 갱신하며, 없는 객체면 false")
+    void markUsedRefreshesLastModified(MoreTaleProperties.Storage.Backend backend) throws Exception {
+        StorageBackend storageBackend = create(backend);
+        String key = "tts/audio/ab/cd/tts_" + "b".repeat(64) + ".mp3";
+        storageBackend.write(key, ByteBuffer.wrap("audio".getBytes(StandardCharsets.UTF_8)));
+        long written = storageBackend.stat(key).orElseThrow().lastModified();
+
+        Thread.sleep(20);
+        assertThat(storageBackend.markUsed(key)).isTrue();
+
+        StorageObject used = storageBackend.stat(key).orElseThrow();
+        assertThat(used.lastModified()).isGreaterThan(written);
+        assertThat(used.size()).isEqualTo(5);
+        try (InputStream inputStream = storageBackend.read(key)) {
+            assertThat(inputStream.readAllBytes()).asString(StandardCharsets.UTF_8).isEqualTo("audio");
+        }
+        assertThat(storageBackend.markUsed("tts/audio/missing.mp3")).isFalse();
+    }
+
+    @Test
+    @DisplayName("GCS: 기준 크기 이하 버퍼는 단일 요청으로, 큰 버퍼와 스트림은 청크 단위 재개 가능 업로드로 저장한다")
+    void gcsUsesMultipartForSmallAndResumableForLarge() throws Exception {
+        StorageBackend storageBackend = create(MoreTaleProperties.Storage.Backend.GCS);
+        byte[] large = new byte[CHUNK_BYTES * 3 + 1000];
+        new Random(7).nextBytes(large);
+
+        storageBackend.write("small.mp3", ByteBuffer.wrap(new byte[1000]));
+        assertThat(fakeGcsServer.getMultipartUploads()).isEqualTo(1);
+        assertThat(fakeGcsServer.getResumableChunks()).isZero();
+
+        // 읽기 전용(직접 접근 불가) 버퍼도 그대로 전송
+        storageBackend.write("large.mp3", ByteBuffer.wrap(large).asReadOnlyBuffer());
+        storageBackend.write("stream.mp3", new ByteArrayInputStream(large));
+
+        assertThat(fakeGcsServer.getMultipartUploads()).isEqualTo(1);
+        assertThat(fakeGcsServer.getResumableChunks()).isGreaterThanOrEqualTo(8);
+        assertThat(fakeGcsServer.getContent(BUCKET, "large.mp3")).isEqualTo(large);
+        assertThat(fakeGcsServer.getContent(BUCKET, "stream.mp3")).isEqualTo(large);
+        try (InputStream inputStream = storageBackend.read("stream.mp3")) {
+            assertThat(inputStream.readAllBytes()).isEqualTo(large);
+        }
+    }
+
+    private StorageBackend create(MoreTaleProperties.Storage.Backend backend) {
+        return switch (backend) {
+            case LOCAL -> new LocalStorageBackend(basePath, MoreTaleProperties.Upload.FsyncPolicy.NONE);
+            case GCS -> {
+                MoreTaleProperties.Storage.Gcs config = gcsConfig(fakeGcsServer);
+                yield new GcsStorageBackend(GcsStorageBackend.createClient(config, NoCredentials.getInstance()), config);
+            }
+            case MEMORY -> new InMemoryStorageBackend();
+        };
+    }
+
+    static MoreTaleProperties.Storage.Gcs gcsConfig(FakeGcsServer fakeGcsServer) {
+        MoreTaleProperties.Storage.Gcs config = new MoreTaleProperties.Storage.Gcs();
+        config.setBucket(BUCKET);
+        config.setProjectId("test-project");
+        config.setHost(fakeGcsServer.getHost());
+        config.setChunkSizeBytes(CHUNK_BYTES);
+        config.setResumableThresholdBytes(CHUNK_BYTES);
+        return config;
+    }
+}
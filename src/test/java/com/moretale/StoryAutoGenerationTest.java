@@ -76,7 +76,7 @@ public class StoryAutoGenerationTest {
     @DisplayName("온보딩 초기값 조회 시 선호도에 맞는 전래동화가 추천되어야 한다")
     void getStoryInitData_ShouldRecommendCorrectTale() {
         // when
-        StoryInitResponse response = storyService.getStoryInitData(testUser.getEmail(), testProfile.getProfileId());
+        StoryInitResponse response = storyService.getStoryInitData(testUser.getUserId(), testProfile.getProfileId());
 
         // then
         assertThat(response.getChildName()).isEqualTo("민준");
@@ -101,7 +101,7 @@ public class StoryAutoGenerationTest {
     @DisplayName("자동 생성 API 호출 시 프로필 제약 조건이 반영된 동화가 생성되어야 한다")
     void autoGenerateStory_ShouldReflectProfileConstraints() {
         // when
-        StoryGenerateResponse response = storyService.autoGenerateStory(testUser.getEmail(), testProfile.getProfileId());
+        StoryGenerateResponse response = storyService.autoGenerateStory(testUser.getUserId(), testProfile.getProfileId());
 
         // then
         assertThat(response.getTitle()).isEqualTo("흥부와 놀부");
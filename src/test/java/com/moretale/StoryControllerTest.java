@@ -3,8 +3,11 @@ package com.moretale;
 import com.moretale.domain.story.controller.StoryController;
 import com.moretale.domain.story.dto.StoryGenerateResponse;
 import com.moretale.domain.story.dto.StoryListResponse;
+import com.moretale.domain.story.dto.StoryPageResponse;
 import com.moretale.domain.story.dto.StoryResponse;
 import com.moretale.domain.story.service.StoryService;
+import com.moretale.domain.user.entity.User;
+import com.moretale.global.security.UserPrincipal;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,6 +21,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
@@ -32,6 +36,11 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @AutoConfigureMockMvc
 public class StoryControllerTest {
 
+    // 컨트롤러는 @AuthenticationPrincipal UserPrincipal의 userId를 서비스에 전달
+    private static final UserPrincipal PRINCIPAL = UserPrincipal.create(
+            User.builder().userId(1L).email("test@example.com").role(User.Role.USER).build(),
+            Map.of("email", "test@example.com"));
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -48,12 +57,11 @@ public class StoryControllerTest {
                 .slides(new ArrayList<>())
                 .build();
 
-        given(storyService.generateStory(anyString(), any())).willReturn(mockResponse);
+        given(storyService.generateStory(anyLong(), any())).willReturn(mockResponse);
 
         // When & Then
         mockMvc.perform(post("/api/stories/generate")
-                        .with(oauth2Login()
-                                .attributes(attrs -> attrs.put("email", "test@example.com")))
+                        .with(oauth2Login().oauth2User(PRINCIPAL))
                         .with(csrf())
                         .contentType(MediaType.APPLICATION_JSON)
                         .content("{\"prompt\": \"숲속 이야기\", \"profileId\": 3}"))
@@ -75,12 +83,12 @@ public class StoryControllerTest {
                 .slides(new ArrayList<>())
                 .build();
 
-        given(storyService.getStoryDetail(anyString(), anyLong())).willReturn(mockResponse);
+        given(storyService.getStoryETag(anyLong(), anyLong())).willReturn("\"1-0\"");
+        given(storyService.getStoryDetail(anyLong(), anyLong())).willReturn(mockResponse);
 
         // When & Then
         mockMvc.perform(get("/api/stories/{storyId}", 1L)
-                        .with(oauth2Login()
-                                .attributes(attrs -> attrs.put("email", "test@example.com"))))
+                        .with(oauth2Login().oauth2User(PRINCIPAL)))
                 .andDo(print())
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
@@ -93,12 +101,11 @@ public class StoryControllerTest {
     @DisplayName("동화 삭제 시 200 응답 반환")
     void deleteStoryControllerTest() throws Exception {
         // Given
-        willDoNothing().given(storyService).deleteStory(anyString(), anyLong());
+        willDoNothing().given(storyService).deleteStory(anyLong(), anyLong());
 
         // When & Then
         mockMvc.perform(delete("/api/stories/{storyId}", 1L)
-                        .with(oauth2Login()
-                                .attributes(attrs -> attrs.put("email", "test@example.com")))
+                        .with(oauth2Login().oauth2User(PRINCIPAL))
                         .with(csrf()))
                 .andDo(print())
                 .andExpect(status().isOk())
@@ -125,20 +132,23 @@ public class StoryControllerTest {
 
         List<StoryListResponse> mockList = Arrays.asList(story1, story2);
 
-        given(storyService.getMyStories(anyString())).willReturn(mockList);
+        given(storyService.getMyStories(anyLong(), isNull(), anyInt()))
+                .willReturn(StoryPageResponse.builder().items(mockList).nextCursor("next").hasNext(true).build());
 
         // When & Then
         mockMvc.perform(get("/api/stories/my")
-                        .with(oauth2Login()
-                                .attributes(attrs -> attrs.put("email", "test@example.com"))))
+                        .with(oauth2Login().oauth2User(PRINCIPAL)))
                 .andDo(print())
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.success").value(true))
-                .andExpect(jsonPath("$.data").isArray())
-                .andExpect(jsonPath("$.data.length()").value(2))
-                .andExpect(jsonPath("$.data[0].title").value("첫 번째 이야기"))
-                .andExpect(jsonPath("$.data[1].title").value("두 번째 이야기"));
+                .andExpect(jsonPath("$.data.items").isArray())
+                .andExpect(jsonPath("$.data.items.length()").value(2))
+                .andExpect(jsonPath("$.data.items[0].title").value("첫 번째 이야기"))
+                .andExpect(jsonPath("$.data.items[1].title").value("두 번째 이야기"))
+                .andExpect(jsonPath("$.data.nextCursor").value("next"))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(header().string("X-Next-Cursor", "next"));
     }
 
     @Test
@@ -154,17 +164,19 @@ public class StoryControllerTest {
 
         List<StoryListResponse> mockList = Arrays.asList(story1);
 
-        given(storyService.getPublicStories()).willReturn(mockList);
+        given(storyService.getPublicStories(isNull(), anyInt()))
+                .willReturn(StoryPageResponse.builder().items(mockList).build());
 
         // When & Then
         mockMvc.perform(get("/api/stories/public")
-                        .with(oauth2Login()
-                                .attributes(attrs -> attrs.put("email", "test@example.com"))))
+                        .with(oauth2Login().oauth2User(PRINCIPAL)))
                 .andDo(print())
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.success").value(true))
-                .andExpect(jsonPath("$.data").isArray())
-                .andExpect(jsonPath("$.data[0].title").value("공개 동화 1"));
+                .andExpect(jsonPath("$.data.items").isArray())
+                .andExpect(jsonPath("$.data.items[0].title").value("공개 동화 1"))
+                .andExpect(jsonPath("$.data.hasNext").value(false))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
     }
 }
@@ -133,9 +133,9 @@ public class StoryCreationFlowIntegrationTest {
                 .andDo(print())
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
-                .andExpect(jsonPath("$.data").isArray())
+                .andExpect(jsonPath("$.data.items").isArray())
                 // 목록 중 첫 번째 항목의 제목이 저장한 것과 일치하는지 확인
-                .andExpect(jsonPath("$.data[0].title").value("용감한 사자 유찬이"));
+                .andExpect(jsonPath("$.data.items[0].title").value("용감한 사자 유찬이"));
     }
 
     @Test
@@ -0,0 +1,203 @@
+package com.moretale;
+
+import com.moretale.domain.story.dto.StoryShareRequest;
+import com.moretale.domain.story.entity.Slide;
+import com.moretale.domain.story.entity.Story;
+import com.moretale.domain.story.repository.StoryRepository;
+import com.moretale.domain.story.service.StoryService;
+import com.moretale.domain.tts.service.ParallelTTSSynthesizer;
+import com.moretale.domain.tts.service.TTSGenerationService;
+import com.moretale.domain.user.entity.User;
+import com.moretale.domain.user.repository.UserRepository;
+import com.moretale.global.security.UserPrincipal;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// 동화 상세 조회 ETag / 조건부 요청(If-None-Match -> 304) 검증
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@ActiveProfiles({"dev", "h2"})
+public class StoryDetailETagTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StoryService storyService;
+
+    @Autowired
+    private TTSGenerationService ttsGenerationService;
+
+    @Autowired
+    private StoryRepository storyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockBean
+    private ParallelTTSSynthesizer parallelTTSSynthesizer;
+
+    private UserPrincipal owner;
+    private UserPrincipal other;
+    private Long storyId;
+
+    @BeforeEach
+    void setUp() {
+        User ownerUser = userRepository.save(User.builder().email("etag@example.com").nickname("태그").role(User.Role.USER).build());
+        User otherUser = userRepository.save(User.builder().email("etag-other@example.com").nickname("다른").role(User.Role.USER).build());
+        owner = UserPrincipal.create(ownerUser);
+        other = UserPrincipal.create(otherUser);
+
+        Story story = Story.builder().title("태그 동화").user(ownerUser)
+                .primaryLanguage("ko").secondaryLanguage("vi").isPublic(false).build();
+        for (int order = 1; order <= 3; order++) {
+            story.addSlide(Slide.builder().order(order).textKr("문장 " + order).build());
+        }
+        storyId = storyRepository.save(story).getStoryId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        storyRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 현재 ETag와 같으면 슬라이드를 로딩하지 않고 304를 반환한다")
+    void matchingETag_NotModifiedWithSingleQuery() throws Exception {
+        String eTag = detail(owner, null)
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + storyId + "-0\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andExpect(jsonPath("$.data.slides.length()").value(3))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        MvcResult notModified = detail(owner, eTag)
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andReturn();
+
+        assertThat(notModified.getResponse().getContentAsString()).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("공유 설정 변경이나 슬라이드 오디오 반영 후에는 이전 ETag로 요청해도 200과 새 ETag를 반환한다")
+    void storyChanges_ChangeETag() throws Exception {
+        String initial = eTagOf(owner);
+
+        storyService.updateStoryShareStatus(owner.getUserId(), storyId, new StoryShareRequest(true));
+        String shared = detail(owner, initial)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.isPublic").value(true))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(shared).isNotEqualTo(initial);
+
+        givenSynthesizedAudio();
+        ttsGenerationService.generateTTSForStory(storyId);
+
+        String voiced = detail(owner, shared)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.slides[0].audioUrlKr").value("http://localhost/uploads/a.mp3"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(voiced).isNotEqualTo(shared);
+        detail(owner, voiced).andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("동화를 읽은 뒤 TTS 반영이 먼저 커밋되어도 공유 설정 변경은 충돌 없이 반영되고 두 변경 모두 ETag를 바꾼다")
+    void shareRacingTtsCompletion_NoConflict() throws Exception {
+        String initial = eTagOf(owner);
+        givenSynthesizedAudio();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // 공유 설정 변경 트랜잭션이 동화를 읽은 직후 다른 스레드의 TTS 작업이 완료
+            storyRepository.findByStoryIdAndUser_UserId(storyId, owner.getUserId()).orElseThrow();
+            CompletableFuture.runAsync(() -> ttsGenerationService.generateTTSForStory(storyId)).join();
+            storyService.updateStoryShareStatus(owner.getUserId(), storyId, new StoryShareRequest(true));
+        });
+
+        String updated = detail(owner, initial)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.isPublic").value(true))
+                .andExpect(jsonPath("$.data.slides[0].audioUrlKr").value("http://localhost/uploads/a.mp3"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(updated).isEqualTo("\"" + storyId + "-2\"");
+    }
+
+    @Test
+    @DisplayName("동화를 읽은 뒤 TTS 반영이 먼저 커밋되어도 동화 삭제는 충돌 없이 완료된다")
+    void deleteRacingTtsCompletion_NoConflict() {
+        givenSynthesizedAudio();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            storyRepository.findByStoryIdAndUser_UserId(storyId, owner.getUserId()).orElseThrow();
+            CompletableFuture.runAsync(() -> ttsGenerationService.generateTTSForStory(storyId)).join();
+            storyService.deleteStory(owner.getUserId(), storyId);
+        });
+
+        assertThat(storyRepository.findById(storyId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 비공개 동화는 ETag가 일치해도 304 대신 접근 거부")
+    void otherUsersPrivateStory_DeniedEvenWithMatchingETag() throws Exception {
+        String eTag = eTagOf(owner);
+
+        detail(other, eTag)
+                .andExpect(status().isForbidden())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+
+    private void givenSynthesizedAudio() {
+        given(parallelTTSSynthesizer.synthesizeAll(anyList())).willAnswer(invocation ->
+                ((List<?>) invocation.getArgument(0)).stream().map(request -> "http://localhost/uploads/a.mp3").toList());
+    }
+
+    private String eTagOf(UserPrincipal principal) throws Exception {
+        return detail(principal, null).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private ResultActions detail(UserPrincipal principal, String ifNoneMatch) throws Exception {
+        MockHttpServletRequestBuilder request = get("/api/stories/{storyId}", storyId).with(user(principal));
+        if (ifNoneMatch != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return mockMvc.perform(request);
+    }
+}
@@ -0,0 +1,162 @@
+package com.moretale;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moretale.domain.story.dto.AIStoryRequest;
+import com.moretale.domain.story.dto.StoryGenerateResponse;
+import com.moretale.domain.story.service.impl.StoryGenerationClient;
+import com.moretale.global.client.AIHttpClient;
+import com.moretale.global.config.MoreTaleProperties;
+import com.moretale.global.exception.BusinessException;
+import com.moretale.global.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// AI 서버 클라이언트 (일괄/스트리밍 파싱, 재시도 범위, 제한 시간, 동시 요청 제한) 검증
+public class StoryGenerationClientTest {
+
+    private StubStoryGenerationServer stub;
+    private MoreTaleProperties properties;
+    private AIHttpClient aiHttpClient;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = new StubStoryGenerationServer();
+        properties = new MoreTaleProperties();
+        properties.getAi().setStoryGenerationUrl(stub.baseUrl());
+        MoreTaleProperties.Ai.Http http = properties.getAi().getHttp();
+        http.setReadTimeoutSeconds(1);
+        http.setRetryBackoffMillis(10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (aiHttpClient != null) {
+            aiHttpClient.shutdown();
+        }
+        stub.close();
+    }
+
+    @Test
+    @DisplayName("일괄 생성 응답을 슬라이드 단위로 파싱하고 알 수 없는 필드는 건너뛴다")
+    void generateStory_ParsesSlides() {
+        stub.slides(3, 0, 0);
+
+        StoryGenerateResponse response = storyClient().generateStory(request());
+
+        assertThat(response.getTitle()).isEqualTo("스트리밍 동화");
+        assertThat(response.getChildName()).isEqualTo("하준");
+        assertThat(response.getSlides()).extracting(StoryGenerateResponse.GeneratedSlide::getTextKr)
+                .containsExactly("문장 1", "문장 2", "문장 3");
+    }
+
+    @Test
+    @DisplayName("503 거절은 재시도하고, 500 응답과 끊긴 본문은 재시도하지 않는다")
+    void retriesOnlyWhenServerDidNotProcessRequest() {
+        StoryGenerationClient client = storyClient();
+
+        stub.rejectFirst(2);
+        assertThat(client.generateStory(request()).getSlides()).hasSize(5);
+        assertThat(stub.getRequestCount()).isEqualTo(3);
+
+        stub.resetCounters();
+        stub.mode(StubStoryGenerationServer.Mode.SERVER_ERROR);
+        assertErrorCode(() -> client.generateStory(request()), ErrorCode.AI_SERVICE_ERROR);
+        assertThat(stub.getRequestCount()).isEqualTo(1);
+
+        stub.resetCounters();
+        stub.mode(StubStoryGenerationServer.Mode.TRUNCATED);
+        assertErrorCode(() -> client.streamStory(request(), slide -> {
+        }), ErrorCode.AI_RESPONSE_INVALID);
+        assertThat(stub.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("연결 실패는 재시도 후 AI_SERVICE_ERROR로 처리된다")
+    void connectFailure_RetriedThenFails() throws Exception {
+        int closedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            closedPort = socket.getLocalPort();
+        }
+        properties.getAi().setStoryGenerationUrl("http://127.0.0.1:" + closedPort);
+
+        long start = System.nanoTime();
+        assertErrorCode(() -> storyClient().generateStory(request()), ErrorCode.AI_SERVICE_ERROR);
+        // 재시도 2회의 백오프(10ms, 20ms + 지터)만큼은 기다림
+        assertThat((System.nanoTime() - start) / 1_000_000).isGreaterThanOrEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("본문 수신이 읽기 제한 시간 동안 멈추면 전체 응답을 기다리지 않고 AI_SERVICE_TIMEOUT으로 실패한다")
+    void stalledBody_TimesOut() {
+        stub.slides(3, 0, 10_000);
+        List<Integer> received = new ArrayList<>();
+
+        long start = System.nanoTime();
+        assertErrorCode(() -> storyClient().streamStory(request(), slide -> received.add(slide.getOrder())),
+                ErrorCode.AI_SERVICE_TIMEOUT);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(received).containsExactly(1);
+        assertThat(elapsedMillis).isLessThan(5_000);
+        assertThat(stub.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시 요청 수는 max-in-flight를 넘지 않고, 한도 대기 시간을 넘기면 AI_SERVICE_BUSY로 실패한다")
+    void inFlightRequestsAreBounded() throws Exception {
+        MoreTaleProperties.Ai.Http http = properties.getAi().getHttp();
+        http.setMaxInFlight(2);
+        http.setAcquireTimeoutMillis(5_000);
+        stub.slides(2, 100, 100);
+        StoryGenerationClient client = storyClient();
+
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<CompletableFuture<StoryGenerateResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                futures.add(CompletableFuture.supplyAsync(() -> client.generateStory(request()), callers));
+            }
+            futures.forEach(future -> assertThat(future.join().getSlides()).hasSize(2));
+        }
+        assertThat(stub.getMaxInFlight()).isEqualTo(2);
+        assertThat(aiHttpClient.availablePermits()).isEqualTo(2);
+
+        // 한도가 모두 사용 중이면 대기 시간 후 거절
+        aiHttpClient.shutdown();
+        http.setMaxInFlight(1);
+        http.setAcquireTimeoutMillis(50);
+        StoryGenerationClient busyClient = storyClient();
+        stub.slides(1, 500, 0);
+        CompletableFuture<StoryGenerateResponse> first = CompletableFuture.supplyAsync(() -> busyClient.generateStory(request()));
+        Thread.sleep(100);
+        assertErrorCode(() -> busyClient.generateStory(request()), ErrorCode.AI_SERVICE_BUSY);
+        assertThat(first.join().getSlides()).hasSize(1);
+    }
+
+    private StoryGenerationClient storyClient() {
+        aiHttpClient = new AIHttpClient(new ObjectMapper(), properties);
+        return new StoryGenerationClient(new ObjectMapper(), aiHttpClient, properties);
+    }
+
+    private AIStoryRequest request() {
+        return AIStoryRequest.of("숲속 이야기", "하준", "ko", "vi", null);
+    }
+
+    private void assertErrorCode(Runnable call, ErrorCode expected) {
+        assertThatThrownBy(call::run)
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(expected);
+    }
+}
@@ -0,0 +1,174 @@
+package com.moretale;
+
+import com.moretale.domain.profile.entity.*;
+import com.moretale.domain.profile.repository.UserProfileRepository;
+import com.moretale.domain.story.dto.StoryGenerateRequest;
+import com.moretale.domain.story.service.StoryGenerationContext;
+import com.moretale.domain.story.service.StoryGenerationContextResolver;
+import com.moretale.domain.story.service.StoryGenerationListener;
+import com.moretale.domain.story.service.StoryService;
+import com.moretale.domain.story.service.TTSService;
+import com.moretale.domain.user.entity.User;
+import com.moretale.domain.user.repository.UserRepository;
+import com.moretale.global.exception.BusinessException;
+import com.moretale.global.exception.ErrorCode;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+// 동화 생성/초기값 조회 시 사용자+프로필을 join 쿼리 한 번으로 조회하고 같은 요청 안에서 재사용하는지 검증
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles({"dev", "h2"})
+public class StoryGenerationContextTest {
+
+    @Autowired
+    private StoryService storyService;
+
+    @Autowired
+    private StoryGenerationContextResolver contextResolver;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserProfileRepository userProfileRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private TTSService ttsService;
+
+    private User user;
+    private User other;
+    private UserProfile profile;
+
+    @BeforeEach
+    void setUp() {
+        given(ttsService.generateTTS(anyString(), anyString())).willReturn("http://localhost/uploads/a.mp3");
+        user = userRepository.save(User.builder().email("context@example.com").nickname("컨텍스트").role(User.Role.USER).build());
+        other = userRepository.save(User.builder().email("other-context@example.com").nickname("다른").role(User.Role.USER).build());
+        profile = userProfileRepository.save(profile(user, "하린"));
+        userProfileRepository.save(profile(other, "도윤"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        userProfileRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("동화 생성, 자동 생성, 초기값 조회는 사용자/프로필 조회 SQL을 한 번만 실행한다")
+    void storyEndpoints_ResolveContextWithSingleQuery() {
+        StoryGenerateRequest request = StoryGenerateRequest.builder()
+                .prompt("바닷속 이야기")
+                .profileId(profile.getProfileId())
+                .build();
+
+        // 호출마다 별도의 HTTP 요청으로 실행 (요청 속성에 저장된 컨텍스트 재사용 배제)
+        newRequest();
+        assertThat(countColdStatements(() -> storyService.generateStory(user.getUserId(), request))).isEqualTo(1);
+        newRequest();
+        assertThat(countColdStatements(() -> storyService.autoGenerateStory(
+                user.getUserId(), profile.getProfileId(), StoryGenerationListener.NONE))).isEqualTo(1);
+        newRequest();
+        assertThat(countColdStatements(() -> storyService.getStoryInitData(user.getUserId(), null))).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 HTTP 요청 안에서 다시 조회하면 SQL 없이 같은 컨텍스트를 반환하고, 사용자도 초기화되어 있다")
+    void resolveTwiceInRequest_ReusesContext() {
+        newRequest();
+
+        StoryGenerationContext[] contexts = new StoryGenerationContext[2];
+        long statements = countColdStatements(() -> {
+            contexts[0] = contextResolver.resolve(user.getUserId(), profile.getProfileId());
+            contexts[1] = contextResolver.resolve(user.getUserId(), profile.getProfileId());
+        });
+
+        assertThat(statements).isEqualTo(1);
+        assertThat(contexts[1]).isSameAs(contexts[0]);
+        assertThat(contexts[0].userId()).isEqualTo(user.getUserId());
+        assertThat(contexts[0].user().getEmail()).isEqualTo("context@example.com");
+        assertThat(contexts[0].profile().getChildName()).isEqualTo("하린");
+
+        // 다른 요청에서는 쿼리 캐시 적중 시에도 사용자까지 초기화된 상태로 반환
+        newRequest();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        StoryGenerationContext cached = contextResolver.resolve(user.getUserId(), profile.getProfileId());
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(cached).isNotSameAs(contexts[0]);
+        assertThat(cached.user().getEmail()).isEqualTo("context@example.com");
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 프로필을 지정하거나 프로필이 없으면 PROFILE_NOT_FOUND")
+    void otherUsersProfile_NotFound() {
+        Long othersProfileId = userProfileRepository.findAllByUser_UserId(other.getUserId()).get(0).getProfileId();
+
+        assertThatThrownBy(() -> contextResolver.resolve(user.getUserId(), othersProfileId))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.PROFILE_NOT_FOUND);
+
+        User empty = userRepository.save(User.builder().email("empty@example.com").nickname("없음").role(User.Role.USER).build());
+        assertThatThrownBy(() -> contextResolver.resolve(empty.getUserId(), null))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.PROFILE_NOT_FOUND);
+    }
+
+    private void newRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    // 2차 캐시/쿼리 캐시를 비운 상태에서 실행한 SQL 수
+    private long countColdStatements(Runnable action) {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private UserProfile profile(User owner, String childName) {
+        return UserProfile.builder()
+                .user(owner)
+                .childName(childName)
+                .ageGroup(AgeGroup.AGE_5_6)
+                .childAge(6)
+                .firstLanguage("ko")
+                .firstLanguageProficiency(LanguageProficiency.BEE)
+                .secondLanguage("en")
+                .secondLanguageProficiency(LanguageProficiency.LARVA)
+                .firstLanguageListening(LanguageProficiency.BEE)
+                .firstLanguageSpeaking(LanguageProficiency.BEE)
+                .secondLanguageListening(LanguageProficiency.PUPA)
+                .secondLanguageSpeaking(LanguageProficiency.LARVA)
+                .familyStructure(FamilyStructure.TWO_PARENTS)
+                .storyPreference(StoryPreference.WARM_HUG)
+                .primaryLanguage("ko")
+                .secondaryLanguage("en")
+                .build();
+    }
+}
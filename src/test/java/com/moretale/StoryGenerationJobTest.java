@@ -0,0 +1,281 @@
+package com.moretale;
+
+import com.moretale.domain.story.dto.StoryGenerateResponse;
+import com.moretale.domain.story.service.StoryGenerationJobService;
+import com.moretale.domain.story.service.StoryGenerationListener;
+import com.moretale.domain.story.service.StoryService;
+import com.moretale.domain.user.entity.User;
+import com.moretale.global.exception.BusinessException;
+import com.moretale.global.exception.ErrorCode;
+import com.moretale.global.security.UserPrincipal;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// 비동기 동화 생성 작업 (작업 등록, 폴링, SSE 진행 이벤트, 접수 상한) 검증
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({"dev", "h2"})
+public class StoryGenerationJobTest {
+
+    private static final UserPrincipal ME = principal(1L, "job@example.com");
+    private static final UserPrincipal OTHER = principal(2L, "other@example.com");
+    private static final UserPrincipal BUSY = principal(3L, "busy@example.com");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StoryGenerationJobService storyGenerationJobService;
+
+    @MockBean
+    private StoryService storyService;
+
+    @Test
+    @DisplayName("작업 등록 시 즉시 작업 ID를 반환하고, 폴링으로 텍스트 완료 -> 전체 완료 상태를 확인할 수 있다")
+    void startJob_ThenPollProgress() throws Exception {
+        CountDownLatch textReady = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        stubGeneration(textReady, release);
+
+        String jobId = startJob();
+
+        assertThat(textReady.await(10, TimeUnit.SECONDS)).isTrue();
+        mockMvc.perform(get("/api/stories/generate/jobs/{jobId}", jobId).with(user(ME)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.status").value("TEXT_READY"))
+                .andExpect(jsonPath("$.data.story.slides[0].textKr").value("문장 1"))
+                .andExpect(jsonPath("$.data.story.slides[0].audioUrlKr").doesNotExist());
+
+        release.countDown();
+        awaitStatus(jobId, "COMPLETED");
+
+        mockMvc.perform(get("/api/stories/generate/jobs/{jobId}", jobId).with(user(ME)))
+                .andExpect(jsonPath("$.data.story.slides[1].audioUrlKr").value("http://localhost/uploads/2.mp3"));
+    }
+
+    @Test
+    @DisplayName("SSE 구독 시 이전 진행 상황을 먼저 받고, 이후 슬라이드별 음성 완료와 완료 이벤트를 받는다")
+    void subscribe_ReceivesReplayAndLiveEvents() throws Exception {
+        CountDownLatch textReady = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        stubGeneration(textReady, release);
+
+        String jobId = startJob();
+        assertThat(textReady.await(10, TimeUnit.SECONDS)).isTrue();
+
+        MvcResult result = mockMvc.perform(get("/api/stories/generate/jobs/{jobId}/events", jobId)
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .with(user(ME)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        release.countDown();
+        awaitStatus(jobId, "COMPLETED");
+        result.getAsyncResult(10_000); // 이벤트 전송은 구독자별 스레드에서 비동기로 진행
+
+        String body = result.getResponse().getContentAsString();
+        assertThat(body).contains("event:text-ready", "event:completed");
+        assertThat(body.split("event:slide-audio", -1)).hasSize(3);
+        assertThat(body.indexOf("event:text-ready")).isLessThan(body.indexOf("event:slide-audio"));
+        assertThat(body.indexOf("event:slide-audio")).isLessThan(body.indexOf("event:completed"));
+    }
+
+    @Test
+    @DisplayName("생성이 실패하면 FAILED 상태와 에러 코드를 반환하고, 이후 구독 시 실패 이벤트를 바로 받는다")
+    void failedJob_ReportsErrorAndReplaysFailedEvent() throws Exception {
+        given(storyService.generateStory(eq(ME.getUserId()), any(), any(StoryGenerationListener.class)))
+                .willThrow(new BusinessException(ErrorCode.PROFILE_NOT_FOUND));
+
+        String jobId = startJob();
+        awaitStatus(jobId, "FAILED");
+
+        mockMvc.perform(get("/api/stories/generate/jobs/{jobId}", jobId).with(user(ME)))
+                .andExpect(jsonPath("$.data.errorCode").value("P001"));
+
+        MvcResult result = mockMvc.perform(get("/api/stories/generate/jobs/{jobId}/events", jobId)
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .with(user(ME)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result.getAsyncResult(10_000);
+        assertThat(result.getResponse().getContentAsString()).contains("event:failed");
+    }
+
+    @Test
+    @DisplayName("구독자 전송이 막혀도 생성 파이프라인과 폴링은 멈추지 않고, 이벤트는 연결이 풀린 뒤 순서대로 전달된다")
+    void blockedSubscriber_DoesNotStallPipeline() throws Exception {
+        CountDownLatch textReady = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        stubGeneration(textReady, release);
+        String jobId = startJob();
+        assertThat(textReady.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // 네트워크가 막힌 클라이언트: 첫 전송부터 unblock 전까지 대기
+        CountDownLatch unblock = new CountDownLatch(1);
+        List<String> sent = new CopyOnWriteArrayList<>();
+        CountDownLatch completed = new CountDownLatch(1);
+        SseEmitter emitter = storyGenerationJobService.subscribe(ME.getUserId(), jobId);
+        ReflectionTestUtils.invokeMethod(emitter, "initialize", blockingHandler(unblock, sent, completed));
+
+        try {
+            release.countDown();
+            awaitStatus(jobId, "COMPLETED");
+            assertThat(sent).hasSizeLessThanOrEqualTo(1);
+        } finally {
+            unblock.countDown();
+        }
+
+        assertThat(completed.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(sent).containsExactly("text-ready", "slide-audio", "slide-audio", "completed");
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 작업은 조회할 수 없다")
+    void getJob_OtherUser_Forbidden() throws Exception {
+        stubGeneration(new CountDownLatch(1), new CountDownLatch(0));
+        String jobId = startJob();
+
+        mockMvc.perform(get("/api/stories/generate/jobs/{jobId}", jobId)
+                        .with(user(OTHER)))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.errorCode").value("S002"));
+    }
+
+    @Test
+    @DisplayName("사용자당 진행 중 작업이 상한에 도달하면 새 작업은 429(S007)로 거절되고, 작업이 끝나면 다시 등록할 수 있다")
+    void startJob_PerUserLimit_Rejected() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        given(storyService.generateStory(eq(BUSY.getUserId()), any(), any(StoryGenerationListener.class)))
+                .willAnswer(invocation -> {
+                    release.await(10, TimeUnit.SECONDS);
+                    return StoryGenerateResponse.builder().title("대기 동화").slides(List.of()).build();
+                });
+
+        List<String> jobIds = new ArrayList<>();
+        try {
+            for (int i = 0; i < 3; i++) {
+                jobIds.add(JsonPath.read(postJob(BUSY).andExpect(status().isAccepted())
+                        .andReturn().getResponse().getContentAsString(), "$.data.jobId"));
+            }
+            postJob(BUSY)
+                    .andExpect(status().isTooManyRequests())
+                    .andExpect(jsonPath("$.errorCode").value("S007"));
+        } finally {
+            release.countDown();
+        }
+
+        for (String jobId : jobIds) {
+            awaitStatus(BUSY, jobId, "COMPLETED");
+        }
+        postJob(BUSY).andExpect(status().isAccepted());
+    }
+
+    // 텍스트 생성 -> (release 대기) -> 슬라이드 2개 음성 생성 순서로 진행하는 가짜 파이프라인
+    private void stubGeneration(CountDownLatch textReady, CountDownLatch release) {
+        given(storyService.generateStory(eq(ME.getUserId()), any(), any(StoryGenerationListener.class)))
+                .willAnswer(invocation -> {
+                    StoryGenerationListener listener = invocation.getArgument(2);
+                    List<StoryGenerateResponse.GeneratedSlide> slides = new ArrayList<>();
+                    for (int i = 1; i <= 2; i++) {
+                        slides.add(StoryGenerateResponse.GeneratedSlide.builder()
+                                .order(i).textKr("문장 " + i).build());
+                    }
+                    StoryGenerateResponse response = StoryGenerateResponse.builder()
+                            .title("비동기 동화").slides(slides).build();
+
+                    listener.onTextReady(response);
+                    textReady.countDown();
+                    release.await(10, TimeUnit.SECONDS);
+
+                    for (StoryGenerateResponse.GeneratedSlide slide : slides) {
+                        slide.setAudioUrlKr("http://localhost/uploads/" + slide.getOrder() + ".mp3");
+                        listener.onSlideAudioReady(slide);
+                    }
+                    return response;
+                });
+    }
+
+    // 전송 시 unblock까지 대기하고 SSE 이벤트 이름을 기록하는 emitter 핸들러 (서블릿 응답 대신)
+    private static Object blockingHandler(CountDownLatch unblock, List<String> sent, CountDownLatch completed)
+            throws ClassNotFoundException {
+        Class<?> handlerType = Class.forName(ResponseBodyEmitter.class.getName() + "$Handler");
+        return Proxy.newProxyInstance(handlerType.getClassLoader(), new Class<?>[]{handlerType}, (proxy, method, args) -> {
+            if (method.getName().equals("send")) {
+                unblock.await(10, TimeUnit.SECONDS);
+                Set<?> items = (Set<?>) args[0];
+                String first = String.valueOf(((ResponseBodyEmitter.DataWithMediaType) items.iterator().next()).getData());
+                sent.add(first.substring("event:".length(), first.indexOf('\n')));
+            } else if (method.getName().equals("complete")) {
+                completed.countDown();
+            }
+            return null;
+        });
+    }
+
+    private String startJob() throws Exception {
+        MvcResult result = postJob(ME)
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.data.jobId").exists())
+                .andReturn();
+        return JsonPath.read(result.getResponse().getContentAsString(), "$.data.jobId");
+    }
+
+    private ResultActions postJob(UserPrincipal principal) throws Exception {
+        return mockMvc.perform(post("/api/stories/generate/jobs")
+                .with(user(principal))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"prompt\": \"숲속 이야기\", \"profileId\": 1}"));
+    }
+
+    private void awaitStatus(String jobId, String expected) throws Exception {
+        awaitStatus(ME, jobId, expected);
+    }
+
+    private void awaitStatus(UserPrincipal principal, String jobId, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 10_000;
+        String status = null;
+        while (System.currentTimeMillis() < deadline) {
+            MvcResult result = mockMvc.perform(get("/api/stories/generate/jobs/{jobId}", jobId).with(user(principal))).andReturn();
+            status = JsonPath.read(result.getResponse().getContentAsString(), "$.data.status");
+            if (expected.equals(status)) {
+                return;
+            }
+            Thread.sleep(20);
+        }
+        assertThat(status).isEqualTo(expected);
+    }
+
+    private static UserPrincipal principal(Long userId, String email) {
+        return UserPrincipal.create(User.builder().userId(userId).email(email).role(User.Role.USER).build());
+    }
+}
@@ -0,0 +1,180 @@
+package com.moretale;
+
+import com.moretale.domain.profile.entity.*;
+import com.moretale.domain.profile.repository.UserProfileRepository;
+import com.moretale.domain.story.dto.StoryGenerateRequest;
+import com.moretale.domain.story.dto.StoryGenerateResponse;
+import com.moretale.domain.story.entity.Slide;
+import com.moretale.domain.story.entity.Story;
+import com.moretale.domain.story.repository.SlideRepository;
+import com.moretale.domain.story.repository.StoryRepository;
+import com.moretale.domain.story.service.AIStoryService;
+import com.moretale.domain.story.service.StoryService;
+import com.moretale.domain.story.service.TTSService;
+import com.moretale.domain.tts.service.ParallelTTSSynthesizer;
+import com.moretale.domain.tts.service.TTSGenerationService;
+import com.moretale.domain.user.entity.User;
+import com.moretale.domain.user.repository.UserRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.assertj.core.groups.Tuple;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+
+// 원격 AI/TTS 호출 중에는 DB 커넥션을 점유하지 않는지 검증
+@SpringBootTest
+@ActiveProfiles({"dev", "h2"})
+public class StoryGenerationTransactionTest {
+
+    @Autowired
+    private StoryService storyService;
+
+    @Autowired
+    private TTSGenerationService ttsGenerationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserProfileRepository userProfileRepository;
+
+    @Autowired
+    private StoryRepository storyRepository;
+
+    @Autowired
+    private SlideRepository slideRepository;
+
+    @Autowired
+    private HikariDataSource dataSource;
+
+    @MockBean
+    private AIStoryService aiStoryService;
+
+    @MockBean
+    private TTSService ttsService;
+
+    @MockBean
+    private ParallelTTSSynthesizer parallelTTSSynthesizer;
+
+    private final List<Integer> activeConnectionsDuringRemoteCalls = new ArrayList<>();
+    private final AtomicInteger remoteCalls = new AtomicInteger();
+
+    private User user;
+    private UserProfile profile;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .email("tx-test@example.com")
+                .nickname("트랜잭션")
+                .role(User.Role.USER)
+                .build());
+
+        profile = userProfileRepository.save(UserProfile.builder()
+                .user(user)
+                .childName("민준")
+                .ageGroup(AgeGroup.AGE_5_6)
+                .childAge(6)
+                .firstLanguage("ko")
+                .firstLanguageProficiency(LanguageProficiency.BEE)
+                .secondLanguage("vi")
+                .secondLanguageProficiency(LanguageProficiency.LARVA)
+                .firstLanguageListening(LanguageProficiency.BEE)
+                .firstLanguageSpeaking(LanguageProficiency.BEE)
+                .secondLanguageListening(LanguageProficiency.PUPA)
+                .secondLanguageSpeaking(LanguageProficiency.LARVA)
+                .familyStructure(FamilyStructure.TWO_PARENTS)
+                .storyPreference(StoryPreference.WARM_HUG)
+                .primaryLanguage("ko")
+                .secondaryLanguage("vi")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        storyRepository.deleteAll();
+        userProfileRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("동화 생성 중 AI/TTS 원격 호출이 실행되는 동안 체크아웃된 커넥션이 없다")
+    void generateStory_HoldsNoConnectionDuringRemoteCalls() {
+        List<StoryGenerateResponse.GeneratedSlide> slides = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            slides.add(StoryGenerateResponse.GeneratedSlide.builder()
+                    .order(i).textKr("문장 " + i).textNative("câu " + i).build());
+        }
+
+        given(aiStoryService.generateStory(anyString(), anyString(), anyString(), anyString(), any()))
+                .willAnswer(invocation -> {
+                    recordActiveConnections();
+                    return StoryGenerateResponse.builder().title("테스트").slides(slides).build();
+                });
+        given(ttsService.generateTTS(anyString(), anyString()))
+                .willAnswer(invocation -> {
+                    recordActiveConnections();
+                    return "http://localhost/uploads/test.mp3";
+                });
+
+        StoryGenerateResponse response = storyService.generateStory(user.getUserId(),
+                StoryGenerateRequest.builder().prompt("숲속 이야기").profileId(profile.getProfileId()).build());
+
+        assertThat(response.getSlides()).hasSize(3);
+        assertThat(remoteCalls.get()).isEqualTo(1 + 3 * 2);
+        assertThat(activeConnectionsDuringRemoteCalls).containsOnly(0);
+    }
+
+    @Test
+    @DisplayName("동화 TTS 재생성 중 원격 합성이 실행되는 동안 체크아웃된 커넥션이 없고 결과는 저장된다")
+    void generateTTSForStory_HoldsNoConnectionDuringRemoteCalls() {
+        Story story = Story.builder()
+                .title("저장된 동화")
+                .user(user)
+                .primaryLanguage("ko")
+                .secondaryLanguage("vi")
+                .build();
+        story.addSlide(Slide.builder().order(1).textKr("하나").textNative("một").build());
+        story.addSlide(Slide.builder().order(2).textKr("둘").textNative("hai").build());
+        Long storyId = storyRepository.save(story).getStoryId();
+
+        given(parallelTTSSynthesizer.synthesizeAll(anyList()))
+                .willAnswer(invocation -> {
+                    recordActiveConnections();
+                    List<?> requests = invocation.getArgument(0);
+                    List<String> audioUrls = new ArrayList<>();
+                    for (int i = 0; i < requests.size(); i++) {
+                        audioUrls.add("http://localhost/uploads/" + i + ".mp3");
+                    }
+                    return audioUrls;
+                });
+
+        ttsGenerationService.generateTTSForStory(storyId);
+
+        assertThat(activeConnectionsDuringRemoteCalls).containsOnly(0);
+        assertThat(slideRepository.findByStoryIdOrderByOrder(storyId))
+                .extracting(Slide::getAudioUrlKr, Slide::getAudioUrlNative)
+                .containsExactly(
+                        Tuple.tuple("http://localhost/uploads/0.mp3", "http://localhost/uploads/1.mp3"),
+                        Tuple.tuple("http://localhost/uploads/2.mp3", "http://localhost/uploads/3.mp3")
+                );
+    }
+
+    private void recordActiveConnections() {
+        remoteCalls.incrementAndGet();
+        activeConnectionsDuringRemoteCalls.add(dataSource.getHikariPoolMXBean().getActiveConnections());
+    }
+}
@@ -0,0 +1,160 @@
+package com.moretale;
+
+import com.jayway.jsonpath.JsonPath;
+import com.moretale.domain.story.dto.StoryListResponse;
+import com.moretale.domain.story.dto.StoryPageResponse;
+import com.moretale.domain.story.entity.Story;
+import com.moretale.domain.story.repository.StoryRepository;
+import com.moretale.domain.story.service.StoryService;
+import com.moretale.domain.user.entity.User;
+import com.moretale.domain.user.repository.UserRepository;
+import com.moretale.global.security.UserPrincipal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.options;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// 동화 목록 커서 기반 페이지네이션 (created_at, story_id) 검증
+@SpringBootTest(properties = "moretale.security.cors.allowed-origins=" + StoryListPaginationTest.ORIGIN)
+@AutoConfigureMockMvc
+@ActiveProfiles({"dev", "h2"})
+public class StoryListPaginationTest {
+
+    static final String ORIGIN = "https://app.moretale.test";
+    private static final String EMAIL = "page@example.com";
+
+    @Autowired
+    private StoryService storyService;
+
+    @Autowired
+    private StoryRepository storyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private final List<Long> myStoryIdsNewestFirst = new ArrayList<>();
+    private UserPrincipal principal;
+
+    @BeforeEach
+    void setUp() {
+        User me = userRepository.save(User.builder().email(EMAIL).nickname("페이지").role(User.Role.USER).build());
+        principal = UserPrincipal.create(me);
+        User other = userRepository.save(User.builder().email("other-page@example.com").nickname("다른").role(User.Role.USER).build());
+
+        // 25개 중 짝수 번째는 공개, 생성 시각은 3개씩 같게 만들어 story_id로 순서가 갈리는 경우도 포함
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 9, 0);
+        for (int i = 0; i < 25; i++) {
+            Story story = storyRepository.save(Story.builder()
+                    .title("동화 " + i).user(me).isPublic(i % 2 == 0).build());
+            jdbcTemplate.update("UPDATE stories SET created_at = ? WHERE story_id = ?",
+                    base.plusMinutes(i / 3), story.getStoryId());
+            myStoryIdsNewestFirst.add(0, story.getStoryId());
+        }
+        storyRepository.save(Story.builder().title("다른 사람 동화").user(other).isPublic(false).build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        storyRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("커서를 따라가면 내 동화 전체를 최신순으로 중복/누락 없이 조회한다")
+    void myStories_PagesThroughAllWithoutDuplicates() {
+        List<Long> collected = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        String cursor = null;
+        do {
+            StoryPageResponse page = storyService.getMyStories(principal.getUserId(), cursor, 10);
+            page.getItems().forEach(item -> collected.add(item.getStoryId()));
+            pageSizes.add(page.getItems().size());
+            assertThat(page.isHasNext()).isEqualTo(page.getNextCursor() != null);
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(pageSizes).containsExactly(10, 10, 5);
+        assertThat(collected).containsExactlyElementsOf(myStoryIdsNewestFirst);
+    }
+
+    @Test
+    @DisplayName("공개 목록은 공개 동화만 페이지 단위로 조회하고, 페이지 크기는 상한으로 제한된다")
+    void publicStories_OnlyPublicAndSizeCapped() {
+        StoryPageResponse first = storyService.getPublicStories(null, 5);
+        StoryPageResponse rest = storyService.getPublicStories(first.getNextCursor(), 1_000);
+
+        assertThat(first.getItems()).hasSize(5).allSatisfy(item -> assertThat(item.getIsPublic()).isTrue());
+        assertThat(rest.getItems()).hasSize(8).allSatisfy(item -> assertThat(item.getIsPublic()).isTrue());
+        assertThat(rest.isHasNext()).isFalse();
+        assertThat(first.getItems().get(4).getCreatedAt()).isAfterOrEqualTo(rest.getItems().get(0).getCreatedAt());
+        assertThat(storyService.getPublicStories()).extracting(StoryListResponse::getTitle).doesNotContain("다른 사람 동화");
+    }
+
+    @Test
+    @DisplayName("API는 items / nextCursor / hasNext 를 본문으로, 다음 커서를 X-Next-Cursor 헤더로도 반환하고 잘못된 커서는 400으로 거절한다")
+    void endpoint_ReturnsCursorHeader() throws Exception {
+        MvcResult first = mockMvc.perform(get("/api/stories/my").param("size", "20").with(user(principal)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items.length()").value(20))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(header().exists("X-Next-Cursor"))
+                .andReturn();
+        String nextCursor = first.getResponse().getHeader("X-Next-Cursor");
+        assertThat(JsonPath.<String>read(first.getResponse().getContentAsString(), "$.data.nextCursor")).isEqualTo(nextCursor);
+
+        mockMvc.perform(get("/api/stories/my")
+                        .param("cursor", nextCursor)
+                        .with(user(principal)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items.length()").value(5))
+                .andExpect(jsonPath("$.data.hasNext").value(false))
+                .andExpect(jsonPath("$.data.nextCursor").doesNotExist())
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+
+        mockMvc.perform(get("/api/stories/public").param("cursor", "not-a-cursor").with(user(principal)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("허용된 출처의 교차 출처 요청에는 X-Next-Cursor 헤더가 노출된다")
+    void crossOrigin_ExposesCursorHeader() throws Exception {
+        mockMvc.perform(options("/api/stories/my")
+                        .header("Origin", ORIGIN)
+                        .header("Access-Control-Request-Method", "GET")
+                        .header("Access-Control-Request-Headers", "Authorization"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Access-Control-Allow-Origin", ORIGIN));
+
+        mockMvc.perform(get("/api/stories/my").header("Origin", ORIGIN).with(user(principal)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Access-Control-Allow-Origin", ORIGIN))
+                .andExpect(header().string("Access-Control-Expose-Headers", containsString("X-Next-Cursor")));
+
+        mockMvc.perform(get("/api/stories/public").header("Origin", "https://other.example"))
+                .andExpect(status().isForbidden());
+    }
+}
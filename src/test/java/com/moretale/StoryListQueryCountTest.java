@@ -0,0 +1,112 @@
+package com.moretale;
+
+import com.moretale.domain.story.dto.StoryListResponse;
+import com.moretale.domain.story.entity.Slide;
+import com.moretale.domain.story.entity.Story;
+import com.moretale.domain.story.repository.StoryRepository;
+import com.moretale.domain.story.service.StoryService;
+import com.moretale.domain.user.entity.User;
+import com.moretale.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+// 동화 목록 조회의 SQL 실행 횟수가 동화 개수와 무관하게 일정한지 검증 (슬라이드 수 N+1 방지)
+// 공개 목록 쿼리 자체를 측정하므로 공개 동화 피드 캐시는 끔
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "moretale.story.feed-cache.enabled=false"
+})
+@ActiveProfiles({"dev", "h2"})
+public class StoryListQueryCountTest {
+
+    private static final String EMAIL = "count@example.com";
+
+    @Autowired
+    private StoryService storyService;
+
+    @Autowired
+    private StoryRepository storyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder().email(EMAIL).nickname("카운트").role(User.Role.USER).build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        storyRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("동화가 3개일 때와 30개일 때 목록 조회 SQL 수가 같다")
+    void listQueryCount_IsConstant() {
+        saveStories(3);
+        long myFew = countStatements(() -> storyService.getMyStories(user.getUserId(), null, 100));
+        long publicFew = countStatements(() -> storyService.getPublicStories(null, 100));
+
+        saveStories(27);
+        long myMany = countStatements(() -> storyService.getMyStories(user.getUserId(), null, 100));
+        long publicMany = countStatements(() -> storyService.getPublicStories(null, 100));
+
+        // 내 목록 / 공개 목록 모두 목록 조회 한 번 (인증 주체의 userId를 바로 사용하므로 사용자 조회 없음)
+        assertThat(myFew).isEqualTo(myMany).isEqualTo(1);
+        assertThat(publicFew).isEqualTo(publicMany).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("목록 항목의 슬라이드 수는 집계 쿼리로 계산되며 슬라이드가 없는 동화는 0이다")
+    void slideCount_IsAggregated() {
+        saveStories(3);
+        storyRepository.save(Story.builder().title("빈 동화").user(user).isPublic(true).build());
+
+        List<StoryListResponse> items = storyService.getMyStories(user.getUserId(), null, 10).getItems();
+
+        assertThat(items).extracting(StoryListResponse::getTitle, StoryListResponse::getSlideCount)
+                .contains(
+                        tuple("빈 동화", 0),
+                        tuple("동화 0", 1),
+                        tuple("동화 2", 3)
+                );
+    }
+
+    // i번째 동화는 (i % 3) + 1개의 슬라이드를 가짐
+    private void saveStories(int count) {
+        long existing = storyRepository.count();
+        for (int i = 0; i < count; i++) {
+            Story story = Story.builder().title("동화 " + (existing + i)).user(user).isPublic(true).build();
+            for (int order = 1; order <= (i % 3) + 1; order++) {
+                story.addSlide(Slide.builder().order(order).textKr("문장 " + order).build());
+            }
+            storyRepository.save(story);
+        }
+    }
+
+    private long countStatements(Runnable query) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        query.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
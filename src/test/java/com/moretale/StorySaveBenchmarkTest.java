@@ -0,0 +1,145 @@
+package com.moretale;
+
+import com.moretale.domain.profile.entity.*;
+import com.moretale.domain.profile.repository.UserProfileRepository;
+import com.moretale.domain.story.dto.StorySaveRequest;
+import com.moretale.domain.story.repository.StoryRepository;
+import com.moretale.domain.story.service.StoryService;
+import com.moretale.domain.user.entity.User;
+import com.moretale.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 슬라이드 수(5~50)별 동화 저장 시 SQL 실행 횟수(왕복 횟수)와 지연 시간 측정
+// 시퀀스 ID + JDBC 배치 사용 시 슬라이드 INSERT는 배치 단위로 전송되어 슬라이드 수와 거의 무관
+// 실행: ./gradlew benchmark
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+@ActiveProfiles({"dev", "h2"})
+public class StorySaveBenchmarkTest {
+
+    private static final String EMAIL = "save-bench@example.com";
+    private static final int[] SLIDE_COUNTS = {5, 10, 20, 50};
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 100;
+
+    @Autowired
+    private StoryService storyService;
+
+    @Autowired
+    private StoryRepository storyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserProfileRepository userProfileRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long userId;
+    private Long profileId;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder().email(EMAIL).nickname("저장").role(User.Role.USER).build());
+        UserProfile profile = userProfileRepository.save(UserProfile.builder()
+                .user(user)
+                .childName("하준")
+                .ageGroup(AgeGroup.AGE_5_6)
+                .childAge(6)
+                .firstLanguage("ko")
+                .firstLanguageProficiency(LanguageProficiency.BEE)
+                .secondLanguage("vi")
+                .secondLanguageProficiency(LanguageProficiency.LARVA)
+                .firstLanguageListening(LanguageProficiency.BEE)
+                .firstLanguageSpeaking(LanguageProficiency.BEE)
+                .secondLanguageListening(LanguageProficiency.PUPA)
+                .secondLanguageSpeaking(LanguageProficiency.LARVA)
+                .familyStructure(FamilyStructure.TWO_PARENTS)
+                .storyPreference(StoryPreference.WARM_HUG)
+                .primaryLanguage("ko")
+                .secondaryLanguage("vi")
+                .build());
+        userId = user.getUserId();
+        profileId = profile.getProfileId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        storyRepository.deleteAll();
+        userProfileRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("슬라이드 수가 늘어나도 동화 저장의 SQL 실행 횟수는 일정하다")
+    void saveStory_StatementsDoNotGrowWithSlides() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Map<Integer, Long> statementsBySlides = new LinkedHashMap<>();
+
+        for (int slideCount : SLIDE_COUNTS) {
+            StorySaveRequest request = request(slideCount);
+            for (int i = 0; i < WARMUP; i++) {
+                storyService.saveStory(userId, request);
+            }
+
+            statistics.clear();
+            long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                storyService.saveStory(userId, request);
+            }
+            double micros = (System.nanoTime() - start) / 1_000.0 / ITERATIONS;
+            long statements = statistics.getPrepareStatementCount() / ITERATIONS;
+            statementsBySlides.put(slideCount, statements);
+
+            System.out.printf("[동화 저장 벤치마크] 슬라이드 %2d개: SQL %d회/저장 (INSERT 엔티티 %d개), %.1f us/저장%n",
+                    slideCount, statements, statistics.getEntityInsertCount() / ITERATIONS, micros);
+        }
+
+        // 슬라이드 수가 10배가 되어도 시퀀스 구간 할당(50개마다 1회) 이상으로 늘지 않음
+        long min = statementsBySlides.values().stream().mapToLong(Long::longValue).min().orElseThrow();
+        long max = statementsBySlides.values().stream().mapToLong(Long::longValue).max().orElseThrow();
+        assertThat(max - min).isLessThanOrEqualTo(1);
+    }
+
+    // 오디오까지 채워진 슬라이드 (TTS 작업 등록 없이 저장만 측정)
+    private StorySaveRequest request(int slideCount) {
+        List<StorySaveRequest.SlideRequest> slides = new ArrayList<>();
+        for (int order = 1; order <= slideCount; order++) {
+            slides.add(StorySaveRequest.SlideRequest.builder()
+                    .order(order)
+                    .imageUrl("https://img/" + order + ".png")
+                    .textKr("문장 " + order)
+                    .textNative("câu " + order)
+                    .audioUrlKr("http://localhost/uploads/" + order + "-ko.mp3")
+                    .audioUrlNative("http://localhost/uploads/" + order + "-vi.mp3")
+                    .build());
+        }
+        return StorySaveRequest.builder()
+                .title("저장 벤치마크")
+                .profileId(profileId)
+                .slides(slides)
+                .build();
+    }
+}
@@ -5,6 +5,8 @@ import com.moretale.domain.profile.repository.UserProfileRepository;
 import com.moretale.domain.story.dto.StoryGenerateRequest;
 import com.moretale.domain.story.dto.StoryGenerateResponse;
 import com.moretale.domain.story.service.AIStoryService;
+import com.moretale.domain.story.service.StoryGenerationContext;
+import com.moretale.domain.story.service.StoryGenerationContextResolver;
 import com.moretale.domain.story.service.StoryService;
 import com.moretale.domain.story.service.TTSService;
 import com.moretale.domain.user.entity.User;
@@ -17,7 +19,6 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -34,6 +35,7 @@ public class StoryServiceBusinessLogicTest {
     @Mock private TTSService ttsService;
     @Mock private UserRepository userRepository;
     @Mock private UserProfileRepository userProfileRepository;
+    @Mock private StoryGenerationContextResolver contextResolver;
 
     @Test
     @DisplayName("아이 이름 미입력 시 프로필의 이름이 적용되고, 언어별로 정확한 TTS 코드가 매칭된다")
@@ -57,12 +59,11 @@ public class StoryServiceBusinessLogicTest {
                                 .textKr("맛있는 만두").textNative("好吃的饺子").build()
                 )).build();
 
-        given(userRepository.findByEmail(email)).willReturn(Optional.of(user));
-        given(userProfileRepository.findByProfileIdAndUser_UserId(10L, 1L)).willReturn(Optional.of(profile));
+        given(contextResolver.resolve(1L, 10L)).willReturn(new StoryGenerationContext(user, profile));
         given(aiStoryService.generateStory(anyString(), anyString(), anyString(), anyString())).willReturn(aiResponse);
 
         // 2. When: 서비스 실행
-        storyService.generateStory(email, request);
+        storyService.generateStory(user.getUserId(), request);
 
         // 3. Then:
         // 1) 개인화 확인: AI 호출 시 아이 이름이 '유찬'으로 넘어갔는지 확인
@@ -36,7 +36,7 @@ public class StoryServiceContextFilterTest {
         storyRepository.save(Story.builder().title("민준이의 베트남어 동화").user(userB).build());
 
         // 2. When: 유저 A의 이름으로 목록 조회
-        List<StoryListResponse> myStories = storyService.getMyStories(userA.getEmail());
+        List<StoryListResponse> myStories = storyService.getMyStories(userA.getUserId());
 
         // 3. Then:
         // 전체 DB에는 2개의 동화가 있지만, 유저 A에게는 본인 것 1개만 나와야 함
@@ -85,7 +85,7 @@ public class StoryServiceDetailTest {
                 .slides(List.of(slideReq))
                 .build();
 
-        given(userRepository.findByEmail(anyString())).willReturn(Optional.of(user));
+        given(userRepository.getReferenceById(1L)).willReturn(user);
 
         // findByProfileIdAndUser_UserId 대신 findById 사용
         given(userProfileRepository.findById(3L)).willReturn(Optional.of(profile));
@@ -94,7 +94,7 @@ public class StoryServiceDetailTest {
         given(storyRepository.save(any(Story.class))).willReturn(story);
 
         // when
-        StoryResponse response = storyService.saveStory(user.getEmail(), request);
+        StoryResponse response = storyService.saveStory(user.getUserId(), request);
 
         // then
         assertThat(response.getStoryId()).isEqualTo(100L);
@@ -105,11 +105,10 @@ public class StoryServiceDetailTest {
     @DisplayName("상세 조회: 본인의 동화인 경우 상세 정보를 반환한다")
     void getStoryDetail_Owner_Success() {
         // given
-        given(userRepository.findByEmail(anyString())).willReturn(Optional.of(user));
         given(storyRepository.findByIdWithSlides(anyLong())).willReturn(Optional.of(story));
 
         // when
-        StoryResponse response = storyService.getStoryDetail(user.getEmail(), 100L);
+        StoryResponse response = storyService.getStoryDetail(user.getUserId(), 100L);
 
         // then
         assertThat(response.getTitle()).isEqualTo("테스트 동화");
@@ -119,11 +118,10 @@ public class StoryServiceDetailTest {
     @DisplayName("상세 조회 실패: 타인의 비공개 동화에 접근하면 예외가 발생한다")
     void getStoryDetail_AccessDenied() {
         // given
-        given(userRepository.findByEmail(anyString())).willReturn(Optional.of(otherUser));
         given(storyRepository.findByIdWithSlides(anyLong())).willReturn(Optional.of(story));
 
         // when & then
-        assertThatThrownBy(() -> storyService.getStoryDetail(otherUser.getEmail(), 100L))
+        assertThatThrownBy(() -> storyService.getStoryDetail(otherUser.getUserId(), 100L))
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.STORY_ACCESS_DENIED);
     }
@@ -135,11 +133,10 @@ public class StoryServiceDetailTest {
         StoryShareRequest request = new StoryShareRequest();
         request.setIsPublic(true);
 
-        given(userRepository.findByEmail(anyString())).willReturn(Optional.of(user));
-        given(storyRepository.findByStoryIdAndUser(anyLong(), any(User.class))).willReturn(Optional.of(story));
+        given(storyRepository.findByStoryIdAndUser_UserId(anyLong(), eq(1L))).willReturn(Optional.of(story));
 
         // when
-        storyService.updateStoryShareStatus(user.getEmail(), 100L, request);
+        storyService.updateStoryShareStatus(user.getUserId(), 100L, request);
 
         // then
         assertThat(story.getIsPublic()).isTrue();
@@ -149,11 +146,10 @@ public class StoryServiceDetailTest {
     @DisplayName("동화 삭제: 본인의 동화를 정상적으로 삭제한다")
     void deleteStory_Success() {
         // given
-        given(userRepository.findByEmail(anyString())).willReturn(Optional.of(user));
-        given(storyRepository.findByStoryIdAndUser(anyLong(), any(User.class))).willReturn(Optional.of(story));
+        given(storyRepository.findByStoryIdAndUser_UserId(anyLong(), eq(1L))).willReturn(Optional.of(story));
 
         // when
-        storyService.deleteStory(user.getEmail(), 100L);
+        storyService.deleteStory(user.getUserId(), 100L);
 
         // then
         verify(storyRepository).delete(story);
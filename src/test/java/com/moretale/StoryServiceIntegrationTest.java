@@ -81,7 +81,7 @@ public class StoryServiceIntegrationTest {
                 .build();
 
         // when
-        StoryResponse response = storyService.saveStory(savedUser.getEmail(), request);
+        StoryResponse response = storyService.saveStory(savedUser.getUserId(), request);
 
         // then
         assertThat(response.getStoryId()).isNotNull();
@@ -5,9 +5,9 @@ import com.moretale.domain.profile.repository.UserProfileRepository;
 import com.moretale.domain.story.dto.StoryResponse;
 import com.moretale.domain.story.dto.StorySaveRequest;
 import com.moretale.domain.story.entity.Story;
-import com.moretale.domain.story.repository.SlideRepository;
 import com.moretale.domain.story.repository.StoryRepository;
 import com.moretale.domain.story.service.StoryService;
+import com.moretale.domain.tts.service.TTSJobService;
 import com.moretale.domain.user.entity.User;
 import com.moretale.domain.user.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -24,6 +24,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,15 +36,15 @@ public class StoryServiceSaveTest {
     @Mock
     private StoryRepository storyRepository;
 
-    @Mock
-    private SlideRepository slideRepository;
-
     @Mock
     private UserRepository userRepository;
 
     @Mock
     private UserProfileRepository userProfileRepository;
 
+    @Mock
+    private TTSJobService ttsJobService;
+
     private User user;
     private UserProfile profile;
     private final String email = "chae_y@sookmyung.ac.kr";
@@ -81,7 +82,7 @@ public class StoryServiceSaveTest {
                 .slides(List.of(slideReq1))
                 .build();
 
-        given(userRepository.findByEmail(email)).willReturn(Optional.of(user));
+        given(userRepository.getReferenceById(user.getUserId())).willReturn(user);
 
         // 서비스 로직 변경에 맞춰 findById 사용
         given(userProfileRepository.findById(2L)).willReturn(Optional.of(profile));
@@ -92,12 +93,13 @@ public class StoryServiceSaveTest {
         });
 
         // When
-        StoryResponse result = storyService.saveStory(email, request);
+        StoryResponse result = storyService.saveStory(user.getUserId(), request);
 
         // Then
         assertThat(result.getTitle()).isEqualTo("동물 친구들");
         assertThat(result.getChildName()).isEqualTo("유찬");
         verify(storyRepository).save(any(Story.class));
+        verify(ttsJobService).enqueueStory(any()); // 오디오 없는 슬라이드 -> TTS 작업 등록
     }
 
     @Test
@@ -119,7 +121,7 @@ public class StoryServiceSaveTest {
                 .slides(List.of(slideReq))
                 .build();
 
-        given(userRepository.findByEmail(email)).willReturn(Optional.of(user));
+        given(userRepository.getReferenceById(user.getUserId())).willReturn(user);
 
         // 서비스 로직 변경에 맞춰 findById 사용
         given(userProfileRepository.findById(2L)).willReturn(Optional.of(profile));
@@ -127,12 +129,13 @@ public class StoryServiceSaveTest {
         given(storyRepository.save(any(Story.class))).willAnswer(invocation -> invocation.getArgument(0));
 
         // When
-        StoryResponse response = storyService.saveStory(email, request);
+        StoryResponse response = storyService.saveStory(user.getUserId(), request);
 
         // Then
         assertThat(response.getPrimaryLanguage()).isEqualTo("ko");
         assertThat(response.getSecondaryLanguage()).isEqualTo("zh");
         assertThat(response.getSlides().get(0).getTextNative()).isEqualTo("Sample text in zh");
         assertThat(response.getSlides().get(0).getAudioUrlKr()).isEqualTo("https://moretale.ai/ko.mp3");
+        verify(ttsJobService, never()).enqueueStory(any()); // 오디오가 모두 있으면 작업 등록 X
     }
 }
@@ -67,7 +67,7 @@ public class StoryServiceSecurityTest {
     @DisplayName("타인의 비공개 동화를 상세 조회하려 하면 STORY_ACCESS_DENIED 예외가 발생한다")
     void getStoryDetail_AccessDeniedTest() {
         // when & then
-        assertThatThrownBy(() -> storyService.getStoryDetail(hacker.getEmail(), privateStory.getStoryId()))
+        assertThatThrownBy(() -> storyService.getStoryDetail(hacker.getUserId(), privateStory.getStoryId()))
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.STORY_ACCESS_DENIED);
     }
@@ -84,7 +84,7 @@ public class StoryServiceSecurityTest {
         assertThat(slideRepository.existsById(slideId)).isTrue();
 
         // when
-        storyService.deleteStory(owner.getEmail(), storyId);
+        storyService.deleteStory(owner.getUserId(), storyId);
 
         // then
         // 1. 동화가 삭제되었는지 확인
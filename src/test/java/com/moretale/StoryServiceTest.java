@@ -5,6 +5,8 @@ import com.moretale.domain.profile.repository.UserProfileRepository;
 import com.moretale.domain.story.dto.StoryGenerateRequest;
 import com.moretale.domain.story.dto.StoryGenerateResponse;
 import com.moretale.domain.story.service.AIStoryService;
+import com.moretale.domain.story.service.StoryGenerationContext;
+import com.moretale.domain.story.service.StoryGenerationContextResolver;
 import com.moretale.domain.story.service.StoryService;
 import com.moretale.domain.story.service.TTSService;
 import com.moretale.domain.user.entity.User;
@@ -19,7 +21,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -44,6 +45,9 @@ public class StoryServiceTest {
     @Mock
     private UserProfileRepository userProfileRepository;
 
+    @Mock
+    private StoryGenerationContextResolver contextResolver;
+
     private User user;
     private UserProfile profile;
     private final String email = "test@example.com";
@@ -87,13 +91,12 @@ public class StoryServiceTest {
                 .build();
 
         // Mock 객체 동작 정의
-        given(userRepository.findByEmail(anyString())).willReturn(Optional.of(user));
-        given(userProfileRepository.findByProfileIdAndUser_UserId(eq(3L), eq(1L))).willReturn(Optional.of(profile));
+        given(contextResolver.resolve(eq(1L), eq(3L))).willReturn(new StoryGenerationContext(user, profile));
         given(aiStoryService.generateStory(anyString(), anyString(), anyString(), anyString())).willReturn(aiResponse);
         given(ttsService.generateTTS(anyString(), anyString())).willReturn("http://audio.url/sample.mp3");
 
         // 2. When
-        StoryGenerateResponse result = storyService.generateStory(email, request);
+        StoryGenerateResponse result = storyService.generateStory(user.getUserId(), request);
 
         // 3. Then
         assertThat(result.getTitle()).isEqualTo("정글 모험");
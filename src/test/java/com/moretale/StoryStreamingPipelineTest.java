@@ -0,0 +1,233 @@
+package com.moretale;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moretale.domain.profile.entity.*;
+import com.moretale.domain.profile.repository.UserProfileRepository;
+import com.moretale.domain.story.dto.StoryGenerateRequest;
+import com.moretale.domain.story.dto.StoryGenerateResponse;
+import com.moretale.domain.story.service.StoryGenerationListener;
+import com.moretale.domain.story.service.StoryService;
+import com.moretale.domain.story.service.TTSService;
+import com.moretale.domain.user.entity.User;
+import com.moretale.domain.user.repository.UserRepository;
+import com.moretale.global.exception.BusinessException;
+import com.moretale.global.exception.ErrorCode;
+import com.moretale.global.security.UserPrincipal;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+// 슬라이드 단위 스트리밍 생성 (AI 서버 스트림 -> 슬라이드별 즉시 TTS -> NDJSON 응답) 검증
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({"dev", "h2"})
+public class StoryStreamingPipelineTest {
+
+    private static final String EMAIL = "stream@example.com";
+
+    private static final long SLIDE_DELAY_MILLIS = 150;
+    private static final long TTS_DELAY_MILLIS = 50;
+
+    private static final StubStoryGenerationServer STUB;
+
+    static {
+        try {
+            STUB = new StubStoryGenerationServer();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @DynamicPropertySource
+    static void aiServerProperties(DynamicPropertyRegistry registry) {
+        registry.add("moretale.ai.remote-enabled", () -> true);
+        registry.add("moretale.ai.story-generation-url", STUB::baseUrl);
+    }
+
+    @Autowired
+    private StoryService storyService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserProfileRepository userProfileRepository;
+
+    @MockBean
+    private TTSService ttsService;
+
+    private UserPrincipal principal;
+    private UserProfile profile;
+
+    @BeforeEach
+    void setUp() {
+        STUB.slides(5, SLIDE_DELAY_MILLIS, SLIDE_DELAY_MILLIS).mode(StubStoryGenerationServer.Mode.NORMAL);
+        given(ttsService.generateTTS(anyString(), anyString())).willAnswer(invocation -> {
+            Thread.sleep(TTS_DELAY_MILLIS);
+            return "http://localhost/uploads/" + Math.abs(invocation.getArgument(0).hashCode()) + ".mp3";
+        });
+
+        User user = userRepository.save(User.builder()
+                .email(EMAIL)
+                .nickname("스트리밍")
+                .role(User.Role.USER)
+                .build());
+        principal = UserPrincipal.create(user);
+        profile = userProfileRepository.save(UserProfile.builder()
+                .user(user)
+                .childName("하준")
+                .ageGroup(AgeGroup.AGE_5_6)
+                .childAge(6)
+                .firstLanguage("ko")
+                .firstLanguageProficiency(LanguageProficiency.BEE)
+                .secondLanguage("vi")
+                .secondLanguageProficiency(LanguageProficiency.LARVA)
+                .firstLanguageListening(LanguageProficiency.BEE)
+                .firstLanguageSpeaking(LanguageProficiency.BEE)
+                .secondLanguageListening(LanguageProficiency.PUPA)
+                .secondLanguageSpeaking(LanguageProficiency.LARVA)
+                .familyStructure(FamilyStructure.TWO_PARENTS)
+                .storyPreference(StoryPreference.WARM_HUG)
+                .primaryLanguage("ko")
+                .secondaryLanguage("vi")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        userProfileRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB.close();
+    }
+
+    @Test
+    @DisplayName("첫 슬라이드의 음성은 나머지 슬라이드가 생성되는 동안 준비된다")
+    void firstSlideAudioReadyBeforeStoryFinishes() {
+        long start = System.nanoTime();
+        List<Long> slideTextMillis = new CopyOnWriteArrayList<>();
+        ConcurrentHashMap<Integer, Long> slideAudioMillis = new ConcurrentHashMap<>();
+
+        StoryGenerateResponse response = storyService.generateStory(principal.getUserId(), generateRequest(), new StoryGenerationListener() {
+            @Override
+            public void onSlideTextReady(StoryGenerateResponse.GeneratedSlide slide) {
+                slideTextMillis.add(elapsedMillis(start));
+            }
+
+            @Override
+            public void onSlideAudioReady(StoryGenerateResponse.GeneratedSlide slide) {
+                slideAudioMillis.put(slide.getOrder(), elapsedMillis(start));
+            }
+        });
+
+        long total = elapsedMillis(start);
+        long firstPlayable = slideAudioMillis.get(1);
+
+        assertThat(response.getTitle()).isEqualTo("스트리밍 동화");
+        assertThat(response.getSlides()).hasSize(5)
+                .allSatisfy(slide -> assertThat(slide.getAudioUrlKr()).isNotNull());
+        assertThat(slideTextMillis).hasSize(5);
+        assertThat(slideAudioMillis).hasSize(5);
+
+        // 첫 슬라이드 음성은 마지막 슬라이드 텍스트보다 먼저 준비됨 (AI 생성과 TTS가 겹쳐 실행)
+        assertThat(firstPlayable).isLessThan(slideTextMillis.get(4));
+        // 전체 시간 ≈ 생성 시간 + 마지막 슬라이드 TTS (슬라이드별 TTS 시간이 누적되지 않음)
+        assertThat(total).isLessThan(5 * SLIDE_DELAY_MILLIS + 5 * 2 * TTS_DELAY_MILLIS);
+        System.out.printf("[streaming] 첫 슬라이드 재생 가능: %dms, 전체: %dms%n", firstPlayable, total);
+    }
+
+    @Test
+    @DisplayName("NDJSON 응답은 job -> slide-text / slide-audio -> completed 순서로 한 줄씩 전달된다")
+    void streamEndpoint_WritesNdjsonEvents() throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/stories/generate/stream")
+                        .with(user(principal))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"prompt\": \"숲속 이야기\", \"profileId\": " + profile.getProfileId() + "}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        result.getAsyncResult(10_000);
+        List<JsonNode> lines = result.getResponse().getContentAsString().lines()
+                .map(this::readTree)
+                .toList();
+        List<String> events = lines.stream().map(line -> line.get("event").asText()).toList();
+
+        assertThat(events.get(0)).isEqualTo("job");
+        assertThat(events.get(events.size() - 1)).isEqualTo("completed");
+        assertThat(events).filteredOn("slide-text"::equals).hasSize(5);
+        assertThat(events).filteredOn("slide-audio"::equals).hasSize(5);
+        assertThat(events.indexOf("slide-audio")).isLessThan(events.lastIndexOf("slide-text"));
+        assertThat(lines.get(lines.size() - 1).at("/data/story/slides")).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("AI 서버가 스트림 중간에 오류를 보내거나 스트림이 끊기면 생성 실패로 처리된다")
+    void streamFailures_AreReported() {
+        STUB.mode(StubStoryGenerationServer.Mode.ERROR_CHUNK);
+        assertThatThrownBy(() -> storyService.generateStory(principal.getUserId(), generateRequest()))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.AI_SERVICE_ERROR);
+
+        STUB.mode(StubStoryGenerationServer.Mode.TRUNCATED);
+        assertThatThrownBy(() -> storyService.generateStory(principal.getUserId(), generateRequest()))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.AI_RESPONSE_INVALID);
+    }
+
+    private StoryGenerateRequest generateRequest() {
+        return StoryGenerateRequest.builder()
+                .prompt("숲속 이야기")
+                .profileId(profile.getProfileId())
+                .build();
+    }
+
+    private JsonNode readTree(String line) {
+        try {
+            return objectMapper.readTree(line);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
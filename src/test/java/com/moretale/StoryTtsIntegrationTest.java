@@ -7,6 +7,7 @@ import com.moretale.domain.story.dto.StorySaveRequest;
 import com.moretale.domain.user.entity.User.Role;
 import com.moretale.domain.user.entity.User;
 import com.moretale.domain.user.repository.UserRepository;
+import com.moretale.global.security.UserPrincipal;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,6 +22,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -68,7 +70,6 @@ public class StoryTtsIntegrationTest {
 
     @Test
     @DisplayName("동화 저장 시 TTS URL이 슬라이드에 정상적으로 포함되어 저장되는지 테스트")
-    @WithMockUser(username = "test@example.com")
     void createStoryWithTtsUrlsSuccess() throws Exception {
         // given
         StorySaveRequest.SlideRequest slide1 = StorySaveRequest.SlideRequest.builder()
@@ -88,7 +89,9 @@ public class StoryTtsIntegrationTest {
                 .build();
 
         // when & then: status().isCreated() 로 수정 (201 응답 대응)
+        UserPrincipal principal = UserPrincipal.create(testUser);
         MvcResult result = mockMvc.perform(post("/api/stories")
+                        .with(user(principal))
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andDo(print())
@@ -100,7 +103,7 @@ public class StoryTtsIntegrationTest {
         long storyId = objectMapper.readTree(responseBody).path("data").path("storyId").asLong();
 
         // 상세 조회는 컨트롤러에서 @ResponseStatus가 없으므로 200 OK
-        mockMvc.perform(get("/api/stories/" + storyId))
+        mockMvc.perform(get("/api/stories/" + storyId).with(user(principal)))
                 .andDo(print())
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.data.slides[0].audioUrlKr").value("http://localhost:8080/uploads/tts/audio/ko_sample.mp3"))
@@ -0,0 +1,178 @@
+package com.moretale;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 테스트용 로컬 동화 생성 AI 서버
+// POST /api/stories/generate/stream 에 대해 슬라이드를 지정된 간격으로 NDJSON 스트리밍
+// POST /api/stories/generate 는 같은 내용을 JSON 객체 하나로 (슬라이드 간격대로 나눠) 전송
+// 각 줄을 두 번에 나눠 전송해 청크 경계가 JSON 중간에 걸리는 경우도 재현
+public class StubStoryGenerationServer implements AutoCloseable {
+
+    // HTTP_ERROR: 503 (일시적 거절), SERVER_ERROR: 500
+    public enum Mode { NORMAL, ERROR_CHUNK, TRUNCATED, HTTP_ERROR, SERVER_ERROR }
+
+    private final HttpServer server;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicInteger rejectRemaining = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private volatile int slideCount = 5;
+    private volatile long firstSlideDelayMillis = 0;
+    private volatile long slideDelayMillis = 0;
+    private volatile Mode mode = Mode.NORMAL;
+    private volatile String lastRequestBody;
+
+    static {
+        // 줄을 나눠 flush할 때 Nagle 알고리즘으로 인한 지연이 측정값에 섞이지 않도록 설정
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    public StubStoryGenerationServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/api/stories/generate/stream",
+                exchange -> handle(exchange, "application/x-ndjson", this::writeStream));
+        server.createContext("/api/stories/generate", exchange -> handle(exchange, "application/json", this::writeStory));
+        server.start();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public StubStoryGenerationServer slides(int count, long firstDelayMillis, long delayMillis) {
+        this.slideCount = count;
+        this.firstSlideDelayMillis = firstDelayMillis;
+        this.slideDelayMillis = delayMillis;
+        return this;
+    }
+
+    public StubStoryGenerationServer mode(Mode mode) {
+        this.mode = mode;
+        return this;
+    }
+
+    // 이후 요청 중 앞의 count건은 503으로 거절
+    public StubStoryGenerationServer rejectFirst(int count) {
+        this.rejectRemaining.set(count);
+        return this;
+    }
+
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+
+    // 동시에 처리 중이던 요청 수의 최댓값
+    public int getMaxInFlight() {
+        return maxInFlight.get();
+    }
+
+    public void resetCounters() {
+        requestCount.set(0);
+        maxInFlight.set(0);
+    }
+
+    public String getLastRequestBody() {
+        return lastRequestBody;
+    }
+
+    private interface BodyWriter {
+        void write(OutputStream out) throws IOException;
+    }
+
+    private void handle(HttpExchange exchange, String contentType, BodyWriter writer) throws IOException {
+        requestCount.incrementAndGet();
+        int current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+        try {
+            lastRequestBody = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+
+            if (mode == Mode.HTTP_ERROR || rejectRemaining.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+                exchange.sendResponseHeaders(503, -1);
+                return;
+            }
+            if (mode == Mode.SERVER_ERROR) {
+                exchange.sendResponseHeaders(500, -1);
+                return;
+            }
+
+            exchange.getResponseHeaders().add("Content-Type", contentType);
+            exchange.sendResponseHeaders(200, 0); // chunked
+            try (OutputStream out = exchange.getResponseBody()) {
+                writer.write(out);
+            }
+        } catch (IOException e) {
+            // 클라이언트가 제한 시간 초과로 연결을 끊은 경우
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    private void writeStory(OutputStream out) throws IOException {
+        // 알 수 없는 필드(model)는 건너뛰는지 확인하기 위해 앞에 배치
+        writeLine(out, "{\"model\":{\"name\":\"stub\",\"tags\":[1,2]},\"title\":\"스트리밍 동화\",\"slides\":[");
+        for (int i = 1; i <= slideCount; i++) {
+            sleep(i == 1 ? firstSlideDelayMillis : slideDelayMillis);
+            writeLine(out, (i > 1 ? "," : "") + slideJson(i));
+        }
+        if (mode != Mode.TRUNCATED) {
+            writeLine(out, "]}");
+        }
+    }
+
+    private void writeStream(OutputStream out) throws IOException {
+        writeLine(out, "{\"type\":\"meta\",\"title\":\"스트리밍 동화\"}");
+        for (int i = 1; i <= slideCount; i++) {
+            sleep(i == 1 ? firstSlideDelayMillis : slideDelayMillis);
+            if (mode == Mode.ERROR_CHUNK && i == 2) {
+                writeLine(out, "{\"type\":\"error\",\"message\":\"model overloaded\"}");
+                return;
+            }
+            writeLine(out, "{\"type\":\"slide\",\"slide\":" + slideJson(i) + "}");
+        }
+        if (mode != Mode.TRUNCATED) {
+            writeLine(out, "{\"type\":\"done\"}");
+        }
+    }
+
+    private String slideJson(int order) {
+        return "{\"order\":" + order
+                + ",\"imageUrl\":\"https://img/" + order + ".png\""
+                + ",\"textKr\":\"문장 " + order + "\",\"textNative\":\"câu " + order + "\"}";
+    }
+
+    private void writeLine(OutputStream out, String json) throws IOException {
+        byte[] bytes = (json + "\n").getBytes(StandardCharsets.UTF_8);
+        int half = bytes.length / 2;
+        out.write(bytes, 0, half);
+        out.flush();
+        out.write(bytes, half, bytes.length - half);
+        out.flush();
+    }
+
+    private void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
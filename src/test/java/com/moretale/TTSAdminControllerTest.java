@@ -0,0 +1,77 @@
+package com.moretale;
+
+import com.moretale.domain.tts.entity.TTSJob;
+import com.moretale.domain.tts.entity.TTSJobStatus;
+import com.moretale.domain.tts.entity.TTSJobType;
+import com.moretale.domain.tts.repository.TTSJobRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// TTS 운영 API는 /api/admin/** 아래에서 관리자만 호출 가능 (/api/tts/** 는 개발 중 permitAll)
+@SpringBootTest(properties = "moretale.tts.job.worker-enabled=false") // 재시도 등록 후 상태 확인 (작업 처리 없음)
+@AutoConfigureMockMvc
+@ActiveProfiles({"dev", "h2"})
+public class TTSAdminControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TTSJobRepository ttsJobRepository;
+
+    @AfterEach
+    void tearDown() {
+        ttsJobRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("TTS 운영 조회 API는 관리자만 호출할 수 있다")
+    void statusEndpoints_AdminOnly() throws Exception {
+        for (String url : List.of("/api/admin/tts/cache/stats", "/api/admin/tts/storage/migration", "/api/admin/tts/storage/gc")) {
+            mockMvc.perform(get(url).with(user("user").roles("USER")))
+                    .andExpect(status().isForbidden());
+            mockMvc.perform(get(url).with(user("admin").roles("ADMIN")))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.success").value(true));
+        }
+    }
+
+    @Test
+    @DisplayName("DEAD 작업 재시도는 관리자만 가능하고, 이전 /api/tts 경로로는 호출할 수 없다")
+    void retryDeadJob_AdminOnly() throws Exception {
+        Long jobId = ttsJobRepository.save(TTSJob.builder()
+                .jobType(TTSJobType.STORY_AUDIO).storyId(999_999L)
+                .status(TTSJobStatus.DEAD).attempts(5).nextRunAt(LocalDateTime.now())
+                .build()).getJobId();
+
+        mockMvc.perform(post("/api/admin/tts/jobs/{jobId}/retry", jobId))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/api/admin/tts/jobs/{jobId}/retry", jobId).with(user("user").roles("USER")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/tts/jobs/{jobId}/retry", jobId))
+                .andExpect(status().isNotFound());
+        assertThat(ttsJobRepository.findById(jobId).orElseThrow().getStatus()).isEqualTo(TTSJobStatus.DEAD);
+
+        mockMvc.perform(post("/api/admin/tts/jobs/{jobId}/retry", jobId).with(user("admin").roles("ADMIN")))
+                .andExpect(status().isOk());
+        TTSJob job = ttsJobRepository.findById(jobId).orElseThrow();
+        assertThat(job.getStatus()).isEqualTo(TTSJobStatus.PENDING);
+        assertThat(job.getAttempts()).isZero();
+    }
+}
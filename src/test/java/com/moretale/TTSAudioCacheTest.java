@@ -0,0 +1,170 @@
+package com.moretale;
+
+import com.moretale.domain.tts.dto.TTSCacheStatsResponse;
+import com.moretale.domain.tts.service.TTSAudioCache;
+import com.moretale.global.config.MoreTaleProperties;
+import com.moretale.global.service.FileStorageService;
+import com.moretale.global.storage.InMemoryStorageBackend;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class TTSAudioCacheTest {
+
+    @Mock
+    private FileStorageService fileStorageService;
+
+    private TTSAudioCache ttsAudioCache;
+
+    @BeforeEach
+    void setUp() {
+        MoreTaleProperties properties = new MoreTaleProperties();
+        properties.getTts().getCache().setMaxEntries(2);
+
+        ttsAudioCache = new TTSAudioCache(fileStorageService, properties);
+        ReflectionTestUtils.setField(ttsAudioCache, "storagePath", "tts/audio");
+    }
+
+    @Test
+    @DisplayName("공백과 유니코드 표현만 다른 텍스트는 같은 캐시 키를 가진다")
+    void createKey_NormalizesText() {
+        String key1 = TTSAudioCache.createKey("  안녕하세요   친구들 ", "ko-KR", "NEUTRAL", 1.0, 0.0, "MP3");
+        String key2 = TTSAudioCache.createKey("안녕하세요 친구들", "ko-KR", "NEUTRAL", 1.0, 0.0, "MP3");
+        String otherLanguage = TTSAudioCache.createKey("안녕하세요 친구들", "vi-VN", "NEUTRAL", 1.0, 0.0, "MP3");
+        String otherRate = TTSAudioCache.createKey("안녕하세요 친구들", "ko-KR", "NEUTRAL", 0.9, 0.0, "MP3");
+
+        assertThat(key1).isEqualTo(key2);
+        assertThat(key1).isNotEqualTo(otherLanguage);
+        assertThat(key1).isNotEqualTo(otherRate);
+        assertThat(ttsAudioCache.resolveSubPath(key1)).isEqualTo(
+                "tts/audio/" + key1.substring(0, 2) + "/" + key1.substring(2, 4) + "/tts_" + key1 + ".mp3");
+    }
+
+    @Test
+    @DisplayName("메모리에 등록된 키는 저장소 조회 없이 적중한다")
+    void find_MemoryHit() {
+        ttsAudioCache.put("key-1", "http://localhost/uploads/a.mp3");
+
+        assertThat(ttsAudioCache.find("key-1")).contains("http://localhost/uploads/a.mp3");
+        verify(fileStorageService, never()).markUsed(anyString());
+        assertThat(ttsAudioCache.getStats().getMemoryHits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("메모리에 없어도 해시 파일이 저장소에 있으면 사용 시각을 기록하고 기존 URL을 반환한다")
+    void find_DiskHit() {
+        String subPath = ttsAudioCache.resolveSubPath("key-1");
+        given(fileStorageService.markUsed(subPath)).willReturn(true);
+        given(fileStorageService.getFileUrl(subPath)).willReturn("http://localhost/uploads/" + subPath);
+
+        assertThat(ttsAudioCache.find("key-1")).contains("http://localhost/uploads/" + subPath);
+        assertThat(ttsAudioCache.find("key-1")).isPresent();
+
+        TTSCacheStatsResponse stats = ttsAudioCache.getStats();
+        assertThat(stats.getDiskHits()).isEqualTo(1);
+        assertThat(stats.getMemoryHits()).isEqualTo(1);
+        verify(fileStorageService, times(1)).markUsed(subPath); // 갱신 간격 안의 메모리 적중은 기록 생략
+    }
+
+    @Test
+    @DisplayName("사용 기록이 갱신 간격보다 오래된 메모리 적중은 파일 사용 시각을 다시 기록하고, 파일이 없으면 미스로 처리한다")
+    void find_StaleMemoryHit_TouchesFile() {
+        MoreTaleProperties properties = new MoreTaleProperties();
+        properties.getTts().getCache().setTouchIntervalMinutes(0); // 적중마다 기록
+        ttsAudioCache = new TTSAudioCache(fileStorageService, properties);
+        ReflectionTestUtils.setField(ttsAudioCache, "storagePath", "tts/audio");
+        String subPath = ttsAudioCache.resolveSubPath("key-1");
+        ttsAudioCache.put("key-1", "http://localhost/uploads/" + subPath);
+        given(fileStorageService.markUsed(subPath)).willReturn(true, false);
+        given(fileStorageService.markUsed(ttsAudioCache.resolveLegacySubPath("key-1"))).willReturn(false);
+        given(fileStorageService.getFileUrl(subPath)).willReturn("http://localhost/uploads/" + subPath);
+
+        assertThat(ttsAudioCache.find("key-1")).contains("http://localhost/uploads/" + subPath);
+        // 고아 정리로 삭제된 파일: 메모리 항목이 남아 있어도 URL을 내주지 않음
+        assertThat(ttsAudioCache.find("key-1")).isEmpty();
+
+        TTSCacheStatsResponse stats = ttsAudioCache.getStats();
+        assertThat(stats.getMemoryHits()).isEqualTo(1);
+        assertThat(stats.getMisses()).isEqualTo(1);
+        assertThat(stats.getSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("분산 경로로 이동되기 전의 평면 경로 파일도 적중하고, 새 경로 URL을 반환한다")
+    void find_LegacyFlatFileHit() {
+        String subPath = ttsAudioCache.resolveSubPath("key-1");
+        given(fileStorageService.markUsed(subPath)).willReturn(false);
+        given(fileStorageService.markUsed(ttsAudioCache.resolveLegacySubPath("key-1"))).willReturn(true);
+        given(fileStorageService.getFileUrl(subPath)).willReturn("http://localhost/uploads/" + subPath);
+
+        assertThat(ttsAudioCache.resolveLegacySubPath("key-1")).isEqualTo("tts/audio/tts_key-1.mp3");
+        assertThat(ttsAudioCache.find("key-1")).contains("http://localhost/uploads/" + subPath);
+        assertThat(ttsAudioCache.getStats().getDiskHits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 항목 수를 넘으면 가장 오래 사용하지 않은 항목이 제거된다")
+    void put_EvictsLeastRecentlyUsed() {
+        ttsAudioCache.put("key-1", "url-1");
+        ttsAudioCache.put("key-2", "url-2");
+        ttsAudioCache.find("key-1"); // key-1을 최근 사용으로 갱신
+        ttsAudioCache.put("key-3", "url-3");
+
+        assertThat(ttsAudioCache.find("key-2")).isEmpty();
+        assertThat(ttsAudioCache.find("key-1")).contains("url-1");
+
+        TTSCacheStatsResponse stats = ttsAudioCache.getStats();
+        assertThat(stats.getEvictions()).isEqualTo(1);
+        assertThat(stats.getSize()).isEqualTo(2);
+        assertThat(stats.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("합성 결과는 내용 해시 파일명으로 저장되고, 재시작 후에는 저장소 색인으로 같은 URL을 찾는다")
+    void store_NamesByContentHash_IndexSurvivesRestart() {
+        FileStorageService storage = new FileStorageService(new InMemoryStorageBackend(), ForkJoinPool.commonPool(), new MoreTaleProperties());
+        ReflectionTestUtils.setField(storage, "baseUrl", "http://localhost/uploads");
+        TTSAudioCache cache = newCache(storage);
+        byte[] audio = "audio-1".getBytes(StandardCharsets.UTF_8);
+        String contentHash = TTSAudioCache.contentHash(ByteBuffer.wrap(audio));
+
+        String audioUrl = cache.store("key-1", ByteBuffer.wrap(audio));
+        // 같은 바이트는 키가 달라도 같은 파일 (내용이 같으면 URL도 같음)
+        assertThat(cache.store("key-2", ByteBuffer.wrap(audio))).isEqualTo(audioUrl);
+        assertThat(audioUrl).isEqualTo("http://localhost/uploads/" + cache.resolveAudioSubPath(contentHash))
+                .endsWith("/audio_" + contentHash + ".mp3");
+
+        // 재합성으로 바이트가 바뀌면 새 URL, 이전 URL의 내용은 그대로
+        String resynthesizedUrl = cache.store("key-1", ByteBuffer.wrap("audio-2".getBytes(StandardCharsets.UTF_8)));
+        assertThat(resynthesizedUrl).isNotEqualTo(audioUrl);
+        assertThat(storage.exists(cache.resolveAudioSubPath(contentHash))).isTrue();
+
+        TTSAudioCache restarted = newCache(storage);
+        assertThat(restarted.find("key-1")).contains(resynthesizedUrl);
+        assertThat(restarted.find("key-2")).contains(audioUrl);
+        assertThat(restarted.find("key-3")).isEmpty();
+        assertThat(restarted.getStats().getDiskHits()).isEqualTo(2);
+    }
+
+    private static TTSAudioCache newCache(FileStorageService storage) {
+        TTSAudioCache cache = new TTSAudioCache(storage, new MoreTaleProperties());
+        ReflectionTestUtils.setField(cache, "storagePath", "tts/audio");
+        return cache;
+    }
+}
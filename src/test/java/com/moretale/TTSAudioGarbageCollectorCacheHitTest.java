@@ -0,0 +1,115 @@
+package com.moretale;
+
+import com.moretale.domain.story.repository.SlideRepository;
+import com.moretale.domain.tts.dto.TTSAudioGcStatusResponse;
+import com.moretale.domain.tts.service.TTSAudioCache;
+import com.moretale.domain.tts.service.TTSAudioGarbageCollector;
+import com.moretale.global.config.MoreTaleProperties;
+import com.moretale.global.resource.HotAudioCache;
+import com.moretale.global.service.FileStorageService;
+import com.moretale.global.storage.LocalStorageBackend;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+// 고아 TTS 오디오 정리 중 캐시 적중: 목록 조회 후 삭제 전에 합성 캐시가 오래된 고아 파일을 재사용하면 삭제하지 않음
+@ExtendWith(MockitoExtension.class)
+public class TTSAudioGarbageCollectorCacheHitTest {
+
+    private static final String BASE_URL = "http://localhost/uploads";
+    private static final Instant OLD = Instant.now().minus(Duration.ofDays(3));
+    private static final String REUSED = "8".repeat(64);
+    private static final String ORPHAN = "9".repeat(64);
+
+    @TempDir
+    private Path basePath;
+
+    @Mock
+    private SlideRepository slideRepository;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private TTSAudioCache ttsAudioCache;
+    private TTSAudioGarbageCollector ttsAudioGarbageCollector;
+
+    @BeforeEach
+    void setUp() {
+        MoreTaleProperties properties = new MoreTaleProperties();
+        properties.getTts().getAudioGc().setGracePeriodHours(24);
+
+        LocalStorageBackend storageBackend = new LocalStorageBackend(basePath, MoreTaleProperties.Upload.FsyncPolicy.NONE);
+        FileStorageService fileStorageService = new FileStorageService(storageBackend, executor, properties);
+        ReflectionTestUtils.setField(fileStorageService, "baseUrl", BASE_URL);
+        ttsAudioCache = new TTSAudioCache(fileStorageService, properties);
+        ReflectionTestUtils.setField(ttsAudioCache, "storagePath", "tts/audio");
+
+        ttsAudioGarbageCollector = new TTSAudioGarbageCollector(slideRepository, storageBackend, fileStorageService,
+                ttsAudioCache, new HotAudioCache(properties, storageBackend), properties);
+        ReflectionTestUtils.setField(ttsAudioGarbageCollector, "storagePath", "tts/audio");
+
+        given(slideRepository.findAudioUrls(any(), any())).willReturn(List.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("참조 재확인과 삭제 사이에 캐시 적중으로 재사용된 오래된 고아 파일은 남기고, 적중이 없던 고아 파일만 삭제한다")
+    void cacheHitBetweenScanAndDelete_KeepsReusedAudio() throws Exception {
+        write(REUSED);
+        write(ORPHAN);
+
+        // 저장 후 아직 슬라이드에 반영되지 않은 새 동화가 같은 문장을 합성: 목록 조회(오래된 수정 시각) 이후 캐시 적중
+        List<Optional<String>> hits = new ArrayList<>();
+        given(slideRepository.existsByAudioUrlIn(any())).willAnswer(invocation -> {
+            Collection<String> urls = invocation.getArgument(0);
+            if (urls.stream().anyMatch(url -> url.contains(REUSED))) {
+                hits.add(ttsAudioCache.find(REUSED));
+            }
+            return false;
+        });
+
+        TTSAudioGcStatusResponse report = ttsAudioGarbageCollector.runCycle(false);
+
+        assertThat(hits).containsExactly(Optional.of(BASE_URL + "/" + ttsAudioCache.resolveSubPath(REUSED)));
+        assertThat(basePath.resolve(ttsAudioCache.resolveSubPath(REUSED))).exists();
+        assertThat(basePath.resolve(ttsAudioCache.resolveSubPath(ORPHAN))).doesNotExist();
+        assertThat(report.getDeletedFiles()).isEqualTo(1);
+        assertThat(report.getYoungFiles()).isEqualTo(1);
+        assertThat(report.getSampleOrphans()).containsExactly(ttsAudioCache.resolveSubPath(ORPHAN));
+
+        // 재사용된 파일은 마지막 적중 기준으로 유예 기간이 다시 시작 (다음 주기에도 유지)
+        assertThat(ttsAudioGarbageCollector.runCycle(false).getDeletedFiles()).isZero();
+        assertThat(ttsAudioCache.find(REUSED)).isPresent();
+    }
+
+    private void write(String key) throws Exception {
+        Path path = basePath.resolve(ttsAudioCache.resolveSubPath(key));
+        Files.createDirectories(path.getParent());
+        Files.writeString(path, "audio");
+        Files.setLastModifiedTime(path, FileTime.from(OLD));
+    }
+}
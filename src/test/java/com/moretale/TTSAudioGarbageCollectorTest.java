@@ -0,0 +1,204 @@
+package com.moretale;
+
+import com.moretale.domain.story.entity.Slide;
+import com.moretale.domain.story.entity.Story;
+import com.moretale.domain.story.repository.StoryRepository;
+import com.moretale.domain.tts.dto.TTSAudioGcStatusResponse;
+import com.moretale.domain.tts.service.TTSAudioCache;
+import com.moretale.domain.tts.service.TTSAudioGarbageCollector;
+import com.moretale.domain.user.entity.User;
+import com.moretale.domain.user.repository.UserRepository;
+import com.moretale.global.service.FileStorageService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 고아 TTS 오디오 정리: 참조 중 / 유예 기간 안 / TTS 외 파일은 남기고 오래된 미참조 파일만 삭제, dry-run은 보고만
+// 오디오가 없어진 합성 캐시 색인도 정리
+@SpringBootTest(properties = {
+        "file.upload.base-path=build/test-uploads-gc",
+        "moretale.tts.audio-gc.enabled=false", // 스케줄러 대신 테스트에서 직접 실행
+        "moretale.tts.audio-gc.page-size=2",   // 여러 페이지 순회
+        "moretale.tts.audio-gc.grace-period-hours=24"
+})
+@ActiveProfiles({"dev", "h2"})
+public class TTSAudioGarbageCollectorTest {
+
+    private static final Path ROOT = Paths.get("build/test-uploads-gc").toAbsolutePath();
+    private static final Instant OLD = Instant.now().minus(Duration.ofDays(3));
+
+    private static final String REFERENCED_KR = "1".repeat(64);
+    private static final String REFERENCED_NATIVE = "2".repeat(64);
+    private static final String REFERENCED_LEGACY = "3".repeat(64);
+    private static final String ORPHAN_1 = "4".repeat(64);
+    private static final String ORPHAN_2 = "5".repeat(64);
+    private static final String ORPHAN_LEGACY = "6".repeat(64);
+    private static final String YOUNG_ORPHAN = "7".repeat(64);
+
+    @Autowired
+    private TTSAudioGarbageCollector ttsAudioGarbageCollector;
+
+    @Autowired
+    private TTSAudioCache ttsAudioCache;
+
+    @Autowired
+    private FileStorageService fileStorageService;
+
+    @Autowired
+    private StoryRepository storyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        deleteRoot();
+        for (String key : new String[]{REFERENCED_KR, REFERENCED_NATIVE, ORPHAN_1, ORPHAN_2}) {
+            write(shardedPath(key), OLD);
+        }
+        write(legacyPath(REFERENCED_LEGACY), OLD);
+        write(legacyPath(ORPHAN_LEGACY), OLD);
+        write(shardedPath(YOUNG_ORPHAN), Instant.now());
+        write("tts/audio/readme.txt", OLD); // TTS 오디오가 아닌 파일
+
+        User user = userRepository.save(User.builder().email("gc@example.com").nickname("정리").role(User.Role.USER).build());
+        Story story = Story.builder().title("정리 동화").user(user).isPublic(false).build();
+        story.addSlide(Slide.builder().order(1).textKr("문장 1")
+                .audioUrlKr(fileStorageService.getFileUrl(shardedPath(REFERENCED_KR)))
+                .audioUrlNative(fileStorageService.getFileUrl(shardedPath(REFERENCED_NATIVE)))
+                .build());
+        // 이전 전 평면 URL도 참조로 인정 (파일은 분산 경로에 있어도 같은 파일명)
+        story.addSlide(Slide.builder().order(2).textKr("문장 2")
+                .audioUrlKr(fileStorageService.getFileUrl(legacyPath(REFERENCED_LEGACY)))
+                .build());
+        story.addSlide(Slide.builder().order(3).textKr("오디오 없음").build());
+        storyRepository.save(story);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        storyRepository.deleteAll();
+        userRepository.deleteAll();
+        deleteRoot();
+    }
+
+    @Test
+    @DisplayName("dry-run은 삭제 대상만 보고하고 파일은 그대로 둔다")
+    void dryRun_ReportsWithoutDeleting() throws Exception {
+        TTSAudioGcStatusResponse report = ttsAudioGarbageCollector.runCycle(true);
+
+        assertThat(report.isDryRun()).isTrue();
+        assertThat(report.getPhase()).isEqualTo("COMPLETED");
+        assertThat(report.getReferencedUrls()).isEqualTo(3);
+        assertThat(report.getFilterBytes()).isPositive();
+        assertThat(report.getReferencedFiles()).isEqualTo(3);
+        assertThat(report.getYoungFiles()).isEqualTo(1);
+        assertThat(report.getOrphanFiles()).isEqualTo(3);
+        assertThat(report.getOrphanBytes()).isEqualTo(3L * "audio".length());
+        assertThat(report.getDeletedFiles()).isZero();
+        assertThat(report.getSampleOrphans())
+                .containsExactlyInAnyOrder(shardedPath(ORPHAN_1), shardedPath(ORPHAN_2), legacyPath(ORPHAN_LEGACY));
+        assertThat(ROOT.resolve(shardedPath(ORPHAN_1))).exists();
+        assertThat(ROOT.resolve(legacyPath(ORPHAN_LEGACY))).exists();
+    }
+
+    @Test
+    @DisplayName("오래된 미참조 오디오만 삭제하고 합성 캐시 항목도 제거한다")
+    void deletesOnlyOldUnreferencedAudio() throws Exception {
+        ttsAudioCache.put(ORPHAN_1, fileStorageService.getFileUrl(shardedPath(ORPHAN_1)));
+
+        TTSAudioGcStatusResponse report = ttsAudioGarbageCollector.runCycle(false);
+
+        assertThat(report.getDeletedFiles()).isEqualTo(3);
+        assertThat(report.getDeletedBytes()).isEqualTo(3L * "audio".length());
+        assertThat(report.getFailedDeletes()).isZero();
+        assertThat(report.getScannedFiles()).isEqualTo(8);
+
+        assertThat(ROOT.resolve(shardedPath(ORPHAN_1))).doesNotExist();
+        assertThat(ROOT.resolve(shardedPath(ORPHAN_2))).doesNotExist();
+        assertThat(ROOT.resolve(legacyPath(ORPHAN_LEGACY))).doesNotExist();
+        assertThat(ROOT.resolve(shardedPath(REFERENCED_KR))).exists();
+        assertThat(ROOT.resolve(shardedPath(REFERENCED_NATIVE))).exists();
+        assertThat(ROOT.resolve(legacyPath(REFERENCED_LEGACY))).exists();
+        assertThat(ROOT.resolve(shardedPath(YOUNG_ORPHAN))).exists();
+        assertThat(ROOT.resolve("tts/audio/readme.txt")).exists();
+
+        // 삭제된 파일의 URL을 캐시에서 돌려주지 않음 (다음 요청은 다시 합성)
+        assertThat(ttsAudioCache.find(ORPHAN_1)).isEmpty();
+
+        // 다시 실행하면 더 지울 파일이 없음
+        assertThat(ttsAudioGarbageCollector.runCycle(false).getOrphanFiles()).isZero();
+    }
+
+    @Test
+    @DisplayName("내용 해시 오디오도 정리하고, 없는 오디오를 가리키는 오래된 합성 캐시 색인만 삭제한다")
+    void deletesContentHashAudioAndStaleIndex() throws Exception {
+        String orphanAudio = ttsAudioCache.resolveAudioSubPath("8".repeat(64));
+        write(orphanAudio, OLD);
+        String staleIndex = writeIndex("a".repeat(64), orphanAudio, OLD);
+        String liveIndex = writeIndex("b".repeat(64), shardedPath(REFERENCED_KR), OLD);
+        String youngIndex = writeIndex("c".repeat(64), legacyPath("9".repeat(64)), Instant.now());
+
+        TTSAudioGcStatusResponse report = ttsAudioGarbageCollector.runCycle(false);
+
+        assertThat(report.getDeletedFiles()).isEqualTo(4);
+        assertThat(report.getStaleIndexEntries()).isEqualTo(1);
+        assertThat(ROOT.resolve(orphanAudio)).doesNotExist();
+        assertThat(ROOT.resolve(staleIndex)).doesNotExist();
+        assertThat(ROOT.resolve(liveIndex)).exists();
+        assertThat(ROOT.resolve(youngIndex)).exists();
+        assertThat(ttsAudioCache.find("a".repeat(64))).isEmpty();
+        assertThat(ttsAudioCache.find("b".repeat(64))).contains(fileStorageService.getFileUrl(shardedPath(REFERENCED_KR)));
+    }
+
+    private static void write(String subPath, Instant lastModified) throws Exception {
+        write(subPath, "audio", lastModified);
+    }
+
+    private static void write(String subPath, String content, Instant lastModified) throws Exception {
+        Path path = ROOT.resolve(subPath);
+        Files.createDirectories(path.getParent());
+        Files.writeString(path, content);
+        Files.setLastModifiedTime(path, FileTime.from(lastModified));
+    }
+
+    private String writeIndex(String cacheKey, String audioSubPath, Instant lastModified) throws Exception {
+        String indexPath = ttsAudioCache.resolveIndexSubPath(cacheKey);
+        write(indexPath, audioSubPath, lastModified);
+        return indexPath;
+    }
+
+    private static String legacyPath(String key) {
+        return "tts/audio/tts_" + key + ".mp3";
+    }
+
+    private static String shardedPath(String key) {
+        return FileStorageService.resolveShardedPath("tts/audio", "tts_" + key + ".mp3");
+    }
+
+    private static void deleteRoot() throws Exception {
+        if (!Files.exists(ROOT)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(ROOT)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.moretale;
+
+import com.google.protobuf.ByteString;
+import com.moretale.global.config.MoreTaleProperties;
+import com.moretale.global.service.FileStorageService;
+import com.moretale.global.storage.LocalStorageBackend;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.FileOutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// TTS 오디오 저장 경로 비교: 클립당 처리량 / 힙 할당량
+// - 기존: ByteString -> byte[] 복사, 임시 디렉토리 + FileOutputStream, Files.copy로 최종 위치에 다시 복사, 임시 파일/디렉토리 삭제
+// - 변경: ByteString 읽기 전용 버퍼 -> 같은 디렉토리 임시 이름에 FileChannel 쓰기 -> 원자적 이동 (fsync 정책별)
+// 실행: ./gradlew benchmark
+@Tag("benchmark")
+public class TTSAudioWriteBenchmarkTest {
+
+    private static final int CLIP_BYTES = 48 * 1024;
+    private static final int WARMUP = 300;
+    private static final int CLIPS = 2000;
+
+    @TempDir
+    private Path basePath;
+
+    private final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    @DisplayName("FileChannel 직접 저장은 임시 파일 경로보다 빠르고 클립당 힙 할당이 적다")
+    void channelWriteBeatsTempFileCopy() throws Exception {
+        byte[] audio = new byte[CLIP_BYTES];
+        new Random(1).nextBytes(audio);
+        ByteString clip = ByteString.copyFrom(audio);
+
+        FileStorageService legacyStorage = fileStorageService(MoreTaleProperties.Upload.FsyncPolicy.NONE);
+        double[] legacy = measure("기존 (임시 파일 + 복사)", i -> legacySave(legacyStorage, clip, path("legacy", i)));
+
+        double[] channel = null;
+        for (MoreTaleProperties.Upload.FsyncPolicy policy : MoreTaleProperties.Upload.FsyncPolicy.values()) {
+            FileStorageService storage = fileStorageService(policy);
+            String directory = "channel-" + policy.name().toLowerCase();
+            double[] result = measure("FileChannel + 원자적 이동, fsync=" + policy,
+                    i -> storage.writeFile(clip.asReadOnlyByteBuffer(), path(directory, i)));
+            if (policy == MoreTaleProperties.Upload.FsyncPolicy.NONE) {
+                channel = result;
+            }
+        }
+
+        assertThat(Files.readAllBytes(basePath.resolve(path("channel-none", 0)))).isEqualTo(audio);
+        // 같은 동기화 조건(fsync 없음)에서 비교
+        assertThat(channel[0]).isGreaterThan(legacy[0]);
+        assertThat(channel[1]).isLessThan(legacy[1]);
+    }
+
+    // [클립/초, 클립당 할당 바이트]
+    private double[] measure(String label, ClipWriter writer) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            writer.write(CLIPS + i);
+        }
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < CLIPS; i++) {
+            writer.write(i);
+        }
+        long elapsed = System.nanoTime() - start;
+        double allocatedPerClip = (double) (threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore) / CLIPS;
+        double clipsPerSecond = CLIPS * 1e9 / elapsed;
+
+        System.out.printf("[TTS 오디오 저장 벤치마크] %s: %.0f 클립/초, 클립당 할당 %.1f KB%n",
+                label, clipsPerSecond, allocatedPerClip / 1024);
+        return new double[]{clipsPerSecond, allocatedPerClip};
+    }
+
+    // 변경 전 GoogleTTSServiceImpl.saveAudioFile 과 같은 경로
+    private static void legacySave(FileStorageService fileStorageService, ByteString clip, String subPath) throws Exception {
+        byte[] audioData = clip.toByteArray();
+        Path tempDir = Files.createTempDirectory("tts_temp");
+        Path tempFile = tempDir.resolve(Path.of(subPath).getFileName());
+
+        try (FileOutputStream fos = new FileOutputStream(tempFile.toFile())) {
+            fos.write(audioData);
+        }
+
+        fileStorageService.uploadFile(tempFile.toFile(), subPath);
+
+        Files.deleteIfExists(tempFile);
+        Files.deleteIfExists(tempDir);
+    }
+
+    private FileStorageService fileStorageService(MoreTaleProperties.Upload.FsyncPolicy fsyncPolicy) {
+        MoreTaleProperties properties = new MoreTaleProperties();
+        properties.getUpload().setFsyncPolicy(fsyncPolicy);
+        FileStorageService fileStorageService = new FileStorageService(
+                new LocalStorageBackend(basePath, fsyncPolicy), ForkJoinPool.commonPool(), properties);
+        ReflectionTestUtils.setField(fileStorageService, "basePath", basePath.toString());
+        ReflectionTestUtils.setField(fileStorageService, "baseUrl", "http://localhost/uploads");
+        return fileStorageService;
+    }
+
+    private static String path(String directory, int i) {
+        return FileStorageService.resolveShardedPath(directory, String.format("tts_%064x.mp3", i));
+    }
+
+    @FunctionalInterface
+    private interface ClipWriter {
+        void write(int i) throws Exception;
+    }
+}
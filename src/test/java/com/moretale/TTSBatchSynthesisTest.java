@@ -0,0 +1,189 @@
+package com.moretale;
+
+import com.google.api.gax.core.NoCredentialsProvider;
+import com.google.api.gax.grpc.GrpcTransportChannel;
+import com.google.api.gax.rpc.FixedTransportChannelProvider;
+import com.google.cloud.texttospeech.v1.TextToSpeechClient;
+import com.moretale.domain.tts.dto.TTSRequest;
+import com.moretale.domain.tts.service.ParallelTTSSynthesizer;
+import com.moretale.domain.tts.service.TTSAudioCache;
+import com.moretale.domain.tts.service.impl.GoogleTTSServiceImpl;
+import com.moretale.domain.tts.service.impl.TextToSpeechClientProvider;
+import com.moretale.global.config.MoreTaleProperties;
+import com.moretale.global.service.FileStorageService;
+import com.moretale.global.storage.InMemoryStorageBackend;
+import io.grpc.ManagedChannel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 언어별 SSML 묶음 합성: 언어마다 한 번 호출하고, <mark> 시각으로 나눈 슬라이드별 오디오가 프레임 단위로 정확한지 검증
+public class TTSBatchSynthesisTest {
+
+    private static final String BASE_URL = "http://localhost/uploads";
+    private static final int BREAK_MILLIS = 240;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final InMemoryStorageBackend storage = new InMemoryStorageBackend();
+    private final MoreTaleProperties properties = new MoreTaleProperties();
+    private FakeTextToSpeechServer server;
+    private ManagedChannel channel;
+    private TextToSpeechClient client;
+    private com.google.cloud.texttospeech.v1beta1.TextToSpeechClient batchClient;
+    private GoogleTTSServiceImpl ttsService;
+    private ParallelTTSSynthesizer synthesizer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new FakeTextToSpeechServer(0);
+        channel = server.newChannel();
+        FixedTransportChannelProvider channelProvider = FixedTransportChannelProvider.create(GrpcTransportChannel.create(channel));
+        client = TextToSpeechClient.create(TextToSpeechClientProvider.createSettings(
+                NoCredentialsProvider.create(), channelProvider, properties.getTts().getGoogle()));
+        batchClient = com.google.cloud.texttospeech.v1beta1.TextToSpeechClient.create(TextToSpeechClientProvider.createBatchSettings(
+                NoCredentialsProvider.create(), channelProvider, properties.getTts().getGoogle()));
+
+        properties.getTts().getSynthesis().setBatchBreakMillis(BREAK_MILLIS);
+        properties.getTts().getSynthesis().setMaxBatchInputBytes(400);
+
+        FileStorageService fileStorageService = new FileStorageService(storage, executor, properties);
+        ReflectionTestUtils.setField(fileStorageService, "baseUrl", BASE_URL);
+        TTSAudioCache ttsAudioCache = new TTSAudioCache(fileStorageService, properties);
+        ReflectionTestUtils.setField(ttsAudioCache, "storagePath", "tts/audio");
+
+        TextToSpeechClientProvider clientProvider = new TextToSpeechClientProvider(new DefaultResourceLoader(), properties) {
+            @Override
+            public TextToSpeechClient getClient() {
+                return client;
+            }
+
+            @Override
+            public com.google.cloud.texttospeech.v1beta1.TextToSpeechClient getBatchClient() {
+                return batchClient;
+            }
+        };
+        ttsService = new GoogleTTSServiceImpl(clientProvider, ttsAudioCache, properties);
+        synthesizer = new ParallelTTSSynthesizer(ttsService, executor, properties);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        client.close();
+        batchClient.close();
+        channel.shutdownNow();
+        server.close();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("5개 슬라이드 x 2개 언어를 언어마다 한 번씩 합성하고, 슬라이드별 오디오는 해당 텍스트의 프레임과 뒤따르는 무음만 담는다")
+    void bilingualStory_OneCallPerLanguage_SplitAtMarks() throws Exception {
+        List<String> korean = List.of("옛날 옛적에", "작은 토끼가 살았어요", "토끼는 <당근>을 좋아했어요", "어느 날 & 친구를 만났어요", "끝");
+        List<String> vietnamese = List.of("Ngày xửa ngày xưa", "Có một chú thỏ nhỏ", "Thỏ thích \"cà rốt\"", "Một ngày nọ", "Hết");
+        List<TTSRequest> requests = new ArrayList<>();
+        for (int i = 0; i < korean.size(); i++) {
+            requests.add(TTSRequest.builder().text(korean.get(i)).language("ko-KR").build());
+            requests.add(TTSRequest.builder().text(vietnamese.get(i)).language("vi-VN").build());
+        }
+
+        List<String> audioUrls = synthesizer.synthesizeAll(requests);
+
+        assertThat(server.getCallCount()).isEqualTo(2);
+        assertThat(server.getBatchCallCount()).isEqualTo(2);
+        assertThat(audioUrls).hasSize(10).doesNotContainNull().doesNotHaveDuplicates();
+        for (int i = 0; i < korean.size(); i++) {
+            boolean last = i == korean.size() - 1;
+            assertThat(stored(audioUrls.get(i * 2))).isEqualTo(expectedClip(korean.get(i), last));
+            assertThat(stored(audioUrls.get(i * 2 + 1))).isEqualTo(expectedClip(vietnamese.get(i), last));
+        }
+
+        // 같은 텍스트는 캐시에서 (추가 호출 없음)
+        assertThat(synthesizer.synthesizeAll(requests)).isEqualTo(audioUrls);
+        assertThat(server.getCallCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("묶음 응답 앞의 ID3 태그와 Xing 헤더 프레임은 첫 슬라이드 오디오에 넣지 않고, 재생 시간에도 포함하지 않는다")
+    void vbrHeader_DroppedFromFirstClip() throws Exception {
+        server.setVbrHeader(true);
+        List<String> texts = List.of("첫 번째 장면", "두 번째 장면", "끝");
+
+        List<String> audioUrls = synthesizer.synthesizeAll(texts.stream()
+                .map(text -> TTSRequest.builder().text(text).language("ko-KR").build())
+                .toList());
+
+        assertThat(server.getBatchCallCount()).isEqualTo(1);
+        for (int i = 0; i < texts.size(); i++) {
+            assertThat(stored(audioUrls.get(i))).isEqualTo(expectedClip(texts.get(i), i == texts.size() - 1));
+        }
+    }
+
+    @Test
+    @DisplayName("묶음에서 잘라낸 구간과 같은 텍스트의 단독 합성은 서로 다른 캐시 항목/파일로 저장되어 서로 덮어쓰지 않는다")
+    void batchClipAndStandalone_DoNotShareCacheEntry() throws Exception {
+        List<String> texts = List.of("첫 번째 장면", "두 번째 장면");
+        List<String> clipUrls = synthesizer.synthesizeAll(texts.stream()
+                .map(text -> TTSRequest.builder().text(text).language("ko-KR").build())
+                .toList());
+
+        String standaloneUrl = ttsService.generateAudioUrl(texts.get(0), "ko-KR");
+
+        assertThat(server.getCallCount()).isEqualTo(2);
+        assertThat(standaloneUrl).isNotEqualTo(clipUrls.get(0));
+        assertThat(stored(standaloneUrl)).isEqualTo(FakeTextToSpeechServer.audio(texts.get(0)));
+        assertThat(stored(clipUrls.get(0))).isEqualTo(expectedClip(texts.get(0), false));
+
+        // 이후 묶음 합성은 어느 쪽이든 캐시에서 (추가 호출 없음)
+        assertThat(synthesizer.synthesizeAll(texts.stream()
+                .map(text -> TTSRequest.builder().text(text).language("ko-KR").build())
+                .toList())).containsExactly(standaloneUrl, clipUrls.get(1));
+        assertThat(server.getCallCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("입력 크기 제한을 넘는 슬라이드는 나머지를 묶어 합성하고 그 슬라이드만 따로 합성한다")
+    void oversizedSlide_FallsBackToPerSlideCall() throws Exception {
+        String longText = "아주 긴 문장 ".repeat(40); // 묶음 제한(400바이트)보다 크고 API 제한보다는 작음
+        List<String> texts = List.of("첫 번째 장면", longText, "세 번째 장면", "네 번째 장면");
+
+        List<String> audioUrls = synthesizer.synthesizeAll(texts.stream()
+                .map(text -> TTSRequest.builder().text(text).language("ko-KR").build())
+                .toList());
+
+        // [첫 번째] [긴 문장: 슬라이드별] [세 번째, 네 번째]
+        assertThat(server.getCallCount()).isEqualTo(3);
+        assertThat(server.getBatchCallCount()).isEqualTo(1);
+        assertThat(stored(audioUrls.get(1))).isEqualTo(FakeTextToSpeechServer.audio(longText));
+        assertThat(stored(audioUrls.get(0))).isEqualTo(FakeTextToSpeechServer.audio(texts.get(0)));
+        assertThat(stored(audioUrls.get(2))).isEqualTo(expectedClip(texts.get(2), false));
+        assertThat(stored(audioUrls.get(3))).isEqualTo(expectedClip(texts.get(3), true));
+    }
+
+    // 묶음에서 잘라낸 슬라이드 오디오: 텍스트 프레임 + 다음 슬라이드 앞의 무음 (마지막 슬라이드는 무음 없음)
+    private static byte[] expectedClip(String text, boolean last) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(FakeTextToSpeechServer.audio(text));
+        if (!last) {
+            out.writeBytes(FakeTextToSpeechServer.silence(BREAK_MILLIS));
+        }
+        return out.toByteArray();
+    }
+
+    private byte[] stored(String audioUrl) throws Exception {
+        try (InputStream inputStream = storage.read(audioUrl.substring(BASE_URL.length() + 1))) {
+            return inputStream.readAllBytes();
+        }
+    }
+}
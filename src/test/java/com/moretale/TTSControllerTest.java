@@ -0,0 +1,51 @@
+package com.moretale;
+
+import com.moretale.domain.tts.service.TTSGenerationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 누락 TTS 재생성 API: 합성 실패 건이 있으면 완료로 응답하지 않음
+@SpringBootTest(properties = "moretale.tts.job.worker-enabled=false")
+@AutoConfigureMockMvc
+@ActiveProfiles({"dev", "h2"})
+public class TTSControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TTSGenerationService ttsGenerationService;
+
+    @Test
+    @DisplayName("누락 TTS 재생성 중 실패 건이 있으면 TTS_GENERATION_FAILED 로 응답한다")
+    void regenerateMissing_PartialFailure_ReturnsError() throws Exception {
+        given(ttsGenerationService.regenerateMissingTTS(1L)).willReturn(2);
+
+        mockMvc.perform(post("/api/tts/regenerate/missing/{storyId}", 1L).with(user("user").roles("USER")))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.message").value("TTS 합성 실패 2건"));
+    }
+
+    @Test
+    @DisplayName("누락 TTS 재생성이 모두 성공하면 완료로 응답한다")
+    void regenerateMissing_AllSucceeded_ReturnsOk() throws Exception {
+        given(ttsGenerationService.regenerateMissingTTS(1L)).willReturn(0);
+
+        mockMvc.perform(post("/api/tts/regenerate/missing/{storyId}", 1L).with(user("user").roles("USER")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true));
+    }
+}
@@ -0,0 +1,294 @@
+package com.moretale;
+
+import com.moretale.domain.profile.entity.*;
+import com.moretale.domain.profile.repository.UserProfileRepository;
+import com.moretale.domain.story.dto.StoryResponse;
+import com.moretale.domain.story.dto.StorySaveRequest;
+import com.moretale.domain.story.entity.Slide;
+import com.moretale.domain.story.entity.Story;
+import com.moretale.domain.story.repository.SlideRepository;
+import com.moretale.domain.story.repository.StoryRepository;
+import com.moretale.domain.story.service.StoryService;
+import com.moretale.domain.tts.entity.TTSJob;
+import com.moretale.domain.tts.entity.TTSJobStatus;
+import com.moretale.domain.tts.entity.TTSJobType;
+import com.moretale.domain.tts.repository.TTSJobRepository;
+import com.moretale.domain.tts.service.ParallelTTSSynthesizer;
+import com.moretale.domain.tts.service.TTSJobService;
+import com.moretale.domain.tts.service.TTSJobWorker;
+import com.moretale.domain.user.entity.User;
+import com.moretale.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+
+// DB 기반 TTS 작업 큐 검증 (등록, 처리, 재시도/DEAD, SKIP LOCKED)
+@SpringBootTest
+@ActiveProfiles({"dev", "h2"})
+public class TTSJobQueueTest {
+
+    @Autowired
+    private StoryService storyService;
+
+    @Autowired
+    private TTSJobService ttsJobService;
+
+    @Autowired
+    private TTSJobWorker ttsJobWorker;
+
+    @Autowired
+    private TTSJobRepository ttsJobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserProfileRepository userProfileRepository;
+
+    @Autowired
+    private StoryRepository storyRepository;
+
+    @Autowired
+    private SlideRepository slideRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockBean
+    private ParallelTTSSynthesizer parallelTTSSynthesizer;
+
+    private User user;
+    private UserProfile profile;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .email("job-test@example.com")
+                .nickname("작업큐")
+                .role(User.Role.USER)
+                .build());
+
+        profile = userProfileRepository.save(UserProfile.builder()
+                .user(user)
+                .childName("서연")
+                .ageGroup(AgeGroup.AGE_5_6)
+                .childAge(6)
+                .firstLanguage("ko")
+                .firstLanguageProficiency(LanguageProficiency.BEE)
+                .secondLanguage("vi")
+                .secondLanguageProficiency(LanguageProficiency.LARVA)
+                .firstLanguageListening(LanguageProficiency.BEE)
+                .firstLanguageSpeaking(LanguageProficiency.BEE)
+                .secondLanguageListening(LanguageProficiency.PUPA)
+                .secondLanguageSpeaking(LanguageProficiency.LARVA)
+                .familyStructure(FamilyStructure.TWO_PARENTS)
+                .storyPreference(StoryPreference.WARM_HUG)
+                .primaryLanguage("ko")
+                .secondaryLanguage("vi")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        ttsJobRepository.deleteAll();
+        storyRepository.deleteAll();
+        userProfileRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("오디오가 없는 동화를 저장하면 같은 트랜잭션에서 TTS 작업이 등록된다")
+    void saveStory_EnqueuesJob() {
+        StoryResponse response = storyService.saveStory(user.getUserId(), StorySaveRequest.builder()
+                .title("작업 등록")
+                .profileId(profile.getProfileId())
+                .slides(List.of(StorySaveRequest.SlideRequest.builder()
+                        .order(1).textKr("안녕").textNative("xin chào").build()))
+                .build());
+
+        List<TTSJob> jobs = ttsJobRepository.findByStoryIdOrderByJobIdAsc(response.getStoryId());
+        assertThat(jobs).hasSize(1);
+        assertThat(jobs.get(0).getJobType()).isEqualTo(TTSJobType.STORY_AUDIO);
+        assertThat(jobs.get(0).getStatus()).isEqualTo(TTSJobStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("작업 처리에 성공하면 슬라이드 오디오가 저장되고 작업은 COMPLETED가 된다")
+    void processBatch_Success() {
+        Long storyId = saveStoryWithSlides(2);
+        ttsJobService.enqueueStory(storyId);
+        given(parallelTTSSynthesizer.synthesizeAll(anyList())).willAnswer(invocation -> {
+            List<?> requests = invocation.getArgument(0);
+            List<String> audioUrls = new ArrayList<>();
+            for (int i = 0; i < requests.size(); i++) {
+                audioUrls.add("http://localhost/uploads/" + i + ".mp3");
+            }
+            return audioUrls;
+        });
+
+        assertThat(ttsJobWorker.processBatch()).isEqualTo(1);
+
+        TTSJob job = ttsJobRepository.findByStoryIdOrderByJobIdAsc(storyId).get(0);
+        assertThat(job.getStatus()).isEqualTo(TTSJobStatus.COMPLETED);
+        assertThat(job.getAttempts()).isEqualTo(1);
+        assertThat(slideRepository.findSlidesWithoutTTS(storyId)).isEmpty();
+        assertThat(ttsJobWorker.processBatch()).isZero();
+    }
+
+    @Test
+    @DisplayName("합성이 실패하면 백오프 후 재시도하고, 최대 시도 횟수를 넘으면 DEAD가 된다")
+    void processBatch_RetriesWithBackoffThenDead() {
+        Long storyId = saveStoryWithSlides(1);
+        ttsJobService.enqueueStory(storyId);
+        given(parallelTTSSynthesizer.synthesizeAll(anyList())).willAnswer(invocation -> {
+            List<?> requests = invocation.getArgument(0);
+            return new ArrayList<String>(java.util.Collections.nCopies(requests.size(), null));
+        });
+
+        ttsJobWorker.processBatch();
+
+        TTSJob job = ttsJobRepository.findByStoryIdOrderByJobIdAsc(storyId).get(0);
+        assertThat(job.getStatus()).isEqualTo(TTSJobStatus.PENDING);
+        assertThat(job.getAttempts()).isEqualTo(1);
+        assertThat(job.getNextRunAt()).isAfter(LocalDateTime.now());
+        assertThat(job.getLastError()).contains("TTS 합성 실패");
+
+        // 백오프 중에는 가져가지 않음
+        assertThat(ttsJobWorker.processBatch()).isZero();
+
+        for (int attempt = 2; attempt <= 5; attempt++) {
+            makeRunnableNow(job.getJobId());
+            assertThat(ttsJobWorker.processBatch()).isEqualTo(1);
+        }
+
+        job = ttsJobRepository.findById(job.getJobId()).orElseThrow();
+        assertThat(job.getStatus()).isEqualTo(TTSJobStatus.DEAD);
+        assertThat(job.getAttempts()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("삭제된 동화의 작업은 재시도하지 않고 바로 DEAD가 된다")
+    void processBatch_MissingStory_Dead() {
+        ttsJobService.enqueueStory(999_999L);
+
+        ttsJobWorker.processBatch();
+
+        TTSJob job = ttsJobRepository.findByStoryIdOrderByJobIdAsc(999_999L).get(0);
+        assertThat(job.getStatus()).isEqualTo(TTSJobStatus.DEAD);
+        assertThat(job.getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("lease 만료로 다른 노드가 회수한 작업에는 이전 노드의 완료/실패 결과를 반영하지 않는다")
+    void markResult_ReclaimedByOtherNode_Ignored() {
+        Long storyId = saveStoryWithSlides(1);
+        ttsJobService.enqueueStory(storyId);
+        Long jobId = ttsJobService.claimBatch().get(0).getJobId();
+
+        // 처리가 lease보다 오래 걸리는 동안 다른 노드가 회수
+        transactionTemplate.executeWithoutResult(status -> ttsJobRepository.findById(jobId)
+                .ifPresent(job -> job.setLockedBy("other-node")));
+
+        ttsJobService.markCompleted(jobId);
+        ttsJobService.markFailed(jobId, new IllegalStateException("지연된 실패"), false);
+
+        TTSJob job = ttsJobRepository.findById(jobId).orElseThrow();
+        assertThat(job.getStatus()).isEqualTo(TTSJobStatus.RUNNING);
+        assertThat(job.getLockedBy()).isEqualTo("other-node");
+        assertThat(job.getLastError()).isNull();
+
+        // 관리자 재시도 등으로 RUNNING이 아니게 된 작업도 마찬가지
+        transactionTemplate.executeWithoutResult(status -> ttsJobRepository.findById(jobId)
+                .ifPresent(reclaimed -> reclaimed.setStatus(TTSJobStatus.PENDING)));
+        Long reclaimedJobId = ttsJobService.claimBatch().get(0).getJobId();
+        transactionTemplate.executeWithoutResult(status -> ttsJobRepository.findById(reclaimedJobId)
+                .ifPresent(reclaimed -> reclaimed.setStatus(TTSJobStatus.DEAD)));
+
+        ttsJobService.markCompleted(reclaimedJobId);
+
+        assertThat(ttsJobRepository.findById(reclaimedJobId).orElseThrow().getStatus()).isEqualTo(TTSJobStatus.DEAD);
+    }
+
+    @Test
+    @DisplayName("다른 트랜잭션이 잠근 작업은 가져가지 않아 같은 작업이 중복 처리되지 않는다 (SKIP LOCKED)")
+    void claimBatch_NeverClaimsLockedRows() throws Exception {
+        Long firstStoryId = saveStoryWithSlides(1);
+        Long secondStoryId = saveStoryWithSlides(1);
+        ttsJobService.enqueueStory(firstStoryId);
+        ttsJobService.enqueueStory(secondStoryId);
+
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // 다른 노드가 첫 번째 작업을 가져가는 중(커밋 전)인 상태를 재현
+        CompletableFuture<Long> otherNode = CompletableFuture.supplyAsync(() ->
+                transactionTemplate.execute(status -> {
+                    LocalDateTime now = LocalDateTime.now();
+                    TTSJob job = ttsJobRepository.findClaimableForUpdate(now, now.minusHours(1), 1).get(0);
+                    job.setStatus(TTSJobStatus.RUNNING);
+                    job.setLockedAt(now);
+                    locked.countDown();
+                    await(release);
+                    return job.getJobId();
+                }));
+
+        assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+        List<TTSJob> claimedWhileLocked = ttsJobService.claimBatch();
+        release.countDown();
+        Long claimedByOther = otherNode.get(10, TimeUnit.SECONDS);
+        List<TTSJob> claimedAfterRelease = ttsJobService.claimBatch();
+
+        // PostgreSQL은 잠긴 행만 건너뛰고, H2는 잠긴 행이 있으면 결과 전체를 건너뜀
+        // 어느 쪽이든 잠긴 작업은 가져가지 않고, 모든 작업은 정확히 한 번씩만 가져가야 함
+        List<Long> claimedIds = new ArrayList<>();
+        claimedWhileLocked.forEach(job -> claimedIds.add(job.getJobId()));
+        claimedAfterRelease.forEach(job -> claimedIds.add(job.getJobId()));
+
+        assertThat(claimedIds).doesNotContain(claimedByOther);
+        assertThat(claimedIds).hasSize(1);
+        assertThat(ttsJobRepository.countByStatus(TTSJobStatus.RUNNING)).isEqualTo(2);
+    }
+
+    private Long saveStoryWithSlides(int slideCount) {
+        Story story = Story.builder()
+                .title("큐 테스트")
+                .user(user)
+                .primaryLanguage("ko")
+                .secondaryLanguage("vi")
+                .build();
+        for (int i = 1; i <= slideCount; i++) {
+            story.addSlide(Slide.builder().order(i).textKr("문장 " + i).textNative("câu " + i).build());
+        }
+        return storyRepository.save(story).getStoryId();
+    }
+
+    private void makeRunnableNow(Long jobId) {
+        transactionTemplate.executeWithoutResult(status -> ttsJobRepository.findById(jobId)
+                .ifPresent(job -> job.setNextRunAt(LocalDateTime.now().minusSeconds(1))));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.moretale;
+
+import com.moretale.domain.story.entity.Slide;
+import com.moretale.domain.story.entity.Story;
+import com.moretale.domain.story.repository.SlideRepository;
+import com.moretale.domain.story.repository.StoryRepository;
+import com.moretale.domain.tts.service.TTSStorageMigration;
+import com.moretale.domain.user.entity.User;
+import com.moretale.domain.user.repository.UserRepository;
+import com.moretale.global.service.FileStorageService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// TTS 오디오 평면 저장 경로 -> 해시 분산 경로 이전: 파일 이동, 슬라이드 URL 변경, 이전 중/이후 이전 URL 응답 검증
+@SpringBootTest(properties = {
+        "file.upload.base-path=build/test-uploads-migration",
+        "moretale.tts.storage-migration.enabled=false", // 스케줄러 대신 테스트에서 직접 실행
+        "moretale.tts.storage-migration.batch-size=2"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles({"dev", "h2"})
+public class TTSStorageMigrationTest {
+
+    private static final String BASE_URL = "http://localhost:8080/uploads/";
+    private static final Path ROOT = Paths.get("build/test-uploads-migration").toAbsolutePath();
+
+    @Autowired
+    private TTSStorageMigration ttsStorageMigration;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StoryRepository storyRepository;
+
+    @Autowired
+    private SlideRepository slideRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        deleteRoot();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        storyRepository.deleteAll();
+        userRepository.deleteAll();
+        deleteRoot();
+    }
+
+    @Test
+    @DisplayName("평면 경로 파일을 분산 경로로 옮기고 슬라이드 URL을 바꾸며, 이전 전후 모두 이전/새 URL이 응답한다")
+    void migratesFilesAndSlideUrls_OldUrlsKeepResolving() throws Exception {
+        String[] keys = {"1".repeat(64), "2".repeat(64), "3".repeat(64), "4".repeat(64), "5".repeat(64)};
+        for (String key : keys) {
+            Path legacy = ROOT.resolve(legacyPath(key));
+            Files.createDirectories(legacy.getParent());
+            Files.writeString(legacy, "audio-" + key);
+        }
+
+        User user = userRepository.save(User.builder().email("migration@example.com").nickname("이전").role(User.Role.USER).build());
+        Story story = Story.builder().title("이전 동화").user(user).isPublic(false).build();
+        for (int i = 0; i < 4; i++) {
+            story.addSlide(Slide.builder().order(i + 1).textKr("문장 " + i)
+                    .audioUrlKr(BASE_URL + legacyPath(keys[i]))
+                    .audioUrlNative(BASE_URL + legacyPath(keys[i + 1]))
+                    .build());
+        }
+        story.addSlide(Slide.builder().order(5).textKr("다른 파일").audioUrlKr(BASE_URL + "images/cover.png").build());
+        story = storyRepository.save(story);
+        long version = story.getEtagVersion();
+
+        // 이동 전: 새 경로 URL도 평면 파일로 응답
+        mockMvc.perform(get("/uploads/" + shardedPath(keys[0])))
+                .andExpect(status().isOk())
+                .andExpect(content().string("audio-" + keys[0]));
+
+        int rounds = 0;
+        while (ttsStorageMigration.migrateBatch() > 0) {
+            assertThat(++rounds).isLessThan(20);
+        }
+
+        for (String key : keys) {
+            assertThat(ROOT.resolve(legacyPath(key))).doesNotExist();
+            assertThat(ROOT.resolve(shardedPath(key))).hasContent("audio-" + key);
+        }
+        assertThat(slideRepository.findByStoryIdOrderByOrder(story.getStoryId()))
+                .extracting(Slide::getAudioUrlKr)
+                .containsExactly(BASE_URL + shardedPath(keys[0]), BASE_URL + shardedPath(keys[1]),
+                        BASE_URL + shardedPath(keys[2]), BASE_URL + shardedPath(keys[3]), BASE_URL + "images/cover.png");
+        assertThat(slideRepository.findByStoryIdOrderByOrder(story.getStoryId()).get(3).getAudioUrlNative())
+                .isEqualTo(BASE_URL + shardedPath(keys[4]));
+        assertThat(storyRepository.findById(story.getStoryId()).orElseThrow().getEtagVersion()).isGreaterThan(version);
+        assertThat(ttsStorageMigration.getStatus().isCompleted()).isTrue();
+        assertThat(ttsStorageMigration.getStatus().getFilesMoved()).isEqualTo(5);
+        assertThat(ttsStorageMigration.getStatus().getSlidesUpdated()).isEqualTo(4);
+
+        // 이동 후: 이전 URL도 분산 경로 파일로 응답
+        mockMvc.perform(get("/uploads/" + legacyPath(keys[0])))
+                .andExpect(status().isOk())
+                .andExpect(content().string("audio-" + keys[0]));
+        mockMvc.perform(get("/uploads/tts/audio/tts_" + "9".repeat(64) + ".mp3"))
+                .andExpect(status().isNotFound());
+    }
+
+    private static String legacyPath(String key) {
+        return "tts/audio/tts_" + key + ".mp3";
+    }
+
+    private static String shardedPath(String key) {
+        return FileStorageService.resolveShardedPath("tts/audio", "tts_" + key + ".mp3");
+    }
+
+    private static void deleteRoot() throws Exception {
+        if (!Files.exists(ROOT)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(ROOT)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
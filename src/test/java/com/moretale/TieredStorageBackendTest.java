@@ -0,0 +1,224 @@
+package com.moretale;
+
+import com.moretale.global.config.MoreTaleProperties;
+import com.moretale.global.dto.StorageCacheStatsResponse;
+import com.moretale.global.storage.InMemoryStorageBackend;
+import com.moretale.global.storage.LocalStorageBackend;
+import com.moretale.global.storage.TieredStorageBackend;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 원격 저장소 앞단 로컬 디스크 캐시: 읽기 채움/쓰기 동시 저장, 용량 상한 제거(LRU/LFU), 동시 미스 합치기, 재시작 복구
+public class TieredStorageBackendTest {
+
+    private static final int OBJECT_BYTES = 1000;
+
+    @TempDir
+    private Path cacheRoot;
+
+    private CountingRemote remote;
+
+    @BeforeEach
+    void setUp() {
+        remote = new CountingRemote();
+    }
+
+    @Test
+    @DisplayName("처음 읽으면 원격에서 받아 로컬에 채우고, 이후에는 원격 조회 없이 로컬 사본으로 응답한다")
+    void readThrough_FillsLocalCache() throws Exception {
+        remote.write("tts/a.mp3", ByteBuffer.wrap(bytes(1)));
+        TieredStorageBackend tiered = tiered(10, MoreTaleProperties.Storage.LocalCache.EvictionPolicy.LRU);
+
+        assertThat(read(tiered, "tts/a.mp3")).isEqualTo(bytes(1));
+        assertThat(read(tiered, "tts/a.mp3")).isEqualTo(bytes(1));
+        assertThat(tiered.localFile("tts/a.mp3")).contains(cacheRoot.resolve("tts/a.mp3"));
+
+        assertThat(remote.reads.get()).isEqualTo(1);
+        assertThat(cacheRoot.resolve("tts/a.mp3")).hasBinaryContent(bytes(1));
+        // 로컬 사본의 수정 시각은 원격 객체와 같음
+        assertThat(tiered.stat("tts/a.mp3").orElseThrow().lastModified())
+                .isEqualTo(remote.stat("tts/a.mp3").orElseThrow().lastModified());
+
+        StorageCacheStatsResponse stats = tiered.getStats();
+        assertThat(stats.getMisses()).isEqualTo(1);
+        assertThat(stats.getHits()).isEqualTo(2);
+        assertThat(stats.getFills()).isEqualTo(1);
+        assertThat(stats.getHitRatio()).isEqualTo(2.0 / 3);
+    }
+
+    @Test
+    @DisplayName("쓰기는 원격과 로컬에 모두 저장하고, 삭제는 양쪽에서 지운다")
+    void writeThroughAndDelete() throws Exception {
+        TieredStorageBackend tiered = tiered(10, MoreTaleProperties.Storage.LocalCache.EvictionPolicy.LRU);
+
+        tiered.write("tts/a.mp3", ByteBuffer.wrap(bytes(1)));
+        tiered.write("images/b.png", new java.io.ByteArrayInputStream(bytes(2)));
+
+        assertThat(read(remote, "tts/a.mp3")).isEqualTo(bytes(1));
+        assertThat(read(remote, "images/b.png")).isEqualTo(bytes(2));
+        remote.reads.set(0);
+        assertThat(read(tiered, "tts/a.mp3")).isEqualTo(bytes(1));
+        assertThat(read(tiered, "images/b.png")).isEqualTo(bytes(2));
+        assertThat(remote.reads.get()).isZero();
+
+        assertThat(tiered.delete("tts/a.mp3")).isTrue();
+        assertThat(remote.stat("tts/a.mp3")).isEmpty();
+        assertThat(cacheRoot.resolve("tts/a.mp3")).doesNotExist();
+        assertThat(tiered.getStats().getEntries()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("LRU: 용량을 넘으면 가장 오래 안 쓴 사본부터 제거한다")
+    void lru_EvictsLeastRecentlyUsed() throws Exception {
+        TieredStorageBackend tiered = tiered(3, MoreTaleProperties.Storage.LocalCache.EvictionPolicy.LRU);
+        for (int i = 0; i < 3; i++) {
+            tiered.write(key(i), ByteBuffer.wrap(bytes(i)));
+        }
+        read(tiered, key(0));
+
+        tiered.write(key(3), ByteBuffer.wrap(bytes(3)));
+
+        assertThat(cacheRoot.resolve(key(1))).doesNotExist();
+        assertThat(cacheRoot.resolve(key(0))).exists();
+        assertThat(tiered.getStats().getBytes()).isEqualTo(3L * OBJECT_BYTES);
+        assertThat(tiered.getStats().getEvictions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("LFU: 한 번씩만 재생되는 파일이 이어져도 자주 재생되는 파일은 남는다")
+    void lfu_KeepsHotObjectsAgainstOneOffScan() throws Exception {
+        TieredStorageBackend tiered = tiered(4, MoreTaleProperties.Storage.LocalCache.EvictionPolicy.LFU);
+        tiered.write("hot.mp3", ByteBuffer.wrap(bytes(100)));
+        for (int i = 0; i < 5; i++) {
+            read(tiered, "hot.mp3");
+        }
+
+        for (int i = 0; i < 20; i++) {
+            remote.write(key(i), ByteBuffer.wrap(bytes(i)));
+            read(tiered, key(i));
+        }
+
+        assertThat(tiered.localFile("hot.mp3")).isPresent();
+        assertThat(tiered.getStats().getEntries()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("같은 파일의 동시 미스는 원격 다운로드 한 번으로 합쳐진다")
+    void concurrentMisses_CollapseToSingleDownload() throws Exception {
+        remote.write("tts/a.mp3", ByteBuffer.wrap(bytes(1)));
+        remote.readLatch = new CountDownLatch(1);
+        TieredStorageBackend tiered = tiered(10, MoreTaleProperties.Storage.LocalCache.EvictionPolicy.LRU);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<byte[]>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> read(tiered, "tts/a.mp3")));
+            }
+            Thread.sleep(100); // 나머지 요청이 진행 중인 다운로드에 합류할 시간
+            remote.readLatch.countDown();
+
+            for (Future<byte[]> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(bytes(1));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(remote.reads.get()).isEqualTo(1);
+        assertThat(tiered.getStats().getCollapsedFills()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("재시작 시 디렉토리 스캔으로 사본과 접근 기록을 복구하고, 남은 임시 파일은 삭제한다")
+    void recover_RestoresEntriesAndAccessHistory() throws Exception {
+        TieredStorageBackend before = tiered(3, MoreTaleProperties.Storage.LocalCache.EvictionPolicy.LFU);
+        for (int i = 0; i < 3; i++) {
+            before.write(key(i), ByteBuffer.wrap(bytes(i)));
+        }
+        for (int i = 0; i < 3; i++) {
+            read(before, key(0));
+        }
+        before.snapshot();
+        Files.write(cacheRoot.resolve(key(1) + ".tmp-crashed"), bytes(9));
+
+        TieredStorageBackend after = tiered(3, MoreTaleProperties.Storage.LocalCache.EvictionPolicy.LFU);
+        after.recover();
+        remote.reads.set(0);
+
+        assertThat(after.getStats().getRecoveredEntries()).isEqualTo(3);
+        assertThat(after.getStats().getBytes()).isEqualTo(3L * OBJECT_BYTES);
+        assertThat(cacheRoot.resolve(key(1) + ".tmp-crashed")).doesNotExist();
+        assertThat(read(after, key(2))).isEqualTo(bytes(2));
+        assertThat(remote.reads.get()).isZero();
+
+        // 복원된 접근 횟수 기준으로 제거 (자주 읽은 key(0)은 유지)
+        after.write(key(3), ByteBuffer.wrap(bytes(3)));
+        assertThat(after.localFile(key(0))).isPresent();
+        assertThat(cacheRoot.resolve(key(1))).doesNotExist();
+    }
+
+    private TieredStorageBackend tiered(int maxObjects, MoreTaleProperties.Storage.LocalCache.EvictionPolicy policy) {
+        MoreTaleProperties.Storage.LocalCache config = new MoreTaleProperties.Storage.LocalCache();
+        config.setMaxBytes((long) maxObjects * OBJECT_BYTES);
+        config.setEvictionPolicy(policy);
+        config.setEvictionSampleSize(3);
+        return new TieredStorageBackend(remote,
+                new LocalStorageBackend(cacheRoot, MoreTaleProperties.Upload.FsyncPolicy.NONE), config);
+    }
+
+    private static byte[] read(com.moretale.global.storage.StorageBackend backend, String key) throws IOException {
+        try (InputStream inputStream = backend.read(key)) {
+            return inputStream.readAllBytes();
+        }
+    }
+
+    private static String key(int i) {
+        return "tts/audio/clip-" + i + ".mp3";
+    }
+
+    private static byte[] bytes(int seed) {
+        byte[] data = new byte[OBJECT_BYTES];
+        java.util.Arrays.fill(data, (byte) seed);
+        return data;
+    }
+
+    // 읽기 횟수를 세고, 필요하면 읽기를 잠시 멈추는 원격 저장소
+    private static class CountingRemote extends InMemoryStorageBackend {
+
+        private final AtomicInteger reads = new AtomicInteger();
+        private volatile CountDownLatch readLatch;
+
+        @Override
+        public InputStream read(String key) throws IOException {
+            reads.incrementAndGet();
+            CountDownLatch latch = readLatch;
+            if (latch != null) {
+                try {
+                    latch.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return super.read(key);
+        }
+    }
+}
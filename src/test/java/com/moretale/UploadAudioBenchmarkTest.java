@@ -0,0 +1,133 @@
+package com.moretale;
+
+import com.moretale.global.dto.UploadResourceStatsResponse;
+import com.moretale.global.resource.UploadResourceMetrics;
+import com.moretale.global.service.FileStorageService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 동화 오디오 반복 재생 시 전송 바이트 / 지연 측정 (실제 Tomcat, sendfile 사용)
+// - 전체 재다운로드: 검증자 없이 매번 200 (기존 캐시 헤더 없는 응답에서 브라우저가 하던 동작)
+// - 조건부 재요청: If-None-Match -> 304 (본문 없음)
+// - 이어 듣기: Range -> 206 (남은 구간만)
+// immutable 응답은 max-age 동안 브라우저가 요청 자체를 보내지 않으므로 실제 반복 재생 비용은 0
+// 실행: ./gradlew benchmark
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "file.upload.base-path=build/benchmark-uploads")
+@ActiveProfiles({"dev", "h2"})
+public class UploadAudioBenchmarkTest {
+
+    private static final int FILES = 20;
+    private static final int AUDIO_BYTES = 512 * 1024;
+    private static final int ROUNDS = 10;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UploadResourceMetrics uploadResourceMetrics;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final List<byte[]> audios = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Random random = new Random(42);
+        for (int i = 0; i < FILES; i++) {
+            byte[] audio = new byte[AUDIO_BYTES];
+            random.nextBytes(audio);
+            Path path = Paths.get("build/benchmark-uploads").toAbsolutePath().resolve(subPath(i));
+            Files.createDirectories(path.getParent());
+            Files.write(path, audio);
+            audios.add(audio);
+        }
+    }
+
+    @Test
+    @DisplayName("반복 재생: 조건부 재요청은 본문 0바이트, Range는 남은 구간만 전송한다")
+    void repeatPlays() throws Exception {
+        UploadResourceStatsResponse before = uploadResourceMetrics.getStats();
+        List<String> eTags = new ArrayList<>();
+
+        // 워밍업 겸 첫 재생 (본문 검증: sendfile로 보낸 내용이 파일과 같은지)
+        for (int i = 0; i < FILES; i++) {
+            HttpResponse<byte[]> response = client.send(request(i).build(), HttpResponse.BodyHandlers.ofByteArray());
+            assertThat(response.statusCode()).isEqualTo(200);
+            assertThat(response.body()).isEqualTo(audios.get(i));
+            assertThat(response.headers().firstValue(HttpHeaders.CACHE_CONTROL)).hasValue("max-age=31536000, public, immutable");
+            eTags.add(response.headers().firstValue(HttpHeaders.ETAG).orElseThrow());
+        }
+        assertThat(uploadResourceMetrics.getStats().getSendfileResponses() - before.getSendfileResponses()).isEqualTo(FILES);
+
+        long[] full = measure("전체 재다운로드", 200, i -> request(i));
+        long[] conditional = measure("조건부 재요청(304)", 304,
+                i -> request(i).header(HttpHeaders.IF_NONE_MATCH, eTags.get(i)));
+        long[] resume = measure("이어 듣기(Range 후반 절반)", 206,
+                i -> request(i).header(HttpHeaders.RANGE, "bytes=" + AUDIO_BYTES / 2 + "-"));
+
+        assertThat(full[0]).isEqualTo((long) FILES * ROUNDS * AUDIO_BYTES);
+        assertThat(conditional[0]).isZero();
+        assertThat(resume[0]).isEqualTo(full[0] / 2);
+    }
+
+    // [전송 바이트, 평균 지연(ns)]
+    private long[] measure(String label, int expectedStatus, IntFunction<HttpRequest.Builder> requests) throws Exception {
+        long bytes = 0;
+        long totalNanos = 0;
+        long[] latencies = new long[FILES * ROUNDS];
+        for (int round = 0; round < ROUNDS; round++) {
+            for (int i = 0; i < FILES; i++) {
+                long start = System.nanoTime();
+                HttpResponse<byte[]> response = client.send(requests.apply(i).build(), HttpResponse.BodyHandlers.ofByteArray());
+                long elapsed = System.nanoTime() - start;
+                assertThat(response.statusCode()).isEqualTo(expectedStatus);
+                if (expectedStatus == 206) {
+                    assertThat(response.body()).isEqualTo(Arrays.copyOfRange(audios.get(i), AUDIO_BYTES / 2, AUDIO_BYTES));
+                }
+                bytes += response.body().length;
+                totalNanos += elapsed;
+                latencies[round * FILES + i] = elapsed;
+            }
+        }
+        Arrays.sort(latencies);
+        System.out.printf("[오디오 반복 재생 벤치마크] %s: %d회, 전송 %.1f MB, 평균 %.2f ms, p95 %.2f ms%n",
+                label, latencies.length, bytes / 1024.0 / 1024.0,
+                totalNanos / 1e6 / latencies.length, latencies[(int) (latencies.length * 0.95)] / 1e6);
+        return new long[]{bytes, totalNanos / latencies.length};
+    }
+
+    private HttpRequest.Builder request(int i) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/uploads/" + subPath(i))).GET();
+    }
+
+    private static String subPath(int i) {
+        return FileStorageService.resolveShardedPath("tts/audio", "tts_" + hash(i) + ".mp3");
+    }
+
+    private static String hash(int i) {
+        return String.format("%064x", i + 1);
+    }
+}
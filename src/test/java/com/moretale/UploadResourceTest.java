@@ -0,0 +1,195 @@
+package com.moretale;
+
+import com.moretale.global.resource.UploadResourceMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// /uploads/** 응답 검증: 해시 파일명 오디오의 immutable 캐시, ETag/Last-Modified 304, Range/206, If-Range, sendfile
+// 디스크 파일 응답 경로 검증이므로 메모리 캐시는 끔 (메모리 응답은 HotAudioCacheTest)
+@SpringBootTest(properties = {
+        "file.upload.base-path=build/test-uploads",
+        "moretale.upload.hot-cache.enabled=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles({"dev", "h2"})
+public class UploadResourceTest {
+
+    private static final String HASH = "ab".repeat(32);
+    private static final String AUDIO_PATH = "tts/audio/ab/ab/audio_" + HASH + ".mp3";
+    private static final String LEGACY_AUDIO_PATH = "tts/audio/ab/ab/tts_" + HASH + ".mp3";
+    private static final String AUDIO_URL = "/uploads/" + AUDIO_PATH;
+    private static final String IMAGE_URL = "/uploads/images/cover.png";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UploadResourceMetrics uploadResourceMetrics;
+
+    private byte[] audio;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        audio = new byte[100 * 1024];
+        new Random(7).nextBytes(audio);
+        write(AUDIO_PATH, audio);
+        write("images/cover.png", Arrays.copyOf(audio, 1000));
+    }
+
+    @Test
+    @DisplayName("내용 해시 파일명 TTS 오디오는 1년 immutable 캐시와 해시 ETag로 응답하고, 재검증 시 같은 정책의 304를 반환한다")
+    void hashedAudio_ImmutableAndNotModified() throws Exception {
+        String cacheControl = "max-age=31536000, public, immutable";
+        MvcResult full = mockMvc.perform(get(AUDIO_URL))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, cacheControl))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + HASH + "\""))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(content().contentType("audio/mpeg"))
+                .andReturn();
+        assertThat(full.getResponse().getContentAsByteArray()).isEqualTo(audio);
+
+        long notModifiedBefore = uploadResourceMetrics.getStats().getNotModifiedResponses();
+        MvcResult notModified = mockMvc.perform(get(AUDIO_URL).header(HttpHeaders.IF_NONE_MATCH, "\"" + HASH + "\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, cacheControl))
+                .andReturn();
+        assertThat(notModified.getResponse().getContentAsByteArray()).isEmpty();
+        assertThat(uploadResourceMetrics.getStats().getNotModifiedResponses()).isEqualTo(notModifiedBefore + 1);
+    }
+
+    @Test
+    @DisplayName("그 외 업로드 파일은 no-cache로 응답하고 If-Modified-Since로 재검증하면 304")
+    void otherUploads_Revalidated() throws Exception {
+        String lastModified = mockMvc.perform(get(IMAGE_URL))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+
+        mockMvc.perform(get(IMAGE_URL).header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+    }
+
+    @Test
+    @DisplayName("Range 요청은 206과 Content-Range로 해당 구간만, 범위 밖이면 416, If-Range가 다르면 200 전체 응답")
+    void rangeRequests() throws Exception {
+        MvcResult partial = mockMvc.perform(get(AUDIO_URL).header(HttpHeaders.RANGE, "bytes=100-199"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 100-199/" + audio.length))
+                .andExpect(header().string(HttpHeaders.CONTENT_LENGTH, "100"))
+                .andReturn();
+        assertThat(partial.getResponse().getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(audio, 100, 200));
+
+        // 끝에서부터 (seek 후 재생 재개)
+        MvcResult suffix = mockMvc.perform(get(AUDIO_URL).header(HttpHeaders.RANGE, "bytes=-10"))
+                .andExpect(status().isPartialContent())
+                .andReturn();
+        assertThat(suffix.getResponse().getContentAsByteArray())
+                .isEqualTo(Arrays.copyOfRange(audio, audio.length - 10, audio.length));
+
+        mockMvc.perform(get(AUDIO_URL).header(HttpHeaders.RANGE, "bytes=0-9,20-29"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, org.hamcrest.Matchers.startsWith("multipart/byteranges")));
+
+        mockMvc.perform(get(AUDIO_URL).header(HttpHeaders.RANGE, "bytes=" + audio.length + "-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */" + audio.length));
+
+        mockMvc.perform(get(AUDIO_URL).header(HttpHeaders.RANGE, "bytes=100-199").header(HttpHeaders.IF_RANGE, "\"" + HASH + "\""))
+                .andExpect(status().isPartialContent());
+        MvcResult stale = mockMvc.perform(get(IMAGE_URL).header(HttpHeaders.RANGE, "bytes=0-9").header(HttpHeaders.IF_RANGE, "\"old\""))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThat(stale.getResponse().getContentAsByteArray()).hasSize(1000);
+    }
+
+    @Test
+    @DisplayName("이전 방식 tts_ 파일명은 내용 해시가 아니므로 크기+수정 시각 ETag, 다른 내용이 저장되면 이전 ETag의 If-Range는 200 전체 응답")
+    void legacyAudio_NewETagAndStaleIfRangeIgnored() throws Exception {
+        write(LEGACY_AUDIO_PATH, audio);
+        String before = mockMvc.perform(get("/uploads/" + LEGACY_AUDIO_PATH))
+                .andExpect(header().string(HttpHeaders.ETAG, eTagOf(LEGACY_AUDIO_PATH)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // 파일명은 합성 입력 해시라 같고, 인코딩 결과는 다른 내용
+        byte[] resynthesized = Arrays.copyOf(audio, audio.length - 96);
+        write(LEGACY_AUDIO_PATH, resynthesized);
+        Files.setLastModifiedTime(Paths.get("build/test-uploads").toAbsolutePath().resolve(LEGACY_AUDIO_PATH),
+                FileTime.fromMillis(System.currentTimeMillis() + 1000));
+
+        MvcResult resumed = mockMvc.perform(get("/uploads/" + LEGACY_AUDIO_PATH)
+                        .header(HttpHeaders.RANGE, "bytes=100-199").header(HttpHeaders.IF_RANGE, before))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, org.hamcrest.Matchers.not(before)))
+                .andReturn();
+        assertThat(resumed.getResponse().getContentAsByteArray()).isEqualTo(resynthesized);
+    }
+
+    @Test
+    @DisplayName("sendfile을 지원하는 커넥터에서는 본문을 쓰지 않고 파일 구간을 sendfile 속성으로 넘긴다")
+    void largeFiles_UseSendfile() throws Exception {
+        Path file = Paths.get("build/test-uploads").toAbsolutePath().resolve(AUDIO_PATH);
+        long sendfileBefore = uploadResourceMetrics.getStats().getSendfileResponses();
+
+        MvcResult full = mockMvc.perform(get(AUDIO_URL).requestAttr("org.apache.tomcat.sendfile.support", true))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_LENGTH, String.valueOf(audio.length)))
+                .andReturn();
+        assertThat(full.getResponse().getContentAsByteArray()).isEmpty();
+        assertThat(full.getRequest().getAttribute("org.apache.tomcat.sendfile.filename")).isEqualTo(file.toFile().getCanonicalPath());
+        assertThat(full.getRequest().getAttribute("org.apache.tomcat.sendfile.start")).isEqualTo(0L);
+        assertThat(full.getRequest().getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo((long) audio.length);
+
+        MvcResult partial = mockMvc.perform(get(AUDIO_URL).header(HttpHeaders.RANGE, "bytes=1000-")
+                        .requestAttr("org.apache.tomcat.sendfile.support", true))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 1000-" + (audio.length - 1) + "/" + audio.length))
+                .andExpect(header().string(HttpHeaders.CONTENT_LENGTH, String.valueOf(audio.length - 1000)))
+                .andReturn();
+        assertThat(partial.getResponse().getContentAsByteArray()).isEmpty();
+        assertThat(partial.getRequest().getAttribute("org.apache.tomcat.sendfile.start")).isEqualTo(1000L);
+        assertThat(partial.getRequest().getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo((long) audio.length);
+
+        // 기준 크기 미만은 직접 복사
+        MvcResult small = mockMvc.perform(get(IMAGE_URL).requestAttr("org.apache.tomcat.sendfile.support", true))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThat(small.getResponse().getContentAsByteArray()).hasSize(1000);
+        assertThat(small.getRequest().getAttribute("org.apache.tomcat.sendfile.filename")).isNull();
+
+        assertThat(uploadResourceMetrics.getStats().getSendfileResponses()).isEqualTo(sendfileBefore + 2);
+    }
+
+    private static String eTagOf(String subPath) throws Exception {
+        Path path = Paths.get("build/test-uploads").toAbsolutePath().resolve(subPath);
+        return "\"" + Long.toHexString(Files.size(path)) + "-" + Long.toHexString(Files.getLastModifiedTime(path).toMillis()) + "\"";
+    }
+
+    private static void write(String subPath, byte[] data) throws Exception {
+        Path path = Paths.get("build/test-uploads").toAbsolutePath().resolve(subPath);
+        Files.createDirectories(path.getParent());
+        Files.write(path, data);
+    }
+}